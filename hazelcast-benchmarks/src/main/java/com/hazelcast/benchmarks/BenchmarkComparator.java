@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JSON result files written by {@link BenchmarkRunner}, typically the results of
+ * two Hazelcast versions run on the same machine:
+ * <pre>
+ * java -cp benchmarks.jar com.hazelcast.benchmarks.BenchmarkComparator baseline.json current.json [thresholdPercent]
+ * </pre>
+ * Prints the change of every benchmark present in both files and exits with status 1 if a
+ * benchmark got worse by more than the threshold (5% by default). For throughput benchmarks
+ * a lower score is worse, for all other modes a higher score is worse.
+ */
+public final class BenchmarkComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5;
+    private static final double HUNDRED = 100;
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BenchmarkComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = readResults(new File(args[0]));
+        Map<String, Result> current = readResults(new File(args[1]));
+
+        int regressions = 0;
+        System.out.println(String.format("%-90s %15s %15s %9s  %s", "Benchmark", "Baseline", "Current", "Change", "Unit"));
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                continue;
+            }
+            Result result = entry.getValue();
+            double change = result.changePercent(base);
+            boolean regression = change < -threshold;
+            if (regression) {
+                regressions++;
+            }
+            System.out.println(String.format("%-90s %15.3f %15.3f %+8.1f%%  %s%s", entry.getKey(), base.score, result.score,
+                    change, result.unit, regression ? "  REGRESSION" : ""));
+        }
+        System.out.println(regressions + " regression(s) beyond " + threshold + "%");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a JMH JSON result file, mapping the results by benchmark name and parameters.
+     */
+    static Map<String, Result> readResults(File file) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+        try {
+            Map<String, Result> results = new LinkedHashMap<String, Result>();
+            for (JsonValue value : JsonValue.readFrom(reader).asArray()) {
+                JsonObject benchmark = value.asObject();
+                JsonObject primaryMetric = benchmark.get("primaryMetric").asObject();
+                String mode = benchmark.get("mode").asString();
+                Result result = new Result(mode, primaryMetric.get("score").asDouble(),
+                        primaryMetric.get("scoreUnit").asString());
+                results.put(key(benchmark, mode), result);
+            }
+            return results;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static String key(JsonObject benchmark, String mode) {
+        StringBuilder sb = new StringBuilder(benchmark.get("benchmark").asString());
+        JsonValue params = benchmark.get("params");
+        if (params != null) {
+            sb.append('{');
+            Iterator<JsonObject.Member> iterator = params.asObject().iterator();
+            while (iterator.hasNext()) {
+                JsonObject.Member member = iterator.next();
+                sb.append(member.getName()).append('=').append(member.getValue().asString());
+                if (iterator.hasNext()) {
+                    sb.append(", ");
+                }
+            }
+            sb.append('}');
+        }
+        return sb.append(" [").append(mode).append(']').toString();
+    }
+
+    static final class Result {
+        final String mode;
+        final double score;
+        final String unit;
+
+        Result(String mode, double score, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        /**
+         * @return the change relative to the baseline in percents, positive if this result is better
+         */
+        double changePercent(Result baseline) {
+            if (baseline.score == 0) {
+                return 0;
+            }
+            double change = (score - baseline.score) / baseline.score * HUNDRED;
+            return THROUGHPUT_MODE.equals(mode) ? change : -change;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.instance.BuildInfoProvider;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options
+ * and always writes the results as JSON to {@code <dir>/hazelcast-<version>.json}, so the
+ * results of two versions can be compared with {@link BenchmarkComparator}.
+ * <p/>
+ * The directory defaults to {@code benchmark-results} and can be changed with the
+ * {@code hazelcast.benchmark.results.dir} system property.
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULTS_DIR_PROPERTY = "hazelcast.benchmark.results.dir";
+    private static final String DEFAULT_RESULTS_DIR = "benchmark-results";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        File resultFile = getResultFile();
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+        new Runner(options).run();
+        System.out.println("Results are written to " + resultFile.getAbsolutePath());
+    }
+
+    static File getResultFile() {
+        File dir = new File(System.getProperty(RESULTS_DIR_PROPERTY, DEFAULT_RESULTS_DIR));
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalStateException("Could not create results directory " + dir.getAbsolutePath());
+        }
+        String version = BuildInfoProvider.getBuildInfo().getVersion();
+        return new File(dir, "hazelcast-" + version + ".json");
+    }
+}
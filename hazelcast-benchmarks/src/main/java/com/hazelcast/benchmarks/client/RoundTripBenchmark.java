@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.client;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures map round trips over the loopback interface: from a member to the other member
+ * of a two member cluster, and from a client to the members. Member keys are chosen so
+ * every call is remote. Run with {@code -t} to add caller threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RoundTripBenchmark {
+
+    private static final String MAP_NAME = "roundTripBenchmark";
+    private static final int KEY_COUNT = 1000;
+
+    @Param({"100"})
+    public int valueSize;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private HazelcastInstance member1;
+    private HazelcastInstance member2;
+    private HazelcastInstance client;
+    private IMap<Object, Object> memberMap;
+    private IMap<Object, Object> clientMap;
+    private Object[] remoteKeys;
+    private byte[] value;
+
+    @Setup
+    public void setUp() {
+        member1 = Hazelcast.newHazelcastInstance(BenchmarkSupport.newConfig());
+        member2 = Hazelcast.newHazelcastInstance(BenchmarkSupport.newConfig());
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.getGroupConfig().setName(member1.getConfig().getGroupConfig().getName());
+        InetSocketAddress address = member1.getCluster().getLocalMember().getInetSocketAddress();
+        clientConfig.getNetworkConfig().addAddress("127.0.0.1:" + address.getPort());
+        client = HazelcastClient.newHazelcastClient(clientConfig);
+
+        memberMap = member1.getMap(MAP_NAME);
+        clientMap = client.getMap(MAP_NAME);
+        value = new byte[valueSize];
+        remoteKeys = findRemoteKeys(member1, KEY_COUNT);
+        for (Object key : remoteKeys) {
+            memberMap.put(key, value);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        member2.shutdown();
+        member1.shutdown();
+    }
+
+    @Benchmark
+    public Object memberGet() {
+        return memberMap.get(nextKey());
+    }
+
+    @Benchmark
+    public void memberSet() {
+        memberMap.set(nextKey(), value);
+    }
+
+    @Benchmark
+    public Object clientGet() {
+        return clientMap.get(nextKey());
+    }
+
+    @Benchmark
+    public void clientSet() {
+        clientMap.set(nextKey(), value);
+    }
+
+    private Object nextKey() {
+        return remoteKeys[(sequence.getAndIncrement() & Integer.MAX_VALUE) % remoteKeys.length];
+    }
+
+    private static Object[] findRemoteKeys(HazelcastInstance instance, int count) {
+        Member localMember = instance.getCluster().getLocalMember();
+        List<Object> keys = new ArrayList<Object>(count);
+        for (int i = 0; keys.size() < count; i++) {
+            String key = "key-" + i;
+            Member owner = instance.getPartitionService().getPartition(key).getOwner();
+            if (owner != null && !localMember.equals(owner)) {
+                keys.add(key);
+            }
+        }
+        return keys.toArray();
+    }
+}
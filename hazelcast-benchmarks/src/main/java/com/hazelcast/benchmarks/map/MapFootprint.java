@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.monitor.LocalMapStats;
+
+/**
+ * Measures the retained heap of a map filled with a dataset of prefixed keys and repeating JSON-like
+ * values, stored plain, with value deduplication and with value compression. Key deduplication is
+ * measured with two maps holding the same keys. Footprint is not something JMH measures, so this is
+ * a plain main:
+ * <pre>
+ * java -cp hazelcast-benchmarks/target/benchmarks.jar com.hazelcast.benchmarks.map.MapFootprint [entries] [distinct values]
+ * </pre>
+ * Run it with a fixed heap (-Xms equal to -Xmx) so the used heap figures are comparable.
+ */
+public final class MapFootprint {
+
+    private static final String MAP_NAME = "footprint";
+    private static final int DEFAULT_ENTRY_COUNT = 100000;
+    private static final int DEFAULT_DISTINCT_VALUE_COUNT = 100;
+    private static final int VALUE_FIELD_COUNT = 50;
+    private static final int GC_ROUNDS = 5;
+
+    private MapFootprint() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+        int distinctValueCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DISTINCT_VALUE_COUNT;
+
+        String[] values = new String[distinctValueCount];
+        for (int i = 0; i < distinctValueCount; i++) {
+            values[i] = createValue(i);
+        }
+
+        System.out.println(String.format("%-14s %16s %20s", "mode", "used heap (MB)", "map heap cost (MB)"));
+        measure("plain", new MapConfig(MAP_NAME + "*"), 1, entryCount, values);
+        measure("deduplicated", new MapConfig(MAP_NAME + "*").setValueDeduplicationEnabled(true), 1, entryCount, values);
+        measure("compressed", new MapConfig(MAP_NAME + "*").setValueCompressionEnabled(true), 1, entryCount, values);
+        measure("2 maps", new MapConfig(MAP_NAME + "*"), 2, entryCount, values);
+        measure("2 maps, keys", new MapConfig(MAP_NAME + "*").setKeyDeduplicationEnabled(true), 2, entryCount, values);
+    }
+
+    private static void measure(String mode, MapConfig mapConfig, int mapCount, int entryCount, String[] values)
+            throws InterruptedException {
+        Config config = BenchmarkSupport.newConfig();
+        config.addMapConfig(mapConfig.setBackupCount(0));
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
+        try {
+            long before = usedHeap();
+            long heapCost = 0;
+            for (int m = 0; m < mapCount; m++) {
+                IMap<String, String> map = instance.getMap(MAP_NAME + m);
+                for (int i = 0; i < entryCount; i++) {
+                    map.set("tenant-" + (i % 50) + ":region-" + (i % 5) + ":entity:" + i, values[i % values.length]);
+                }
+                LocalMapStats stats = map.getLocalMapStats();
+                heapCost += stats.getHeapCost();
+            }
+            long after = usedHeap();
+            System.out.println(String.format("%-14s %16.1f %20.1f", mode, toMegaBytes(after - before),
+                    toMegaBytes(heapCost)));
+        } finally {
+            instance.shutdown();
+        }
+    }
+
+    private static String createValue(int id) {
+        StringBuilder sb = new StringBuilder("{\"id\":").append(id);
+        for (int i = 0; i < VALUE_FIELD_COUNT; i++) {
+            sb.append(",\"field").append(i).append("\":\"status-").append((id + i) % 7).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double toMegaBytes(long bytes) {
+        return bytes / (1024d * 1024d);
+    }
+}
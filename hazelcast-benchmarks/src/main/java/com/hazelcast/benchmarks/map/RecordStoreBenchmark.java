@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapService;
+import com.hazelcast.map.RecordStore;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures put, get and evict on a {@link com.hazelcast.map.DefaultRecordStore} directly,
+ * without the operation and invocation layers.
+ * <p/>
+ * A record store is only accessed by its partition thread; the benchmark thread takes that
+ * role here, which is safe as long as nothing else touches the benchmarked map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RecordStoreBenchmark {
+
+    private static final String MAP_NAME = "recordStoreBenchmark";
+    private static final int PARTITION_ID = 0;
+
+    @Param({"1000", "100000"})
+    public int keyCount;
+
+    @Param({"100"})
+    public int valueSize;
+
+    private HazelcastInstance instance;
+    private RecordStore recordStore;
+    private Data[] keys;
+    private Data value;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        instance = Hazelcast.newHazelcastInstance(BenchmarkSupport.newConfig());
+        NodeEngineImpl nodeEngine = BenchmarkSupport.getNodeEngine(instance);
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        recordStore = mapService.getMapServiceContext().getRecordStore(PARTITION_ID, MAP_NAME);
+
+        keys = new Data[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = nodeEngine.toData("key-" + i);
+        }
+        value = nodeEngine.toData(new byte[valueSize]);
+        for (Data key : keys) {
+            recordStore.put(key, value, -1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object put() {
+        return recordStore.put(nextKey(), value, -1);
+    }
+
+    @Benchmark
+    public Object get() {
+        return recordStore.get(nextKey());
+    }
+
+    @Benchmark
+    public Object evictAndPut() {
+        Data key = nextKey();
+        Object evicted = recordStore.evict(key);
+        recordStore.put(key, value, -1);
+        return evicted;
+    }
+
+    private Data nextKey() {
+        int i = index;
+        index = i + 1 == keyCount ? 0 : i + 1;
+        return keys[i];
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.query;
+
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.nio.serialization.SerializationServiceBuilder;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.query.impl.IndexImpl;
+import com.hazelcast.query.impl.QueryEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IndexImpl} updates and lookups, and the evaluation of predicates against
+ * single entries, which is what a full scan of a partition without an index does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final int AGE_COUNT = 100;
+
+    @Param({"10000"})
+    public int entryCount;
+
+    private SerializationService serializationService;
+    private QueryEntry[] entries;
+    private IndexImpl unorderedIndex;
+    private IndexImpl orderedIndex;
+    private Predicate equalPredicate;
+    private Predicate sqlPredicate;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        serializationService = new SerializationServiceBuilder().build();
+        entries = new QueryEntry[entryCount];
+        unorderedIndex = new IndexImpl("age", false);
+        orderedIndex = new IndexImpl("salary", true);
+        for (int i = 0; i < entryCount; i++) {
+            Employee employee = new Employee("name" + i, i % AGE_COUNT, i % 2 == 0, i * 10.0);
+            Data key = serializationService.toData(i);
+            entries[i] = new QueryEntry(serializationService, key, i, employee);
+            unorderedIndex.saveEntryIndex(entries[i]);
+            orderedIndex.saveEntryIndex(entries[i]);
+        }
+        equalPredicate = Predicates.equal("age", AGE_COUNT / 2);
+        sqlPredicate = new SqlPredicate("active AND age > 30 AND salary < 5000");
+    }
+
+    @Benchmark
+    public void saveEntryIndex() {
+        unorderedIndex.saveEntryIndex(nextEntry());
+    }
+
+    @Benchmark
+    public Set unorderedIndexEqual() {
+        return unorderedIndex.getRecords(AGE_COUNT / 2);
+    }
+
+    @Benchmark
+    public Set orderedIndexBetween() {
+        return orderedIndex.getSubRecordsBetween(1000.0, 2000.0);
+    }
+
+    @Benchmark
+    public boolean equalPredicateApply() {
+        return equalPredicate.apply(nextEntry());
+    }
+
+    @Benchmark
+    public boolean sqlPredicateApply() {
+        return sqlPredicate.apply(nextEntry());
+    }
+
+    @Benchmark
+    public void sqlPredicateScan(Blackhole blackhole) {
+        for (QueryEntry entry : entries) {
+            blackhole.consume(sqlPredicate.apply(entry));
+        }
+    }
+
+    private QueryEntry nextEntry() {
+        int i = index;
+        index = i + 1 == entryCount ? 0 : i + 1;
+        return entries[i];
+    }
+
+    public static class Employee implements Serializable {
+        private final String name;
+        private final int age;
+        private final boolean active;
+        private final double salary;
+
+        public Employee(String name, int age, boolean active, double salary) {
+            this.name = name;
+            this.age = age;
+            this.active = active;
+            this.salary = salary;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public double getSalary() {
+            return salary;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.serialization;
+
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.DataSerializableFactory;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.Portable;
+import com.hazelcast.nio.serialization.PortableFactory;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.nio.serialization.SerializationServiceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SerializationService#toData(Object)} and {@link SerializationService#toObject(Object)}
+ * for the same object serialized as DataSerializable, IdentifiedDataSerializable and Portable, and
+ * {@link SerializationService#writeData(com.hazelcast.nio.ObjectDataOutput, Object)} against converting
+ * to Data first. Single Portable field reads compare
+ * {@link SerializationService#readPortableField(Data, String)} with a {@link PortableReader}.
+ * Run with {@code -prof gc} to see the allocation rate of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    static final int FACTORY_ID = 1;
+    static final int CLASS_ID = 1;
+
+    private SerializationService serializationService;
+    private DataSerializableEmployee dataSerializable;
+    private IdentifiedEmployee identified;
+    private PortableEmployee portable;
+    private Data dataSerializableData;
+    private Data identifiedData;
+    private Data portableData;
+    private BufferObjectDataOutput out;
+
+    @Setup
+    public void setUp() {
+        serializationService = new SerializationServiceBuilder()
+                .addDataSerializableFactory(FACTORY_ID, new DataSerializableFactory() {
+                    @Override
+                    public IdentifiedDataSerializable create(int typeId) {
+                        return new IdentifiedEmployee();
+                    }
+                })
+                .addPortableFactory(FACTORY_ID, new PortableFactory() {
+                    @Override
+                    public Portable create(int classId) {
+                        return new PortableEmployee();
+                    }
+                })
+                .build();
+        dataSerializable = new DataSerializableEmployee(12345, "John Doe", 34, 4500.5);
+        identified = new IdentifiedEmployee(12345, "John Doe", 34, 4500.5);
+        portable = new PortableEmployee(12345, "John Doe", 34, 4500.5);
+        dataSerializableData = serializationService.toData(dataSerializable);
+        identifiedData = serializationService.toData(identified);
+        portableData = serializationService.toData(portable);
+        out = serializationService.createObjectDataOutput(1024);
+    }
+
+    @Benchmark
+    public Data toDataDataSerializable() {
+        return serializationService.toData(dataSerializable);
+    }
+
+    @Benchmark
+    public Data toDataIdentifiedDataSerializable() {
+        return serializationService.toData(identified);
+    }
+
+    @Benchmark
+    public Data toDataPortable() {
+        return serializationService.toData(portable);
+    }
+
+    @Benchmark
+    public int toDataAndWriteData() throws IOException {
+        out.clear();
+        serializationService.toData(identified).writeData(out);
+        return out.position();
+    }
+
+    @Benchmark
+    public int writeData() {
+        out.clear();
+        serializationService.writeData(out, identified);
+        return out.position();
+    }
+
+    @Benchmark
+    public Object toObjectDataSerializable() {
+        return serializationService.toObject(dataSerializableData);
+    }
+
+    @Benchmark
+    public Object toObjectIdentifiedDataSerializable() {
+        return serializationService.toObject(identifiedData);
+    }
+
+    @Benchmark
+    public Object toObjectPortable() {
+        return serializationService.toObject(portableData);
+    }
+
+    @Benchmark
+    public int readPortableFieldWithReader() throws IOException {
+        return serializationService.createPortableReader(portableData).readInt("age");
+    }
+
+    @Benchmark
+    public Object readPortableField() {
+        return serializationService.readPortableField(portableData, "age");
+    }
+
+    public static class DataSerializableEmployee implements DataSerializable {
+        long id;
+        String name;
+        int age;
+        double salary;
+
+        public DataSerializableEmployee() {
+        }
+
+        DataSerializableEmployee(long id, String name, int age, double salary) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeLong(id);
+            out.writeUTF(name);
+            out.writeInt(age);
+            out.writeDouble(salary);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            id = in.readLong();
+            name = in.readUTF();
+            age = in.readInt();
+            salary = in.readDouble();
+        }
+    }
+
+    public static class IdentifiedEmployee extends DataSerializableEmployee implements IdentifiedDataSerializable {
+
+        public IdentifiedEmployee() {
+        }
+
+        IdentifiedEmployee(long id, String name, int age, double salary) {
+            super(id, name, age, salary);
+        }
+
+        @Override
+        public int getFactoryId() {
+            return FACTORY_ID;
+        }
+
+        @Override
+        public int getId() {
+            return CLASS_ID;
+        }
+    }
+
+    public static class PortableEmployee implements Portable {
+        private long id;
+        private String name;
+        private int age;
+        private double salary;
+
+        public PortableEmployee() {
+        }
+
+        PortableEmployee(long id, String name, int age, double salary) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return CLASS_ID;
+        }
+
+        @Override
+        public void writePortable(PortableWriter writer) throws IOException {
+            writer.writeLong("id", id);
+            writer.writeUTF("name", name);
+            writer.writeInt("age", age);
+            writer.writeDouble("salary", salary);
+        }
+
+        @Override
+        public void readPortable(PortableReader reader) throws IOException {
+            id = reader.readLong("id");
+            name = reader.readUTF("name");
+            age = reader.readInt("age");
+            salary = reader.readDouble("salary");
+        }
+    }
+}
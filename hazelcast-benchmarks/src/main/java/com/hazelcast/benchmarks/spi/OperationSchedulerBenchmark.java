@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.spi;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapService;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.spi.impl.InternalOperationService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput of the {@link com.hazelcast.spi.impl.BasicOperationScheduler}: local
+ * partition invocations of an empty operation, and batches of partition specific runnables which
+ * do not pay for the invocation and response handling. Run with {@code -t} to add caller threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class OperationSchedulerBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final AtomicInteger partitionSequence = new AtomicInteger();
+    private HazelcastInstance instance;
+    private InternalOperationService operationService;
+    private int partitionCount;
+
+    @Setup
+    public void setUp() {
+        instance = Hazelcast.newHazelcastInstance(BenchmarkSupport.newConfig());
+        NodeEngineImpl nodeEngine = BenchmarkSupport.getNodeEngine(instance);
+        operationService = (InternalOperationService) nodeEngine.getOperationService();
+        partitionCount = nodeEngine.getPartitionService().getPartitionCount();
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object invokeOnPartition() throws Exception {
+        OperationService operationService = this.operationService;
+        return operationService.invokeOnPartition(MapService.SERVICE_NAME, new EmptyOperation(), nextPartitionId()).get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void executePartitionSpecificRunnable() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            operationService.execute(new CountDownTask(nextPartitionId(), latch));
+        }
+        latch.await();
+    }
+
+    private int nextPartitionId() {
+        return (partitionSequence.getAndIncrement() & Integer.MAX_VALUE) % partitionCount;
+    }
+
+    private static class EmptyOperation extends AbstractOperation {
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Object getResponse() {
+            return Boolean.TRUE;
+        }
+    }
+
+    private static class CountDownTask implements PartitionSpecificRunnable {
+        private final int partitionId;
+        private final CountDownLatch latch;
+
+        CountDownTask(int partitionId, CountDownLatch latch) {
+            this.partitionId = partitionId;
+            this.latch = latch;
+        }
+
+        @Override
+        public int getPartitionId() {
+            return partitionId;
+        }
+
+        @Override
+        public void run() {
+            latch.countDown();
+        }
+    }
+}
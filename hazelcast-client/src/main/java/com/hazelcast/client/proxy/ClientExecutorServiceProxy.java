@@ -299,6 +299,19 @@ public class ClientExecutorServiceProxy extends ClientProxy implements IExecutor
         return submitToKeyOwnerInternal(task, key, null, false);
     }
 
+    /**
+     * Clients submit the tasks one by one; batching per partition is done by the members.
+     */
+    @Override
+    public <K, T> Map<K, Future<T>> submitToKeyOwners(Map<K, ? extends Callable<T>> tasks) {
+        Map<K, Future<T>> futures = new HashMap<K, Future<T>>(tasks.size());
+        for (Map.Entry<K, ? extends Callable<T>> entry : tasks.entrySet()) {
+            K key = entry.getKey();
+            futures.put(key, submitToKeyOwnerInternal(entry.getValue(), key, null, true));
+        }
+        return futures;
+    }
+
     public void submitToKeyOwner(Runnable command, Object key, ExecutionCallback callback) {
         Callable<?> callable = createRunnableAdapter(command);
         submitToKeyOwner(callable, key, callback);
@@ -61,6 +61,7 @@ import com.hazelcast.map.client.MapIsLockedRequest;
 import com.hazelcast.map.client.MapKeySetRequest;
 import com.hazelcast.map.client.MapLoadAllKeysRequest;
 import com.hazelcast.map.client.MapLoadGivenKeysRequest;
+import com.hazelcast.map.client.MapLockAndGetRequest;
 import com.hazelcast.map.client.MapLockRequest;
 import com.hazelcast.map.client.MapPutAllRequest;
 import com.hazelcast.map.client.MapPutIfAbsentRequest;
@@ -73,6 +74,7 @@ import com.hazelcast.map.client.MapRemoveInterceptorRequest;
 import com.hazelcast.map.client.MapRemoveRequest;
 import com.hazelcast.map.client.MapReplaceIfSameRequest;
 import com.hazelcast.map.client.MapReplaceRequest;
+import com.hazelcast.map.client.MapSetAndUnlockRequest;
 import com.hazelcast.map.client.MapSetRequest;
 import com.hazelcast.map.client.MapSizeRequest;
 import com.hazelcast.map.client.MapTryPutRequest;
@@ -428,6 +430,22 @@ public final class ClientMapProxy<K, V> extends ClientProxy implements IMap<K, V
         invoke(request, keyData);
     }
 
+    @Override
+    public V lockAndGet(K key) {
+        final Data keyData = toData(key);
+        MapLockAndGetRequest request = new MapLockAndGetRequest(name, keyData, ThreadUtil.getThreadId());
+        return invoke(request, keyData);
+    }
+
+    @Override
+    public void setAndUnlock(K key, V value) {
+        final Data keyData = toData(key);
+        final Data valueData = toData(value);
+        invalidateNearCache(keyData);
+        MapSetAndUnlockRequest request = new MapSetAndUnlockRequest(name, keyData, valueData, ThreadUtil.getThreadId());
+        invoke(request, keyData);
+    }
+
     @Override
     public void forceUnlock(K key) {
         final Data keyData = toData(key);
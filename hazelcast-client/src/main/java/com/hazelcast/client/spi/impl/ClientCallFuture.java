@@ -72,6 +72,8 @@ public class ClientCallFuture<V> implements ICompletableFuture<V>, Callback {
 
     private AtomicInteger reSendCount = new AtomicInteger();
 
+    private int partitionId = -1;
+
     private volatile ClientConnection connection;
 
     private List<ExecutionCallbackNode> callbackNodeList = new LinkedList<ExecutionCallbackNode>();
@@ -234,6 +236,20 @@ public class ClientCallFuture<V> implements ICompletableFuture<V>, Callback {
         return handler;
     }
 
+    /**
+     * Returns the partition id the request is sent for. This is passed to the member as a hint, so the request can
+     * be processed on the partition thread. If the request is not for a particular partition, -1 is returned.
+     *
+     * @return the partition id.
+     */
+    public int getPartitionId() {
+        return partitionId;
+    }
+
+    public void setPartitionId(int partitionId) {
+        this.partitionId = partitionId;
+    }
+
     public ClientConnection getConnection() {
         return connection;
     }
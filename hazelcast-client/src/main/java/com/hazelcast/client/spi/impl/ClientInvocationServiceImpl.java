@@ -19,6 +19,7 @@ package com.hazelcast.client.spi.impl;
 import com.hazelcast.client.ClientRequest;
 import com.hazelcast.client.ClientResponse;
 import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.PartitionClientRequest;
 import com.hazelcast.client.connection.ClientConnectionManager;
 import com.hazelcast.client.connection.nio.ClientConnection;
 import com.hazelcast.client.spi.ClientInvocationService;
@@ -64,12 +65,7 @@ public final class ClientInvocationServiceImpl implements ClientInvocationServic
     }
 
     public <T> ICompletableFuture<T> invokeOnKeyOwner(ClientRequest request, Object key) throws Exception {
-        ClientPartitionServiceImpl partitionService = (ClientPartitionServiceImpl) client.getClientPartitionService();
-        final Address owner = partitionService.getPartitionOwner(partitionService.getPartitionId(key));
-        if (owner != null) {
-            return invokeOnTarget(request, owner);
-        }
-        return invokeOnRandomTarget(request);
+        return sendToKeyOwner(request, key, null);
     }
 
     public <T> ICompletableFuture<T> invokeOnRandomTarget(ClientRequest request, EventHandler handler) throws Exception {
@@ -83,12 +79,7 @@ public final class ClientInvocationServiceImpl implements ClientInvocationServic
 
     public <T> ICompletableFuture<T> invokeOnKeyOwner(ClientRequest request, Object key, EventHandler handler)
             throws Exception {
-        ClientPartitionServiceImpl partitionService = (ClientPartitionServiceImpl) client.getClientPartitionService();
-        final Address owner = partitionService.getPartitionOwner(partitionService.getPartitionId(key));
-        if (owner != null) {
-            return invokeOnTarget(request, owner, handler);
-        }
-        return invokeOnRandomTarget(request, handler);
+        return sendToKeyOwner(request, key, handler);
     }
 
     // NIO public
@@ -131,6 +122,21 @@ public final class ClientInvocationServiceImpl implements ClientInvocationServic
         return doSend(request, connection, handler);
     }
 
+    private ICompletableFuture sendToKeyOwner(ClientRequest request, Object key, EventHandler handler) throws Exception {
+        ClientPartitionServiceImpl partitionService = (ClientPartitionServiceImpl) client.getClientPartitionService();
+        final int partitionId = partitionService.getPartitionId(key);
+        final Address owner = partitionService.getPartitionOwner(partitionId);
+        //if the owner is not known yet, tryToConnect picks a random target
+        final ClientConnection connection = connectionManager.tryToConnect(owner);
+        final ClientCallFuture future = new ClientCallFuture(client, request, handler);
+        if (request instanceof PartitionClientRequest) {
+            //partition requests can be processed directly on the partition thread of the member
+            future.setPartitionId(partitionId);
+        }
+        sendInternal(future, connection);
+        return future;
+    }
+
     private ICompletableFuture doSend(ClientRequest request, ClientConnection connection, EventHandler handler) {
         final ClientCallFuture future = new ClientCallFuture(client, request, handler);
         sendInternal(future, connection);
@@ -142,7 +148,7 @@ public final class ClientInvocationServiceImpl implements ClientInvocationServic
         future.setConnection(connection);
         final SerializationService ss = client.getSerializationService();
         final Data data = ss.toData(future.getRequest());
-        if (!connection.write(new Packet(data, ss.getPortableContext()))) {
+        if (!connection.write(new Packet(data, future.getPartitionId(), ss.getPortableContext()))) {
             final int callId = future.getRequest().getCallId();
             connection.deRegisterCallId(callId);
             connection.deRegisterEventHandler(callId);
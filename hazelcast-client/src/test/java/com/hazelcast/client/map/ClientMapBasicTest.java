@@ -1106,6 +1106,9 @@ public class ClientMapBasicTest {
         assertTrue("put latency", 0 < serverMapStats.getTotalPutLatency());
         assertTrue("get latency", 0 < serverMapStats.getTotalGetLatency());
         assertTrue("remove latency", 0 < serverMapStats.getTotalRemoveLatency());
+        assertEquals("put latency count", operationCount, serverMapStats.getPutLatencyStats().getCount());
+        assertEquals("get latency count", operationCount, serverMapStats.getGetLatencyStats().getCount());
+        assertEquals("remove latency count", operationCount, serverMapStats.getRemoveLatencyStats().getCount());
     }
 
     @Test(expected = UnsupportedOperationException.class)
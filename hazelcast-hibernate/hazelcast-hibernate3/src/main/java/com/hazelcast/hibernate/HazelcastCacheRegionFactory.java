@@ -62,6 +62,6 @@ public class HazelcastCacheRegionFactory extends AbstractHazelcastCacheRegionFac
     public TimestampsRegion buildTimestampsRegion(final String regionName, final Properties properties)
             throws CacheException {
         return new HazelcastTimestampsRegion<IMapRegionCache>(instance, regionName, properties,
-                new IMapRegionCache(regionName, instance, properties, null));
+                new IMapRegionCache(regionName, instance, properties, null, false));
     }
 }
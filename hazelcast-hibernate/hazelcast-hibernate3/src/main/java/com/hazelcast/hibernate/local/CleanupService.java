@@ -46,6 +46,14 @@ public final class CleanupService {
                 cache.cleanup();
             }
         }, FIXED_DELAY, FIXED_DELAY1, TimeUnit.SECONDS);
+        if (cache.isBatchingInvalidations()) {
+            final long delay = cache.getInvalidationBatchDelay();
+            executor.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    cache.flushInvalidations();
+                }
+            }, delay, delay, TimeUnit.MILLISECONDS);
+        }
     }
 
     public void stop() {
@@ -0,0 +1,159 @@
+package com.hazelcast.hibernate.local;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.MessageListener;
+import com.hazelcast.hibernate.CacheEnvironment;
+import com.hazelcast.map.MapService;
+import com.hazelcast.spi.EventService;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Comparator;
+
+package com.hazelcast.hibernate.distributed;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.hibernate.CacheEnvironment;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.hibernate.cache.access.SoftLock;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class IMapRegionCacheTest extends HazelcastTestSupport {
+
+    private static final String CACHE_NAME = "cache";
+
+    @Test
+    public void testNearCacheDisabledByDefault() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, new Properties(), null);
+        assertFalse(cache.isNearCacheEnabled());
+
+        cache.put("key", "value", null);
+        assertEquals("value", cache.get("key"));
+        assertEquals(0, cache.getNearCacheHits());
+    }
+
+    @Test
+    public void testNearCacheNotUsedIfNotAllowed() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, nearCacheProperties(), null, false);
+        assertFalse(cache.isNearCacheEnabled());
+    }
+
+    @Test
+    public void testReadsAreServedLocally() {
+        HazelcastInstance instance = createHazelcastInstance();
+        // populated before the cache registers its listener, so no invalidation can interfere with the counters
+        instance.getMap(CACHE_NAME).put("key", "value");
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, nearCacheProperties(), null);
+        assertTrue(cache.isNearCacheEnabled());
+
+        assertEquals("value", cache.get("key"));
+        assertEquals("value", cache.get("key"));
+        assertEquals("value", cache.get("key"));
+        assertEquals(1, cache.getNearCacheMisses());
+        assertEquals(2, cache.getNearCacheHits());
+    }
+
+    @Test
+    public void testNearCacheInvalidatedByUpdateOnOtherMember() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        instance2.getMap(CACHE_NAME).put("key", "value1");
+        final IMapRegionCache cache1 = new IMapRegionCache(CACHE_NAME, instance1, nearCacheProperties(), null);
+        IMapRegionCache cache2 = new IMapRegionCache(CACHE_NAME, instance2, nearCacheProperties(), null);
+
+        assertEquals("value1", cache1.get("key"));
+        assertEquals("value1", cache1.get("key"));
+        assertEquals(1, cache1.getNearCacheHits());
+
+        cache2.put("key", "value2", null);
+        assertTrueEventually(new AssertTask() {
+            public void run() throws Exception {
+                assertEquals("value2", cache1.get("key"));
+            }
+        });
+
+        cache2.remove("key");
+        assertTrueEventually(new AssertTask() {
+            public void run() throws Exception {
+                assertFalse(cache1.contains("key"));
+            }
+        });
+    }
+
+    @Test
+    public void testLockedEntriesAreNotNearCached() {
+        HazelcastInstance instance = createHazelcastInstance();
+        instance.getMap(CACHE_NAME).put("key", "value1");
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, nearCacheProperties(), null);
+        assertEquals("value1", cache.get("key"));
+
+        SoftLock lock = cache.tryLock("key", null);
+        assertEquals("value1", cache.get("key"));
+        assertEquals("value1", cache.get("key"));
+        assertEquals(0, cache.getNearCacheHits());
+
+        cache.update("key", "value2", null, null, lock);
+        cache.unlock("key", lock);
+        assertEquals("value2", cache.get("key"));
+    }
+
+    @Test
+    public void testNestedLocksKeepEntryUncachedUntilLastUnlock() {
+        HazelcastInstance instance = createHazelcastInstance();
+        instance.getMap(CACHE_NAME).put("key", "value");
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, nearCacheProperties(), null);
+
+        SoftLock outer = cache.tryLock("key", null);
+        SoftLock inner = cache.tryLock("key", null);
+        cache.unlock("key", inner);
+        assertEquals("value", cache.get("key"));
+        assertEquals("value", cache.get("key"));
+        assertEquals(0, cache.getNearCacheHits());
+
+        cache.unlock("key", outer);
+        assertEquals("value", cache.get("key"));
+        assertEquals("value", cache.get("key"));
+        assertEquals(1, cache.getNearCacheHits());
+    }
+
+    @Test
+    public void testDestroyRemovesInvalidationListener() {
+        HazelcastInstance instance = createHazelcastInstance();
+        EventService eventService = getNode(instance).nodeEngine.getEventService();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, nearCacheProperties(), null);
+        assertEquals(1, eventService.getRegistrations(MapService.SERVICE_NAME, CACHE_NAME).size());
+
+        cache.destroy();
+        assertEquals(0, eventService.getRegistrations(MapService.SERVICE_NAME, CACHE_NAME).size());
+    }
+
+    private static Properties nearCacheProperties() {
+        Properties props = new Properties();
+        props.setProperty(CacheEnvironment.USE_NEAR_CACHE, "true");
+        return props;
+    }
+}
@@ -81,9 +81,35 @@ public final class CacheEnvironment {
      */
     public static final String EXPLICIT_VERSION_CHECK = "hibernate.cache.hazelcast.explicit_version_check";
 
+    /**
+     * Property to configure the maximum number of invalidations a local region cache collects before sending them
+     * to the other members as a single message. Values of 1 or less send each invalidation immediately.
+     */
+    public static final String INVALIDATION_BATCH_SIZE = "hibernate.cache.hazelcast.invalidation_batch_size";
+
+    /**
+     * Property to configure the maximum delay in milliseconds before collected invalidations are sent
+     */
+    public static final String INVALIDATION_BATCH_DELAY = "hibernate.cache.hazelcast.invalidation_batch_delay";
+
+    /**
+     * Property to configure whether distributed region caches keep the values read from the cluster in a
+     * member local near cache
+     */
+    public static final String USE_NEAR_CACHE = "hibernate.cache.hazelcast.use_near_cache";
+
+    /**
+     * Property to configure the maximum number of entries a near cache of a single region holds
+     */
+    public static final String NEAR_CACHE_MAX_SIZE = "hibernate.cache.hazelcast.near_cache_max_size";
+
     // milliseconds
     private static final int MAXIMUM_LOCK_TIMEOUT = 10000;
 
+    private static final int DEFAULT_INVALIDATION_BATCH_DELAY = 10;
+
+    private static final int DEFAULT_NEAR_CACHE_MAX_SIZE = 10000;
+
     // one hour in milliseconds
     private static final int DEFAULT_CACHE_TIMEOUT = (3600 * 1000);
 
@@ -130,4 +156,24 @@ public final class CacheEnvironment {
     public static boolean isExplicitVersionCheckEnabled(Properties props) {
         return ConfigurationHelper.getBoolean(CacheEnvironment.EXPLICIT_VERSION_CHECK, props, false);
     }
+
+    public static int getInvalidationBatchSize(Properties props) {
+        return props == null ? 1 : ConfigurationHelper.getInt(INVALIDATION_BATCH_SIZE, props, 1);
+    }
+
+    public static int getInvalidationBatchDelayInMillis(Properties props) {
+        return props == null
+                ? DEFAULT_INVALIDATION_BATCH_DELAY
+                : ConfigurationHelper.getInt(INVALIDATION_BATCH_DELAY, props, DEFAULT_INVALIDATION_BATCH_DELAY);
+    }
+
+    public static boolean isNearCacheEnabled(Properties props) {
+        return props != null && ConfigurationHelper.getBoolean(USE_NEAR_CACHE, props, false);
+    }
+
+    public static int getNearCacheMaxSize(Properties props) {
+        return props == null
+                ? DEFAULT_NEAR_CACHE_MAX_SIZE
+                : ConfigurationHelper.getInt(NEAR_CACHE_MAX_SIZE, props, DEFAULT_NEAR_CACHE_MAX_SIZE);
+    }
 }
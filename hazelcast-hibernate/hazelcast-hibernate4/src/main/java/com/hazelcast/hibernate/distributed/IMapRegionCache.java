@@ -16,9 +16,12 @@
 
 package com.hazelcast.hibernate.distributed;
 
+import com.hazelcast.core.EntryAdapter;
+import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
+import com.hazelcast.core.MapEvent;
 import com.hazelcast.hibernate.CacheEnvironment;
 import com.hazelcast.hibernate.HazelcastTimestamper;
 import com.hazelcast.hibernate.RegionCache;
@@ -31,10 +34,18 @@ import org.hibernate.cache.spi.entry.CacheEntry;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@link RegionCache} implementation based on the underlying IMap
+ * <p/>
+ * If {@link CacheEnvironment#USE_NEAR_CACHE} is enabled, values read from the IMap are kept in a member local near cache
+ * and further reads of the same key are served locally. Near cached entries are invalidated by the IMap's entry events,
+ * by every local write and while the local member holds the soft lock of a key, so a near cache never serves a value
+ * older than the one the IMap returned after the last write it has been notified about.
  */
 public class IMapRegionCache implements RegionCache {
 
@@ -54,9 +65,27 @@ public class IMapRegionCache implements RegionCache {
     private final long tryLockAndGetTimeout;
     private final boolean explicitVersionCheckEnabled;
     private final ILogger logger;
+    private final ConcurrentMap<Object, Object> nearCache;
+    // number of soft locks the local member holds per key, map locks are reentrant.
+    private final ConcurrentMap<Object, Integer> lockedKeys;
+    private final int nearCacheMaxSize;
+    private final String listenerRegistration;
+    private final AtomicLong nearCacheHits = new AtomicLong();
+    private final AtomicLong nearCacheMisses = new AtomicLong();
 
     public IMapRegionCache(final String name, final HazelcastInstance hazelcastInstance,
                            final Properties props, final CacheDataDescription metadata) {
+        this(name, hazelcastInstance, props, metadata, true);
+    }
+
+    /**
+     * @param nearCacheAllowed whether this region may use a near cache if {@link CacheEnvironment#USE_NEAR_CACHE}
+     *                         is enabled. Regions like the timestamps region, whose values are always expected
+     *                         to be up to date, should never be near cached.
+     */
+    public IMapRegionCache(final String name, final HazelcastInstance hazelcastInstance,
+                           final Properties props, final CacheDataDescription metadata,
+                           final boolean nearCacheAllowed) {
         this.name = name;
         this.hazelcastInstance = hazelcastInstance;
         this.versionComparator = metadata != null && metadata.isVersioned() ? metadata.getVersionComparator() : null;
@@ -66,10 +95,47 @@ public class IMapRegionCache implements RegionCache {
         tryLockAndGetTimeout = Math.min(maxOperationTimeout, COMPARISON_VALUE);
         explicitVersionCheckEnabled = CacheEnvironment.isExplicitVersionCheckEnabled(props);
         logger = createLogger(name, hazelcastInstance);
+        if (nearCacheAllowed && CacheEnvironment.isNearCacheEnabled(props)) {
+            nearCache = new ConcurrentHashMap<Object, Object>();
+            lockedKeys = new ConcurrentHashMap<Object, Integer>();
+            nearCacheMaxSize = CacheEnvironment.getNearCacheMaxSize(props);
+            listenerRegistration = map.addEntryListener(new NearCacheInvalidationListener(), false);
+        } else {
+            nearCache = null;
+            lockedKeys = null;
+            nearCacheMaxSize = 0;
+            listenerRegistration = null;
+        }
     }
 
     public Object get(final Object key) {
-        return map.get(key);
+        if (nearCache == null) {
+            return map.get(key);
+        }
+        final Object cached = nearCache.get(key);
+        if (cached != null && !(cached instanceof Reservation)) {
+            nearCacheHits.incrementAndGet();
+            return cached;
+        }
+        nearCacheMisses.incrementAndGet();
+        if (cached != null || lockedKeys.containsKey(key) || nearCache.size() >= nearCacheMaxSize) {
+            return map.get(key);
+        }
+        // the reservation is removed by any invalidation arriving while the value is read, in that case
+        // the value read may already be stale and is not cached
+        final Reservation reservation = new Reservation();
+        if (nearCache.putIfAbsent(key, reservation) != null) {
+            return map.get(key);
+        }
+        Object value = null;
+        try {
+            value = map.get(key);
+        } finally {
+            if (value == null || !nearCache.replace(key, reservation, value)) {
+                nearCache.remove(key, reservation);
+            }
+        }
+        return value;
     }
 
     public boolean put(final Object key, final Object value, final Object currentVersion) {
@@ -78,6 +144,15 @@ public class IMapRegionCache implements RegionCache {
 
     public boolean update(final Object key, final Object value, final Object currentVersion,
                           final Object previousVersion, final SoftLock lock) {
+        try {
+            return updateInternal(key, value, currentVersion, previousVersion, lock);
+        } finally {
+            invalidateNearCache(key);
+        }
+    }
+
+    private boolean updateInternal(final Object key, final Object value, final Object currentVersion,
+                                   final Object previousVersion, final SoftLock lock) {
         if (lock == LOCK_FAILURE) {
             logger.warning("Cache lock could not be acquired!");
             return false;
@@ -97,12 +172,23 @@ public class IMapRegionCache implements RegionCache {
     }
 
     public boolean remove(final Object key) {
-        return map.remove(key) != null;
+        try {
+            return map.remove(key) != null;
+        } finally {
+            invalidateNearCache(key);
+        }
     }
 
     public SoftLock tryLock(final Object key, final Object version) {
         try {
-            return map.tryLock(key, lockTimeout, TimeUnit.MILLISECONDS) ? LOCK_SUCCESS : LOCK_FAILURE;
+            if (map.tryLock(key, lockTimeout, TimeUnit.MILLISECONDS)) {
+                if (lockedKeys != null) {
+                    incrementLockCount(key);
+                    invalidateNearCache(key);
+                }
+                return LOCK_SUCCESS;
+            }
+            return LOCK_FAILURE;
         } catch (InterruptedException e) {
             return LOCK_FAILURE;
         }
@@ -110,16 +196,28 @@ public class IMapRegionCache implements RegionCache {
 
     public void unlock(final Object key, SoftLock lock) {
         if (lock == LOCK_SUCCESS) {
+            if (lockedKeys != null) {
+                decrementLockCount(key);
+            }
             map.unlock(key);
         }
     }
 
     public boolean contains(final Object key) {
+        if (nearCache != null) {
+            final Object cached = nearCache.get(key);
+            if (cached != null && !(cached instanceof Reservation)) {
+                return true;
+            }
+        }
         return map.containsKey(key);
     }
 
     public void clear() {
         map.evictAll();
+        if (nearCache != null) {
+            nearCache.clear();
+        }
     }
 
     public long size() {
@@ -141,6 +239,61 @@ public class IMapRegionCache implements RegionCache {
         return map;
     }
 
+    /**
+     * Removes the near cache invalidation listener and drops the near cached entries. The IMap itself is left
+     * untouched, as it is shared with the other members.
+     */
+    public void destroy() {
+        if (nearCache != null) {
+            map.removeEntryListener(listenerRegistration);
+            nearCache.clear();
+        }
+    }
+
+    public boolean isNearCacheEnabled() {
+        return nearCache != null;
+    }
+
+    public long getNearCacheHits() {
+        return nearCacheHits.get();
+    }
+
+    public long getNearCacheMisses() {
+        return nearCacheMisses.get();
+    }
+
+    private void invalidateNearCache(final Object key) {
+        if (nearCache != null) {
+            nearCache.remove(key);
+        }
+    }
+
+    private void incrementLockCount(final Object key) {
+        while (true) {
+            final Integer count = lockedKeys.get(key);
+            if (count == null) {
+                if (lockedKeys.putIfAbsent(key, 1) == null) {
+                    return;
+                }
+            } else if (lockedKeys.replace(key, count, count + 1)) {
+                return;
+            }
+        }
+    }
+
+    private void decrementLockCount(final Object key) {
+        while (true) {
+            final Integer count = lockedKeys.get(key);
+            if (count == null) {
+                return;
+            }
+            final boolean updated = count == 1 ? lockedKeys.remove(key, count) : lockedKeys.replace(key, count, count - 1);
+            if (updated) {
+                return;
+            }
+        }
+    }
+
     private ILogger createLogger(final String name, final HazelcastInstance hazelcastInstance) {
         try {
             return hazelcastInstance.getLoggingService().getLogger(name);
@@ -176,4 +329,26 @@ public class IMapRegionCache implements RegionCache {
             return false;
         }
     }
+
+    /**
+     * Placeholder of a near cache entry whose value is being read from the IMap
+     */
+    private static final class Reservation {
+    }
+
+    /**
+     * Removes near cached entries as soon as they are changed in the IMap by any member
+     */
+    private final class NearCacheInvalidationListener extends EntryAdapter<Object, Object> {
+
+        @Override
+        public void onEntryEvent(final EntryEvent<Object, Object> event) {
+            nearCache.remove(event.getKey());
+        }
+
+        @Override
+        public void onMapEvent(final MapEvent event) {
+            nearCache.clear();
+        }
+    }
 }
@@ -32,15 +32,22 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Local only {@link com.hazelcast.hibernate.RegionCache} implementation
  * based on a topic to distribute cache updates.
+ * <p/>
+ * If {@link CacheEnvironment#INVALIDATION_BATCH_SIZE} is configured, invalidations are collected and sent as a
+ * single {@link InvalidationBatch} once the batch is full or {@link CacheEnvironment#INVALIDATION_BATCH_DELAY}
+ * elapsed. Only the invalidation with the highest version is kept per key.
  */
 public class LocalRegionCache implements RegionCache {
 
@@ -68,6 +75,14 @@ public class LocalRegionCache implements RegionCache {
     protected final Comparator versionComparator;
     protected MapConfig config;
 
+    private final int invalidationBatchSize;
+    private final int invalidationBatchDelay;
+    private final Object invalidationMutex = new Object();
+    private Map<Object, Invalidation> pendingInvalidations;
+    private final AtomicLong invalidationsSent = new AtomicLong();
+    private final AtomicLong invalidationMessagesSent = new AtomicLong();
+    private final AtomicLong invalidationsReceived = new AtomicLong();
+
     /**
      * @param name              the name for this region cache, which is also used to retrieve configuration/topic
      * @param hazelcastInstance the {@code HazelcastInstance} to which this region cache belongs, used to retrieve
@@ -94,6 +109,26 @@ public class LocalRegionCache implements RegionCache {
      */
     public LocalRegionCache(final String name, final HazelcastInstance hazelcastInstance,
                             final CacheDataDescription metadata, final boolean withTopic) {
+        this(name, hazelcastInstance, metadata, withTopic, null);
+    }
+
+    /**
+     * @param name              the name for this region cache, which is also used to retrieve configuration/topic
+     * @param hazelcastInstance the {@code HazelcastInstance} to which this region cache belongs, used to retrieve
+     *                          configuration and to lookup an {@link ITopic} to register a {@link MessageListener}
+     *                          with (optional)
+     * @param metadata          metadata describing the cached data, used to compare data versions (optional)
+     * @param properties        hibernate properties used to configure invalidation batching (optional)
+     */
+    public LocalRegionCache(final String name, final HazelcastInstance hazelcastInstance,
+                            final CacheDataDescription metadata, final Properties properties) {
+        this(name, hazelcastInstance, metadata, true, properties);
+    }
+
+    private LocalRegionCache(final String name, final HazelcastInstance hazelcastInstance,
+                             final CacheDataDescription metadata, final boolean withTopic, final Properties properties) {
+        invalidationBatchSize = CacheEnvironment.getInvalidationBatchSize(properties);
+        invalidationBatchDelay = CacheEnvironment.getInvalidationBatchDelayInMillis(properties);
         try {
             config = hazelcastInstance != null ? hazelcastInstance.getConfig().findMapConfig(name) : null;
         } catch (UnsupportedOperationException e) {
@@ -135,9 +170,7 @@ public class LocalRegionCache implements RegionCache {
                 return false;
             }
         }
-        if (topic != null) {
-            topic.publish(createMessage(key, value, currentVersion));
-        }
+        publish(key, value, currentVersion);
         cache.put(key, new Value(currentVersion, value, lock, Clock.currentTimeMillis()));
         return true;
     }
@@ -146,32 +179,120 @@ public class LocalRegionCache implements RegionCache {
         return new Invalidation(key, currentVersion);
     }
 
+    private void publish(final Object key, final Object value, final Object version) {
+        if (topic == null) {
+            return;
+        }
+        if (!isBatchingInvalidations()) {
+            topic.publish(createMessage(key, value, version));
+            invalidationsSent.incrementAndGet();
+            invalidationMessagesSent.incrementAndGet();
+            return;
+        }
+        Map<Object, Invalidation> fullBatch = null;
+        synchronized (invalidationMutex) {
+            if (pendingInvalidations == null) {
+                pendingInvalidations = new LinkedHashMap<Object, Invalidation>();
+            }
+            final Invalidation pending = pendingInvalidations.get(key);
+            if (pending == null || versionComparator == null || version == null || pending.getVersion() == null
+                    || versionComparator.compare(version, pending.getVersion()) >= 0) {
+                pendingInvalidations.put(key, new Invalidation(key, version));
+            }
+            if (pendingInvalidations.size() >= invalidationBatchSize) {
+                fullBatch = pendingInvalidations;
+                pendingInvalidations = null;
+            }
+        }
+        if (fullBatch != null) {
+            publishBatch(fullBatch);
+        }
+    }
+
+    /**
+     * Sends the collected invalidations, if any. Called periodically by the {@link CleanupService}.
+     */
+    public void flushInvalidations() {
+        final Map<Object, Invalidation> batch;
+        synchronized (invalidationMutex) {
+            batch = pendingInvalidations;
+            pendingInvalidations = null;
+        }
+        if (batch != null && !batch.isEmpty()) {
+            publishBatch(batch);
+        }
+    }
+
+    private void publishBatch(final Map<Object, Invalidation> batch) {
+        topic.publish(new InvalidationBatch(new ArrayList<Invalidation>(batch.values())));
+        invalidationsSent.addAndGet(batch.size());
+        invalidationMessagesSent.incrementAndGet();
+    }
+
+    public boolean isBatchingInvalidations() {
+        return invalidationBatchSize > 1 && topic != null;
+    }
+
+    public int getInvalidationBatchDelay() {
+        return invalidationBatchDelay;
+    }
+
+    /**
+     * @return number of invalidations sent to the other members, batched or not
+     */
+    public long getInvalidationsSent() {
+        return invalidationsSent.get();
+    }
+
+    /**
+     * @return number of topic messages used to send the invalidations
+     */
+    public long getInvalidationMessagesSent() {
+        return invalidationMessagesSent.get();
+    }
+
+    /**
+     * @return number of invalidations received from the topic, including this member's own ones
+     */
+    public long getInvalidationsReceived() {
+        return invalidationsReceived.get();
+    }
+
     protected MessageListener<Object> createMessageListener() {
         return new MessageListener<Object>() {
             public void onMessage(final Message<Object> message) {
-                final Invalidation invalidation = (Invalidation) message.getMessageObject();
-                if (versionComparator != null) {
-                    final Value value = cache.get(invalidation.getKey());
-                    if (value != null) {
-                        Object currentVersion = value.getVersion();
-                        Object newVersion = invalidation.getVersion();
-                        if (versionComparator.compare(newVersion, currentVersion) > 0) {
-                            cache.remove(invalidation.getKey(), value);
-                        }
+                final Object messageObject = message.getMessageObject();
+                if (messageObject instanceof InvalidationBatch) {
+                    for (Invalidation invalidation : ((InvalidationBatch) messageObject).getInvalidations()) {
+                        invalidate(invalidation);
                     }
                 } else {
-                    cache.remove(invalidation.getKey());
+                    invalidate((Invalidation) messageObject);
                 }
             }
         };
     }
 
+    private void invalidate(final Invalidation invalidation) {
+        invalidationsReceived.incrementAndGet();
+        if (versionComparator != null) {
+            final Value value = cache.get(invalidation.getKey());
+            if (value != null) {
+                Object currentVersion = value.getVersion();
+                Object newVersion = invalidation.getVersion();
+                if (versionComparator.compare(newVersion, currentVersion) > 0) {
+                    cache.remove(invalidation.getKey(), value);
+                }
+            }
+        } else {
+            cache.remove(invalidation.getKey());
+        }
+    }
+
     public boolean remove(final Object key) {
         final Value value = cache.remove(key);
         if (value != null) {
-            if (topic != null) {
-                topic.publish(createMessage(key, null, value.getVersion()));
-            }
+            publish(key, null, value.getVersion());
             return true;
         }
         return false;
@@ -19,6 +19,7 @@ package com.hazelcast.hibernate.region;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.hibernate.HazelcastTimestamper;
 import com.hazelcast.hibernate.RegionCache;
+import com.hazelcast.hibernate.distributed.IMapRegionCache;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import org.hibernate.cache.CacheException;
@@ -49,7 +50,11 @@ abstract class AbstractHazelcastRegion<Cache extends RegionCache> implements Haz
     public void destroy() throws CacheException {
 //      Destroy of the region should not propagate
 //      to other nodes of cluster.
-//      Do nothing on destroy.
+//      Only local resources are released.
+        final Cache cache = getCache();
+        if (cache instanceof IMapRegionCache) {
+            ((IMapRegionCache) cache).destroy();
+        }
     }
 
     /**
@@ -5,6 +5,7 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ITopic;
 import com.hazelcast.core.MessageListener;
+import com.hazelcast.hibernate.CacheEnvironment;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.QuickTest;
 import org.hibernate.cache.spi.CacheDataDescription;
@@ -13,7 +14,10 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.util.Comparator;
+import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -93,6 +97,36 @@ public class LocalRegionCacheTest {
         verify(topic).addMessageListener(isNotNull(MessageListener.class));
     }
 
+    @Test
+    public void testInvalidationsAreBatched() {
+        Config config = mock(Config.class);
+        when(config.findMapConfig(eq(CACHE_NAME))).thenReturn(mock(MapConfig.class));
+
+        ITopic<Object> topic = mock(ITopic.class);
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        when(instance.getConfig()).thenReturn(config);
+        when(instance.getTopic(eq(CACHE_NAME))).thenReturn(topic);
+
+        Properties properties = new Properties();
+        properties.setProperty(CacheEnvironment.INVALIDATION_BATCH_SIZE, "3");
+        LocalRegionCache cache = new LocalRegionCache(CACHE_NAME, instance, null, properties);
+        assertTrue(cache.isBatchingInvalidations());
+
+        cache.update("key1", "value", null, null, null);
+        cache.update("key1", "value", null, null, null);
+        cache.update("key2", "value", null, null, null);
+        verify(topic, never()).publish(any());
+
+        cache.update("key3", "value", null, null, null);
+        verify(topic, times(1)).publish(isA(InvalidationBatch.class));
+
+        cache.remove("key1");
+        cache.flushInvalidations();
+        verify(topic, times(2)).publish(isA(InvalidationBatch.class));
+        assertEquals(4, cache.getInvalidationsSent());
+        assertEquals(2, cache.getInvalidationMessagesSent());
+    }
+
     public static void runCleanup(LocalRegionCache cache) {
         cache.cleanup();
     }
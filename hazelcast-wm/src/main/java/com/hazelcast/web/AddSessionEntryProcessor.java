@@ -16,6 +16,10 @@
 
 package com.hazelcast.web;
 
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -25,10 +29,22 @@ import java.util.Map;
  * This {@code EntryProcessor} is only intended to be used when the <i>first node in the cluster</i> creates a
  * given session. After that, when a new node in the cluster creates a local "copy" of the clustered session,
  * {@link ReferenceSessionEntryProcessor} should be used to increment the reference count.
+ * <p/>
+ * When sessions are stored as single entries, a new {@link SessionState} is created instead.
  *
  * @since 3.3
  */
-public class AddSessionEntryProcessor extends AbstractWebDataEntryProcessor<Integer> {
+public class AddSessionEntryProcessor extends AbstractWebDataEntryProcessor<Object> {
+
+    private boolean sessionState;
+
+    // Serialization Constructor
+    public AddSessionEntryProcessor() {
+    }
+
+    public AddSessionEntryProcessor(boolean sessionState) {
+        this.sessionState = sessionState;
+    }
 
     @Override
     public int getId() {
@@ -36,12 +52,29 @@ public class AddSessionEntryProcessor extends AbstractWebDataEntryProcessor<Inte
     }
 
     @Override
-    public Object process(Map.Entry<String, Integer> entry) {
-        Integer startingValue = entry.getValue();
+    public Object process(Map.Entry<String, Object> entry) {
+        Object value = entry.getValue();
+        if (value instanceof SessionState || (value == null && sessionState)) {
+            SessionState state = value == null ? new SessionState(0) : (SessionState) value;
+            state.setReferenceCount(state.getReferenceCount() + 1);
+            entry.setValue(state);
+            return state.getReferenceCount();
+        }
+        Integer startingValue = (Integer) value;
         if (startingValue == null) {
             startingValue = 0;
         }
         entry.setValue(++startingValue);
         return startingValue;
     }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        sessionState = in.readBoolean();
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeBoolean(sessionState);
+    }
 }
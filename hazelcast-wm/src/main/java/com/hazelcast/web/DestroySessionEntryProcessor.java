@@ -21,11 +21,12 @@ import java.util.Map;
 /**
  * Decrements the reference count for a session, returning {@code Boolean.TRUE} or {@code Boolean.FALSE} to
  * indicate whether the reference count has reached zero. If the reference count reaches zero, the session
- * ID is removed by this processor to reduce network calls.
+ * ID is removed by this processor to reduce network calls. For sessions stored as a single {@link SessionState}
+ * entry this also removes all of the session's attributes.
  *
  * @since 3.3
  */
-public class DestroySessionEntryProcessor extends AbstractWebDataEntryProcessor<Integer> {
+public class DestroySessionEntryProcessor extends AbstractWebDataEntryProcessor<Object> {
 
     @Override
     public int getId() {
@@ -33,14 +34,25 @@ public class DestroySessionEntryProcessor extends AbstractWebDataEntryProcessor<
     }
 
     @Override
-    public Object process(Map.Entry<String, Integer> entry) {
-        Integer value = entry.getValue();
+    public Object process(Map.Entry<String, Object> entry) {
+        Object value = entry.getValue();
         if (value == null) {
             // This should never happen, but if the session entry no longer exists treat it as invalidated
             return Boolean.TRUE;
         }
+        if (value instanceof SessionState) {
+            SessionState state = (SessionState) value;
+            int remaining = state.getReferenceCount() - 1;
+            if (remaining <= 0) {
+                entry.setValue(null);
+                return Boolean.TRUE;
+            }
+            state.setReferenceCount(remaining);
+            entry.setValue(state);
+            return Boolean.FALSE;
+        }
 
-        int remaining = value - 1;
+        int remaining = (Integer) value - 1;
         if (remaining <= 0) {
             // If this was the last reference to the entry, null it out to remove it from the
             // map and return true to trigger attribute invalidation
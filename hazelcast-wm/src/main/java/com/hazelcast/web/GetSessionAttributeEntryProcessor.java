@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2008-2014, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.web;
+
+import com.hazelcast.map.ReadOnly;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Reads a single attribute of a {@link SessionState}, or the names of all attributes if no attribute name is
+ * given. Only the requested data is sent back instead of the whole session.
+ *
+ * @since 3.3
+ */
+public class GetSessionAttributeEntryProcessor extends AbstractWebDataEntryProcessor<SessionState> implements ReadOnly {
+
+    private String attributeName;
+
+    // Serialization Constructor
+    public GetSessionAttributeEntryProcessor() {
+    }
+
+    public GetSessionAttributeEntryProcessor(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.GET_SESSION_ATTRIBUTE_ID;
+    }
+
+    @Override
+    public Object process(Map.Entry<String, SessionState> entry) {
+        SessionState sessionState = entry.getValue();
+        if (attributeName == null) {
+            return sessionState == null
+                    ? new ArrayList<String>() : new ArrayList<String>(sessionState.getAttributes().keySet());
+        }
+        // the serialized value is sent back as is and deserialized by the caller
+        return sessionState == null ? null : sessionState.getAttributes().get(attributeName);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(attributeName);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        attributeName = in.readUTF();
+    }
+}
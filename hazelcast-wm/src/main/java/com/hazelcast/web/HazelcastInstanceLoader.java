@@ -17,6 +17,7 @@
 package com.hazelcast.web;
 
 import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.HazelcastClientProxy;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.config.XmlClientConfigBuilder;
 import com.hazelcast.config.Config;
@@ -25,8 +26,12 @@ import com.hazelcast.config.UrlXmlConfig;
 import com.hazelcast.config.XmlConfigBuilder;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.HazelcastInstanceImpl;
+import com.hazelcast.instance.HazelcastInstanceProxy;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.util.EmptyStatement;
 
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
@@ -114,6 +119,28 @@ final class HazelcastInstanceLoader {
         return HazelcastClient.newHazelcastClient(clientConfig);
     }
 
+    /**
+     * @return the serialization service of the member or client instance, or null if the instance is of an
+     * unknown type.
+     */
+    public static SerializationService getSerializationService(HazelcastInstance instance) {
+        if (instance instanceof HazelcastInstanceProxy) {
+            return ((HazelcastInstanceProxy) instance).getSerializationService();
+        }
+        if (instance instanceof HazelcastInstanceImpl) {
+            return ((HazelcastInstanceImpl) instance).getSerializationService();
+        }
+        // client classes are only loaded here, after the instance turned out not to be a member.
+        try {
+            if (instance instanceof HazelcastClientProxy) {
+                return ((HazelcastClientProxy) instance).getSerializationService();
+            }
+        } catch (NoClassDefFoundError ignored) {
+            EmptyStatement.ignore(ignored);
+        }
+        return null;
+    }
+
     private static URL getConfigURL(final FilterConfig filterConfig, final String configLocation) throws ServletException {
         URL configUrl = null;
         try {
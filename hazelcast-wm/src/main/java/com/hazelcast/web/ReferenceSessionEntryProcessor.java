@@ -29,7 +29,7 @@ import java.util.Map;
  *
  * @since 3.3
  */
-public class ReferenceSessionEntryProcessor extends AbstractWebDataEntryProcessor<Integer> {
+public class ReferenceSessionEntryProcessor extends AbstractWebDataEntryProcessor<Object> {
 
     @Override
     public int getId() {
@@ -37,8 +37,8 @@ public class ReferenceSessionEntryProcessor extends AbstractWebDataEntryProcesso
     }
 
     @Override
-    public Object process(Map.Entry<String, Integer> entry) {
-        Integer value = entry.getValue();
+    public Object process(Map.Entry<String, Object> entry) {
+        Object value = entry.getValue();
         if (value == null) {
             // This session is not active on any node in the cluster
             return Boolean.FALSE;
@@ -47,7 +47,13 @@ public class ReferenceSessionEntryProcessor extends AbstractWebDataEntryProcesso
         // Otherwise, at least one other node in the cluster has seen this session, so it should be "copied"
         // to the requesting node. Because it's being copied, increment the reference count to ensure the
         // session does not idle out globally until all referencing nodes have timed out
-        entry.setValue(value + 1);
+        if (value instanceof SessionState) {
+            SessionState state = (SessionState) value;
+            state.setReferenceCount(state.getReferenceCount() + 1);
+            entry.setValue(state);
+        } else {
+            entry.setValue((Integer) value + 1);
+        }
 
         return Boolean.TRUE;
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2014, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.web;
+
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the reference count and all attributes of a session when the {@link WebFilter} stores each session as
+ * a single map entry. Attribute values are kept in their serialized form, so cluster members never need the
+ * classes of the attribute values.
+ *
+ * @since 3.3
+ */
+public class SessionState implements IdentifiedDataSerializable {
+
+    private int referenceCount;
+    private final Map<String, Data> attributes = new HashMap<String, Data>();
+
+    // Serialization Constructor
+    public SessionState() {
+    }
+
+    public SessionState(int referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(int referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+
+    public Map<String, Data> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the attributes in the given map; attributes mapped to {@code null} are removed.
+     */
+    public void setAttributes(Map<String, Data> changes) {
+        for (Map.Entry<String, Data> entry : changes.entrySet()) {
+            if (entry.getValue() == null) {
+                attributes.remove(entry.getKey());
+            } else {
+                attributes.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return WebDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.SESSION_STATE_ID;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(referenceCount);
+        out.writeInt(attributes.size());
+        for (Map.Entry<String, Data> entry : attributes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            entry.getValue().writeData(out);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        referenceCount = in.readInt();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            attributes.put(in.readUTF(), IOUtil.readData(in));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SessionState{referenceCount=" + referenceCount + ", attributes=" + attributes.keySet() + '}';
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2014, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.web;
+
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sets or removes the given attributes of a {@link SessionState} in a single operation. Attributes mapped to
+ * {@code null} are removed. If the session entry does not exist, e.g. because the session was invalidated
+ * concurrently, nothing is changed so the session is not brought back.
+ *
+ * @since 3.3
+ */
+public class SessionUpdateEntryProcessor extends AbstractWebDataEntryProcessor<SessionState> {
+
+    private Map<String, Data> attributes;
+
+    // Serialization Constructor
+    public SessionUpdateEntryProcessor() {
+    }
+
+    public SessionUpdateEntryProcessor(Map<String, Data> attributes) {
+        this.attributes = attributes;
+    }
+
+    public SessionUpdateEntryProcessor(String name, Data value) {
+        this.attributes = new HashMap<String, Data>(1);
+        this.attributes.put(name, value);
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.SESSION_UPDATE_ID;
+    }
+
+    @Override
+    public Object process(Map.Entry<String, SessionState> entry) {
+        SessionState sessionState = entry.getValue();
+        if (sessionState == null) {
+            return Boolean.FALSE;
+        }
+        sessionState.setAttributes(attributes);
+        entry.setValue(sessionState);
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(attributes.size());
+        for (Map.Entry<String, Data> entry : attributes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            IOUtil.writeNullableData(out, entry.getValue());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        attributes = new HashMap<String, Data>(size);
+        for (int i = 0; i < size; i++) {
+            attributes.put(in.readUTF(), IOUtil.readNullableData(in));
+        }
+    }
+}
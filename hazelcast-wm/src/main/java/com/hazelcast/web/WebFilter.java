@@ -25,6 +25,8 @@ import com.hazelcast.core.IMap;
 import com.hazelcast.core.MapEvent;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
 import com.hazelcast.util.UuidUtil;
 
 import javax.servlet.Filter;
@@ -43,7 +45,9 @@ import javax.servlet.http.HttpServletResponseWrapper;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionContext;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -86,6 +90,9 @@ import java.util.logging.Level;
  *     <li>{@code deferred-write}: When enabled, optimizes {@link IMap} interactions by only writing session attributes
  *     at the end of a request. This can yield significant performance improvements for session-heavy applications
  *     (Default: {@code false})</li>
+ *     <li>{@code single-entry-session}: When enabled, stores all attributes of a session in a single {@link IMap}
+ *     entry keyed by the session id instead of one entry per attribute. Loading, writing and invalidating a session
+ *     are then operations on a single partition rather than queries over the whole map (Default: {@code false})</li>
  *     <li>{@code cookie-name}: Sets the name for the Hazelcast session cookie (Default:
  *     {@link #HAZELCAST_SESSION_COOKIE_NAME "hazelcast.sessionId"}</li>
  *     <li>{@code cookie-domain}: Sets the domain for the Hazelcast session cookie (Default: {@code null})</li>
@@ -124,6 +131,8 @@ public class WebFilter implements Filter {
     private boolean stickySession = true;
     private boolean shutdownOnDestroy = true;
     private boolean deferredWrite;
+    private boolean singleEntrySession;
+    private SerializationService serializationService;
     private Properties properties;
 
     public WebFilter() {
@@ -171,6 +180,14 @@ public class WebFilter implements Filter {
         initInstance();
         initCookieParams();
         initParams();
+        if (singleEntrySession) {
+            serializationService = HazelcastInstanceLoader.getSerializationService(hazelcastInstance);
+            if (serializationService == null) {
+                LOGGER.warning("single-entry-session is not supported for " + hazelcastInstance.getClass().getName()
+                        + ", storing session attributes as separate entries");
+                singleEntrySession = false;
+            }
+        }
 
         String mapName = getParam("map-name");
         if (mapName != null) {
@@ -242,6 +259,10 @@ public class WebFilter implements Filter {
         if (deferredWriteParam != null) {
             deferredWrite = Boolean.parseBoolean(deferredWriteParam);
         }
+        String singleEntrySessionParam = getParam("single-entry-session");
+        if (singleEntrySessionParam != null) {
+            singleEntrySession = Boolean.parseBoolean(singleEntrySessionParam);
+        }
     }
 
     private void initCookieParams() {
@@ -306,7 +327,7 @@ public class WebFilter implements Filter {
         HazelcastHttpSession hazelcastSession = new HazelcastHttpSession(id, originalSession, deferredWrite);
         if (existingSessionId == null) {
             // If the session is being created for the first time, add its initial reference in the cluster-wide map.
-            getClusterMap().executeOnKey(id, new AddSessionEntryProcessor());
+            getClusterMap().executeOnKey(id, new AddSessionEntryProcessor(singleEntrySession));
         }
         updateSessionMaps(id, originalSession, hazelcastSession);
         addSessionCookie(requestWrapper, id);
@@ -365,9 +386,10 @@ public class WebFilter implements Filter {
             invalidated = (destroyed != null && destroyed);
         }
 
-        if (invalidated) {
+        if (invalidated && !singleEntrySession) {
             // If the session was invalidated, either explicitly or because the final reference to it was
-            // destroyed, invalidate all of the attributes that were attached to it
+            // destroyed, invalidate all of the attributes that were attached to it. A single session entry
+            // has already been removed together with its attributes.
             clusterMap.executeOnEntries(new InvalidateSessionAttributesEntryProcessor(session.getId()));
         }
     }
@@ -613,7 +635,7 @@ public class WebFilter implements Filter {
             if (deferredWrite) {
                 LocalCacheEntry cacheEntry = localCache.get(name);
                 if (cacheEntry == null || (cacheEntry.reload && !cacheEntry.dirty)) {
-                    Object value = clusterMap.get(buildAttributeName(name));
+                    Object value = readAttribute(clusterMap, name);
                     if (value == null) {
                         cacheEntry = NULL_ENTRY;
                     } else {
@@ -625,6 +647,13 @@ public class WebFilter implements Filter {
                 }
                 return cacheEntry != NULL_ENTRY ? cacheEntry.value : null;
             }
+            return readAttribute(clusterMap, name);
+        }
+
+        private Object readAttribute(IMap<String, Object> clusterMap, String name) {
+            if (singleEntrySession) {
+                return clusterMap.executeOnKey(id, new GetSessionAttributeEntryProcessor(name));
+            }
             return clusterMap.get(buildAttributeName(name));
         }
 
@@ -691,6 +720,8 @@ public class WebFilter implements Filter {
                     // dirty needs to be set as last value for memory visibility reasons!
                     entry.dirty = true;
                 }
+            } else if (singleEntrySession) {
+                getClusterMap().executeOnKey(id, new SessionUpdateEntryProcessor(name, null));
             } else {
                 getClusterMap().delete(buildAttributeName(name));
             }
@@ -712,6 +743,8 @@ public class WebFilter implements Filter {
                 }
                 entry.value = value;
                 entry.dirty = true;
+            } else if (singleEntrySession) {
+                getClusterMap().executeOnKey(id, new SessionUpdateEntryProcessor(name, serializationService.toData(value)));
             } else {
                 getClusterMap().put(buildAttributeName(name), value);
             }
@@ -766,6 +799,9 @@ public class WebFilter implements Filter {
         }
 
         private Map<String, LocalCacheEntry> buildLocalCache() {
+            if (singleEntrySession) {
+                return buildLocalCacheFromSessionState();
+            }
             Set<Entry<String, Object>> entrySet = getClusterMap().entrySet(new SessionAttributePredicate(id));
 
             Map<String, LocalCacheEntry> cache = new ConcurrentHashMap<String, LocalCacheEntry>();
@@ -786,8 +822,25 @@ public class WebFilter implements Filter {
             return cache;
         }
 
+        private Map<String, LocalCacheEntry> buildLocalCacheFromSessionState() {
+            Map<String, LocalCacheEntry> cache = new ConcurrentHashMap<String, LocalCacheEntry>();
+            Object value = getClusterMap().get(id);
+            if (value instanceof SessionState) {
+                for (Entry<String, Data> entry : ((SessionState) value).getAttributes().entrySet()) {
+                    LocalCacheEntry cacheEntry = new LocalCacheEntry();
+                    cacheEntry.value = serializationService.toObject(entry.getValue());
+                    cache.put(entry.getKey(), cacheEntry);
+                }
+            }
+            return cache;
+        }
+
         private void sessionDeferredWrite() {
             if (sessionChanged()) {
+                if (singleEntrySession) {
+                    sessionStateDeferredWrite();
+                    return;
+                }
                 IMap<String, Object> clusterMap = getClusterMap();
 
                 Iterator<Entry<String, LocalCacheEntry>> iterator = localCache.entrySet().iterator();
@@ -807,9 +860,37 @@ public class WebFilter implements Filter {
             }
         }
 
+        /**
+         * Writes all dirty attributes with a single operation on the session entry.
+         */
+        private void sessionStateDeferredWrite() {
+            Map<String, Data> changes = new HashMap<String, Data>();
+            Map<String, LocalCacheEntry> written = new HashMap<String, LocalCacheEntry>();
+            for (Entry<String, LocalCacheEntry> entry : localCache.entrySet()) {
+                LocalCacheEntry cacheEntry = entry.getValue();
+                if (cacheEntry.dirty) {
+                    changes.put(entry.getKey(), cacheEntry.removed ? null : serializationService.toData(cacheEntry.value));
+                    written.put(entry.getKey(), cacheEntry);
+                }
+            }
+            getClusterMap().executeOnKey(id, new SessionUpdateEntryProcessor(changes));
+            for (Entry<String, LocalCacheEntry> entry : written.entrySet()) {
+                if (entry.getValue().removed) {
+                    localCache.remove(entry.getKey());
+                } else {
+                    entry.getValue().dirty = false;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
         private Set<String> selectKeys() {
             Set<String> keys = new HashSet<String>();
-            if (!deferredWrite) {
+            if (!deferredWrite && singleEntrySession) {
+                Collection<String> names = (Collection<String>) getClusterMap()
+                        .executeOnKey(id, new GetSessionAttributeEntryProcessor(null));
+                keys.addAll(names);
+            } else if (!deferredWrite) {
                 for (String qualifiedAttributeKey : getClusterMap().keySet(new SessionAttributePredicate(id))) {
                     keys.add(extractAttributeKey(qualifiedAttributeKey));
                 }
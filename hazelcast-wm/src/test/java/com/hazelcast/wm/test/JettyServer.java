@@ -4,6 +4,8 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.nio.SelectChannelConnector;
 import org.eclipse.jetty.webapp.WebAppContext;
 
+import java.io.File;
+
 public class JettyServer implements ServletContainer {
     Server server;
 
@@ -35,7 +37,8 @@ public class JettyServer implements ServletContainer {
         server.addConnector(connector);
         WebAppContext context = new WebAppContext();
         context.setResourceBase(sourceDir);
-        context.setDescriptor(sourceDir + "/WEB-INF/" + webXmlFile);
+        // generated descriptors are passed with their absolute path
+        context.setDescriptor(new File(webXmlFile).isAbsolute() ? webXmlFile : sourceDir + "/WEB-INF/" + webXmlFile);
         context.setLogUrlOnStart(true);
         context.setContextPath("/");
         context.setParentLoaderPriority(true);
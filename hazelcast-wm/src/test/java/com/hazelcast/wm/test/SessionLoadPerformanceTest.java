@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2014, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.wm.test;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.HazelcastInstanceProxy;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.web.SessionAttributePredicate;
+import com.hazelcast.web.SessionState;
+import org.junit.Ignore;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the latency of loading a session with all its attributes when every attribute is a separate map entry
+ * (a query over the whole map) and when the session is stored as a single {@link SessionState} entry.
+ */
+@Ignore("not a JUnit test")
+public class SessionLoadPerformanceTest {
+
+    private static final String SEPARATOR = "::hz::";
+
+    private final int sessionCount = 20000;
+    private final int attributeCount = 10;
+    private final int loadCount = 2000;
+    private final Random random = new Random();
+
+    public static void main(String[] args) throws Exception {
+        SessionLoadPerformanceTest test = new SessionLoadPerformanceTest();
+        try {
+            test.run();
+        } finally {
+            Hazelcast.shutdownAll();
+        }
+    }
+
+    public void run() {
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance();
+        SerializationService ss = ((HazelcastInstanceProxy) instance).getSerializationService();
+        IMap<String, Object> attributeMap = instance.getMap("attribute-entries");
+        IMap<String, Object> sessionMap = instance.getMap("session-entries");
+        for (int i = 0; i < sessionCount; i++) {
+            String sessionId = "session-" + i;
+            SessionState state = new SessionState(1);
+            attributeMap.put(sessionId, 1);
+            for (int a = 0; a < attributeCount; a++) {
+                String value = "value-" + i + "-" + a;
+                attributeMap.put(sessionId + SEPARATOR + "attribute-" + a, value);
+                state.getAttributes().put("attribute-" + a, ss.toData(value));
+            }
+            sessionMap.put(sessionId, state);
+        }
+        System.err.println("Loaded " + sessionCount + " sessions with " + attributeCount + " attributes");
+
+        long[] attributeLatencies = new long[loadCount];
+        long[] sessionLatencies = new long[loadCount];
+        for (int i = 0; i < loadCount; i++) {
+            String sessionId = "session-" + random.nextInt(sessionCount);
+
+            long start = System.nanoTime();
+            attributeMap.entrySet(new SessionAttributePredicate(sessionId));
+            attributeLatencies[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            SessionState state = (SessionState) sessionMap.get(sessionId);
+            for (Map.Entry<String, Data> entry : state.getAttributes().entrySet()) {
+                ss.toObject(entry.getValue());
+            }
+            sessionLatencies[i] = System.nanoTime() - start;
+        }
+        print("attribute entries", attributeLatencies);
+        print("single session entry", sessionLatencies);
+    }
+
+    private static void print(String name, long[] latencies) {
+        Arrays.sort(latencies);
+        long total = 0;
+        for (long latency : latencies) {
+            total += latency;
+        }
+        System.err.println(name + ": avg " + (total / latencies.length / 1000) + " us"
+                + ", p50 " + (latencies[latencies.length / 2] / 1000) + " us"
+                + ", p99 " + (latencies[latencies.length * 99 / 100] / 1000) + " us"
+                + ", max " + (latencies[latencies.length - 1] / 1000) + " us");
+    }
+}
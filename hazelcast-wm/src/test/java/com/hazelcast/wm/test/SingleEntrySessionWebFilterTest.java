@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2014, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.wm.test;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.web.SessionState;
+import org.apache.http.client.CookieStore;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+@Category(QuickTest.class)
+public class SingleEntrySessionWebFilterTest extends AbstractWebFilterTest {
+
+    @Parameters(name = "Executing: {0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+                new Object[]{"node - not deferred", false}, //
+                new Object[]{"node - deferred", true} //
+        );
+    }
+
+    private static final String WEB_XML_TEMPLATE = "single-entry-session.xml";
+
+    private final boolean deferredWrite;
+
+    public SingleEntrySessionWebFilterTest(String name, boolean deferredWrite) {
+        super(WEB_XML_TEMPLATE, WEB_XML_TEMPLATE);
+        this.deferredWrite = deferredWrite;
+    }
+
+    @Test(timeout = 60000)
+    public void testAttributesAreStoredInSessionEntry() throws Exception {
+        IMap<String, Object> map = hz.getMap("default");
+        CookieStore cookieStore = new BasicCookieStore();
+
+        assertEquals("true", executeRequest("write", serverPort1, cookieStore));
+        assertEquals(1, map.size());
+        SessionState state = (SessionState) map.values().iterator().next();
+        assertEquals(1, state.getAttributes().size());
+
+        assertEquals("value", executeRequest("read", serverPort2, cookieStore));
+        assertEquals("key", executeRequest("names", serverPort2, cookieStore));
+    }
+
+    @Test(timeout = 60000)
+    public void testAttributeUpdateAndRemoval() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+
+        assertEquals("true", executeRequest("write", serverPort1, cookieStore));
+        assertEquals("value", executeRequest("read", serverPort2, cookieStore));
+        assertEquals("true", executeRequest("update", serverPort2, cookieStore));
+        assertEquals("value-updated", executeRequest("read", serverPort1, cookieStore));
+        assertEquals("true", executeRequest("remove", serverPort1, cookieStore));
+        assertEquals("null", executeRequest("read", serverPort2, cookieStore));
+    }
+
+    @Test(timeout = 60000)
+    public void testInvalidateRemovesSessionEntry() throws Exception {
+        IMap<String, Object> map = hz.getMap("default");
+        CookieStore cookieStore = new BasicCookieStore();
+
+        assertEquals("true", executeRequest("write", serverPort1, cookieStore));
+        assertEquals("value", executeRequest("read", serverPort2, cookieStore));
+        assertEquals("true", executeRequest("invalidate", serverPort2, cookieStore));
+        assertTrue(map.isEmpty());
+    }
+
+    @Override
+    protected ServletContainer getServletContainer(int port, String sourceDir, String serverXml) throws Exception {
+        String instanceName = port == serverPort1 ? "node-1" : "node-2";
+        File webXml = createWebXml(new File(sourceDir + "/WEB-INF/", serverXml), instanceName);
+        return new JettyServer(port, sourceDir, webXml.getAbsolutePath());
+    }
+
+    private File createWebXml(File template, String instanceName) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new FileReader(template));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                content.append(line).append('\n');
+            }
+        } finally {
+            reader.close();
+        }
+        String webXml = content.toString()
+                .replace("${instance-name}", instanceName)
+                .replace("${deferred-write}", String.valueOf(deferredWrite));
+
+        File file = File.createTempFile(instanceName + "-", ".xml");
+        file.deleteOnExit();
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write(webXml);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}
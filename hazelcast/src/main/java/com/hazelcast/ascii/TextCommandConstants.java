@@ -71,6 +71,9 @@ public final class TextCommandConstants {
         TOUCH((byte) 16),
         INCREMENT((byte) 17),
         DECREMENT((byte) 18),
+        MULTI_GET((byte) 19),
+        BINARY((byte) 20),
+        BINARY_MULTI_GET((byte) 21),
         HTTP_GET((byte) 30),
         HTTP_POST((byte) 31),
         HTTP_PUT((byte) 32),
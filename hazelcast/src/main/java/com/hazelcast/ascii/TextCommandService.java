@@ -17,8 +17,12 @@
 package com.hazelcast.ascii;
 
 import com.hazelcast.ascii.memcache.Stats;
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.instance.Node;
 
+import java.util.Map;
+import java.util.Set;
+
 public interface TextCommandService {
 
     boolean offer(String queueName, Object value);
@@ -33,6 +37,17 @@ public interface TextCommandService {
 
     Object get(String mapName, String key);
 
+    /**
+     * Gets the value without blocking the calling thread; used to complete get commands
+     * asynchronously so a connection can have many gets in flight.
+     */
+    ICompletableFuture<Object> getAsync(String mapName, String key);
+
+    /**
+     * Gets the values of many keys of a map with a single batched call.
+     */
+    Map<String, Object> getAll(String mapName, Set<String> keys);
+
     byte[] getByteArray(String mapName, String key);
 
     Object put(String mapName, String key, Object value);
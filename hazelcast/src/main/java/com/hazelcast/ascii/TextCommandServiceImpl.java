@@ -16,7 +16,10 @@
 
 package com.hazelcast.ascii;
 
+import com.hazelcast.ascii.memcache.BinaryCommandProcessor;
+import com.hazelcast.ascii.memcache.BinaryMultiGetCommandProcessor;
 import com.hazelcast.ascii.memcache.GetCommandProcessor;
+import com.hazelcast.ascii.memcache.MultiGetCommandProcessor;
 import com.hazelcast.ascii.memcache.Stats;
 import com.hazelcast.ascii.memcache.SetCommandProcessor;
 import com.hazelcast.ascii.memcache.DeleteCommandProcessor;
@@ -31,6 +34,7 @@ import com.hazelcast.ascii.rest.HttpGetCommandProcessor;
 import com.hazelcast.ascii.rest.HttpPostCommandProcessor;
 import com.hazelcast.ascii.rest.RestValue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.core.IMap;
 import com.hazelcast.instance.Node;
 import com.hazelcast.instance.OutOfMemoryErrorDispatcher;
@@ -41,12 +45,17 @@ import com.hazelcast.util.Clock;
 import com.hazelcast.util.EmptyStatement;
 
 import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.BINARY;
+import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.BINARY_MULTI_GET;
 import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.GET;
+import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.MULTI_GET;
 import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.APPEND;
 import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.SET;
 import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.PARTIAL_GET;
@@ -99,6 +108,9 @@ public class TextCommandServiceImpl implements TextCommandService {
         this.logger = node.getLogger(this.getClass().getName());
         textCommandProcessors[GET.getValue()] = new GetCommandProcessor(this, true);
         textCommandProcessors[PARTIAL_GET.getValue()] = new GetCommandProcessor(this, false);
+        textCommandProcessors[MULTI_GET.getValue()] = new MultiGetCommandProcessor(this);
+        textCommandProcessors[BINARY.getValue()] = new BinaryCommandProcessor(this);
+        textCommandProcessors[BINARY_MULTI_GET.getValue()] = new BinaryMultiGetCommandProcessor(this);
         textCommandProcessors[SET.getValue()] = new SetCommandProcessor(this);
         textCommandProcessors[APPEND.getValue()] = new SetCommandProcessor(this);
         textCommandProcessors[PREPEND.getValue()] = new SetCommandProcessor(this);
@@ -223,6 +235,18 @@ public class TextCommandServiceImpl implements TextCommandService {
         return hazelcast.getMap(mapName).get(key);
     }
 
+    @Override
+    public ICompletableFuture<Object> getAsync(String mapName, String key) {
+        IMap<String, Object> map = hazelcast.getMap(mapName);
+        return (ICompletableFuture<Object>) map.getAsync(key);
+    }
+
+    @Override
+    public Map<String, Object> getAll(String mapName, Set<String> keys) {
+        IMap<String, Object> map = hazelcast.getMap(mapName);
+        return map.getAll(keys);
+    }
+
     @Override
     public int getAdjustedTTLSeconds(int ttl) {
         if (ttl <= TextCommandConstants.getMonthSeconds()) {
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.AbstractTextCommand;
+import com.hazelcast.ascii.TextCommandConstants;
+import com.hazelcast.nio.IOUtil;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.util.StringUtil.bytesToString;
+
+/**
+ * A request of the memcache binary protocol: a 24 byte header followed by the extras, the key
+ * and the value. Every request gets a response slot so responses keep the order of requests;
+ * quiet requests that need no response write nothing.
+ */
+public class BinaryCommand extends AbstractTextCommand {
+
+    /**
+     * First byte of every binary request.
+     */
+    public static final byte MAGIC_REQUEST = (byte) 0x80;
+
+    static final byte MAGIC_RESPONSE = (byte) 0x81;
+    static final int HEADER_LENGTH = 24;
+
+    static final byte GET = 0x00;
+    static final byte SET = 0x01;
+    static final byte ADD = 0x02;
+    static final byte REPLACE = 0x03;
+    static final byte DELETE = 0x04;
+    static final byte QUIT = 0x07;
+    static final byte GETQ = 0x09;
+    static final byte NOOP = 0x0a;
+    static final byte VERSION = 0x0b;
+    static final byte GETK = 0x0c;
+    static final byte GETKQ = 0x0d;
+    static final byte SETQ = 0x11;
+    static final byte ADDQ = 0x12;
+    static final byte REPLACEQ = 0x13;
+    static final byte DELETEQ = 0x14;
+    static final byte QUITQ = 0x17;
+
+    static final short STATUS_NO_ERROR = 0x0000;
+    static final short STATUS_KEY_NOT_FOUND = 0x0001;
+    static final short STATUS_KEY_EXISTS = 0x0002;
+    static final short STATUS_VALUE_TOO_LARGE = 0x0003;
+    static final short STATUS_INVALID_ARGUMENTS = 0x0004;
+    static final short STATUS_UNKNOWN_COMMAND = 0x0081;
+    static final short STATUS_INTERNAL_ERROR = 0x0084;
+
+    static final byte[] EMPTY = new byte[0];
+
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    private final int maxBodyLength;
+    private ByteBuffer body;
+    // bytes of a too large body that still have to be skipped
+    private int skipLength = -1;
+    private byte opcode;
+    private int opaque;
+    private byte[] extras;
+    private byte[] key;
+    private byte[] value;
+    private boolean valid = true;
+    private boolean tooLarge;
+    private ByteBuffer response;
+
+    /**
+     * @param maxBodyLength the maximum length of the extras, key and value together
+     */
+    public BinaryCommand(int maxBodyLength) {
+        super(TextCommandConstants.TextCommandType.BINARY);
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    public boolean readFrom(ByteBuffer cb) {
+        if (body == null && skipLength < 0) {
+            copy(cb, header);
+            if (header.hasRemaining()) {
+                return false;
+            }
+            readHeader();
+        }
+        if (skipLength >= 0) {
+            int n = Math.min(cb.remaining(), skipLength);
+            cb.position(cb.position() + n);
+            skipLength -= n;
+            return skipLength == 0;
+        }
+        copy(cb, body);
+        if (body.hasRemaining()) {
+            return false;
+        }
+        body.flip();
+        body.get(extras);
+        body.get(key);
+        body.get(value);
+        body = null;
+        return true;
+    }
+
+    private static void copy(ByteBuffer src, ByteBuffer dest) {
+        if (src.isDirect()) {
+            int n = Math.min(src.remaining(), dest.remaining());
+            if (n > 0) {
+                src.get(dest.array(), dest.position(), n);
+                dest.position(dest.position() + n);
+            }
+        } else {
+            IOUtil.copyToHeapBuffer(src, dest);
+        }
+    }
+
+    private void readHeader() {
+        opcode = header.get(1);
+        int keyLength = header.getShort(2) & 0xFFFF;
+        int extrasLength = header.get(4) & 0xFF;
+        int bodyLength = header.getInt(8);
+        opaque = header.getInt(12);
+        int valueLength = bodyLength - keyLength - extrasLength;
+        if (header.get(0) != MAGIC_REQUEST || bodyLength < 0 || valueLength < 0) {
+            valid = false;
+            keyLength = 0;
+            extrasLength = 0;
+            valueLength = Math.max(bodyLength, 0);
+        }
+        if (bodyLength > maxBodyLength) {
+            // the header is trusted for nothing but the number of bytes to skip
+            tooLarge = true;
+            skipLength = bodyLength;
+            extras = EMPTY;
+            key = EMPTY;
+            value = EMPTY;
+            return;
+        }
+        body = ByteBuffer.allocate(keyLength + extrasLength + valueLength);
+        extras = new byte[extrasLength];
+        key = new byte[keyLength];
+        value = new byte[valueLength];
+    }
+
+    public byte getOpcode() {
+        return opcode;
+    }
+
+    /**
+     * @return false if the header of the request is malformed
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return true if the body of the request exceeds the configured maximum; it was skipped, not read
+     */
+    public boolean isTooLarge() {
+        return tooLarge;
+    }
+
+    /**
+     * @return true for the get family of commands, which may be batched with other gets
+     */
+    public boolean isGet() {
+        return valid && !tooLarge && (opcode == GET || opcode == GETQ || opcode == GETK || opcode == GETKQ);
+    }
+
+    /**
+     * @return true if no response is sent when the command succeeds, or for gets when the key is missing
+     */
+    public boolean isQuiet() {
+        switch (opcode) {
+            case GETQ:
+            case GETKQ:
+            case SETQ:
+            case ADDQ:
+            case REPLACEQ:
+            case DELETEQ:
+            case QUITQ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public byte[] getExtras() {
+        return extras;
+    }
+
+    public String getKey() {
+        return bytesToString(key);
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the value found by a get command.
+     */
+    public void setGetResponse(MemcacheEntry entry) {
+        if (entry == null) {
+            if (isQuiet()) {
+                setNoResponse();
+            } else {
+                setResponse(STATUS_KEY_NOT_FOUND);
+            }
+            return;
+        }
+        byte[] flags = ByteBuffer.allocate(4).putInt(entry.getFlag()).array();
+        byte[] responseKey = opcode == GETK || opcode == GETKQ ? key : EMPTY;
+        setResponse(STATUS_NO_ERROR, flags, responseKey, entry.getValue());
+    }
+
+    /**
+     * Sets the status of a command that does not return a value. Quiet commands only respond on failure.
+     */
+    public void setResponse(short status) {
+        if (status == STATUS_NO_ERROR && isQuiet()) {
+            setNoResponse();
+        } else {
+            setResponse(status, EMPTY, EMPTY, EMPTY);
+        }
+    }
+
+    public void setResponse(short status, byte[] responseExtras, byte[] responseKey, byte[] responseValue) {
+        int bodyLength = responseExtras.length + responseKey.length + responseValue.length;
+        ByteBuffer bb = ByteBuffer.allocate(HEADER_LENGTH + bodyLength);
+        bb.put(MAGIC_RESPONSE);
+        bb.put(opcode);
+        bb.putShort((short) responseKey.length);
+        bb.put((byte) responseExtras.length);
+        // data type
+        bb.put((byte) 0);
+        bb.putShort(status);
+        bb.putInt(bodyLength);
+        bb.putInt(opaque);
+        // cas
+        bb.putLong(0L);
+        bb.put(responseExtras);
+        bb.put(responseKey);
+        bb.put(responseValue);
+        bb.flip();
+        response = bb;
+    }
+
+    private void setNoResponse() {
+        response = ByteBuffer.wrap(EMPTY);
+    }
+
+    public boolean writeTo(ByteBuffer bb) {
+        IOUtil.copyToHeapBuffer(response, bb);
+        return !response.hasRemaining();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryCommand{"
+                + "opcode="
+                + opcode
+                + ", key='"
+                + (key == null ? null : getKey())
+                + '\''
+                + "} "
+                + super.toString();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.logging.ILogger;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.ascii.memcache.BinaryCommand.ADD;
+import static com.hazelcast.ascii.memcache.BinaryCommand.ADDQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.DELETE;
+import static com.hazelcast.ascii.memcache.BinaryCommand.DELETEQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.EMPTY;
+import static com.hazelcast.ascii.memcache.BinaryCommand.GET;
+import static com.hazelcast.ascii.memcache.BinaryCommand.GETK;
+import static com.hazelcast.ascii.memcache.BinaryCommand.GETKQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.GETQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.NOOP;
+import static com.hazelcast.ascii.memcache.BinaryCommand.QUIT;
+import static com.hazelcast.ascii.memcache.BinaryCommand.QUITQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.REPLACE;
+import static com.hazelcast.ascii.memcache.BinaryCommand.REPLACEQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.SET;
+import static com.hazelcast.ascii.memcache.BinaryCommand.SETQ;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_INTERNAL_ERROR;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_INVALID_ARGUMENTS;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_KEY_EXISTS;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_KEY_NOT_FOUND;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_NO_ERROR;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_UNKNOWN_COMMAND;
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_VALUE_TOO_LARGE;
+import static com.hazelcast.ascii.memcache.BinaryCommand.VERSION;
+import static com.hazelcast.util.StringUtil.stringToBytes;
+
+/**
+ * Processes the requests of the memcache binary protocol. Gets, sets, deletes, no-ops, version and quit
+ * are supported, including their quiet variants; other commands are answered with "unknown command".
+ */
+public class BinaryCommandProcessor extends MemcacheCommandProcessor<BinaryCommand> {
+
+    private static final byte[] VERSION_VALUE = stringToBytes("Hazelcast");
+    private static final int SET_EXTRAS_LENGTH = 8;
+
+    private final ILogger logger;
+
+    public BinaryCommandProcessor(TextCommandService textCommandService) {
+        super(textCommandService);
+        logger = textCommandService.getNode().getLogger(this.getClass().getName());
+    }
+
+    public void handle(BinaryCommand command) {
+        if (!command.isValid()) {
+            command.setResponse(STATUS_INVALID_ARGUMENTS);
+            textCommandService.sendResponse(command);
+            return;
+        }
+        if (command.isTooLarge()) {
+            command.setResponse(STATUS_VALUE_TOO_LARGE);
+            textCommandService.sendResponse(command);
+            return;
+        }
+        switch (command.getOpcode()) {
+            case GET:
+            case GETQ:
+            case GETK:
+            case GETKQ:
+                handleGet(command);
+                break;
+            case SET:
+            case SETQ:
+            case ADD:
+            case ADDQ:
+            case REPLACE:
+            case REPLACEQ:
+                handleSet(command);
+                break;
+            case DELETE:
+            case DELETEQ:
+                handleDelete(command);
+                break;
+            case NOOP:
+                command.setResponse(STATUS_NO_ERROR);
+                textCommandService.sendResponse(command);
+                break;
+            case VERSION:
+                command.setResponse(STATUS_NO_ERROR, EMPTY, EMPTY, VERSION_VALUE);
+                textCommandService.sendResponse(command);
+                break;
+            case QUIT:
+            case QUITQ:
+                try {
+                    command.getSocketTextReader().closeConnection();
+                } catch (Exception e) {
+                    logger.warning(e);
+                }
+                break;
+            default:
+                command.setResponse(STATUS_UNKNOWN_COMMAND);
+                textCommandService.sendResponse(command);
+        }
+    }
+
+    private void handleGet(final BinaryCommand command) {
+        String key = command.getKey();
+        ICompletableFuture<Object> future = textCommandService.getAsync(getMapName(key), getMapKey(key));
+        future.andThen(new ExecutionCallback<Object>() {
+            @Override
+            public void onResponse(Object value) {
+                MemcacheEntry entry = toMemcacheEntry(command.getKey(), value, logger);
+                if (entry != null) {
+                    textCommandService.incrementGetHitCount();
+                } else {
+                    textCommandService.incrementGetMissCount();
+                }
+                command.setGetResponse(entry);
+                textCommandService.sendResponse(command);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                logger.warning(t);
+                command.setResponse(STATUS_INTERNAL_ERROR);
+                textCommandService.sendResponse(command);
+            }
+        });
+    }
+
+    private void handleSet(BinaryCommand command) {
+        byte[] extras = command.getExtras();
+        if (extras.length != SET_EXTRAS_LENGTH) {
+            command.setResponse(STATUS_INVALID_ARGUMENTS);
+            textCommandService.sendResponse(command);
+            return;
+        }
+        ByteBuffer extrasBuffer = ByteBuffer.wrap(extras);
+        int flags = extrasBuffer.getInt();
+        int expiration = extrasBuffer.getInt();
+        String key = command.getKey();
+        String mapName = getMapName(key);
+        String mapKey = getMapKey(key);
+        Object value = new MemcacheEntry(key, command.getValue(), flags);
+        int ttl = textCommandService.getAdjustedTTLSeconds(expiration);
+        textCommandService.incrementSetCount();
+
+        short status = STATUS_NO_ERROR;
+        byte opcode = command.getOpcode();
+        if (opcode == SET || opcode == SETQ) {
+            textCommandService.put(mapName, mapKey, value, ttl);
+        } else if (opcode == ADD || opcode == ADDQ) {
+            if (textCommandService.putIfAbsent(mapName, mapKey, value, ttl) != null) {
+                status = STATUS_KEY_EXISTS;
+            }
+        } else if (textCommandService.replace(mapName, mapKey, value) == null) {
+            status = STATUS_KEY_NOT_FOUND;
+        }
+        command.setResponse(status);
+        textCommandService.sendResponse(command);
+    }
+
+    private void handleDelete(BinaryCommand command) {
+        String key = command.getKey();
+        String mapName = getMapName(key);
+        String mapKey = getMapKey(key);
+        short status = STATUS_NO_ERROR;
+        if (mapKey.length() == 0) {
+            textCommandService.deleteAll(mapName);
+        } else if (textCommandService.delete(mapName, mapKey) != null) {
+            textCommandService.incrementDeleteHitCount(1);
+        } else {
+            textCommandService.incrementDeleteMissCount();
+            status = STATUS_KEY_NOT_FOUND;
+        }
+        command.setResponse(status);
+        textCommandService.sendResponse(command);
+    }
+
+    public void handleRejection(BinaryCommand command) {
+        command.setResponse(STATUS_INTERNAL_ERROR);
+        textCommandService.sendResponse(command);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.AbstractTextCommand;
+import com.hazelcast.ascii.TextCommandConstants;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Pipelined binary get requests that are read together and processed with one batched get per map.
+ * Each get keeps its own response slot; this command itself does not reply.
+ */
+public class BinaryMultiGetCommand extends AbstractTextCommand {
+
+    private final List<BinaryCommand> gets;
+
+    public BinaryMultiGetCommand(List<BinaryCommand> gets) {
+        super(TextCommandConstants.TextCommandType.BINARY_MULTI_GET);
+        this.gets = gets;
+    }
+
+    public List<BinaryCommand> getGets() {
+        return gets;
+    }
+
+    public boolean readFrom(ByteBuffer cb) {
+        return true;
+    }
+
+    public boolean writeTo(ByteBuffer bb) {
+        return true;
+    }
+
+    @Override
+    public boolean shouldReply() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryMultiGetCommand{"
+                + "gets="
+                + gets.size()
+                + "} "
+                + super.toString();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.logging.ILogger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.ascii.memcache.BinaryCommand.STATUS_INTERNAL_ERROR;
+
+public class BinaryMultiGetCommandProcessor extends MemcacheCommandProcessor<BinaryMultiGetCommand> {
+
+    private final ILogger logger;
+
+    public BinaryMultiGetCommandProcessor(TextCommandService textCommandService) {
+        super(textCommandService);
+        logger = textCommandService.getNode().getLogger(this.getClass().getName());
+    }
+
+    public void handle(BinaryMultiGetCommand command) {
+        List<BinaryCommand> gets = command.getGets();
+        Map<String, Set<String>> keysPerMap = new HashMap<String, Set<String>>();
+        for (BinaryCommand get : gets) {
+            String key = get.getKey();
+            String mapName = getMapName(key);
+            Set<String> mapKeys = keysPerMap.get(mapName);
+            if (mapKeys == null) {
+                mapKeys = new HashSet<String>();
+                keysPerMap.put(mapName, mapKeys);
+            }
+            mapKeys.add(getMapKey(key));
+        }
+
+        Map<String, Map<String, Object>> valuesPerMap = new HashMap<String, Map<String, Object>>(keysPerMap.size());
+        for (Map.Entry<String, Set<String>> entry : keysPerMap.entrySet()) {
+            valuesPerMap.put(entry.getKey(), textCommandService.getAll(entry.getKey(), entry.getValue()));
+        }
+
+        for (BinaryCommand get : gets) {
+            String key = get.getKey();
+            Object value = valuesPerMap.get(getMapName(key)).get(getMapKey(key));
+            MemcacheEntry entry = toMemcacheEntry(key, value, logger);
+            if (entry != null) {
+                textCommandService.incrementGetHitCount();
+            } else {
+                textCommandService.incrementGetMissCount();
+            }
+            get.setGetResponse(entry);
+            textCommandService.sendResponse(get);
+        }
+    }
+
+    public void handleRejection(BinaryMultiGetCommand command) {
+        for (BinaryCommand get : command.getGets()) {
+            get.setResponse(STATUS_INTERNAL_ERROR);
+            textCommandService.sendResponse(get);
+        }
+    }
+}
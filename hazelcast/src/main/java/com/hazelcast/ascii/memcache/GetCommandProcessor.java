@@ -17,15 +17,14 @@
 package com.hazelcast.ascii.memcache;
 
 import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.HazelcastException;
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.logging.ILogger;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 
-
-import static com.hazelcast.util.StringUtil.stringToBytes;
-
 public class GetCommandProcessor extends MemcacheCommandProcessor<GetCommand> {
     final boolean single;
     private final ILogger logger;
@@ -36,36 +35,34 @@ public class GetCommandProcessor extends MemcacheCommandProcessor<GetCommand> {
         logger = textCommandService.getNode().getLogger(this.getClass().getName());
     }
 
-    public void handle(GetCommand getCommand) {
+    /**
+     * Reads the value asynchronously; the response is sent from the callback so the executor
+     * thread is not blocked while the value is fetched from its owner.
+     */
+    public void handle(final GetCommand getCommand) {
         String key = null;
         try {
             key = URLDecoder.decode(getCommand.getKey(), "UTF-8");
         } catch (UnsupportedEncodingException e) {
             throw new HazelcastException(e);
         }
-        String mapName = DEFAULT_MAP_NAME;
-        int index = key.indexOf(':');
-        if (index != -1) {
-            mapName = MAP_NAME_PRECEDER + key.substring(0, index);
-            key = key.substring(index + 1);
-        }
-        Object value = textCommandService.get(mapName, key);
-        MemcacheEntry entry = null;
-        if (value != null) {
-            if (value instanceof MemcacheEntry) {
-                entry = (MemcacheEntry) value;
-            } else if (value instanceof byte[]) {
-                entry = new MemcacheEntry(getCommand.getKey(), ((byte[]) value), 0);
-            } else if (value instanceof String) {
-                entry = new MemcacheEntry(getCommand.getKey(), stringToBytes((String) value), 0);
-            } else {
-                try {
-                    entry = new MemcacheEntry(getCommand.getKey(), textCommandService.toByteArray(value), 0);
-                } catch (Exception e) {
-                    logger.warning(e);
-                }
+        String mapName = getMapName(key);
+        ICompletableFuture<Object> future = textCommandService.getAsync(mapName, getMapKey(key));
+        future.andThen(new ExecutionCallback<Object>() {
+            @Override
+            public void onResponse(Object value) {
+                complete(getCommand, toMemcacheEntry(getCommand.getKey(), value, logger));
             }
-        }
+
+            @Override
+            public void onFailure(Throwable t) {
+                logger.warning(t);
+                complete(getCommand, null);
+            }
+        });
+    }
+
+    private void complete(GetCommand getCommand, MemcacheEntry entry) {
         if (entry != null) {
             textCommandService.incrementGetHitCount();
         } else {
@@ -18,6 +18,9 @@ package com.hazelcast.ascii.memcache;
 
 import com.hazelcast.ascii.AbstractTextCommandProcessor;
 import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.logging.ILogger;
+
+import static com.hazelcast.util.StringUtil.stringToBytes;
 
 /**
  * User: sancar
@@ -33,6 +36,47 @@ public abstract class MemcacheCommandProcessor<T> extends AbstractTextCommandPro
         super(textCommandService);
     }
 
+    /**
+     * @return the name of the map that stores the key, given as {@code [map:]key}
+     */
+    static String getMapName(String key) {
+        int index = key.indexOf(':');
+        return index == -1 ? DEFAULT_MAP_NAME : MAP_NAME_PRECEDER + key.substring(0, index);
+    }
+
+    /**
+     * @return the key without its map name prefix
+     */
+    static String getMapKey(String key) {
+        int index = key.indexOf(':');
+        return index == -1 ? key : key.substring(index + 1);
+    }
+
+    /**
+     * Converts a value read from a map to the entry sent to memcache clients. Values put by
+     * other clients of the map are converted to their byte representation.
+     *
+     * @return the entry or null if there is no value or it cannot be converted
+     */
+    protected MemcacheEntry toMemcacheEntry(String key, Object value, ILogger logger) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof MemcacheEntry) {
+            return (MemcacheEntry) value;
+        } else if (value instanceof byte[]) {
+            return new MemcacheEntry(key, ((byte[]) value), 0);
+        } else if (value instanceof String) {
+            return new MemcacheEntry(key, stringToBytes((String) value), 0);
+        }
+        try {
+            return new MemcacheEntry(key, textCommandService.toByteArray(value), 0);
+        } catch (Exception e) {
+            logger.warning(e);
+            return null;
+        }
+    }
+
     public static byte[] longToByteArray(long v) {
         long paramV = v;
         int len = (int) (paramV / 256) + 1;
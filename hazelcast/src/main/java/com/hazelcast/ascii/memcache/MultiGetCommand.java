@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.AbstractTextCommand;
+import com.hazelcast.ascii.TextCommandConstants;
+import com.hazelcast.nio.IOUtil;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Get command with many keys; the values are read with one batched call per map and written
+ * back in the order of the keys, followed by END.
+ */
+public class MultiGetCommand extends AbstractTextCommand {
+    private final List<String> keys;
+    private ByteBuffer[] values;
+    private int valueIndex;
+    private ByteBuffer end;
+
+    public MultiGetCommand(List<String> keys) {
+        super(TextCommandConstants.TextCommandType.MULTI_GET);
+        this.keys = keys;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public boolean readFrom(ByteBuffer cb) {
+        return true;
+    }
+
+    /**
+     * @param entries entries in the order of the keys; null for a missing key
+     */
+    public void setValues(MemcacheEntry[] entries) {
+        values = new ByteBuffer[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != null) {
+                values[i] = entries[i].toNewBuffer();
+            }
+        }
+        end = ByteBuffer.wrap(TextCommandConstants.END);
+    }
+
+    public boolean writeTo(ByteBuffer bb) {
+        while (valueIndex < values.length) {
+            ByteBuffer value = values[valueIndex];
+            if (value != null) {
+                IOUtil.copyToHeapBuffer(value, bb);
+                if (value.hasRemaining()) {
+                    return false;
+                }
+            }
+            valueIndex++;
+        }
+        IOUtil.copyToHeapBuffer(end, bb);
+        return !end.hasRemaining();
+    }
+
+    @Override
+    public String toString() {
+        return "MultiGetCommand{"
+                + "keys="
+                + keys
+                + "} "
+                + super.toString();
+    }
+}
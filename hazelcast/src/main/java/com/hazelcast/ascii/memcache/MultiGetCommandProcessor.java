@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.ascii.memcache;
+
+import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.logging.ILogger;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class MultiGetCommandProcessor extends MemcacheCommandProcessor<MultiGetCommand> {
+
+    private final ILogger logger;
+
+    public MultiGetCommandProcessor(TextCommandService textCommandService) {
+        super(textCommandService);
+        logger = textCommandService.getNode().getLogger(this.getClass().getName());
+    }
+
+    public void handle(MultiGetCommand command) {
+        List<String> keys = command.getKeys();
+        String[] decodedKeys = new String[keys.size()];
+        Map<String, Set<String>> keysPerMap = new HashMap<String, Set<String>>();
+        for (int i = 0; i < decodedKeys.length; i++) {
+            try {
+                decodedKeys[i] = URLDecoder.decode(keys.get(i), "UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new HazelcastException(e);
+            }
+            String mapName = getMapName(decodedKeys[i]);
+            Set<String> mapKeys = keysPerMap.get(mapName);
+            if (mapKeys == null) {
+                mapKeys = new HashSet<String>();
+                keysPerMap.put(mapName, mapKeys);
+            }
+            mapKeys.add(getMapKey(decodedKeys[i]));
+        }
+
+        Map<String, Map<String, Object>> valuesPerMap = new HashMap<String, Map<String, Object>>(keysPerMap.size());
+        for (Map.Entry<String, Set<String>> entry : keysPerMap.entrySet()) {
+            valuesPerMap.put(entry.getKey(), textCommandService.getAll(entry.getKey(), entry.getValue()));
+        }
+
+        MemcacheEntry[] entries = new MemcacheEntry[decodedKeys.length];
+        for (int i = 0; i < decodedKeys.length; i++) {
+            Map<String, Object> values = valuesPerMap.get(getMapName(decodedKeys[i]));
+            Object value = values.get(getMapKey(decodedKeys[i]));
+            entries[i] = toMemcacheEntry(keys.get(i), value, logger);
+            if (entries[i] != null) {
+                textCommandService.incrementGetHitCount();
+            } else {
+                textCommandService.incrementGetMissCount();
+            }
+        }
+        command.setValues(entries);
+        textCommandService.sendResponse(command);
+    }
+
+    public void handleRejection(MultiGetCommand command) {
+        command.setValues(new MemcacheEntry[command.getKeys().size()]);
+        textCommandService.sendResponse(command);
+    }
+}
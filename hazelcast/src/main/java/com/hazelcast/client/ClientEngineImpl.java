@@ -49,7 +49,9 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationService;
 import com.hazelcast.spi.PostJoinAwareService;
 import com.hazelcast.spi.ProxyService;
+import com.hazelcast.spi.impl.InternalOperationService;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.transaction.TransactionManagerService;
 import com.hazelcast.util.executor.ExecutorType;
 
@@ -87,6 +89,7 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
     private final Node node;
     private final NodeEngineImpl nodeEngine;
     private final Executor executor;
+    private final InternalOperationService operationService;
 
     private final SerializationService serializationService;
     // client uuid -> member uuid
@@ -100,6 +103,7 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         this.node = node;
         this.serializationService = node.getSerializationService();
         this.nodeEngine = node.nodeEngine;
+        this.operationService = (InternalOperationService) nodeEngine.getOperationService();
         this.endpointManager = new ClientEndpointManager(this, nodeEngine);
         int coreSize = Runtime.getRuntime().availableProcessors();
         this.executor = nodeEngine.getExecutionService().register(ExecutionService.CLIENT_EXECUTOR,
@@ -126,7 +130,14 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
     }
 
     public void handlePacket(Packet packet) {
-        executor.execute(new ClientPacketProcessor(packet));
+        ClientPacketProcessor processor = new ClientPacketProcessor(packet);
+        if (packet.getPartitionId() < 0) {
+            executor.execute(processor);
+        } else {
+            //partition aware requests are processed on the partition thread, so the operation they create can be
+            //executed on the calling thread instead of being scheduled again.
+            operationService.execute(processor);
+        }
     }
 
     @Override
@@ -305,20 +316,41 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         ownershipMappings.remove(clientUuid);
     }
 
-    private final class ClientPacketProcessor implements Runnable {
+    private final class ClientPacketProcessor implements PartitionSpecificRunnable {
         final Packet packet;
+        final ClientRequest loadedRequest;
 
         private ClientPacketProcessor(Packet packet) {
+            this(packet, null);
+        }
+
+        private ClientPacketProcessor(Packet packet, ClientRequest loadedRequest) {
             this.packet = packet;
+            this.loadedRequest = loadedRequest;
+        }
+
+        @Override
+        public int getPartitionId() {
+            return packet.getPartitionId();
         }
 
         @Override
         public void run() {
             Connection conn = packet.getConn();
             ClientEndpoint endpoint = endpointManager.getEndpoint(conn);
-            ClientRequest request = null;
+            ClientRequest request = loadedRequest;
             try {
-                request = loadRequest();
+                if (request == null) {
+                    request = loadRequest();
+                    if (request != null && isRunningOnPartitionThread() && !isForPacketPartition(request)) {
+                        //only partition requests for the partition the packet was scheduled on are safe to run on
+                        //this partition thread; all other requests could block it or would have their operation
+                        //scheduled again. So they are handed over to the client executor.
+                        executor.execute(new ClientPacketProcessor(packet, request));
+                        return;
+                    }
+                }
+
                 if (request == null) {
                     handlePacketWithNullRequest();
                 } else if (request instanceof AuthenticationRequest) {
@@ -340,6 +372,25 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
             }
         }
 
+        private boolean isRunningOnPartitionThread() {
+            return loadedRequest == null && packet.getPartitionId() >= 0;
+        }
+
+        //the partition id of the packet is only a hint of the client, it can be stale after a migration
+        private boolean isForPacketPartition(ClientRequest request) {
+            if (!(request instanceof PartitionClientRequest)) {
+                return false;
+            }
+            request.setClientEngine(ClientEngineImpl.this);
+            request.setSerializationService(serializationService);
+            try {
+                return ((PartitionClientRequest) request).getPartition() == packet.getPartitionId();
+            } catch (RuntimeException e) {
+                //processing the request on the client executor reports the failure to the client
+                return false;
+            }
+        }
+
         private ClientRequest loadRequest() {
             Data data = packet.getData();
             return serializationService.toObject(data);
@@ -16,14 +16,28 @@
 
 package com.hazelcast.client;
 
-import com.hazelcast.spi.Callback;
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.spi.InternalCompletableFuture;
 import com.hazelcast.spi.InvocationBuilder;
 import com.hazelcast.spi.Operation;
 
+import java.util.concurrent.Executor;
+
 public abstract class PartitionClientRequest extends ClientRequest {
 
     private static final int TRY_COUNT = 100;
 
+    //the response is written back to the client connection by the thread completing the invocation: the partition
+    //thread when the request is processed on the partition thread of a local partition, the response thread otherwise.
+    //Sending the response and the afterResponse hooks never block, so there is no need to pass them to the async
+    //executor first.
+    private static final Executor CALLING_THREAD_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
     protected void beforeProcess() {
     }
 
@@ -39,9 +53,9 @@ public abstract class PartitionClientRequest extends ClientRequest {
         InvocationBuilder builder = operationService.createInvocationBuilder(getServiceName(), op, getPartition())
                 .setReplicaIndex(getReplicaIndex())
                 .setTryCount(TRY_COUNT)
-                .setResultDeserialized(false)
-                .setCallback(new CallbackImpl(endpoint));
-        builder.invoke();
+                .setResultDeserialized(false);
+        InternalCompletableFuture<Object> future = builder.invoke();
+        future.andThen(new CallbackImpl(endpoint), CALLING_THREAD_EXECUTOR);
     }
 
     protected abstract Operation prepareOperation();
@@ -56,7 +70,7 @@ public abstract class PartitionClientRequest extends ClientRequest {
         return response;
     }
 
-    private class CallbackImpl implements Callback<Object> {
+    private class CallbackImpl implements ExecutionCallback<Object> {
         private final ClientEndpoint endpoint;
 
         public CallbackImpl(ClientEndpoint endpoint) {
@@ -64,8 +78,14 @@ public abstract class PartitionClientRequest extends ClientRequest {
         }
 
         @Override
-        public void notify(Object object) {
-            endpoint.sendResponse(filter(object), getCallId());
+        public void onResponse(Object response) {
+            endpoint.sendResponse(filter(response), getCallId());
+            afterResponse();
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            endpoint.sendResponse(filter(t), getCallId());
             afterResponse();
         }
     }
@@ -24,6 +24,7 @@ import com.hazelcast.concurrent.lock.operations.GetLockCountOperation;
 import com.hazelcast.concurrent.lock.operations.GetRemainingLeaseTimeOperation;
 import com.hazelcast.concurrent.lock.operations.IsLockedOperation;
 import com.hazelcast.concurrent.lock.operations.LockBackupOperation;
+import com.hazelcast.concurrent.lock.operations.LockEvictionOperation;
 import com.hazelcast.concurrent.lock.operations.LockOperation;
 import com.hazelcast.concurrent.lock.operations.LockReplicationOperation;
 import com.hazelcast.concurrent.lock.operations.SignalBackupOperation;
@@ -53,6 +54,7 @@ public final class LockDataSerializerHook implements DataSerializerHook {
     public static final int SIGNAL = 11;
     public static final int UNLOCK_BACKUP = 12;
     public static final int UNLOCK = 13;
+    public static final int LOCK_EVICTION = 14;
 
 
     @Override
@@ -94,6 +96,8 @@ public final class LockDataSerializerHook implements DataSerializerHook {
                         return new UnlockBackupOperation();
                     case UNLOCK:
                         return new UnlockOperation();
+                    case LOCK_EVICTION:
+                        return new LockEvictionOperation();
                     default:
                         return null;
                 }
@@ -16,10 +16,9 @@
 
 package com.hazelcast.concurrent.lock;
 
-import com.hazelcast.concurrent.lock.operations.UnlockOperation;
+import com.hazelcast.concurrent.lock.operations.LockEvictionOperation;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.serialization.Data;
-import com.hazelcast.spi.InternalCompletableFuture;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.ObjectNamespace;
 import com.hazelcast.spi.Operation;
@@ -30,44 +29,67 @@ import com.hazelcast.util.scheduler.ScheduledEntryProcessor;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.hazelcast.concurrent.lock.LockServiceImpl.SERVICE_NAME;
 
-public final class LockEvictionProcessor implements ScheduledEntryProcessor<Data, Object> {
+/**
+ * Releases the locks whose leases expired. The expired leases of all lock stores that fall into the same second
+ * are processed together, with a single {@link LockEvictionOperation} per partition.
+ */
+final class LockEvictionProcessor implements ScheduledEntryProcessor<LockEvictionKey, Object> {
 
     private static final int AWAIT_COMPLETION_TIMEOUT_SECONDS = 30;
 
     private final NodeEngine nodeEngine;
-    private final ObjectNamespace namespace;
 
-    public LockEvictionProcessor(NodeEngine nodeEngine, ObjectNamespace namespace) {
+    LockEvictionProcessor(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
-        this.namespace = namespace;
     }
 
     @Override
-    public void process(EntryTaskScheduler<Data, Object> scheduler, Collection<ScheduledEntry<Data, Object>> entries) {
-        Collection<Future> futures = sendUnlockOperations(entries);
+    public void process(EntryTaskScheduler<LockEvictionKey, Object> scheduler,
+                        Collection<ScheduledEntry<LockEvictionKey, Object>> entries) {
+        Collection<Future> futures = sendEvictionOperations(entries);
         awaitCompletion(futures);
     }
 
-    private Collection<Future> sendUnlockOperations(Collection<ScheduledEntry<Data, Object>> entries) {
-        Collection<Future> futures = new ArrayList<Future>(entries.size());
+    private Collection<Future> sendEvictionOperations(Collection<ScheduledEntry<LockEvictionKey, Object>> entries) {
+        Map<Integer, List<LockEvictionKey>> keysByPartition = new HashMap<Integer, List<LockEvictionKey>>();
+        for (ScheduledEntry<LockEvictionKey, Object> entry : entries) {
+            LockEvictionKey evictionKey = entry.getKey();
+            int partitionId = nodeEngine.getPartitionService().getPartitionId(evictionKey.getKey());
+            List<LockEvictionKey> keys = keysByPartition.get(partitionId);
+            if (keys == null) {
+                keys = new ArrayList<LockEvictionKey>();
+                keysByPartition.put(partitionId, keys);
+            }
+            keys.add(evictionKey);
+        }
 
-        for (ScheduledEntry<Data, Object> entry : entries) {
-            Data key = entry.getKey();
-            sendUnlockOperation(futures, key);
+        Collection<Future> futures = new ArrayList<Future>(keysByPartition.size());
+        for (Map.Entry<Integer, List<LockEvictionKey>> entry : keysByPartition.entrySet()) {
+            sendEvictionOperation(futures, entry.getKey(), entry.getValue());
         }
         return futures;
     }
 
-    private void sendUnlockOperation(Collection<Future> futures, Data key) {
-        Operation operation = new UnlockOperation(namespace, key, -1, true);
+    private void sendEvictionOperation(Collection<Future> futures, int partitionId, List<LockEvictionKey> evictionKeys) {
+        List<ObjectNamespace> namespaces = new ArrayList<ObjectNamespace>(evictionKeys.size());
+        List<Data> keys = new ArrayList<Data>(evictionKeys.size());
+        for (LockEvictionKey evictionKey : evictionKeys) {
+            namespaces.add(evictionKey.getNamespace());
+            keys.add(evictionKey.getKey());
+        }
+        Operation operation = new LockEvictionOperation(namespaces, keys);
         try {
-            Future f = invoke(operation, key);
+            OperationService operationService = nodeEngine.getOperationService();
+            Future f = operationService.invokeOnPartition(SERVICE_NAME, operation, partitionId);
             futures.add(f);
         } catch (Throwable t) {
             ILogger logger = nodeEngine.getLogger(getClass());
@@ -88,10 +110,4 @@ public final class LockEvictionProcessor implements ScheduledEntryProcessor<Data
             }
         }
     }
-
-    private InternalCompletableFuture invoke(Operation operation, Data key) {
-        int partitionId = nodeEngine.getPartitionService().getPartitionId(key);
-        OperationService operationService = nodeEngine.getOperationService();
-        return operationService.invokeOnPartition(SERVICE_NAME, operation, partitionId);
-    }
 }
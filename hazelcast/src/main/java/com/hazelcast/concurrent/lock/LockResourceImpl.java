@@ -27,8 +27,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -106,6 +104,9 @@ final class LockResourceImpl implements DataSerializable, LockResource {
 
     private void setExpirationTime(long leaseTime) {
         if (leaseTime < 0) {
+            if (hasLease()) {
+                cancelEviction();
+            }
             expirationTime = Long.MAX_VALUE;
         } else {
             expirationTime = Clock.currentTimeMillis() + leaseTime;
@@ -195,7 +196,7 @@ final class LockResourceImpl implements DataSerializable, LockResource {
 
     void registerSignalKey(ConditionKey conditionKey) {
         if (signalKeys == null) {
-            signalKeys = new LinkedList<ConditionKey>();
+            signalKeys = new ArrayList<ConditionKey>(1);
         }
         signalKeys.add(conditionKey);
     }
@@ -206,7 +207,7 @@ final class LockResourceImpl implements DataSerializable, LockResource {
             return null;
         }
 
-        return keys.iterator().next();
+        return keys.get(0);
     }
 
     void removeSignalKey(ConditionKey conditionKey) {
@@ -217,7 +218,7 @@ final class LockResourceImpl implements DataSerializable, LockResource {
 
     void registerExpiredAwaitOp(AwaitOperation awaitResponse) {
         if (expiredAwaitOps == null) {
-            expiredAwaitOps = new LinkedList<AwaitOperation>();
+            expiredAwaitOps = new ArrayList<AwaitOperation>(1);
         }
         expiredAwaitOps.add(awaitResponse);
     }
@@ -228,22 +229,30 @@ final class LockResourceImpl implements DataSerializable, LockResource {
             return null;
         }
 
-        Iterator<AwaitOperation> iterator = ops.iterator();
-        AwaitOperation awaitResponse = iterator.next();
-        iterator.remove();
-        return awaitResponse;
+        return ops.remove(0);
     }
 
     void clear() {
+        boolean leased = hasLease();
         threadId = 0;
         lockCount = 0;
         owner = null;
         expirationTime = 0;
         acquireTime = -1L;
-        cancelEviction();
+        if (leased) {
+            cancelEviction();
+        }
+    }
+
+    /**
+     * Only locks with a finite lease have a scheduled eviction, releasing any other lock does not need to
+     * touch the eviction scheduler.
+     */
+    private boolean hasLease() {
+        return expirationTime > 0 && expirationTime < Long.MAX_VALUE;
     }
 
-    void cancelEviction() {
+    private void cancelEviction() {
         lockStore.cancelEviction(key);
     }
 
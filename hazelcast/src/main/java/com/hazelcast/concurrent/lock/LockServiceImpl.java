@@ -48,31 +48,20 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 
-import static com.hazelcast.util.ConcurrencyUtil.getOrPutSynchronized;
-
 public final class LockServiceImpl implements LockService, ManagedService, RemoteService, MembershipAwareService,
         MigrationAwareService, ClientAwareService {
 
     private final NodeEngine nodeEngine;
     private final LockStoreContainer[] containers;
-    private final ConcurrentMap<ObjectNamespace, EntryTaskScheduler> evictionProcessors
-            = new ConcurrentHashMap<ObjectNamespace, EntryTaskScheduler>();
+    private final EntryTaskScheduler<LockEvictionKey, Object> evictionScheduler;
     private final ConcurrentMap<String, ConstructorFunction<ObjectNamespace, LockStoreInfo>> constructors
             = new ConcurrentHashMap<String, ConstructorFunction<ObjectNamespace, LockStoreInfo>>();
-    private final ConstructorFunction<ObjectNamespace, EntryTaskScheduler> schedulerConstructor =
-            new ConstructorFunction<ObjectNamespace, EntryTaskScheduler>() {
-                @Override
-                public EntryTaskScheduler createNew(ObjectNamespace namespace) {
-                    LockEvictionProcessor entryProcessor = new LockEvictionProcessor(nodeEngine, namespace);
-                    ScheduledExecutorService scheduledExecutor =
-                            nodeEngine.getExecutionService().getDefaultScheduledExecutor();
-                    return EntryTaskSchedulerFactory
-                            .newScheduler(scheduledExecutor, entryProcessor, ScheduleType.POSTPONE);
-                }
-            };
 
     public LockServiceImpl(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
+        ScheduledExecutorService scheduledExecutor = nodeEngine.getExecutionService().getDefaultScheduledExecutor();
+        this.evictionScheduler = EntryTaskSchedulerFactory.newScheduler(scheduledExecutor,
+                new LockEvictionProcessor(nodeEngine), ScheduleType.POSTPONE);
         this.containers = new LockStoreContainer[nodeEngine.getPartitionService().getPartitionCount()];
         for (int i = 0; i < containers.length; i++) {
             containers[i] = new LockStoreContainer(this, i);
@@ -148,15 +137,11 @@ public final class LockServiceImpl implements LockService, ManagedService, Remot
     }
 
     void scheduleEviction(ObjectNamespace namespace, Data key, long delay) {
-        EntryTaskScheduler scheduler = getOrPutSynchronized(
-                evictionProcessors, namespace, evictionProcessors, schedulerConstructor);
-        scheduler.schedule(delay, key, null);
+        evictionScheduler.schedule(delay, new LockEvictionKey(namespace, key), null);
     }
 
     void cancelEviction(ObjectNamespace namespace, Data key) {
-        EntryTaskScheduler scheduler = getOrPutSynchronized(
-                evictionProcessors, namespace, evictionProcessors, schedulerConstructor);
-        scheduler.cancel(key);
+        evictionScheduler.cancel(new LockEvictionKey(namespace, key));
     }
 
     public LockStoreContainer getLockContainer(int partitionId) {
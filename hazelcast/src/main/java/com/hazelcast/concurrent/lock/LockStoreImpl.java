@@ -163,7 +163,6 @@ public final class LockStoreImpl implements DataSerializable, LockStore {
             lock.clear();
             if (lock.isRemovable()) {
                 locks.remove(key);
-                lock.cancelEviction();
             }
             return true;
         }
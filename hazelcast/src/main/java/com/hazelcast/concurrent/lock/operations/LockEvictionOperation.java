@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.concurrent.lock.operations;
+
+import com.hazelcast.concurrent.lock.LockDataSerializerHook;
+import com.hazelcast.concurrent.lock.LockServiceImpl;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.ObjectNamespace;
+import com.hazelcast.spi.OperationAccessor;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.impl.ResponseHandlerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Force unlocks a batch of keys of a single partition whose lock leases expired. Every key is released by
+ * an {@link UnlockOperation} run on the partition thread, so backups and waiting lock operations are
+ * handled the same way as for a single forced unlock.
+ */
+public class LockEvictionOperation extends AbstractOperation
+        implements PartitionAwareOperation, IdentifiedDataSerializable {
+
+    private List<ObjectNamespace> namespaces;
+    private List<Data> keys;
+
+    public LockEvictionOperation() {
+    }
+
+    public LockEvictionOperation(List<ObjectNamespace> namespaces, List<Data> keys) {
+        this.namespaces = namespaces;
+        this.keys = keys;
+    }
+
+    @Override
+    public void run() throws Exception {
+        NodeEngine nodeEngine = getNodeEngine();
+        LockServiceImpl service = getService();
+        OperationService operationService = nodeEngine.getOperationService();
+        for (int i = 0; i < keys.size(); i++) {
+            UnlockOperation op = new UnlockOperation(namespaces.get(i), keys.get(i), -1, true);
+            op.setNodeEngine(nodeEngine);
+            op.setServiceName(LockServiceImpl.SERVICE_NAME);
+            op.setService(service);
+            op.setCallerUuid(getCallerUuid());
+            // sync backups of the unlock need the caller, otherwise the unlock fails before its waiters are notified
+            OperationAccessor.setCallerAddress(op, getCallerAddress());
+            op.setResponseHandler(ResponseHandlerFactory.createEmptyResponseHandler());
+            op.setPartitionId(getPartitionId());
+            op.setValidateTarget(false);
+            operationService.runOperationOnCallingThread(op);
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return LockServiceImpl.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return LockDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return LockDataSerializerHook.LOCK_EVICTION;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        int size = keys.size();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(namespaces.get(i));
+            keys.get(i).writeData(out);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        int size = in.readInt();
+        namespaces = new ArrayList<ObjectNamespace>(size);
+        keys = new ArrayList<Data>(size);
+        for (int i = 0; i < size; i++) {
+            namespaces.add((ObjectNamespace) in.readObject());
+            Data key = new Data();
+            key.readData(in);
+            keys.add(key);
+        }
+    }
+}
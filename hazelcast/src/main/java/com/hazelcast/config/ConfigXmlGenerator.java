@@ -143,6 +143,7 @@ public class ConfigXmlGenerator {
             xml.append("<executor-service name=\"").append(ex.getName()).append("\">");
             xml.append("<pool-size>").append(ex.getPoolSize()).append("</pool-size>");
             xml.append("<queue-capacity>").append(ex.getQueueCapacity()).append("</queue-capacity>");
+            xml.append("<durability>").append(ex.getDurability()).append("</durability>");
             xml.append("</executor-service>");
         }
     }
@@ -308,6 +309,14 @@ public class ConfigXmlGenerator {
                     .append("</merge-policy>");
             xml.append("<read-backup-data>").append(m.isReadBackupData())
                     .append("</read-backup-data>");
+            xml.append("<value-compression-enabled>").append(m.isValueCompressionEnabled())
+                    .append("</value-compression-enabled>");
+            xml.append("<value-compression-threshold>").append(m.getValueCompressionThreshold())
+                    .append("</value-compression-threshold>");
+            xml.append("<value-deduplication-enabled>").append(m.isValueDeduplicationEnabled())
+                    .append("</value-deduplication-enabled>");
+            xml.append("<key-deduplication-enabled>").append(m.isKeyDeduplicationEnabled())
+                    .append("</key-deduplication-enabled>");
             xml.append("<statistics-enabled>").append(m.isStatisticsEnabled())
                     .append("</statistics-enabled>");
 
@@ -31,6 +31,16 @@ public class ExecutorConfig {
      */
     public static final int DEFAULT_QUEUE_CAPACITY = Integer.MAX_VALUE;
 
+    /**
+     * By default pending tasks are not backed up.
+     */
+    public static final int DEFAULT_DURABILITY = 0;
+
+    /**
+     * Maximum number of backups of pending tasks.
+     */
+    public static final int MAX_DURABILITY = 6;
+
     private String name = "default";
 
     private int poolSize = DEFAULT_POOL_SIZE;
@@ -39,6 +49,8 @@ public class ExecutorConfig {
 
     private boolean statisticsEnabled = true;
 
+    private int durability = DEFAULT_DURABILITY;
+
     private ExecutorConfigReadOnly readOnly;
 
     public ExecutorConfig() {
@@ -58,6 +70,7 @@ public class ExecutorConfig {
         this.poolSize = config.poolSize;
         this.queueCapacity = config.queueCapacity;
         this.statisticsEnabled = config.statisticsEnabled;
+        this.durability = config.durability;
     }
 
     public ExecutorConfigReadOnly getAsReadOnly() {
@@ -112,6 +125,29 @@ public class ExecutorConfig {
         return this;
     }
 
+    /**
+     * @return the number of backups of the pending tasks submitted in batches to key owners
+     */
+    public int getDurability() {
+        return durability;
+    }
+
+    /**
+     * Sets the number of backups of the pending tasks submitted by
+     * {@link com.hazelcast.core.IExecutorService#submitToKeyOwners(java.util.Map)}. When the owner
+     * of a partition dies, the backup that is promoted runs the tasks that were not completed yet,
+     * so such tasks are executed at least once. 0 disables backups.
+     *
+     * @param durability the durability to set
+     */
+    public ExecutorConfig setDurability(int durability) {
+        if (durability < 0 || durability > MAX_DURABILITY) {
+            throw new IllegalArgumentException("durability must be between 0 and " + MAX_DURABILITY);
+        }
+        this.durability = durability;
+        return this;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
@@ -119,6 +155,7 @@ public class ExecutorConfig {
         sb.append("{name='").append(name).append('\'');
         sb.append(", poolSize=").append(poolSize);
         sb.append(", queueCapacity=").append(queueCapacity);
+        sb.append(", durability=").append(durability);
         sb.append('}');
         return sb.toString();
     }
@@ -40,4 +40,8 @@ public class ExecutorConfigReadOnly extends ExecutorConfig {
     public ExecutorConfig setStatisticsEnabled(boolean statisticsEnabled) {
         throw new UnsupportedOperationException("This config is read-only executor: " + getName());
     }
+
+    public ExecutorConfig setDurability(int durability) {
+        throw new UnsupportedOperationException("This config is read-only executor: " + getName());
+    }
 }
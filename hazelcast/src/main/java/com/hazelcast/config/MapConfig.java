@@ -79,6 +79,10 @@ public class MapConfig {
      * Default In-Memory format is binary
      */
     public static final InMemoryFormat DEFAULT_IN_MEMORY_FORMAT = InMemoryFormat.BINARY;
+    /**
+     * Default size in bytes from which on values are compressed if value compression is enabled
+     */
+    public static final int DEFAULT_VALUE_COMPRESSION_THRESHOLD = 1024;
 
     private String name;
 
@@ -118,6 +122,14 @@ public class MapConfig {
 
     private PartitioningStrategyConfig partitioningStrategyConfig;
 
+    private boolean valueCompressionEnabled;
+
+    private int valueCompressionThreshold = DEFAULT_VALUE_COMPRESSION_THRESHOLD;
+
+    private boolean valueDeduplicationEnabled;
+
+    private boolean keyDeduplicationEnabled;
+
     private MapConfigReadOnly readOnly;
 
     /**
@@ -160,6 +172,10 @@ public class MapConfig {
         this.readBackupData = config.readBackupData;
         this.optimizeQueries = config.optimizeQueries;
         this.statisticsEnabled = config.statisticsEnabled;
+        this.valueCompressionEnabled = config.valueCompressionEnabled;
+        this.valueCompressionThreshold = config.valueCompressionThreshold;
+        this.valueDeduplicationEnabled = config.valueDeduplicationEnabled;
+        this.keyDeduplicationEnabled = config.keyDeduplicationEnabled;
         this.mergePolicy = config.mergePolicy;
         this.wanReplicationRef = config.wanReplicationRef != null ? new WanReplicationRef(config.wanReplicationRef) : null;
         this.listenerConfigs = new ArrayList<EntryListenerConfig>(config.getEntryListenerConfigs());
@@ -486,6 +502,78 @@ public class MapConfig {
         return this;
     }
 
+    public boolean isValueCompressionEnabled() {
+        return valueCompressionEnabled;
+    }
+
+    /**
+     * Enables deflate compression of the stored values that are larger than the
+     * {@link #setValueCompressionThreshold(int) threshold}. Only applies to the {@link InMemoryFormat#BINARY}
+     * format. Values are compressed on primaries and backups and are migrated compressed; they are decompressed
+     * on every read, so this trades CPU for memory and suits large values that compress well.
+     * Compressed maps do not cache deserialized values for {@link #setOptimizeQueries(boolean) queries}.
+     *
+     * @param valueCompressionEnabled true to compress large values
+     * @return this config instance
+     */
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        this.valueCompressionEnabled = valueCompressionEnabled;
+        return this;
+    }
+
+    public int getValueCompressionThreshold() {
+        return valueCompressionThreshold;
+    }
+
+    /**
+     * Sets the serialized size in bytes from which on values are compressed.
+     *
+     * @param valueCompressionThreshold the minimum size of a value to be compressed
+     * @return this config instance
+     */
+    public MapConfig setValueCompressionThreshold(int valueCompressionThreshold) {
+        if (valueCompressionThreshold < 0) {
+            throw new IllegalArgumentException("Value compression threshold can not be negative!");
+        }
+        this.valueCompressionThreshold = valueCompressionThreshold;
+        return this;
+    }
+
+    public boolean isValueDeduplicationEnabled() {
+        return valueDeduplicationEnabled;
+    }
+
+    /**
+     * Lets the entries of the map share equal values, so a value stored under many keys is kept in memory
+     * only once. Only applies to the {@link InMemoryFormat#BINARY} format without
+     * {@link #setValueCompressionEnabled(boolean) value compression}. It costs a lookup per update; the
+     * reported entry memory costs still count a shared value for every entry.
+     *
+     * @param valueDeduplicationEnabled true to share equal values
+     * @return this config instance
+     */
+    public MapConfig setValueDeduplicationEnabled(boolean valueDeduplicationEnabled) {
+        this.valueDeduplicationEnabled = valueDeduplicationEnabled;
+        return this;
+    }
+
+    public boolean isKeyDeduplicationEnabled() {
+        return keyDeduplicationEnabled;
+    }
+
+    /**
+     * Lets the maps of a partition share equal keys, so a key used in several maps is kept in memory
+     * only once. Only maps with this setting enabled take part. It costs a lookup per new entry; the
+     * reported entry memory costs still count a shared key for every entry.
+     *
+     * @param keyDeduplicationEnabled true to share equal keys
+     * @return this config instance
+     */
+    public MapConfig setKeyDeduplicationEnabled(boolean keyDeduplicationEnabled) {
+        this.keyDeduplicationEnabled = keyDeduplicationEnabled;
+        return this;
+    }
+
     public boolean isCompatible(MapConfig other) {
         if (this == other) {
             return true;
@@ -577,6 +665,10 @@ public class MapConfig {
         sb.append(", evictionPercentage=").append(evictionPercentage);
         sb.append(", maxSizeConfig=").append(maxSizeConfig);
         sb.append(", readBackupData=").append(readBackupData);
+        sb.append(", valueCompressionEnabled=").append(valueCompressionEnabled);
+        sb.append(", valueCompressionThreshold=").append(valueCompressionThreshold);
+        sb.append(", valueDeduplicationEnabled=").append(valueDeduplicationEnabled);
+        sb.append(", keyDeduplicationEnabled=").append(keyDeduplicationEnabled);
         sb.append(", nearCacheConfig=").append(nearCacheConfig);
         sb.append(", mapStoreConfig=").append(mapStoreConfig);
         sb.append(", mergePolicyConfig='").append(mergePolicy).append('\'');
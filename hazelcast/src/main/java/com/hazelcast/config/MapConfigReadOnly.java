@@ -171,4 +171,20 @@ public class MapConfigReadOnly extends MapConfig {
         throw new UnsupportedOperationException("This config is read-only map: " + getName());
     }
 
+    public MapConfig setValueCompressionEnabled(boolean valueCompressionEnabled) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
+    public MapConfig setValueCompressionThreshold(int valueCompressionThreshold) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
+    public MapConfig setValueDeduplicationEnabled(boolean valueDeduplicationEnabled) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
+    public MapConfig setKeyDeduplicationEnabled(boolean keyDeduplicationEnabled) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
 }
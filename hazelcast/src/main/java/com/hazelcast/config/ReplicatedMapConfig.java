@@ -40,6 +40,10 @@ public class ReplicatedMapConfig {
      * Default value of asynchronous fill up
      */
     public static final boolean DEFAULT_ASNYC_FILLUP = true;
+    /**
+     * Default value of read optimized storage
+     */
+    public static final boolean DEFAULT_READ_OPTIMIZED = false;
 
     private String name;
     private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
@@ -48,6 +52,7 @@ public class ReplicatedMapConfig {
     private ScheduledExecutorService replicatorExecutorService;
     private boolean asyncFillup = DEFAULT_ASNYC_FILLUP;
     private boolean statisticsEnabled = true;
+    private boolean readOptimized = DEFAULT_READ_OPTIMIZED;
 
     private List<ListenerConfig> listenerConfigs;
 
@@ -63,6 +68,7 @@ public class ReplicatedMapConfig {
         this.listenerConfigs = new ArrayList<ListenerConfig>(replicatedMapConfig.getListenerConfigs());
         this.asyncFillup = replicatedMapConfig.asyncFillup;
         this.statisticsEnabled = replicatedMapConfig.statisticsEnabled;
+        this.readOptimized = replicatedMapConfig.readOptimized;
     }
 
     public String getName() {
@@ -148,4 +154,23 @@ public class ReplicatedMapConfig {
         return this;
     }
 
+    public boolean isReadOptimized() {
+        return readOptimized;
+    }
+
+    /**
+     * Enables the read optimized storage. In this mode the deserialized values are cached next to the stored
+     * values and, for {@link InMemoryFormat#BINARY}, records are additionally indexed by their deserialized keys,
+     * so a get of an unchanged entry neither serializes the key nor deserializes the value. Keys must therefore
+     * implement equals and hashCode consistently with their serialized form. Values returned by get are shared
+     * between callers and must not be modified.
+     *
+     * @param readOptimized true to enable the read optimized storage
+     * @return this config instance
+     */
+    public ReplicatedMapConfig setReadOptimized(boolean readOptimized) {
+        this.readOptimized = readOptimized;
+        return this;
+    }
+
 }
@@ -60,4 +60,9 @@ class ReplicatedMapConfigReadOnly extends ReplicatedMapConfig {
         throw new UnsupportedOperationException("This config is read-only");
     }
 
+    @Override
+    public ReplicatedMapConfig setReadOptimized(boolean readOptimized) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
 }
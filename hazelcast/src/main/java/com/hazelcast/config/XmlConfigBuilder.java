@@ -793,6 +793,8 @@ public class XmlConfigBuilder extends AbstractXmlConfigHelper implements ConfigB
                         , value, ReplicatedMapConfig.DEFAULT_REPLICATION_DELAY_MILLIS));
             } else if ("async-fillup".equals(nodeName)) {
                 replicatedMapConfig.setAsyncFillup(checkTrue(value));
+            } else if ("read-optimized".equals(nodeName)) {
+                replicatedMapConfig.setReadOptimized(checkTrue(value));
             } else if ("statistics-enabled".equals(nodeName)) {
                 replicatedMapConfig.setStatisticsEnabled(checkTrue(value));
             } else if ("entry-listeners".equals(nodeName)) {
@@ -851,6 +853,15 @@ public class XmlConfigBuilder extends AbstractXmlConfigHelper implements ConfigB
                 mapConfig.setMergePolicy(value);
             } else if ("read-backup-data".equals(nodeName)) {
                 mapConfig.setReadBackupData(checkTrue(value));
+            } else if ("value-compression-enabled".equals(nodeName)) {
+                mapConfig.setValueCompressionEnabled(checkTrue(value));
+            } else if ("value-compression-threshold".equals(nodeName)) {
+                mapConfig.setValueCompressionThreshold(getIntegerValue("value-compression-threshold", value,
+                        MapConfig.DEFAULT_VALUE_COMPRESSION_THRESHOLD));
+            } else if ("value-deduplication-enabled".equals(nodeName)) {
+                mapConfig.setValueDeduplicationEnabled(checkTrue(value));
+            } else if ("key-deduplication-enabled".equals(nodeName)) {
+                mapConfig.setKeyDeduplicationEnabled(checkTrue(value));
             } else if ("statistics-enabled".equals(nodeName)) {
                 mapConfig.setStatisticsEnabled(checkTrue(value));
             } else if ("wan-replication-ref".equals(nodeName)) {
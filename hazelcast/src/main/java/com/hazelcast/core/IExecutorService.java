@@ -106,6 +106,20 @@ public interface IExecutorService extends ExecutorService, DistributedObject {
      */
     <T> Future<T> submitToKeyOwner(Callable<T> task, Object key);
 
+    /**
+     * Submits each task to the owner of its key and returns a Future per key.
+     * Tasks whose keys belong to the same partition are sent to the owner in a single
+     * invocation and are run one after the other by a single executor thread, so submitting
+     * many small tasks costs one remote call per partition instead of one per task.
+     * <p/>
+     * If {@link com.hazelcast.config.ExecutorConfig#getDurability()} is positive, the pending
+     * tasks are backed up and run by the new owner when the owner of the partition dies.
+     *
+     * @param tasks tasks mapped by the key that decides where each task runs
+     * @return Futures representing pending completion of the tasks, mapped by key
+     */
+    <K, T> Map<K, Future<T>> submitToKeyOwners(Map<K, ? extends Callable<T>> tasks);
+
     /**
      * Submits task to specified member and returns a Future
      * representing that task.
@@ -730,6 +730,43 @@ public interface IMap<K, V>
      */
     void unlock(K key);
 
+    /**
+     * Acquires the lock for the specified key and returns the value of the key,
+     * in a single call to the key owner.
+     * <p/>
+     * Behaves like {@link #lock(Object)} followed by {@link #get(Object)}, the lock
+     * is held until it is released by {@link #unlock(Object)} or {@link #setAndUnlock(Object, Object)}.
+     * <p/>
+     * <p><b>Warning:</b></p>
+     * This method uses <tt>hashCode</tt> and <tt>equals</tt> of binary form of
+     * the <tt>key</tt>, not the actual implementations of <tt>hashCode</tt> and <tt>equals</tt>
+     * defined in <tt>key</tt>'s class.
+     *
+     * @param key key to lock.
+     * @return the value of the key or <tt>null</tt> if there is no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    V lockAndGet(K key);
+
+    /**
+     * Sets the value of the specified key and releases its lock held by the current thread,
+     * in a single call to the key owner.
+     * <p/>
+     * Behaves like {@link #set(Object, Object)} followed by {@link #unlock(Object)}. The value is
+     * not set if the current thread does not hold the lock.
+     * <p/>
+     * <p><b>Warning:</b></p>
+     * This method uses <tt>hashCode</tt> and <tt>equals</tt> of binary form of
+     * the <tt>key</tt>, not the actual implementations of <tt>hashCode</tt> and <tt>equals</tt>
+     * defined in <tt>key</tt>'s class.
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     * @throws NullPointerException         if the specified key or value is null
+     * @throws IllegalMonitorStateException if the current thread does not hold the lock of the key
+     */
+    void setAndUnlock(K key, V value);
+
     /**
      * Releases the lock for the specified key regardless of the lock owner.
      * It always successfully unlocks the key, never blocks
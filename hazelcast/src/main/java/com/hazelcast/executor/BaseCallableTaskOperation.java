@@ -21,6 +21,7 @@ import com.hazelcast.instance.HazelcastInstanceImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.SerializationServiceImpl;
+import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.TraceableOperation;
 
@@ -44,19 +45,27 @@ abstract class BaseCallableTaskOperation extends Operation implements TraceableO
 
     @Override
     public final void beforeRun() throws Exception {
-        ManagedContext managedContext = getManagedContext();
+        callable = initialize(getNodeEngine(), callable);
+    }
+
+    /**
+     * Lets the managed context of the instance initialize the task, or the wrapped runnable
+     * if the task is a {@link RunnableAdapter}.
+     */
+    static Callable initialize(NodeEngine nodeEngine, Callable callable) {
+        ManagedContext managedContext = getManagedContext(nodeEngine);
 
         if (callable instanceof RunnableAdapter) {
             RunnableAdapter adapter = (RunnableAdapter) callable;
             Runnable runnable = (Runnable) managedContext.initialize(adapter.getRunnable());
             adapter.setRunnable(runnable);
-        } else {
-            callable = (Callable) managedContext.initialize(callable);
+            return callable;
         }
+        return (Callable) managedContext.initialize(callable);
     }
 
-    private ManagedContext getManagedContext() {
-        HazelcastInstanceImpl hazelcastInstance = (HazelcastInstanceImpl) getNodeEngine().getHazelcastInstance();
+    private static ManagedContext getManagedContext(NodeEngine nodeEngine) {
+        HazelcastInstanceImpl hazelcastInstance = (HazelcastInstanceImpl) nodeEngine.getHazelcastInstance();
         SerializationServiceImpl serializationService =
                 (SerializationServiceImpl) hazelcastInstance.getSerializationService();
         return serializationService.getManagedContext();
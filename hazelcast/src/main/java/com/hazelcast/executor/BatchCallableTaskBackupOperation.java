@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.BackupOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Keeps a batch of a durable executor as pending on a backup; the caller of the backup is the
+ * member that runs the batch.
+ */
+public final class BatchCallableTaskBackupOperation extends AbstractOperation
+        implements BackupOperation, IdentifiedDataSerializable {
+
+    private String name;
+    private String uuid;
+    private List<Callable> callables;
+    private int durability;
+
+    public BatchCallableTaskBackupOperation() {
+    }
+
+    public BatchCallableTaskBackupOperation(String name, String uuid, List<Callable> callables, int durability) {
+        this.name = name;
+        this.uuid = uuid;
+        this.callables = callables;
+        this.durability = durability;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        PendingBatch batch = new PendingBatch(name, uuid, callables, getCallerAddress(), durability);
+        service.addPendingBatch(getPartitionId(), batch);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeUTF(uuid);
+        out.writeInt(durability);
+        out.writeInt(callables.size());
+        for (Callable callable : callables) {
+            out.writeObject(callable);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        name = in.readUTF();
+        uuid = in.readUTF();
+        durability = in.readInt();
+        int size = in.readInt();
+        callables = new ArrayList<Callable>(size);
+        for (int i = 0; i < size; i++) {
+            Callable callable = in.readObject();
+            callables.add(callable);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ExecutorDataSerializerHook.BATCH_CALLABLE_TASK_BACKUP;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.ResponseHandler;
+import com.hazelcast.spi.TraceableOperation;
+import com.hazelcast.spi.impl.DeferredResponseOperation;
+import com.hazelcast.spi.impl.NormalResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the tasks submitted to the owner of a partition as a single job of the executor, so a
+ * batch costs one invocation and one hand-off to the executor threads no matter how many tasks
+ * it contains. The response is sent by the service once all tasks have completed; it carries the number of
+ * sync backups of a durable batch, so the caller also waits until the backups stored the batch.
+ */
+public final class BatchCallableTaskOperation extends Operation
+        implements BackupAwareOperation, DeferredResponseOperation, TraceableOperation, IdentifiedDataSerializable {
+
+    private String name;
+    private String uuid;
+    private List<Callable> callables;
+    private transient int durability;
+    private transient boolean accepted;
+    private transient BatchResponseHandler batchResponseHandler;
+
+    public BatchCallableTaskOperation() {
+    }
+
+    public BatchCallableTaskOperation(String name, String uuid, List<Callable> callables) {
+        this.name = name;
+        this.uuid = uuid;
+        this.callables = callables;
+    }
+
+    @Override
+    public void beforeRun() throws Exception {
+        NodeEngine nodeEngine = getNodeEngine();
+        for (int i = 0; i < callables.size(); i++) {
+            callables.set(i, BaseCallableTaskOperation.initialize(nodeEngine, callables.get(i)));
+        }
+        durability = nodeEngine.getConfig().findExecutorConfig(name).getDurability();
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        batchResponseHandler = new BatchResponseHandler(getResponseHandler());
+        accepted = service.executeBatch(name, uuid, callables, getPartitionId(), durability, batchResponseHandler);
+    }
+
+    @Override
+    public void onBackupsSent(int syncBackupCount) {
+        batchResponseHandler.setSyncBackupCount(syncBackupCount);
+    }
+
+    @Override
+    public void afterRun() throws Exception {
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public Object getResponse() {
+        return null;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return accepted && durability > 0;
+    }
+
+    @Override
+    public int getSyncBackupCount() {
+        return durability;
+    }
+
+    @Override
+    public int getAsyncBackupCount() {
+        return 0;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new BatchCallableTaskBackupOperation(name, uuid, callables, durability);
+    }
+
+    @Override
+    public Object getTraceIdentifier() {
+        return uuid;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeUTF(uuid);
+        out.writeInt(callables.size());
+        for (Callable callable : callables) {
+            out.writeObject(callable);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        name = in.readUTF();
+        uuid = in.readUTF();
+        int size = in.readInt();
+        callables = new ArrayList<Callable>(size);
+        for (int i = 0; i < size; i++) {
+            Callable callable = in.readObject();
+            callables.add(callable);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ExecutorDataSerializerHook.BATCH_CALLABLE_TASK;
+    }
+
+    /**
+     * Sends the batch result as a {@link NormalResponse} with the number of sync backups. A batch may complete
+     * before its backups are sent, its response is held back until the count is known.
+     */
+    private final class BatchResponseHandler implements ResponseHandler {
+
+        private final ResponseHandler responseHandler;
+        private int syncBackupCount = -1;
+        private boolean responsePending;
+        private Object pendingResponse;
+
+        private BatchResponseHandler(ResponseHandler responseHandler) {
+            this.responseHandler = responseHandler;
+        }
+
+        @Override
+        public synchronized void sendResponse(Object response) {
+            if (syncBackupCount < 0) {
+                responsePending = true;
+                pendingResponse = response;
+                return;
+            }
+            send(response);
+        }
+
+        private synchronized void setSyncBackupCount(int count) {
+            syncBackupCount = count;
+            if (responsePending) {
+                responsePending = false;
+                send(pendingResponse);
+                pendingResponse = null;
+            }
+        }
+
+        private void send(Object response) {
+            if (response instanceof Throwable || syncBackupCount == 0) {
+                responseHandler.sendResponse(response);
+            } else {
+                responseHandler.sendResponse(new NormalResponse(response, getCallId(), syncBackupCount, isUrgent()));
+            }
+        }
+
+        @Override
+        public boolean isLocal() {
+            return responseHandler.isLocal();
+        }
+    }
+}
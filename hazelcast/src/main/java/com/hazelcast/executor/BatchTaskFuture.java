@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future of a single task of a batch; completes when the whole batch is completed.
+ * Tasks of a batch cannot be cancelled one by one.
+ */
+final class BatchTaskFuture<V> implements Future<V> {
+
+    private final Future<BatchResult> batchFuture;
+    private final int index;
+
+    BatchTaskFuture(Future<BatchResult> batchFuture, int index) {
+        this.batchFuture = batchFuture;
+        this.index = index;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return batchFuture.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return resolve(batchFuture.get());
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return resolve(batchFuture.get(timeout, unit));
+    }
+
+    private V resolve(BatchResult batchResult) throws ExecutionException {
+        Object result = batchResult.getResult(index);
+        if (result instanceof Throwable) {
+            throw new ExecutionException((Throwable) result);
+        }
+        //noinspection unchecked
+        return (V) result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.Operation;
+
+import java.io.IOException;
+
+/**
+ * Removes a completed batch of a durable executor from the pending batches of the partition
+ * owner and its backups.
+ */
+public final class CompleteBatchOperation extends AbstractOperation
+        implements BackupAwareOperation, IdentifiedDataSerializable {
+
+    private String uuid;
+    private int durability;
+
+    public CompleteBatchOperation() {
+    }
+
+    public CompleteBatchOperation(String uuid, int durability) {
+        this.uuid = uuid;
+        this.durability = durability;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        service.removePendingBatch(getPartitionId(), uuid);
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return true;
+    }
+
+    @Override
+    public int getSyncBackupCount() {
+        return durability;
+    }
+
+    @Override
+    public int getAsyncBackupCount() {
+        return 0;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new CompleteBatchBackupOperation(uuid);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeUTF(uuid);
+        out.writeInt(durability);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        uuid = in.readUTF();
+        durability = in.readInt();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ExecutorDataSerializerHook.COMPLETE_BATCH;
+    }
+}
@@ -19,17 +19,26 @@ package com.hazelcast.executor;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.monitor.impl.LocalExecutorStatsImpl;
 import com.hazelcast.nio.Address;
+import com.hazelcast.partition.MigrationEndpoint;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.ExecutionTracingService;
 import com.hazelcast.spi.ManagedService;
+import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionMigrationEvent;
+import com.hazelcast.spi.PartitionReplicationEvent;
 import com.hazelcast.spi.RemoteService;
 import com.hazelcast.spi.ResponseHandler;
+import com.hazelcast.spi.impl.ResponseHandlerFactory;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ConcurrencyUtil;
 import com.hazelcast.util.ConstructorFunction;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -38,9 +47,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
-public class DistributedExecutorService implements ManagedService, RemoteService, ExecutionTracingService {
+public class DistributedExecutorService implements ManagedService, RemoteService, ExecutionTracingService,
+        MigrationAwareService {
 
     public static final String SERVICE_NAME = "hz:impl:executorService";
 
@@ -53,6 +64,13 @@ public class DistributedExecutorService implements ManagedService, RemoteService
     private ExecutionService executionService;
     private final ConcurrentMap<String, CallableProcessor> submittedTasks
             = new ConcurrentHashMap<String, CallableProcessor>(100);
+    private final ConcurrentMap<String, BatchProcessor> executingBatches
+            = new ConcurrentHashMap<String, BatchProcessor>();
+    // batches re-run for a dead member, kept for a call timeout so a retried invocation gets their results
+    private final ConcurrentMap<String, BatchProcessor> recoveredBatches
+            = new ConcurrentHashMap<String, BatchProcessor>();
+    // pending batches of durable executors per partition; the maps are never replaced, only cleared
+    private volatile ConcurrentMap<String, PendingBatch>[] pendingBatches;
     private final Set<String> shutdownExecutors
             = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     private final ConcurrentHashMap<String, LocalExecutorStatsImpl> statsMap
@@ -70,12 +88,24 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         this.nodeEngine = nodeEngine;
         this.executionService = nodeEngine.getExecutionService();
         this.logger = nodeEngine.getLogger(DistributedExecutorService.class);
+        int partitionCount = nodeEngine.getPartitionService().getPartitionCount();
+        //noinspection unchecked
+        ConcurrentMap<String, PendingBatch>[] batches = new ConcurrentMap[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            batches[i] = new ConcurrentHashMap<String, PendingBatch>();
+        }
+        this.pendingBatches = batches;
     }
 
     @Override
     public void reset() {
         shutdownExecutors.clear();
         submittedTasks.clear();
+        executingBatches.clear();
+        recoveredBatches.clear();
+        for (ConcurrentMap<String, PendingBatch> batches : pendingBatches) {
+            batches.clear();
+        }
         statsMap.clear();
     }
 
@@ -103,6 +133,68 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         }
     }
 
+    /**
+     * Runs the tasks of a batch one after the other in a single job of the named executor and sends
+     * their results as one {@link BatchResult}. If the executor is durable, the batch is kept as
+     * pending in the partition until it completes.
+     * <p/>
+     * A batch that already runs on this member, because it was recovered from a dead member, is not run again;
+     * its results are sent to the given response handler instead.
+     *
+     * @return true if the batch is started by this call, false if it is rejected or already running
+     */
+    public boolean executeBatch(String name, String uuid, List<Callable> callables, int partitionId, int durability,
+                                ResponseHandler responseHandler) {
+        return executeBatch(name, uuid, callables, partitionId, durability, responseHandler, false);
+    }
+
+    private boolean executeBatch(String name, String uuid, List<Callable> callables, int partitionId, int durability,
+                                 ResponseHandler responseHandler, boolean recovered) {
+        BatchProcessor running = executingBatches.get(uuid);
+        if (running == null) {
+            running = recoveredBatches.get(uuid);
+        }
+        if (running != null) {
+            running.addResponseHandler(responseHandler);
+            return false;
+        }
+        for (int i = 0; i < callables.size(); i++) {
+            startPending(name);
+        }
+        BatchProcessor processor = new BatchProcessor(name, uuid, callables, partitionId, durability, responseHandler);
+        executingBatches.put(uuid, processor);
+        if (recovered) {
+            // registered before the batch is handed to the executor, a short batch may complete right away
+            keepRecoveredBatch(uuid, processor);
+        }
+        if (durability > 0) {
+            addPendingBatch(partitionId, new PendingBatch(name, uuid, callables, nodeEngine.getThisAddress(), durability));
+        }
+
+        try {
+            executionService.execute(name, processor);
+            return true;
+        } catch (RejectedExecutionException e) {
+            for (int i = 0; i < callables.size(); i++) {
+                rejectExecution(name);
+            }
+            logger.warning("While executing a batch of " + callables.size() + " tasks on Executor[" + name + "]", e);
+            executingBatches.remove(uuid);
+            recoveredBatches.remove(uuid);
+            removePendingBatch(partitionId, uuid);
+            responseHandler.sendResponse(e);
+            return false;
+        }
+    }
+
+    void addPendingBatch(int partitionId, PendingBatch batch) {
+        pendingBatches[partitionId].put(batch.getUuid(), batch);
+    }
+
+    void removePendingBatch(int partitionId, String uuid) {
+        pendingBatches[partitionId].remove(uuid);
+    }
+
     public boolean cancel(String uuid, boolean interrupt) {
         CallableProcessor processor = submittedTasks.remove(uuid);
         if (processor != null && processor.cancel(interrupt)) {
@@ -133,6 +225,88 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         executionService.shutdownExecutor(name);
     }
 
+    @Override
+    public void beforeMigration(PartitionMigrationEvent event) {
+    }
+
+    @Override
+    public Operation prepareReplicationOperation(PartitionReplicationEvent event) {
+        Map<String, PendingBatch> batches = pendingBatches[event.getPartitionId()];
+        if (batches.isEmpty()) {
+            return null;
+        }
+        List<PendingBatch> replicatedBatches = new ArrayList<PendingBatch>(batches.size());
+        for (PendingBatch batch : batches.values()) {
+            if (batch.getDurability() >= event.getReplicaIndex()) {
+                replicatedBatches.add(batch);
+            }
+        }
+        return replicatedBatches.isEmpty() ? null : new PendingBatchReplicationOperation(replicatedBatches);
+    }
+
+    @Override
+    public void commitMigration(PartitionMigrationEvent event) {
+        int partitionId = event.getPartitionId();
+        if (event.getMigrationEndpoint() == MigrationEndpoint.SOURCE) {
+            pendingBatches[partitionId].clear();
+        } else {
+            runOrphanedBatches(partitionId);
+        }
+    }
+
+    /**
+     * Runs the pending batches of the partition whose owner is no longer a member; this member is
+     * either the promoted backup or the new owner of the partition. The batch keeps its id, so when
+     * the caller retries its invocation it gets the results of this run instead of running the tasks
+     * again. A task of a durable executor whose caller died as well is still run at least once.
+     */
+    private void runOrphanedBatches(int partitionId) {
+        Map<String, PendingBatch> batches = pendingBatches[partitionId];
+        if (batches.isEmpty()) {
+            return;
+        }
+        Address thisAddress = nodeEngine.getThisAddress();
+        for (PendingBatch batch : new ArrayList<PendingBatch>(batches.values())) {
+            Address owner = batch.getOwner();
+            if (thisAddress.equals(owner) || nodeEngine.getClusterService().getMember(owner) != null) {
+                continue;
+            }
+            if (logger.isFinestEnabled()) {
+                logger.finest("Running pending batch " + batch.getUuid() + " of dead member " + owner);
+            }
+            batch.setOwner(thisAddress);
+            List<Callable> callables = batch.getCallables();
+            for (int i = 0; i < callables.size(); i++) {
+                callables.set(i, BaseCallableTaskOperation.initialize(nodeEngine, callables.get(i)));
+            }
+            executeBatch(batch.getName(), batch.getUuid(), callables, partitionId, batch.getDurability(),
+                    ResponseHandlerFactory.createEmptyResponseHandler(), true);
+        }
+    }
+
+    private void keepRecoveredBatch(final String uuid, BatchProcessor processor) {
+        recoveredBatches.put(uuid, processor);
+        long retention = nodeEngine.getGroupProperties().OPERATION_CALL_TIMEOUT_MILLIS.getLong();
+        executionService.schedule(new Runnable() {
+            @Override
+            public void run() {
+                recoveredBatches.remove(uuid);
+            }
+        }, retention, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void rollbackMigration(PartitionMigrationEvent event) {
+        if (event.getMigrationEndpoint() == MigrationEndpoint.DESTINATION) {
+            pendingBatches[event.getPartitionId()].clear();
+        }
+    }
+
+    @Override
+    public void clearPartitionReplica(int partitionId) {
+        pendingBatches[partitionId].clear();
+    }
+
     LocalExecutorStatsImpl getLocalExecutorStats(String name) {
         return ConcurrencyUtil.getOrPutIfAbsent(statsMap, name, localExecutorStatsConstructorFunction);
     }
@@ -156,7 +330,82 @@ public class DistributedExecutorService implements ManagedService, RemoteService
     @Override
     public boolean isOperationExecuting(Address callerAddress, String callerUuid, Object identifier) {
         String uuid = String.valueOf(identifier);
-        return submittedTasks.containsKey(uuid);
+        return submittedTasks.containsKey(uuid) || executingBatches.containsKey(uuid);
+    }
+
+    private final class BatchProcessor implements Runnable {
+
+        private final String name;
+        private final String uuid;
+        private final List<Callable> callables;
+        private final int partitionId;
+        private final int durability;
+        // guarded by this, result is set once all tasks have completed
+        private final List<ResponseHandler> responseHandlers = new ArrayList<ResponseHandler>(1);
+        private BatchResult result;
+        private final long creationTime = Clock.currentTimeMillis();
+
+        private BatchProcessor(String name, String uuid, List<Callable> callables, int partitionId, int durability,
+                               ResponseHandler responseHandler) {
+            this.name = name;
+            this.uuid = uuid;
+            this.callables = callables;
+            this.partitionId = partitionId;
+            this.durability = durability;
+            this.responseHandlers.add(responseHandler);
+        }
+
+        private void addResponseHandler(ResponseHandler responseHandler) {
+            BatchResult completed;
+            synchronized (this) {
+                completed = result;
+                if (completed == null) {
+                    responseHandlers.add(responseHandler);
+                    return;
+                }
+            }
+            responseHandler.sendResponse(completed);
+        }
+
+        private void complete(BatchResult batchResult) {
+            List<ResponseHandler> handlers;
+            synchronized (this) {
+                result = batchResult;
+                handlers = new ArrayList<ResponseHandler>(responseHandlers);
+                responseHandlers.clear();
+            }
+            for (ResponseHandler responseHandler : handlers) {
+                responseHandler.sendResponse(batchResult);
+            }
+        }
+
+        @Override
+        public void run() {
+            Object[] results = new Object[callables.size()];
+            try {
+                for (int i = 0; i < results.length; i++) {
+                    Callable callable = callables.get(i);
+                    long start = Clock.currentTimeMillis();
+                    startExecution(name, start - creationTime);
+                    try {
+                        results[i] = callable.call();
+                    } catch (Exception e) {
+                        if (logger.isFinestEnabled()) {
+                            logger.finest("While executing callable: " + callable, e);
+                        }
+                        results[i] = e;
+                    }
+                    finishExecution(name, Clock.currentTimeMillis() - start);
+                }
+            } finally {
+                complete(new BatchResult(results));
+                executingBatches.remove(uuid);
+                if (durability > 0) {
+                    CompleteBatchOperation op = new CompleteBatchOperation(uuid, durability);
+                    nodeEngine.getOperationService().invokeOnPartition(SERVICE_NAME, op, partitionId);
+                }
+            }
+        }
     }
 
     private final class CallableProcessor extends FutureTask implements Runnable {
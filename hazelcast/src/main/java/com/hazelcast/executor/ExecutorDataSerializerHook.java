@@ -28,6 +28,12 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
     static final int CALLABLE_TASK = 0;
     static final int MEMBER_CALLABLE_TASK = 1;
     static final int RUNNABLE_ADAPTER = 2;
+    static final int BATCH_CALLABLE_TASK = 3;
+    static final int BATCH_CALLABLE_TASK_BACKUP = 4;
+    static final int BATCH_RESULT = 5;
+    static final int COMPLETE_BATCH = 6;
+    static final int COMPLETE_BATCH_BACKUP = 7;
+    static final int PENDING_BATCH_REPLICATION = 8;
 
     @Override
     public int getFactoryId() {
@@ -46,6 +52,18 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
                         return new MemberCallableTaskOperation();
                     case RUNNABLE_ADAPTER:
                         return new RunnableAdapter();
+                    case BATCH_CALLABLE_TASK:
+                        return new BatchCallableTaskOperation();
+                    case BATCH_CALLABLE_TASK_BACKUP:
+                        return new BatchCallableTaskBackupOperation();
+                    case BATCH_RESULT:
+                        return new BatchResult();
+                    case COMPLETE_BATCH:
+                        return new CompleteBatchOperation();
+                    case COMPLETE_BATCH_BACKUP:
+                        return new CompleteBatchBackupOperation();
+                    case PENDING_BATCH_REPLICATION:
+                        return new PendingBatchReplicationOperation();
                     default:
                         return null;
                 }
@@ -28,6 +28,7 @@ import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.monitor.LocalExecutorStats;
 import com.hazelcast.nio.Address;
+import com.hazelcast.partition.InternalPartitionService;
 import com.hazelcast.spi.AbstractDistributedObject;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.InternalCompletableFuture;
@@ -274,6 +275,49 @@ public class ExecutorServiceProxy
         return submitToPartitionOwner(task, nodeEngine.getPartitionService().getPartitionId(key), false);
     }
 
+    @Override
+    public <K, T> Map<K, Future<T>> submitToKeyOwners(Map<K, ? extends Callable<T>> tasks) {
+        if (tasks == null) {
+            throw new NullPointerException("tasks must not be null");
+        }
+        if (isShutdown()) {
+            throw new RejectedExecutionException(getRejectionMessage());
+        }
+        NodeEngine nodeEngine = getNodeEngine();
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        Map<Integer, List<K>> keysPerPartition = new HashMap<Integer, List<K>>();
+        for (Map.Entry<K, ? extends Callable<T>> entry : tasks.entrySet()) {
+            K key = entry.getKey();
+            if (entry.getValue() == null) {
+                throw new NullPointerException("Task of key " + key + " is null");
+            }
+            Integer partitionId = partitionService.getPartitionId(key);
+            List<K> keys = keysPerPartition.get(partitionId);
+            if (keys == null) {
+                keys = new ArrayList<K>();
+                keysPerPartition.put(partitionId, keys);
+            }
+            keys.add(key);
+        }
+
+        OperationService operationService = nodeEngine.getOperationService();
+        Map<K, Future<T>> futures = new HashMap<K, Future<T>>(tasks.size());
+        for (Map.Entry<Integer, List<K>> entry : keysPerPartition.entrySet()) {
+            List<K> keys = entry.getValue();
+            List<Callable> callables = new ArrayList<Callable>(keys.size());
+            for (K key : keys) {
+                callables.add(tasks.get(key));
+            }
+            BatchCallableTaskOperation op = new BatchCallableTaskOperation(name, buildRandomUuidString(), callables);
+            Future<BatchResult> future = operationService.invokeOnPartition(DistributedExecutorService.SERVICE_NAME,
+                    op, entry.getKey());
+            for (int i = 0; i < keys.size(); i++) {
+                futures.put(keys.get(i), new BatchTaskFuture<T>(future, i));
+            }
+        }
+        return futures;
+    }
+
     @Override
     public <T> Future<T> submitToMember(Callable<T> task, Member member) {
         if (task == null) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A batch of tasks submitted to a durable executor that has not completed yet. Kept by the owner
+ * and the backups of the partition until the owner reports the batch as completed.
+ */
+final class PendingBatch implements DataSerializable {
+
+    private String name;
+    private String uuid;
+    private List<Callable> callables;
+    private Address owner;
+    private int durability;
+
+    PendingBatch() {
+    }
+
+    PendingBatch(String name, String uuid, List<Callable> callables, Address owner, int durability) {
+        this.name = name;
+        this.uuid = uuid;
+        this.callables = callables;
+        this.owner = owner;
+        this.durability = durability;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getUuid() {
+        return uuid;
+    }
+
+    List<Callable> getCallables() {
+        return callables;
+    }
+
+    /**
+     * @return the member that runs the batch
+     */
+    Address getOwner() {
+        return owner;
+    }
+
+    void setOwner(Address owner) {
+        this.owner = owner;
+    }
+
+    int getDurability() {
+        return durability;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeUTF(uuid);
+        out.writeInt(durability);
+        owner.writeData(out);
+        out.writeInt(callables.size());
+        for (Callable callable : callables) {
+            out.writeObject(callable);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        name = in.readUTF();
+        uuid = in.readUTF();
+        durability = in.readInt();
+        owner = new Address();
+        owner.readData(in);
+        int size = in.readInt();
+        callables = new ArrayList<Callable>(size);
+        for (int i = 0; i < size; i++) {
+            Callable callable = in.readObject();
+            callables.add(callable);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.executor;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.AbstractOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+public final class PendingBatchReplicationOperation extends AbstractOperation implements IdentifiedDataSerializable {
+
+    private Collection<PendingBatch> batches;
+
+    public PendingBatchReplicationOperation() {
+    }
+
+    PendingBatchReplicationOperation(Collection<PendingBatch> batches) {
+        this.batches = batches;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        for (PendingBatch batch : batches) {
+            service.addPendingBatch(getPartitionId(), batch);
+        }
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(batches.size());
+        for (PendingBatch batch : batches) {
+            batch.writeData(out);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        batches = new ArrayList<PendingBatch>(size);
+        for (int i = 0; i < size; i++) {
+            PendingBatch batch = new PendingBatch();
+            batch.readData(in);
+            batches.add(batch);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ExecutorDataSerializerHook.PENDING_BATCH_REPLICATION;
+    }
+}
@@ -37,10 +37,26 @@ public class GroupProperties {
     public static final String PROP_PARTITION_OPERATION_THREAD_COUNT = "hazelcast.operation.thread.count";
     public static final String PROP_GENERIC_OPERATION_THREAD_COUNT = "hazelcast.operation.generic.thread.count";
     public static final String PROP_EVENT_THREAD_COUNT = "hazelcast.event.thread.count";
+    /**
+     * The number of threads per Member scanning partitions for predicate queries that can not use an index.
+     * The default is half the number of processors, so that long scans leave CPU to the partition threads.
+     * An executor config named "hz:query" overrides it.
+     */
+    public static final String PROP_QUERY_THREAD_COUNT = "hazelcast.query.thread.count";
+    /**
+     * The time in milliseconds a Member may spend scanning its partitions for a predicate query before the query
+     * fails with a {@link com.hazelcast.query.QueryTimeoutException}. The default, -1, means no limit.
+     */
+    public static final String PROP_QUERY_TIMEOUT_MILLIS = "hazelcast.query.timeout.millis";
     public static final String PROP_EVENT_QUEUE_CAPACITY = "hazelcast.event.queue.capacity";
     public static final String PROP_EVENT_QUEUE_TIMEOUT_MILLIS = "hazelcast.event.queue.timeout.millis";
     public static final String PROP_CONNECT_ALL_WAIT_SECONDS = "hazelcast.connect.all.wait.seconds";
     public static final String PROP_MEMCACHE_ENABLED = "hazelcast.memcache.enabled";
+    /**
+     * The maximum length of the extras, key and value of a memcache binary request. Longer requests are
+     * answered with "value too large" and their body is skipped without being buffered.
+     */
+    public static final String PROP_MEMCACHE_MAX_BODY_LENGTH = "hazelcast.memcache.max.body.length";
     public static final String PROP_REST_ENABLED = "hazelcast.rest.enabled";
     public static final String PROP_MAP_LOAD_CHUNK_SIZE = "hazelcast.map.load.chunk.size";
     public static final String PROP_MERGE_FIRST_RUN_DELAY_SECONDS = "hazelcast.merge.first.run.delay.seconds";
@@ -99,12 +115,70 @@ public class GroupProperties {
     public static final String PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY = "hazelcast.map.write.behind.queue.capacity";
     public static final String PROP_ENTERPRISE_WAN_REP_QUEUESIZE = "hazelcast.enterprise.wanrep.queuesize";
     public static final String PROP_CLIENT_MAX_NO_HEARTBEAT_SECONDS = "hazelcast.client.max.no.heartbeat.seconds";
+    /**
+     * The interval in seconds at which every Member sends digests of its ReplicatedMap entries to a random other
+     * Member, which answers with the entries that differ. The default, 0, disables this anti-entropy sync.
+     */
+    public static final String PROP_REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS
+            = "hazelcast.replicated.map.anti.entropy.interval.seconds";
+    /**
+     * The time in seconds a removed ReplicatedMap entry is remembered for the anti-entropy sync. A Member that
+     * misses a remove for longer than this may get the entry back. Only used if the anti-entropy sync is enabled.
+     */
+    public static final String PROP_REPLICATED_MAP_TOMBSTONE_EXPIRY_SECONDS
+            = "hazelcast.replicated.map.tombstone.expiry.seconds";
+    /**
+     * The maximum number of remote events sent to a subscriber in a single packet. Events with the same order key
+     * keep their order within and across batches. The default, 1, sends every event in its own packet.
+     */
+    public static final String PROP_EVENT_BATCH_SIZE = "hazelcast.event.batch.size";
+    /**
+     * The interval in milliseconds at which batches that did not reach the batch size are sent. Only used if the
+     * batch size is above 1.
+     */
+    public static final String PROP_EVENT_BATCH_DELAY_MILLIS = "hazelcast.event.batch.delay.millis";
+    /**
+     * Length of the rolling window, in seconds, over which the latency percentiles of map, queue and topic
+     * statistics are reported. The default is 60; 0 reports them since the creation of the data structure.
+     */
+    public static final String PROP_LATENCY_STATS_WINDOW_SECONDS = "hazelcast.stats.latency.window.seconds";
+    /**
+     * Operations running longer than this many milliseconds on an operation thread are reported as slow,
+     * together with the stack trace of the thread. The default is 10000; 0 disables the detection.
+     */
+    public static final String PROP_SLOW_OPERATION_THRESHOLD_MILLIS = "hazelcast.slow.operation.threshold.millis";
+    /**
+     * Enables counting the executions and the execution time of operations per operation class and per
+     * partition. Disabled by default.
+     */
+    public static final String PROP_OPERATION_PROFILER_ENABLED = "hazelcast.operation.profiler.enabled";
+    /**
+     * Time between two logs of the operation profiler, in seconds. The default is 60; 0 disables the log.
+     */
+    public static final String PROP_OPERATION_PROFILER_LOG_DELAY_SECONDS = "hazelcast.operation.profiler.log.delay.seconds";
+    /**
+     * Enables estimating the access frequency of map keys, to report the hot keys and partitions of maps
+     * with statistics enabled. Disabled by default.
+     */
+    public static final String PROP_MAP_HOT_KEY_TRACKING_ENABLED = "hazelcast.map.hot.key.tracking.enabled";
+    /**
+     * Only every n-th key access is counted by the hot key tracking. The default is 1, counting every access.
+     */
+    public static final String PROP_MAP_HOT_KEY_SAMPLE_RATE = "hazelcast.map.hot.key.sample.rate";
+    /**
+     * The access counts of the hot key tracking are halved every this many seconds. The default is 60.
+     */
+    public static final String PROP_MAP_HOT_KEY_DECAY_SECONDS = "hazelcast.map.hot.key.decay.seconds";
 
     public final GroupProperty PARTITION_OPERATION_THREAD_COUNT;
     public final GroupProperty GENERIC_OPERATION_THREAD_COUNT;
 
     public final GroupProperty EVENT_THREAD_COUNT;
 
+    public final GroupProperty QUERY_THREAD_COUNT;
+
+    public final GroupProperty QUERY_TIMEOUT_MILLIS;
+
     public final GroupProperty HEALTH_MONITORING_LEVEL;
 
     public final GroupProperty HEALTH_MONITORING_DELAY_SECONDS;
@@ -123,6 +197,8 @@ public class GroupProperties {
 
     public final GroupProperty MEMCACHE_ENABLED;
 
+    public final GroupProperty MEMCACHE_MAX_BODY_LENGTH;
+
     public final GroupProperty REST_ENABLED;
 
     public final GroupProperty MAP_LOAD_CHUNK_SIZE;
@@ -233,6 +309,28 @@ public class GroupProperties {
 
     public final GroupProperty CLIENT_MAX_NO_HEARTBEAT_SECONDS;
 
+    public final GroupProperty REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS;
+
+    public final GroupProperty REPLICATED_MAP_TOMBSTONE_EXPIRY_SECONDS;
+
+    public final GroupProperty EVENT_BATCH_SIZE;
+
+    public final GroupProperty EVENT_BATCH_DELAY_MILLIS;
+
+    public final GroupProperty LATENCY_STATS_WINDOW_SECONDS;
+
+    public final GroupProperty SLOW_OPERATION_THRESHOLD_MILLIS;
+
+    public final GroupProperty OPERATION_PROFILER_ENABLED;
+
+    public final GroupProperty OPERATION_PROFILER_LOG_DELAY_SECONDS;
+
+    public final GroupProperty MAP_HOT_KEY_TRACKING_ENABLED;
+
+    public final GroupProperty MAP_HOT_KEY_SAMPLE_RATE;
+
+    public final GroupProperty MAP_HOT_KEY_DECAY_SECONDS;
+
     /**
      * @param config
      */
@@ -247,10 +345,13 @@ public class GroupProperties {
         PARTITION_OPERATION_THREAD_COUNT = new GroupProperty(config, PROP_PARTITION_OPERATION_THREAD_COUNT, "-1");
         GENERIC_OPERATION_THREAD_COUNT = new GroupProperty(config, PROP_GENERIC_OPERATION_THREAD_COUNT, "-1");
         EVENT_THREAD_COUNT = new GroupProperty(config, PROP_EVENT_THREAD_COUNT, "5");
+        QUERY_THREAD_COUNT = new GroupProperty(config, PROP_QUERY_THREAD_COUNT, "-1");
+        QUERY_TIMEOUT_MILLIS = new GroupProperty(config, PROP_QUERY_TIMEOUT_MILLIS, "-1");
         EVENT_QUEUE_CAPACITY = new GroupProperty(config, PROP_EVENT_QUEUE_CAPACITY, "1000000");
         EVENT_QUEUE_TIMEOUT_MILLIS = new GroupProperty(config, PROP_EVENT_QUEUE_TIMEOUT_MILLIS, "250");
         CONNECT_ALL_WAIT_SECONDS = new GroupProperty(config, PROP_CONNECT_ALL_WAIT_SECONDS, "120");
         MEMCACHE_ENABLED = new GroupProperty(config, PROP_MEMCACHE_ENABLED, "true");
+        MEMCACHE_MAX_BODY_LENGTH = new GroupProperty(config, PROP_MEMCACHE_MAX_BODY_LENGTH, "1048576");
         REST_ENABLED = new GroupProperty(config, PROP_REST_ENABLED, "true");
         MAP_LOAD_CHUNK_SIZE = new GroupProperty(config, PROP_MAP_LOAD_CHUNK_SIZE, "1000");
         MERGE_FIRST_RUN_DELAY_SECONDS = new GroupProperty(config, PROP_MERGE_FIRST_RUN_DELAY_SECONDS, "300");
@@ -310,6 +411,19 @@ public class GroupProperties {
                 = new GroupProperty(config, PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY, "50000");
         ENTERPRISE_WAN_REP_QUEUESIZE = new GroupProperty(config, PROP_ENTERPRISE_WAN_REP_QUEUESIZE, "100000");
         CLIENT_MAX_NO_HEARTBEAT_SECONDS = new GroupProperty(config, PROP_CLIENT_MAX_NO_HEARTBEAT_SECONDS, "60");
+        REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS
+                = new GroupProperty(config, PROP_REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS, "0");
+        REPLICATED_MAP_TOMBSTONE_EXPIRY_SECONDS
+                = new GroupProperty(config, PROP_REPLICATED_MAP_TOMBSTONE_EXPIRY_SECONDS, "600");
+        EVENT_BATCH_SIZE = new GroupProperty(config, PROP_EVENT_BATCH_SIZE, "1");
+        EVENT_BATCH_DELAY_MILLIS = new GroupProperty(config, PROP_EVENT_BATCH_DELAY_MILLIS, "5");
+        LATENCY_STATS_WINDOW_SECONDS = new GroupProperty(config, PROP_LATENCY_STATS_WINDOW_SECONDS, "60");
+        SLOW_OPERATION_THRESHOLD_MILLIS = new GroupProperty(config, PROP_SLOW_OPERATION_THRESHOLD_MILLIS, "10000");
+        OPERATION_PROFILER_ENABLED = new GroupProperty(config, PROP_OPERATION_PROFILER_ENABLED, "false");
+        OPERATION_PROFILER_LOG_DELAY_SECONDS = new GroupProperty(config, PROP_OPERATION_PROFILER_LOG_DELAY_SECONDS, "60");
+        MAP_HOT_KEY_TRACKING_ENABLED = new GroupProperty(config, PROP_MAP_HOT_KEY_TRACKING_ENABLED, "false");
+        MAP_HOT_KEY_SAMPLE_RATE = new GroupProperty(config, PROP_MAP_HOT_KEY_SAMPLE_RATE, "1");
+        MAP_HOT_KEY_DECAY_SECONDS = new GroupProperty(config, PROP_MAP_HOT_KEY_DECAY_SECONDS, "60");
     }
 
     public static class GroupProperty {
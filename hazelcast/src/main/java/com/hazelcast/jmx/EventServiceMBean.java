@@ -58,5 +58,24 @@ public class EventServiceMBean extends HazelcastMBean<EventService> {
     public int getEventQueueSize() {
         return managedObject.getEventQueueSize();
     }
+
+    @ManagedAnnotation("sentEventCount")
+    @ManagedDescription("The number of events sent to remote subscribers")
+    public long getSentEventCount() {
+        return managedObject.getSentEventCount();
+    }
+
+    @ManagedAnnotation("sentEventPacketCount")
+    @ManagedDescription("The number of packets used to send events to remote subscribers")
+    public long getSentEventPacketCount() {
+        return managedObject.getSentEventPacketCount();
+    }
+
+    @ManagedAnnotation("eventsPerPacket")
+    @ManagedDescription("The average number of events per sent event packet")
+    public double getEventsPerPacket() {
+        long packets = managedObject.getSentEventPacketCount();
+        return packets == 0 ? 0 : (double) managedObject.getSentEventCount() / packets;
+    }
 }
 
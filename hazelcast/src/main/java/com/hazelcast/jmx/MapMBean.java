@@ -22,7 +22,9 @@ import com.hazelcast.core.IMap;
 import com.hazelcast.core.MapEvent;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.SqlPredicate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -205,6 +207,146 @@ public class MapMBean extends HazelcastMBean<IMap> {
         return managedObject.getLocalMapStats().getMaxRemoveLatency();
     }
 
+    @ManagedAnnotation("localGetLatencyMedian")
+    @ManagedDescription("the median of get latencies in the current window, in microseconds")
+    public long getLocalGetLatencyMedian() {
+        return managedObject.getLocalMapStats().getGetLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localGetLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of get latencies in the current window, in microseconds")
+    public long getLocalGetLatencyPercentile99() {
+        return managedObject.getLocalMapStats().getGetLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localGetLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of get latencies in the current window, in microseconds")
+    public long getLocalGetLatencyPercentile999() {
+        return managedObject.getLocalMapStats().getGetLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localPutLatencyMedian")
+    @ManagedDescription("the median of put latencies in the current window, in microseconds")
+    public long getLocalPutLatencyMedian() {
+        return managedObject.getLocalMapStats().getPutLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localPutLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of put latencies in the current window, in microseconds")
+    public long getLocalPutLatencyPercentile99() {
+        return managedObject.getLocalMapStats().getPutLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localPutLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of put latencies in the current window, in microseconds")
+    public long getLocalPutLatencyPercentile999() {
+        return managedObject.getLocalMapStats().getPutLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localRemoveLatencyMedian")
+    @ManagedDescription("the median of remove latencies in the current window, in microseconds")
+    public long getLocalRemoveLatencyMedian() {
+        return managedObject.getLocalMapStats().getRemoveLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localRemoveLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of remove latencies in the current window, in microseconds")
+    public long getLocalRemoveLatencyPercentile99() {
+        return managedObject.getLocalMapStats().getRemoveLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localRemoveLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of remove latencies in the current window, in microseconds")
+    public long getLocalRemoveLatencyPercentile999() {
+        return managedObject.getLocalMapStats().getRemoveLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localQueryLatencyMedian")
+    @ManagedDescription("the median of query latencies in the current window, in microseconds")
+    public long getLocalQueryLatencyMedian() {
+        return managedObject.getLocalMapStats().getQueryLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localQueryLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of query latencies in the current window, in microseconds")
+    public long getLocalQueryLatencyPercentile99() {
+        return managedObject.getLocalMapStats().getQueryLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localQueryLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of query latencies in the current window, in microseconds")
+    public long getLocalQueryLatencyPercentile999() {
+        return managedObject.getLocalMapStats().getQueryLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localEntryProcessorLatencyMedian")
+    @ManagedDescription("the median of entry processor latencies in the current window, in microseconds")
+    public long getLocalEntryProcessorLatencyMedian() {
+        return managedObject.getLocalMapStats().getEntryProcessorLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localEntryProcessorLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of entry processor latencies in the current window, in microseconds")
+    public long getLocalEntryProcessorLatencyPercentile99() {
+        return managedObject.getLocalMapStats().getEntryProcessorLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localEntryProcessorLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of entry processor latencies in the current window, in microseconds")
+    public long getLocalEntryProcessorLatencyPercentile999() {
+        return managedObject.getLocalMapStats().getEntryProcessorLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localHotKeys")
+    @ManagedDescription("the most accessed keys owned by this member with their estimated recent access counts")
+    public List<String> getLocalHotKeys() {
+        return toEntryList(managedObject.getLocalMapStats().getHotKeys());
+    }
+
+    @ManagedAnnotation("localHotPartitions")
+    @ManagedDescription("the most accessed partitions owned by this member with their recent access counts")
+    public List<String> getLocalHotPartitions() {
+        return toEntryList(managedObject.getLocalMapStats().getHotPartitions());
+    }
+
+    @ManagedAnnotation("localTotalValueCompressionCount")
+    @ManagedDescription("the total number of values stored compressed on this member, including the ones no longer stored")
+    public long getLocalTotalValueCompressionCount() {
+        return managedObject.getLocalMapStats().getTotalValueCompressionCount();
+    }
+
+    @ManagedAnnotation("localValueCompressionRatio")
+    @ManagedDescription("the uncompressed size of all values compressed so far divided by their compressed size")
+    public double getLocalValueCompressionRatio() {
+        return managedObject.getLocalMapStats().getValueCompressionRatio();
+    }
+
+    @ManagedAnnotation("localTotalValueCompressionTime")
+    @ManagedDescription("the total time spent compressing values on this member, in milliseconds")
+    public long getLocalTotalValueCompressionTime() {
+        return managedObject.getLocalMapStats().getTotalValueCompressionTime();
+    }
+
+    @ManagedAnnotation("localTotalValueDecompressionTime")
+    @ManagedDescription("the total time spent decompressing values on this member, in milliseconds")
+    public long getLocalTotalValueDecompressionTime() {
+        return managedObject.getLocalMapStats().getTotalValueDecompressionTime();
+    }
+
+    @ManagedAnnotation("localTotalQueryCpuTime")
+    @ManagedDescription("the total CPU time predicate queries used on this member, in milliseconds")
+    public long getLocalTotalQueryCpuTime() {
+        return managedObject.getLocalMapStats().getTotalQueryCpuTime();
+    }
+
+    private static List<String> toEntryList(Map<?, Long> counts) {
+        List<String> list = new ArrayList<String>(counts.size());
+        for (Map.Entry<?, Long> entry : counts.entrySet()) {
+            list.add(entry.getKey() + "=" + entry.getValue());
+        }
+        return list;
+    }
+
     @ManagedAnnotation("localEventOperationCount")
     @ManagedDescription("number of events received on this member")
     public long getLocalEventOperationCount() {
@@ -19,6 +19,7 @@ package com.hazelcast.jmx;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spi.OperationService;
 import java.util.Hashtable;
+import java.util.List;
 
 import static com.hazelcast.jmx.ManagementService.quote;
 
@@ -77,4 +78,28 @@ public class OperationServiceMBean extends HazelcastMBean<OperationService> {
     public long getOperationThreadCount() {
         return managedObject.getPartitionOperationThreadCount();
     }
+
+    @ManagedAnnotation("slowOperationCount")
+    @ManagedDescription("The number of operations which ran longer than the slow operation threshold")
+    public long getSlowOperationCount() {
+        return managedObject.getSlowOperationCount();
+    }
+
+    @ManagedAnnotation("slowOperations")
+    @ManagedDescription("The most recent slow operations with the stack trace of the operation thread")
+    public List<String> getSlowOperations() {
+        return managedObject.getSlowOperations();
+    }
+
+    @ManagedAnnotation("operationClassProfile")
+    @ManagedDescription("Execution count and time per operation class, if the operation profiler is enabled")
+    public List<String> getOperationClassProfile() {
+        return managedObject.getOperationClassProfile();
+    }
+
+    @ManagedAnnotation("partitionOperationProfile")
+    @ManagedDescription("Execution count and time per partition, if the operation profiler is enabled")
+    public List<String> getPartitionOperationProfile() {
+        return managedObject.getPartitionOperationProfile();
+    }
 }
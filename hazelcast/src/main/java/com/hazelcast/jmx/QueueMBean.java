@@ -119,6 +119,42 @@ public class QueueMBean extends HazelcastMBean<IQueue> {
         return managedObject.getLocalQueueStats().getEventOperationCount();
     }
 
+    @ManagedAnnotation("localOfferLatencyMedian")
+    @ManagedDescription("the median of offer latencies in the current window, in microseconds")
+    public long getLocalOfferLatencyMedian() {
+        return managedObject.getLocalQueueStats().getOfferLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localOfferLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of offer latencies in the current window, in microseconds")
+    public long getLocalOfferLatencyPercentile99() {
+        return managedObject.getLocalQueueStats().getOfferLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localOfferLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of offer latencies in the current window, in microseconds")
+    public long getLocalOfferLatencyPercentile999() {
+        return managedObject.getLocalQueueStats().getOfferLatencyStats().getPercentile999();
+    }
+
+    @ManagedAnnotation("localPollLatencyMedian")
+    @ManagedDescription("the median of poll latencies in the current window, in microseconds")
+    public long getLocalPollLatencyMedian() {
+        return managedObject.getLocalQueueStats().getPollLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localPollLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of poll latencies in the current window, in microseconds")
+    public long getLocalPollLatencyPercentile99() {
+        return managedObject.getLocalQueueStats().getPollLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localPollLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of poll latencies in the current window, in microseconds")
+    public long getLocalPollLatencyPercentile999() {
+        return managedObject.getLocalQueueStats().getPollLatencyStats().getPercentile999();
+    }
+
     @ManagedAnnotation("name")
     @ManagedDescription("Name of the DistributedObject")
     public String getName() {
@@ -65,6 +65,24 @@ public class TopicMBean extends HazelcastMBean<ITopic> {
         return managedObject.getLocalTopicStats().getReceiveOperationCount();
     }
 
+    @ManagedAnnotation("localPublishLatencyMedian")
+    @ManagedDescription("the median of publish latencies in the current window, in microseconds")
+    public long getLocalPublishLatencyMedian() {
+        return managedObject.getLocalTopicStats().getPublishLatencyStats().getMedian();
+    }
+
+    @ManagedAnnotation("localPublishLatencyPercentile99")
+    @ManagedDescription("the 99th percentile of publish latencies in the current window, in microseconds")
+    public long getLocalPublishLatencyPercentile99() {
+        return managedObject.getLocalTopicStats().getPublishLatencyStats().getPercentile99();
+    }
+
+    @ManagedAnnotation("localPublishLatencyPercentile999")
+    @ManagedDescription("the 99.9th percentile of publish latencies in the current window, in microseconds")
+    public long getLocalPublishLatencyPercentile999() {
+        return managedObject.getLocalTopicStats().getPublishLatencyStats().getPercentile999();
+    }
+
     @ManagedAnnotation("name")
     @ManagedDescription("Name of the DistributedObject")
     public String getName() {
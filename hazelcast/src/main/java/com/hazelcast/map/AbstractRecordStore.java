@@ -3,16 +3,21 @@ package com.hazelcast.map;
 import com.hazelcast.concurrent.lock.LockService;
 import com.hazelcast.concurrent.lock.LockStore;
 import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.map.record.DataInterner;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.map.record.RecordFactory;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.partition.InternalPartition;
 import com.hazelcast.query.impl.IndexService;
 import com.hazelcast.query.impl.QueryEntry;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.DefaultObjectNamespace;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.Clock;
+import com.hazelcast.util.HotKeySketch;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -27,6 +32,7 @@ import java.util.concurrent.ConcurrentMap;
 abstract class AbstractRecordStore implements RecordStore {
 
     protected static final long DEFAULT_TTL = -1L;
+    private static final int HOT_KEYS_PER_PARTITION = 8;
     protected final ConcurrentMap<Data, Record> records = new ConcurrentHashMap<Data, Record>(1000);
     protected final RecordFactory recordFactory;
     protected final String name;
@@ -35,6 +41,10 @@ abstract class AbstractRecordStore implements RecordStore {
     protected final SerializationService serializationService;
     protected final int partitionId;
     private final SizeEstimator sizeEstimator;
+    private final HotKeySketch hotKeySketch;
+    private final InternalPartition partition;
+    private final Address thisAddress;
+    private final DataInterner keyInterner;
 
     protected AbstractRecordStore(MapContainer mapContainer, int partitionId) {
         this.mapContainer = mapContainer;
@@ -44,8 +54,38 @@ abstract class AbstractRecordStore implements RecordStore {
         this.name = mapContainer.getName();
         this.recordFactory = mapContainer.getRecordFactory();
         this.sizeEstimator = SizeEstimators.createMapSizeEstimator();
+        this.hotKeySketch = createHotKeySketch();
+        final NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
+        this.partition = nodeEngine.getPartitionService().getPartition(partitionId);
+        this.thisAddress = nodeEngine.getThisAddress();
+        this.keyInterner = mapContainer.getMapConfig().isKeyDeduplicationEnabled()
+                ? mapServiceContext.getPartitionContainer(partitionId).getKeyInterner() : null;
     }
 
+    private HotKeySketch createHotKeySketch() {
+        final GroupProperties groupProperties = mapServiceContext.getNodeEngine().getGroupProperties();
+        if (!mapContainer.getMapConfig().isStatisticsEnabled()
+                || !groupProperties.MAP_HOT_KEY_TRACKING_ENABLED.getBoolean()) {
+            return null;
+        }
+        return new HotKeySketch(HOT_KEYS_PER_PARTITION, groupProperties.MAP_HOT_KEY_SAMPLE_RATE.getInteger(),
+                mapServiceContext.getLocalMapStatsProvider().getHotKeyDecayClock());
+    }
+
+    @Override
+    public HotKeySketch getHotKeySketch() {
+        return hotKeySketch;
+    }
+
+    /**
+     * Feeds the hot key sketch; only accesses served by the partition owner are counted, so operations applied
+     * to a backup replica do not show up in the hot keys of the member holding the backup.
+     */
+    protected void recordKeyAccess(Data key) {
+        if (hotKeySketch != null && thisAddress.equals(partition.getOwnerOrNull())) {
+            hotKeySketch.recordAccess(key, key.hashCode());
+        }
+    }
 
     @Override
     public String getName() {
@@ -66,12 +106,21 @@ abstract class AbstractRecordStore implements RecordStore {
         return Clock.currentTimeMillis();
     }
 
+    @Override
+    public Data internKey(Data key) {
+        return keyInterner != null ? keyInterner.intern(key) : key;
+    }
+
+    /**
+     * Callers store the new record under {@link Record#getKey()}, which may be a pooled instance
+     * equal to the given key.
+     */
     protected Record createRecord(Data key, Object value, long ttl, long now) {
-        return mapContainer.createRecord(key, value, ttl, now);
+        return mapContainer.createRecord(internKey(key), value, ttl, now);
     }
 
     protected Record createRecord(Data key, Object value, long now) {
-        return mapContainer.createRecord(key, value, DEFAULT_TTL, now);
+        return createRecord(key, value, DEFAULT_TTL, now);
     }
 
     protected void accessRecord(Record record, long now) {
@@ -9,6 +9,7 @@ import com.hazelcast.nio.serialization.SerializationService;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.PagingPredicateAccessor;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.QueryTimeoutException;
 import com.hazelcast.query.impl.QueryEntry;
 import com.hazelcast.query.impl.QueryResultEntry;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -51,13 +52,26 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
 
     @Override
     public Collection<QueryableEntry> queryOnPartition(String mapName, Predicate predicate, int partitionId) {
+        return scanPartition(mapName, predicate, partitionId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Collection<QueryableEntry> scanPartition(String mapName, Predicate predicate, int partitionId, int yieldInterval) {
         final PartitionContainer container = mapServiceContext.getPartitionContainer(partitionId);
         final RecordStore recordStore = container.getRecordStore(mapName);
         final SerializationService serializationService = nodeEngine.getSerializationService();
         final PagingPredicate pagingPredicate = predicate instanceof PagingPredicate ? (PagingPredicate) predicate : null;
         List<QueryEntry> list = new LinkedList<QueryEntry>();
         final Iterator<Record> iterator = recordStore.loadAwareIterator();
+        int scanned = 0;
         while (iterator.hasNext()) {
+            if (++scanned == yieldInterval) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                Thread.yield();
+                scanned = 0;
+            }
             final Record record = iterator.next();
             Data key = record.getKey();
             Object value = getValueOrCachedValue(record);
@@ -119,7 +133,7 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
                 return result;
             }
         } catch (Throwable t) {
-            nodeEngine.getLogger(getClass()).warning("Could not get results", t);
+            onMemberQueryFailure(t);
         }
 
         try {
@@ -157,7 +171,7 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
                 return result;
             }
         } catch (Throwable t) {
-            nodeEngine.getLogger(getClass()).warning("Could not get results", t);
+            onMemberQueryFailure(t);
         }
 
         try {
@@ -192,7 +206,7 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
                 return result;
             }
         } catch (Throwable t) {
-            nodeEngine.getLogger(getClass()).warning("Could not get results", t);
+            onMemberQueryFailure(t);
         }
 
         try {
@@ -229,7 +243,7 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
                 return result;
             }
         } catch (Throwable t) {
-            nodeEngine.getLogger(getClass()).warning("Could not get results", t);
+            onMemberQueryFailure(t);
         }
 
         try {
@@ -325,6 +339,18 @@ class BasicMapContextQuerySupport implements MapContextQuerySupport {
         }
     }
 
+    /**
+     * Partitions a member could not answer for are queried again one by one. A query that timed out
+     * would only time out again, so it fails instead.
+     */
+    private void onMemberQueryFailure(Throwable t) {
+        final Throwable cause = t instanceof ExecutionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof QueryTimeoutException) {
+            throw ExceptionUtil.rethrow(t);
+        }
+        nodeEngine.getLogger(getClass()).warning("Could not get results", t);
+    }
+
     private QueryResult getQueryResult(Future future) throws ExecutionException, InterruptedException {
         return (QueryResult) future.get();
     }
@@ -126,7 +126,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         Record record = records.get(key);
         if (record == null) {
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             updateSizeEstimator(-calculateRecordHeapCost(record));
@@ -217,6 +217,12 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         return false;
     }
 
+    @Override
+    public boolean lock(Data key, String caller, long threadId, long ttl) {
+        checkIfLoaded();
+        return lockStore != null && lockStore.lock(key, caller, threadId, ttl);
+    }
+
     @Override
     public boolean txnLock(Data key, String caller, long threadId, long ttl) {
         checkIfLoaded();
@@ -275,6 +281,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public Map.Entry<Data, Object> getMapEntry(Data dataKey) {
         checkIfLoaded();
+        recordKeyAccess(dataKey);
         Record record = records.get(dataKey);
         record = nullIfExpired(record);
         if (record == null) {
@@ -307,7 +314,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         final Object value = mapDataStore.load(key);
         if (value != null) {
             record = createRecord(key, value, getNow());
-            records.put(key, record);
+            records.put(record.getKey(), record);
             if (enableIndex) {
                 saveIndex(record);
             }
@@ -509,6 +516,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public boolean remove(Data key, Object testValue) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
 
@@ -539,6 +547,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public Object remove(Data key) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
 
@@ -567,6 +576,16 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
 
     @Override
     public Object get(Data key) {
+        checkIfLoaded();
+        recordKeyAccess(key);
+        long now = getNow();
+        final Object value = get0(key, now);
+        postReadCleanUp(now);
+        return value;
+    }
+
+    @Override
+    public Object readBackupData(Data key) {
         checkIfLoaded();
         long now = getNow();
         final Object value = get0(key, now);
@@ -582,7 +601,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.load(key);
             if (value != null) {
                 record = createRecord(key, value, now);
-                records.put(key, record);
+                records.put(record.getKey(), record);
                 saveIndex(record);
                 updateSizeEstimator(calculateRecordHeapCost(record));
             }
@@ -605,6 +624,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         final Iterator<Data> iterator = keys.iterator();
         while (iterator.hasNext()) {
             final Data key = iterator.next();
+            recordKeyAccess(key);
             Record record = records.get(key);
             record = nullIfExpired(record);
             if (record != null) {
@@ -638,6 +658,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public boolean containsKey(Data key) {
         checkIfLoaded();
+        recordKeyAccess(key);
 
         final long now = getNow();
         Record record = records.get(key);
@@ -647,7 +668,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             Object value = mapDataStore.load(key);
             if (value != null) {
                 record = createRecord(key, value, now);
-                records.put(key, record);
+                records.put(record.getKey(), record);
                 updateSizeEstimator(calculateRecordHeapCost(record));
             }
         }
@@ -672,7 +693,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             // increase size.
             updateSizeEstimator(calculateRecordHeapCost(record));
             saveIndex(record);
@@ -693,6 +714,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public Object put(Data key, Object value, long ttl) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
         markRecordStoreExpirable(ttl);
@@ -704,7 +726,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             saveIndex(record);
         } else {
@@ -727,6 +749,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public boolean set(Data key, Object value, long ttl) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
         markRecordStoreExpirable(ttl);
@@ -737,7 +760,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             newRecord = true;
         } else {
@@ -772,7 +795,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             }
             newValue = mapDataStore.add(key, newValue, now);
             record = createRecord(key, newValue, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             Object oldValue = record.getValue();
@@ -808,6 +831,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public Object replace(Data key, Object value) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
 
@@ -832,6 +856,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public boolean replace(Data key, Object testValue, Object newValue) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
 
@@ -857,6 +882,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public void putTransient(Data key, Object value, long ttl) {
         checkIfLoaded();
+        recordKeyAccess(key);
         final long now = getNow();
         earlyWriteCleanup(now);
         markRecordStoreExpirable(ttl);
@@ -865,7 +891,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         if (record == null) {
             value = mapServiceContext.interceptPut(name, null, value);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             value = mapServiceContext.interceptPut(name, record.getValue(), value);
@@ -894,7 +920,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         if (record == null) {
             value = mapServiceContext.interceptPut(name, null, value);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             oldValue = record.getValue();
@@ -911,6 +937,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public boolean tryPut(Data key, Object value, long ttl) {
         checkIfLoaded();
+        recordKeyAccess(key);
 
         final long now = getNow();
         earlyWriteCleanup(now);
@@ -921,7 +948,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             value = mapServiceContext.interceptPut(name, record.getValue(), value);
@@ -940,6 +967,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     @Override
     public Object putIfAbsent(Data key, Object value, long ttl) {
         checkIfLoaded();
+        recordKeyAccess(key);
 
         final long now = getNow();
         earlyWriteCleanup(now);
@@ -951,7 +979,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             oldValue = mapDataStore.load(key);
             if (oldValue != null) {
                 record = createRecord(key, oldValue, now);
-                records.put(key, record);
+                records.put(record.getKey(), record);
                 updateSizeEstimator(calculateRecordHeapCost(record));
             }
         } else {
@@ -963,7 +991,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.add(key, value, now);
             onStore(record);
             record = createRecord(key, value, ttl, now);
-            records.put(key, record);
+            records.put(record.getKey(), record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             updateTtl(record, ttl);
         }
@@ -3,6 +3,7 @@ package com.hazelcast.map;
 import com.hazelcast.cluster.ClusterService;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.map.record.RecordStatistics;
+import com.hazelcast.map.record.ValueCompressor;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.nio.Address;
@@ -12,8 +13,15 @@ import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.ConcurrencyUtil;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.util.ExceptionUtil;
+import com.hazelcast.util.HotKeySketch;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -26,22 +34,36 @@ public class LocalMapStatsProvider {
 
     private static final int WAIT_PARTITION_TABLE_UPDATE_MILLIS = 100;
     private static final int RETRY_COUNT = 3;
+    private static final int HOT_KEY_COUNT = 10;
+    private static final int HOT_PARTITION_COUNT = 10;
 
     private final ConcurrentMap<String, LocalMapStatsImpl> statsMap
             = new ConcurrentHashMap<String, LocalMapStatsImpl>(1000);
     private final ConstructorFunction<String, LocalMapStatsImpl> constructorFunction
             = new ConstructorFunction<String, LocalMapStatsImpl>() {
         public LocalMapStatsImpl createNew(String key) {
-            return new LocalMapStatsImpl();
+            return new LocalMapStatsImpl(latencyWindowMillis);
         }
     };
 
     private final MapServiceContext mapServiceContext;
     private final NodeEngine nodeEngine;
+    private final long latencyWindowMillis;
+    private final HotKeySketch.DecayClock hotKeyDecayClock;
 
     public LocalMapStatsProvider(MapServiceContext mapServiceContext, NodeEngine nodeEngine) {
         this.mapServiceContext = mapServiceContext;
         this.nodeEngine = nodeEngine;
+        this.latencyWindowMillis = TimeUnit.SECONDS.toMillis(nodeEngine.getGroupProperties().LATENCY_STATS_WINDOW_SECONDS.getLong());
+        this.hotKeyDecayClock = new HotKeySketch.DecayClock(
+                TimeUnit.SECONDS.toMillis(nodeEngine.getGroupProperties().MAP_HOT_KEY_DECAY_SECONDS.getLong()));
+    }
+
+    /**
+     * @return the clock shared by the hot key sketches of all record stores, so their counts decay together
+     */
+    public HotKeySketch.DecayClock getHotKeyDecayClock() {
+        return hotKeyDecayClock;
     }
 
     public LocalMapStatsImpl getLocalMapStatsImpl(String name) {
@@ -63,7 +85,10 @@ public class LocalMapStatsProvider {
         localMapStats.init();
         localMapStats.setBackupCount(backupCount);
         addNearCacheStats(localMapStats, mapContainer);
+        addValueCompressionStats(localMapStats, mapContainer);
 
+        final List<HotKeySketch.HotKey> hotKeys = new ArrayList<HotKeySketch.HotKey>();
+        final List<PartitionAccess> partitionAccesses = new ArrayList<PartitionAccess>();
         for (int partitionId = 0; partitionId < partitionService.getPartitionCount(); partitionId++) {
             InternalPartition partition = partitionService.getPartition(partitionId);
             Address owner = partition.getOwnerOrNull();
@@ -73,14 +98,78 @@ public class LocalMapStatsProvider {
             }
             if (owner.equals(thisAddress)) {
                 addOwnerPartitionStats(localMapStats, mapName, partitionId);
+                collectHotKeys(mapName, partitionId, hotKeys, partitionAccesses);
             } else {
                 addReplicaPartitionStats(localMapStats, mapName, partitionId,
                         partition, clusterService, backupCount, thisAddress);
             }
         }
+        addHotKeyStats(localMapStats, hotKeys, partitionAccesses);
         return localMapStats;
     }
 
+    /**
+     * Collects the hot key candidates and the sampled access count of an owned partition,
+     * if hot key tracking is enabled.
+     */
+    private void collectHotKeys(String mapName, int partitionId, List<HotKeySketch.HotKey> hotKeys,
+                                List<PartitionAccess> partitionAccesses) {
+        final RecordStore recordStore = getRecordStoreOrNull(mapName, partitionId);
+        if (recordStore == null) {
+            return;
+        }
+        final HotKeySketch hotKeySketch = recordStore.getHotKeySketch();
+        if (hotKeySketch == null) {
+            return;
+        }
+        final long accessCount = hotKeySketch.getAccessCount();
+        if (accessCount > 0) {
+            partitionAccesses.add(new PartitionAccess(partitionId, accessCount));
+            hotKeys.addAll(hotKeySketch.getHotKeys());
+        }
+    }
+
+    /**
+     * Keeps the most accessed keys and partitions of this member. A key lives in a single
+     * partition, so candidates of different partitions never need to be merged.
+     */
+    private void addHotKeyStats(LocalMapStatsImpl localMapStats, List<HotKeySketch.HotKey> hotKeys,
+                                List<PartitionAccess> partitionAccesses) {
+        if (partitionAccesses.isEmpty()) {
+            return;
+        }
+        Collections.sort(hotKeys, new Comparator<HotKeySketch.HotKey>() {
+            @Override
+            public int compare(HotKeySketch.HotKey o1, HotKeySketch.HotKey o2) {
+                return compareDescending(o1.getAccessCount(), o2.getAccessCount());
+            }
+        });
+        final Map<String, Long> topKeys = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < hotKeys.size() && topKeys.size() < HOT_KEY_COUNT; i++) {
+            final HotKeySketch.HotKey hotKey = hotKeys.get(i);
+            final Object key = nodeEngine.toObject(hotKey.getKey());
+            topKeys.put(String.valueOf(key), hotKey.getAccessCount());
+        }
+        localMapStats.setHotKeys(topKeys);
+
+        Collections.sort(partitionAccesses, new Comparator<PartitionAccess>() {
+            @Override
+            public int compare(PartitionAccess o1, PartitionAccess o2) {
+                return compareDescending(o1.accessCount, o2.accessCount);
+            }
+        });
+        final Map<Integer, Long> topPartitions = new LinkedHashMap<Integer, Long>();
+        for (int i = 0; i < partitionAccesses.size() && i < HOT_PARTITION_COUNT; i++) {
+            final PartitionAccess partitionAccess = partitionAccesses.get(i);
+            topPartitions.put(partitionAccess.partitionId, partitionAccess.accessCount);
+        }
+        localMapStats.setHotPartitions(topPartitions);
+    }
+
+    private static int compareDescending(long count1, long count2) {
+        return count1 > count2 ? -1 : (count1 == count2 ? 0 : 1);
+    }
+
 
     /**
      * Calculates and adds owner partition stats.
@@ -245,4 +334,26 @@ public class LocalMapStatsProvider {
         localMapStats.incrementHeapCost(nearCacheHeapCost);
     }
 
+    private static void addValueCompressionStats(LocalMapStatsImpl localMapStats, MapContainer mapContainer) {
+        final ValueCompressor valueCompressor = mapContainer.getValueCompressor();
+        if (valueCompressor == null) {
+            return;
+        }
+        localMapStats.setValueCompressionStats(valueCompressor.getTotalCompressionCount(),
+                valueCompressor.getTotalUncompressedBytes(), valueCompressor.getTotalCompressedBytes(),
+                valueCompressor.getCompressionNanos(), valueCompressor.getDecompressionNanos());
+    }
+
+    /**
+     * Sampled access count of an owned partition.
+     */
+    private static final class PartitionAccess {
+        private final int partitionId;
+        private final long accessCount;
+
+        private PartitionAccess(int partitionId, long accessCount) {
+            this.partitionId = partitionId;
+            this.accessCount = accessCount;
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.hazelcast.map;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.config.PartitioningStrategyConfig;
@@ -30,6 +31,7 @@ import com.hazelcast.map.record.ObjectRecordFactory;
 import com.hazelcast.map.record.OffHeapRecordFactory;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.map.record.RecordFactory;
+import com.hazelcast.map.record.ValueCompressor;
 import com.hazelcast.map.record.RecordStatistics;
 import com.hazelcast.nio.ClassLoaderUtil;
 import com.hazelcast.nio.serialization.Data;
@@ -68,6 +70,7 @@ public class MapContainer extends MapContainerSupport {
     private final boolean nearCacheEnabled;
     private final SizeEstimator nearCacheSizeEstimator;
     private final PartitioningStrategy partitioningStrategy;
+    private final ValueCompressor valueCompressor;
     private WanReplicationPublisher wanReplicationPublisher;
     private MapMergePolicy wanMergePolicy;
     private final Map<Data, Object> initialKeys = new ConcurrentHashMap<Data, Object>();
@@ -79,6 +82,7 @@ public class MapContainer extends MapContainerSupport {
         this.name = name;
         this.mapServiceContext = mapServiceContext;
         this.partitioningStrategy = createPartitioningStrategy();
+        this.valueCompressor = createValueCompressor();
         final NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         recordFactory = createRecordFactory(nodeEngine);
         initMapStoreOperations(nodeEngine);
@@ -120,7 +124,8 @@ public class MapContainer extends MapContainerSupport {
         RecordFactory recordFactory;
         switch (mapConfig.getInMemoryFormat()) {
             case BINARY:
-                recordFactory = new DataRecordFactory(mapConfig, nodeEngine.getSerializationService(), partitioningStrategy);
+                recordFactory = new DataRecordFactory(mapConfig, nodeEngine.getSerializationService(), partitioningStrategy,
+                        valueCompressor);
                 break;
             case OBJECT:
                 recordFactory = new ObjectRecordFactory(mapConfig, nodeEngine.getSerializationService());
@@ -135,6 +140,13 @@ public class MapContainer extends MapContainerSupport {
         return recordFactory;
     }
 
+    private ValueCompressor createValueCompressor() {
+        if (mapConfig.getInMemoryFormat() != InMemoryFormat.BINARY || !mapConfig.isValueCompressionEnabled()) {
+            return null;
+        }
+        return new ValueCompressor(mapConfig.getValueCompressionThreshold());
+    }
+
     private MapStoreWrapper createMapStoreWrapper(MapStoreConfig mapStoreConfig, NodeEngine nodeEngine) {
         Object store;
         MapStoreWrapper storeWrapper;
@@ -316,6 +328,13 @@ public class MapContainer extends MapContainerSupport {
         return recordFactory;
     }
 
+    /**
+     * @return the compressor of the map values or null if they are stored uncompressed
+     */
+    public ValueCompressor getValueCompressor() {
+        return valueCompressor;
+    }
+
     public MapServiceContext getMapServiceContext() {
         return mapServiceContext;
     }
@@ -23,6 +23,19 @@ public interface MapContextQuerySupport {
      */
     Collection<QueryableEntry> queryOnPartition(String mapName, Predicate predicate, int partitionId);
 
+    /**
+     * Query a specific partition from a thread other than its partition thread. The scan yields the
+     * processor every <code>yieldInterval</code> records, so it does not starve the writes of the partition,
+     * and stops when the current thread is interrupted.
+     *
+     * @param mapName       map name.
+     * @param predicate     any predicate.
+     * @param partitionId   partition id.
+     * @param yieldInterval number of records scanned between two yields.
+     * @return result of query or <code>null</code> if the scan got interrupted
+     */
+    Collection<QueryableEntry> scanPartition(String mapName, Predicate predicate, int partitionId, int yieldInterval);
+
     /**
      * Used for predicates which queries on node local entries, except paging predicate.
      *
@@ -40,6 +40,7 @@ import com.hazelcast.map.client.MapIsLockedRequest;
 import com.hazelcast.map.client.MapKeySetRequest;
 import com.hazelcast.map.client.MapLoadAllKeysRequest;
 import com.hazelcast.map.client.MapLoadGivenKeysRequest;
+import com.hazelcast.map.client.MapLockAndGetRequest;
 import com.hazelcast.map.client.MapLockRequest;
 import com.hazelcast.map.client.MapPutAllRequest;
 import com.hazelcast.map.client.MapPutIfAbsentRequest;
@@ -53,6 +54,7 @@ import com.hazelcast.map.client.MapRemoveRequest;
 import com.hazelcast.map.client.MapReplaceIfSameRequest;
 import com.hazelcast.map.client.MapReplaceRequest;
 import com.hazelcast.map.client.MapSQLQueryRequest;
+import com.hazelcast.map.client.MapSetAndUnlockRequest;
 import com.hazelcast.map.client.MapSetRequest;
 import com.hazelcast.map.client.MapSizeRequest;
 import com.hazelcast.map.client.MapTryPutRequest;
@@ -121,6 +123,8 @@ public class MapPortableHook implements PortableHook {
     public static final int LOAD_ALL_GIVEN_KEYS = 47;
     public static final int LOAD_ALL_KEYS = 48;
     public static final int IS_EMPTY = 49;
+    public static final int LOCK_AND_GET = 50;
+    public static final int SET_AND_UNLOCK = 51;
 
     public int getFactoryId() {
         return F_ID;
@@ -128,7 +132,7 @@ public class MapPortableHook implements PortableHook {
 
     public PortableFactory createFactory() {
         return new PortableFactory() {
-            final ConstructorFunction<Integer, Portable>[] constructors = new ConstructorFunction[IS_EMPTY + 1];
+            final ConstructorFunction<Integer, Portable>[] constructors = new ConstructorFunction[SET_AND_UNLOCK + 1];
 
             {
                 constructors[GET] = new ConstructorFunction<Integer, Portable>() {
@@ -399,6 +403,18 @@ public class MapPortableHook implements PortableHook {
                         return new MapIsEmptyRequest();
                     }
                 };
+
+                constructors[LOCK_AND_GET] = new ConstructorFunction<Integer, Portable>() {
+                    public Portable createNew(Integer arg) {
+                        return new MapLockAndGetRequest();
+                    }
+                };
+
+                constructors[SET_AND_UNLOCK] = new ConstructorFunction<Integer, Portable>() {
+                    public Portable createNew(Integer arg) {
+                        return new MapSetAndUnlockRequest();
+                    }
+                };
             }
 
             public Portable create(int classId) {
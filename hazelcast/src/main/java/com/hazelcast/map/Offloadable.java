@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+/**
+ * Allows an {@link EntryProcessor} to run outside of the partition thread.
+ * <p/>
+ * Long running processors block every other operation of their partition while they execute. An offloadable
+ * processor only reads the entry on the partition thread and is then executed on the executor named by
+ * {@link #getExecutorName()}. If the processor modified the entry, the new value is applied on the partition
+ * thread again, but only if the entry has not been changed in the meantime. On a conflicting update the
+ * processor is executed once more, this time on the partition thread.
+ * <p/>
+ * Because of the possible re-execution the processor should not have side effects other than modifying the
+ * entry. Processors that never modify the entry should also implement {@link ReadOnly}.
+ */
+public interface Offloadable {
+
+    /**
+     * Name of the executor used when {@link #getExecutorName()} returns null. It can be configured like any
+     * other executor with an {@link com.hazelcast.config.ExecutorConfig} of the same name.
+     */
+    String OFFLOADABLE_EXECUTOR = "hz:offloadable";
+
+    /**
+     * @return name of the executor the processor is offloaded to, or null for {@link #OFFLOADABLE_EXECUTOR}
+     */
+    String getExecutorName();
+}
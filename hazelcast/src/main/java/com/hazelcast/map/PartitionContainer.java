@@ -17,6 +17,7 @@
 package com.hazelcast.map;
 
 import com.hazelcast.concurrent.lock.LockService;
+import com.hazelcast.map.record.DataInterner;
 import com.hazelcast.spi.DefaultObjectNamespace;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.ConcurrencyUtil;
@@ -33,6 +34,11 @@ public class PartitionContainer {
 
     private final ConcurrentMap<String, RecordStore> maps = new ConcurrentHashMap<String, RecordStore>(1000);
 
+    /**
+     * Keys of all the record stores of this partition; they are created on the partition thread only.
+     */
+    private final DataInterner keyInterner = new DataInterner(1);
+
     private final ConstructorFunction<String, RecordStore> recordStoreConstructor
             = new ConstructorFunction<String, RecordStore>() {
         public RecordStore createNew(String name) {
@@ -65,6 +71,10 @@ public class PartitionContainer {
         return mapService;
     }
 
+    DataInterner getKeyInterner() {
+        return keyInterner;
+    }
+
     public RecordStore getRecordStore(String name) {
         return ConcurrencyUtil.getOrPutSynchronized(maps, name, this, recordStoreConstructor);
     }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+/**
+ * Marker for an {@link EntryProcessor} that never modifies the entry it processes.
+ * <p/>
+ * A read-only processor is executed without writing the entry back to the record store, without
+ * sending backups and without firing entry events. Calling {@link java.util.Map.Entry#setValue(Object)}
+ * on the processed entry throws an {@link UnsupportedOperationException}.
+ * <p/>
+ * When combined with {@link Offloadable} the processor runs on the offloading executor and its result is
+ * sent back without returning to the partition thread at all.
+ */
+public interface ReadOnly {
+}
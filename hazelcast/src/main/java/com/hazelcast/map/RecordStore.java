@@ -21,6 +21,7 @@ import com.hazelcast.map.mapstore.MapDataStore;
 import com.hazelcast.map.merge.MapMergePolicy;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.util.HotKeySketch;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -61,6 +62,13 @@ public interface RecordStore {
 
     Object get(Data dataKey);
 
+    /**
+     * Similar to {@link com.hazelcast.map.RecordStore#get(com.hazelcast.nio.serialization.Data)}
+     * except readBackupData may be called outside the partition thread, e.g. to read a local backup,
+     * so the read is not counted by the hot key tracking.
+     */
+    Object readBackupData(Data dataKey);
+
     MapEntrySet getAll(Set<Data> keySet);
 
     boolean containsKey(Data dataKey);
@@ -108,6 +116,15 @@ public interface RecordStore {
      */
     void putRecord(Data key, Record record);
 
+    /**
+     * Returns the key instance to store a record under. When key deduplication is enabled this is an equal
+     * key already held by the maps of this partition, otherwise the given key.
+     *
+     * @param key the data key of a new record.
+     * @see com.hazelcast.config.MapConfig#setKeyDeduplicationEnabled(boolean)
+     */
+    Data internKey(Data key);
+
     void deleteRecord(Data key);
 
     /**
@@ -138,6 +155,8 @@ public interface RecordStore {
 
     int size();
 
+    boolean lock(Data key, String caller, long threadId, long ttl);
+
     boolean txnLock(Data key, String caller, long threadId, long ttl);
 
     boolean extendLock(Data key, String caller, long threadId, long ttl);
@@ -222,4 +241,10 @@ public interface RecordStore {
 
     int getPartitionId();
 
+    /**
+     * @return the access frequency estimates of the keys of this record store,
+     * or null if hot key tracking is disabled
+     */
+    HotKeySketch getHotKeySketch();
+
 }
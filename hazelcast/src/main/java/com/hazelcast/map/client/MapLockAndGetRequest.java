@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.client;
+
+import com.hazelcast.client.KeyBasedClientRequest;
+import com.hazelcast.client.SecureRequest;
+import com.hazelcast.map.MapPortableHook;
+import com.hazelcast.map.MapService;
+import com.hazelcast.map.operation.LockAndGetOperation;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.Portable;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.Operation;
+
+import java.io.IOException;
+import java.security.Permission;
+
+public class MapLockAndGetRequest extends KeyBasedClientRequest implements Portable, SecureRequest {
+
+    private String name;
+    private Data key;
+    private long threadId;
+
+    public MapLockAndGetRequest() {
+    }
+
+    public MapLockAndGetRequest(String name, Data key, long threadId) {
+        this.name = name;
+        this.key = key;
+        this.threadId = threadId;
+    }
+
+    protected Object getKey() {
+        return key;
+    }
+
+    @Override
+    protected Operation prepareOperation() {
+        LockAndGetOperation op = new LockAndGetOperation(name, key);
+        op.setThreadId(threadId);
+        return op;
+    }
+
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapPortableHook.F_ID;
+    }
+
+    public int getClassId() {
+        return MapPortableHook.LOCK_AND_GET;
+    }
+
+    public void write(PortableWriter writer) throws IOException {
+        writer.writeUTF("n", name);
+        writer.writeLong("t", threadId);
+        final ObjectDataOutput out = writer.getRawDataOutput();
+        key.writeData(out);
+    }
+
+    public void read(PortableReader reader) throws IOException {
+        name = reader.readUTF("n");
+        threadId = reader.readLong("t");
+        final ObjectDataInput in = reader.getRawDataInput();
+        key = new Data();
+        key.readData(in);
+    }
+
+    public Permission getRequiredPermission() {
+        return new MapPermission(name, ActionConstants.ACTION_LOCK, ActionConstants.ACTION_READ);
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return name;
+    }
+
+    @Override
+    public String getMethodName() {
+        return "lockAndGet";
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{key};
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.client;
+
+import com.hazelcast.map.MapPortableHook;
+import com.hazelcast.map.operation.SetAndUnlockOperation;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.Operation;
+
+import java.security.Permission;
+
+public class MapSetAndUnlockRequest extends MapPutRequest {
+
+    public MapSetAndUnlockRequest() {
+    }
+
+    public MapSetAndUnlockRequest(String name, Data key, Data value, long threadId) {
+        super(name, key, value, threadId);
+    }
+
+    public int getClassId() {
+        return MapPortableHook.SET_AND_UNLOCK;
+    }
+
+    protected Operation prepareOperation() {
+        SetAndUnlockOperation op = new SetAndUnlockOperation(name, key, value);
+        op.setThreadId(threadId);
+        return op;
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new MapPermission(name, ActionConstants.ACTION_PUT, ActionConstants.ACTION_LOCK);
+    }
+
+    @Override
+    public String getMethodName() {
+        return "setAndUnlock";
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{key, value};
+    }
+}
@@ -22,8 +22,6 @@ import com.hazelcast.map.EntryViews;
 import com.hazelcast.map.MapEventPublisher;
 import com.hazelcast.map.MapServiceContext;
 import com.hazelcast.map.record.Record;
-import com.hazelcast.map.record.RecordInfo;
-import com.hazelcast.map.record.Records;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.BackupAwareOperation;
 import com.hazelcast.spi.Operation;
@@ -75,12 +73,8 @@ public abstract class BasePutOperation extends LockAwareOperation implements Bac
     }
 
     public Operation getBackupOperation() {
-        RecordInfo replicationInfo = null;
-        Record record = recordStore.getRecord(dataKey);
-        if (record != null) {
-            replicationInfo = Records.buildRecordInfo(record);
-        }
-        return new PutBackupOperation(name, dataKey, dataValue, replicationInfo);
+        final Record record = recordStore.getRecord(dataKey);
+        return new PutBackupOperation(name, dataKey, dataValue, record, false);
     }
 
     public final int getAsyncBackupCount() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.operation;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.MapEntrySimple;
+import com.hazelcast.map.MapServiceContext;
+import com.hazelcast.map.record.Record;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+
+import java.io.IOException;
+
+/**
+ * Applies the result of an {@link com.hazelcast.map.Offloadable} entry processor on the partition thread.
+ * The new value is only written if neither the version nor the value of the entry changed since the
+ * snapshot the processor worked on was taken. Responds with {@code true} if the value was written.
+ */
+public class EntryOffloadableCommitOperation extends EntryOperation {
+
+    private Data expectedValue;
+    private long expectedVersion;
+    private Data newValue;
+    private boolean committed;
+
+    public EntryOffloadableCommitOperation(String name, Data dataKey, EntryProcessor entryProcessor,
+                                           Data expectedValue, long expectedVersion, Data newValue) {
+        super(name, dataKey, entryProcessor);
+        this.expectedValue = expectedValue;
+        this.expectedVersion = expectedVersion;
+        this.newValue = newValue;
+    }
+
+    public EntryOffloadableCommitOperation() {
+    }
+
+    @Override
+    public void run() {
+        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final long start = System.nanoTime();
+        final Record record = recordStore.getRecord(dataKey);
+        final long version = record == null ? NO_RECORD_VERSION : record.getVersion();
+        final Data currentValue = record == null ? null : mapServiceContext.toData(record.getValue());
+        if (version != expectedVersion || !equal(currentValue, expectedValue)) {
+            return;
+        }
+        oldValue = currentValue;
+        final MapEntrySimple entry = new MapEntrySimple(mapServiceContext.toObject(dataKey),
+                mapServiceContext.toObject(currentValue));
+        entry.setValue(mapServiceContext.toObject(newValue));
+        applyEntry(entry, start);
+        committed = true;
+    }
+
+    private static boolean equal(Data current, Data expected) {
+        return current == null ? expected == null : current.equals(expected);
+    }
+
+    @Override
+    public Object getResponse() {
+        return committed;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return committed && super.shouldBackup();
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(expectedValue);
+        out.writeLong(expectedVersion);
+        out.writeObject(newValue);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        expectedValue = in.readObject();
+        expectedVersion = in.readLong();
+        newValue = in.readObject();
+    }
+
+    @Override
+    public String toString() {
+        return "EntryOffloadableCommitOperation{}";
+    }
+}
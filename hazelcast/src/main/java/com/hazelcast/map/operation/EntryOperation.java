@@ -19,12 +19,16 @@ package com.hazelcast.map.operation;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryView;
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.map.EntryBackupProcessor;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.MapEntrySimple;
 import com.hazelcast.map.MapEventPublisher;
+import com.hazelcast.map.MapService;
 import com.hazelcast.map.MapServiceContext;
+import com.hazelcast.map.Offloadable;
+import com.hazelcast.map.ReadOnly;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.nio.ObjectDataInput;
@@ -32,7 +36,11 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.BackupAwareOperation;
 import com.hazelcast.spi.EventService;
+import com.hazelcast.spi.InternalCompletableFuture;
 import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.spi.ResponseHandler;
+import com.hazelcast.spi.impl.InternalOperationService;
 import com.hazelcast.util.Clock;
 
 import java.io.IOException;
@@ -46,12 +54,14 @@ import static com.hazelcast.map.EntryViews.createSimpleEntryView;
 public class EntryOperation extends LockAwareOperation implements BackupAwareOperation {
 
     private static final EntryEventType NO_NEED_TO_FIRE_EVENT = null;
+    protected static final long NO_RECORD_VERSION = -1L;
 
     protected Object oldValue;
     private EntryProcessor entryProcessor;
     private EntryEventType eventType;
     private Object response;
-
+    private boolean offloadingDisabled;
+    private transient boolean offloaded;
 
     public EntryOperation(String name, Data dataKey, EntryProcessor entryProcessor) {
         super(name, dataKey);
@@ -67,14 +77,29 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
     }
 
     public void run() {
+        if (entryProcessor instanceof Offloadable && !offloadingDisabled) {
+            offload();
+            return;
+        }
         final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         oldValue = recordStore.getMapEntry(dataKey).getValue();
-        final LocalMapStatsImpl mapStats
-                = mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name);
         final Object valueBeforeProcess = mapServiceContext.toObject(oldValue);
-        final MapEntrySimple entry = new MapEntrySimple(mapServiceContext.toObject(dataKey), valueBeforeProcess);
+        final MapEntrySimple entry = createEntry(mapServiceContext.toObject(dataKey), valueBeforeProcess);
         response = mapServiceContext.toData(entryProcessor.process(entry));
+        mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name)
+                .recordEntryProcessorLatency(getLatencyFrom(start));
+        applyEntry(entry, start);
+    }
+
+    /**
+     * Writes the processed entry back to the record store and decides which event should be fired.
+     * {@link #oldValue} has to be set to the value the entry had before processing.
+     */
+    protected void applyEntry(MapEntrySimple entry, long start) {
+        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final LocalMapStatsImpl mapStats
+                = mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name);
         final Object valueAfterProcess = entry.getValue();
         // no matching data by key.
         if (oldValue == null && valueAfterProcess == null) {
@@ -102,8 +127,37 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
         }
     }
 
+    private MapEntrySimple createEntry(Object key, Object value) {
+        if (entryProcessor instanceof ReadOnly) {
+            return new ReadOnlyMapEntry(key, value);
+        }
+        return new MapEntrySimple(key, value);
+    }
+
+    /**
+     * Takes a snapshot of the entry on the partition thread and hands the processor over to the offloading
+     * executor. The response is sent from there, so this operation itself does not return one; its call record
+     * stays registered until that response is sent.
+     */
+    private void offload() {
+        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final Data snapshot = mapServiceContext.toData(recordStore.getMapEntry(dataKey).getValue());
+        final Record record = recordStore.getRecord(dataKey);
+        final long version = record == null ? NO_RECORD_VERSION : record.getVersion();
+        String executorName = ((Offloadable) entryProcessor).getExecutorName();
+        if (executorName == null) {
+            executorName = Offloadable.OFFLOADABLE_EXECUTOR;
+        }
+        getNodeEngine().getExecutionService().execute(executorName,
+                new OffloadedProcessorTask(getResponseHandler(), snapshot, version));
+        offloaded = true;
+    }
+
     public void afterRun() throws Exception {
         super.afterRun();
+        if (offloaded) {
+            return;
+        }
         if (eventType == NO_NEED_TO_FIRE_EVENT) {
             return;
         }
@@ -144,12 +198,14 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
         entryProcessor = in.readObject();
+        offloadingDisabled = in.readBoolean();
     }
 
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
         out.writeObject(entryProcessor);
+        out.writeBoolean(offloadingDisabled);
     }
 
     @Override
@@ -157,6 +213,15 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
         return response;
     }
 
+    @Override
+    public boolean returnsResponse() {
+        return !offloaded;
+    }
+
+    protected EntryProcessor getEntryProcessor() {
+        return entryProcessor;
+    }
+
     @Override
     public String toString() {
         return "EntryOperation{}";
@@ -168,7 +233,7 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
     }
 
     public boolean shouldBackup() {
-        return entryProcessor.getBackupProcessor() != null;
+        return !offloaded && !(entryProcessor instanceof ReadOnly) && entryProcessor.getBackupProcessor() != null;
     }
 
     public int getAsyncBackupCount() {
@@ -180,6 +245,110 @@ public class EntryOperation extends LockAwareOperation implements BackupAwareOpe
     }
 
     private long getLatencyFrom(long begin) {
-        return Clock.currentTimeMillis() - begin;
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * Entry passed to {@link ReadOnly} processors.
+     */
+    static final class ReadOnlyMapEntry extends MapEntrySimple {
+
+        private static final long serialVersionUID = 1L;
+
+        ReadOnlyMapEntry(Object key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException("Entry of a read-only entry processor can not be modified");
+        }
+    }
+
+    /**
+     * Runs an {@link Offloadable} processor on its executor. A modified entry is committed by an
+     * {@link EntryOffloadableCommitOperation}; if the entry changed since the snapshot was taken, the
+     * processor is executed again on the partition thread.
+     */
+    private final class OffloadedProcessorTask implements Runnable {
+
+        private final ResponseHandler responseHandler;
+        private final Data snapshot;
+        private final long version;
+
+        private OffloadedProcessorTask(ResponseHandler responseHandler, Data snapshot, long version) {
+            this.responseHandler = responseHandler;
+            this.snapshot = snapshot;
+            this.version = version;
+        }
+
+        @Override
+        public void run() {
+            try {
+                final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+                final Object key = mapServiceContext.toObject(dataKey);
+                final MapEntrySimple entry = createEntry(key, mapServiceContext.toObject(snapshot));
+                final Data result = mapServiceContext.toData(entryProcessor.process(entry));
+                if (!entry.isModified()) {
+                    respond(result);
+                    return;
+                }
+                final Data newValue = mapServiceContext.toData(entry.getValue());
+                final EntryOffloadableCommitOperation commitOperation
+                        = new EntryOffloadableCommitOperation(name, dataKey, entryProcessor, snapshot, version, newValue);
+                invoke(commitOperation, new ExecutionCallback<Object>() {
+                    @Override
+                    public void onResponse(Object committed) {
+                        if (Boolean.TRUE.equals(committed)) {
+                            respond(result);
+                        } else {
+                            processOnPartitionThread();
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        respond(t);
+                    }
+                });
+            } catch (Throwable t) {
+                respond(t);
+            }
+        }
+
+        private void respond(Object response) {
+            try {
+                responseHandler.sendResponse(response);
+            } finally {
+                InternalOperationService operationService = (InternalOperationService) getNodeEngine().getOperationService();
+                operationService.onCompletionAsyncOperation(EntryOperation.this);
+            }
+        }
+
+        private void processOnPartitionThread() {
+            final EntryOperation operation = new EntryOperation(name, dataKey, entryProcessor);
+            operation.offloadingDisabled = true;
+            invoke(operation, new ExecutionCallback<Object>() {
+                @Override
+                public void onResponse(Object response) {
+                    respond(response);
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    respond(t);
+                }
+            });
+        }
+
+        private void invoke(KeyBasedMapOperation operation, ExecutionCallback<Object> callback) {
+            // act on behalf of the original caller, so a lock held by it does not block the commit.
+            operation.setThreadId(getThreadId());
+            operation.setCallerUuid(getCallerUuid());
+            final OperationService operationService = getNodeEngine().getOperationService();
+            final InternalCompletableFuture<Object> future
+                    = operationService.invokeOnPartition(MapService.SERVICE_NAME, operation, getPartitionId());
+            future.andThen(callback);
+        }
     }
 }
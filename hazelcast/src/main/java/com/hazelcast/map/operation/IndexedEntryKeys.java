@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.operation;
+
+import com.hazelcast.map.MapServiceContext;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.partition.InternalPartitionService;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.IndexService;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keys of the entries matching an index aware predicate, grouped by partition id.
+ * <p/>
+ * The map's {@link IndexService} is member wide, so the index is queried only once per member and each partition
+ * operation created by the same {@link PartitionWideEntryWithPredicateOperationFactory} takes its slice of the
+ * result. Index entries are updated on the partition threads before a put returns, so an entry written before the
+ * call started is part of the result. The keys are only candidates; operations still evaluate the predicate
+ * against the current value.
+ */
+final class IndexedEntryKeys {
+
+    private final String mapName;
+    private final Predicate predicate;
+
+    private boolean resolved;
+    private Set<Integer> indexedPartitions;
+    private Map<Integer, Set<Data>> keysByPartition;
+
+    IndexedEntryKeys(String mapName, Predicate predicate) {
+        this.mapName = mapName;
+        this.predicate = predicate;
+    }
+
+    /**
+     * @return candidate keys of the partition or null if the index can not be used for it,
+     * in which case all records of the partition have to be scanned.
+     */
+    synchronized Set<Data> getKeys(MapServiceContext mapServiceContext, int partitionId) {
+        if (!resolved) {
+            resolve(mapServiceContext);
+            resolved = true;
+        }
+        if (indexedPartitions == null || !indexedPartitions.contains(partitionId)) {
+            return null;
+        }
+        final Set<Data> keys = keysByPartition.get(partitionId);
+        return keys == null ? Collections.<Data>emptySet() : keys;
+    }
+
+    private void resolve(MapServiceContext mapServiceContext) {
+        final InternalPartitionService partitionService = mapServiceContext.getNodeEngine().getPartitionService();
+        if (partitionService.hasOnGoingMigration()) {
+            return;
+        }
+        final IndexService indexService = mapServiceContext.getMapContainer(mapName).getIndexService();
+        final Set<Integer> ownedPartitions = new HashSet<Integer>(mapServiceContext.getOwnedPartitions());
+        final Set<QueryableEntry> entries = indexService.query(predicate);
+        if (entries == null) {
+            return;
+        }
+        keysByPartition = new HashMap<Integer, Set<Data>>();
+        for (QueryableEntry entry : entries) {
+            final Data key = entry.getKeyData();
+            final int partitionId = partitionService.getPartitionId(key);
+            Set<Data> keys = keysByPartition.get(partitionId);
+            if (keys == null) {
+                keys = new HashSet<Data>();
+                keysByPartition.put(partitionId, keys);
+            }
+            keys.add(key);
+        }
+        // partitions migrated to this member afterwards are not covered by the index result.
+        indexedPartitions = ownedPartitions;
+    }
+}
@@ -24,11 +24,14 @@ import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.KeyBasedOperation;
+import com.hazelcast.spi.NamedOperation;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionAwareOperation;
 import java.io.IOException;
 
-public abstract class KeyBasedMapOperation extends Operation implements PartitionAwareOperation {
+public abstract class KeyBasedMapOperation extends Operation
+        implements PartitionAwareOperation, NamedOperation, KeyBasedOperation {
 
     protected String name;
     protected Data dataKey;
@@ -78,6 +81,11 @@ public abstract class KeyBasedMapOperation extends Operation implements Partitio
         return dataKey;
     }
 
+    @Override
+    public final int getKeyHash() {
+        return dataKey != null ? dataKey.hashCode() : 0;
+    }
+
     public final long getThreadId() {
         return threadId;
     }
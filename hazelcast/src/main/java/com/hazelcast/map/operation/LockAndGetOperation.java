@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.operation;
+
+import com.hazelcast.concurrent.lock.operations.LockBackupOperation;
+import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.map.MapService;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.DefaultObjectNamespace;
+import com.hazelcast.spi.Operation;
+
+/**
+ * Acquires the lock of a key and returns its value in a single call.
+ */
+public class LockAndGetOperation extends LockAwareOperation implements BackupAwareOperation {
+
+    private transient Data result;
+
+    public LockAndGetOperation(String name, Data dataKey) {
+        super(name, dataKey);
+    }
+
+    public LockAndGetOperation() {
+    }
+
+    public void run() {
+        if (!recordStore.lock(dataKey, getCallerUuid(), getThreadId(), ttl)) {
+            throw new IllegalStateException("Lock could not be acquired! -> " + recordStore.getLockOwnerInfo(dataKey));
+        }
+        result = mapService.getMapServiceContext().toData(recordStore.get(dataKey));
+    }
+
+    public void afterRun() {
+        mapService.getMapServiceContext().interceptAfterGet(name, result);
+    }
+
+    @Override
+    public Object getResponse() {
+        return result;
+    }
+
+    public boolean shouldBackup() {
+        return true;
+    }
+
+    public Operation getBackupOperation() {
+        DefaultObjectNamespace namespace = new DefaultObjectNamespace(MapService.SERVICE_NAME, name);
+        return new LockBackupOperation(namespace, dataKey, getThreadId(), getCallerUuid());
+    }
+
+    public final int getAsyncBackupCount() {
+        return mapContainer.getAsyncBackupCount();
+    }
+
+    public final int getSyncBackupCount() {
+        return mapContainer.getBackupCount();
+    }
+
+    public void onWaitExpire() {
+        getResponseHandler().sendResponse(new OperationTimeoutException());
+    }
+
+    @Override
+    public String toString() {
+        return "LockAndGetOperation{" + name + "}";
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.operation;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.map.MapContainer;
 import com.hazelcast.map.MapService;
@@ -32,7 +33,9 @@ import com.hazelcast.map.record.Records;
 import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.CompressedData;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
 import com.hazelcast.spi.AbstractOperation;
 import com.hazelcast.util.Clock;
 
@@ -111,9 +114,9 @@ public class MapReplicationOperation extends AbstractOperation {
                 final String mapName = dataEntry.getKey();
                 RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), mapName);
                 for (RecordReplicationInfo recordReplicationInfo : recordReplicationInfos) {
-                    Data key = recordReplicationInfo.getKey();
-                    final Data value = recordReplicationInfo.getValue();
+                    Data key = recordStore.internKey(recordReplicationInfo.getKey());
                     final MapContainer mapContainer = mapServiceContext.getMapContainer(mapName);
+                    final Object value = getValue(recordReplicationInfo, mapContainer);
                     Record newRecord = mapContainer.createRecord(key, value, -1L, Clock.currentTimeMillis());
                     applyRecordInfo(newRecord, recordReplicationInfo);
                     recordStore.putRecord(key, newRecord);
@@ -178,17 +181,15 @@ public class MapReplicationOperation extends AbstractOperation {
             }
         }
         final MapService mapService = getService();
-        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final SerializationService ss = mapService.getMapServiceContext().getNodeEngine().getSerializationService();
         out.writeInt(delayedEntries.size());
         for (Entry<String, List<DelayedEntry>> entry : delayedEntries.entrySet()) {
             out.writeUTF(entry.getKey());
             final List<DelayedEntry> delayedEntryList = entry.getValue();
             out.writeInt(delayedEntryList.size());
             for (DelayedEntry e : delayedEntryList) {
-                final Data key = mapServiceContext.toData(e.getKey());
-                final Data value = mapServiceContext.toData(e.getValue());
-                IOUtil.writeNullableData(out, key);
-                IOUtil.writeNullableData(out, value);
+                IOUtil.writeNullableData(out, e.getKey(), ss);
+                IOUtil.writeNullableData(out, e.getValue(), ss);
                 out.writeLong(e.getStoreTime());
                 out.writeInt(e.getPartitionId());
             }
@@ -201,7 +202,22 @@ public class MapReplicationOperation extends AbstractOperation {
 
     private RecordReplicationInfo createRecordReplicationInfo(Record record, MapService mapService) {
         final RecordInfo info = Records.buildRecordInfo(record);
+        final CompressedData compressedValue = Records.getCompressedValue(record);
+        if (compressedValue != null) {
+            return new RecordReplicationInfo(record.getKey(), compressedValue, info);
+        }
         return new RecordReplicationInfo(record.getKey(), mapService.getMapServiceContext().toData(record.getValue()), info);
     }
 
+    /**
+     * Compressed values are stored as they are if the map is kept in binary format on this member too.
+     */
+    private static Object getValue(RecordReplicationInfo recordReplicationInfo, MapContainer mapContainer) {
+        final CompressedData compressedValue = recordReplicationInfo.getCompressedValue();
+        if (compressedValue != null && mapContainer.getRecordFactory().getStorageFormat() == InMemoryFormat.BINARY) {
+            return compressedValue;
+        }
+        return recordReplicationInfo.getValue();
+    }
+
 }
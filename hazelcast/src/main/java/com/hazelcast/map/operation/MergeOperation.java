@@ -19,8 +19,6 @@ package com.hazelcast.map.operation;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.map.merge.MapMergePolicy;
 import com.hazelcast.map.record.Record;
-import com.hazelcast.map.record.RecordInfo;
-import com.hazelcast.map.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
@@ -73,12 +71,8 @@ public class MergeOperation extends BasePutOperation {
         if (dataValue == null) {
             return new RemoveBackupOperation(name, dataKey);
         } else {
-            RecordInfo replicationInfo = null;
             final Record record = recordStore.getRecord(dataKey);
-            if (record != null) {
-                replicationInfo = Records.buildRecordInfo(record);
-            }
-            return new PutBackupOperation(name, dataKey, dataValue, replicationInfo);
+            return new PutBackupOperation(name, dataKey, dataValue, record, false);
         }
     }
 
@@ -42,7 +42,7 @@ public class MultipleEntryBackupOperation extends AbstractMapOperation implement
                 continue;
             }
             Object objectKey = mapService.getMapServiceContext().toObject(key);
-            final Map.Entry<Data, Object> mapEntry = recordStore.getMapEntry(key);
+            final Map.Entry<Data, Object> mapEntry = recordStore.getMapEntryForBackup(key);
             final Object valueBeforeProcess = mapService.getMapServiceContext().toObject(mapEntry.getValue());
             entry = new MapEntrySimple(objectKey, valueBeforeProcess);
             backupProcessor.processBackup(entry);
@@ -12,6 +12,7 @@ import com.hazelcast.map.MapEventPublisher;
 import com.hazelcast.map.MapService;
 import com.hazelcast.map.MapServiceContext;
 import com.hazelcast.map.NearCacheProvider;
+import com.hazelcast.map.ReadOnly;
 import com.hazelcast.map.RecordStore;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
@@ -71,19 +72,24 @@ public class MultipleEntryOperation extends AbstractMapOperation
             if (partitionService.getPartitionId(key) != getPartitionId()) {
                 continue;
             }
-            long start = Clock.currentTimeMillis();
+            long start = System.nanoTime();
             Object objectKey = mapServiceContext.toObject(key);
             final Map.Entry<Data, Object> mapEntry = recordStore.getMapEntry(key);
             final Object valueBeforeProcess = mapEntry.getValue();
             final Object valueBeforeProcessObject = mapServiceContext.toObject(valueBeforeProcess);
-            entry = new MapEntrySimple(objectKey, valueBeforeProcessObject);
+            entry = createEntry(objectKey, valueBeforeProcessObject);
             final Object result = entryProcessor.process(entry);
+            mapStats.recordEntryProcessorLatency(getLatencyFrom(start));
             final Object valueAfterProcess = entry.getValue();
             Data dataValue = null;
             if (result != null) {
                 dataValue = mapServiceContext.toData(result);
                 response.add(new AbstractMap.SimpleImmutableEntry<Data, Data>(key, dataValue));
             }
+            if (entryProcessor instanceof ReadOnly) {
+                mapStats.incrementGets(getLatencyFrom(start));
+                continue;
+            }
             EntryEventType eventType;
             if (valueAfterProcess == null) {
                 recordStore.remove(key);
@@ -112,6 +118,13 @@ public class MultipleEntryOperation extends AbstractMapOperation
         }
     }
 
+    private MapEntrySimple createEntry(Object key, Object value) {
+        if (entryProcessor instanceof ReadOnly) {
+            return new EntryOperation.ReadOnlyMapEntry(key, value);
+        }
+        return new MapEntrySimple(key, value);
+    }
+
     private void fireEvent(Data key, Object valueBeforeProcess, Object valueAfterProcess,
                            EntryEventType eventType) {
         final String mapName = name;
@@ -175,7 +188,7 @@ public class MultipleEntryOperation extends AbstractMapOperation
 
     @Override
     public boolean shouldBackup() {
-        return entryProcessor.getBackupProcessor() != null;
+        return !(entryProcessor instanceof ReadOnly) && entryProcessor.getBackupProcessor() != null;
     }
 
     @Override
@@ -220,7 +233,7 @@ public class MultipleEntryOperation extends AbstractMapOperation
     }
 
     private long getLatencyFrom(long begin) {
-        return Clock.currentTimeMillis() - begin;
+        return System.nanoTime() - begin;
     }
 
 
@@ -28,6 +28,7 @@ import com.hazelcast.map.MapEventPublisher;
 import com.hazelcast.map.MapService;
 import com.hazelcast.map.MapServiceContext;
 import com.hazelcast.map.NearCacheProvider;
+import com.hazelcast.map.ReadOnly;
 import com.hazelcast.map.RecordStore;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
@@ -72,60 +73,81 @@ public class PartitionWideEntryOperation extends AbstractMapOperation
     public void run() {
         final MapServiceContext mapServiceContext = getMapServiceContext();
         response = new MapEntrySet();
-        MapEntrySimple entry;
         final RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), name);
         final LocalMapStatsImpl mapStats
                 = mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name);
         final Iterator<Record> iterator = recordStore.iterator();
         while (iterator.hasNext()) {
-            final Record record = iterator.next();
-            final long start = Clock.currentTimeMillis();
-            final Data key = record.getKey();
-            final Object valueBeforeProcess = record.getValue();
-            final Object valueBeforeProcessObject = mapServiceContext.toObject(valueBeforeProcess);
-            Object objectKey = mapServiceContext.toObject(key);
-            if (getPredicate() != null) {
-                final SerializationService ss = getNodeEngine().getSerializationService();
-                QueryEntry queryEntry = new QueryEntry(ss, key, objectKey, valueBeforeProcessObject);
-                if (!getPredicate().apply(queryEntry)) {
-                    continue;
-                }
-            }
-            entry = new MapEntrySimple(objectKey, valueBeforeProcessObject);
-            final Object result = entryProcessor.process(entry);
-            final Object valueAfterProcess = entry.getValue();
-            Data dataValue = null;
-            if (result != null) {
-                dataValue = mapServiceContext.toData(result);
-                response.add(new AbstractMap.SimpleImmutableEntry<Data, Data>(key, dataValue));
+            processRecord(recordStore, iterator.next(), mapStats);
+        }
+    }
+
+    /**
+     * Applies the entry processor to the record if it matches the predicate.
+     *
+     * @return true if the record matched the predicate and was processed
+     */
+    protected boolean processRecord(RecordStore recordStore, Record record, LocalMapStatsImpl mapStats) {
+        final MapServiceContext mapServiceContext = getMapServiceContext();
+        final long start = System.nanoTime();
+        final Data key = record.getKey();
+        final Object valueBeforeProcess = record.getValue();
+        final Object valueBeforeProcessObject = mapServiceContext.toObject(valueBeforeProcess);
+        Object objectKey = mapServiceContext.toObject(key);
+        if (getPredicate() != null) {
+            final SerializationService ss = getNodeEngine().getSerializationService();
+            QueryEntry queryEntry = new QueryEntry(ss, key, objectKey, valueBeforeProcessObject);
+            if (!getPredicate().apply(queryEntry)) {
+                return false;
             }
+        }
+        final MapEntrySimple entry = createEntry(objectKey, valueBeforeProcessObject);
+        final Object result = entryProcessor.process(entry);
+        mapStats.recordEntryProcessorLatency(getLatencyFrom(start));
+        final Object valueAfterProcess = entry.getValue();
+        Data dataValue = null;
+        if (result != null) {
+            dataValue = mapServiceContext.toData(result);
+            response.add(new AbstractMap.SimpleImmutableEntry<Data, Data>(key, dataValue));
+        }
+        if (entryProcessor instanceof ReadOnly) {
+            mapStats.incrementGets(getLatencyFrom(start));
+            return true;
+        }
 
-            EntryEventType eventType;
-            if (valueAfterProcess == null) {
-                recordStore.remove(key);
-                mapStats.incrementRemoves(getLatencyFrom(start));
-                eventType = EntryEventType.REMOVED;
+        EntryEventType eventType;
+        if (valueAfterProcess == null) {
+            recordStore.remove(key);
+            mapStats.incrementRemoves(getLatencyFrom(start));
+            eventType = EntryEventType.REMOVED;
+        } else {
+            if (valueBeforeProcessObject == null) {
+                mapStats.incrementPuts(getLatencyFrom(start));
+                eventType = EntryEventType.ADDED;
+            } else if (!entry.isModified()) {
+                // take this case as a read so no need to fire an event.
+                mapStats.incrementGets(getLatencyFrom(start));
+                eventType = NO_NEED_TO_FIRE_EVENT;
             } else {
-                if (valueBeforeProcessObject == null) {
-                    mapStats.incrementPuts(getLatencyFrom(start));
-                    eventType = EntryEventType.ADDED;
-                } else if (!entry.isModified()) {
-                    // take this case as a read so no need to fire an event.
-                    mapStats.incrementGets(getLatencyFrom(start));
-                    eventType = NO_NEED_TO_FIRE_EVENT;
-                } else {
-                    mapStats.incrementPuts(getLatencyFrom(start));
-                    eventType = EntryEventType.UPDATED;
-                }
-                // todo if this is a read only operation, record access operations should be done.
-                if (eventType != NO_NEED_TO_FIRE_EVENT) {
-                    recordStore.put(new AbstractMap.SimpleImmutableEntry<Data, Object>(key, valueAfterProcess));
-                }
+                mapStats.incrementPuts(getLatencyFrom(start));
+                eventType = EntryEventType.UPDATED;
+            }
+            // todo if this is a read only operation, record access operations should be done.
+            if (eventType != NO_NEED_TO_FIRE_EVENT) {
+                recordStore.put(new AbstractMap.SimpleImmutableEntry<Data, Object>(key, valueAfterProcess));
             }
-            fireEvent(key, valueBeforeProcess, valueAfterProcess, eventType);
-            invalidateNearCache(key);
-            publishWanReplicationEvent(key, dataValue, recordStore, eventType);
         }
+        fireEvent(key, valueBeforeProcess, valueAfterProcess, eventType);
+        invalidateNearCache(key);
+        publishWanReplicationEvent(key, dataValue, recordStore, eventType);
+        return true;
+    }
+
+    private MapEntrySimple createEntry(Object key, Object value) {
+        if (entryProcessor instanceof ReadOnly) {
+            return new EntryOperation.ReadOnlyMapEntry(key, value);
+        }
+        return new MapEntrySimple(key, value);
     }
 
     private void fireEvent(Data dataKey, Object valueBeforeProcess,
@@ -169,7 +191,7 @@ public class PartitionWideEntryOperation extends AbstractMapOperation
         }
     }
 
-    private MapServiceContext getMapServiceContext() {
+    protected MapServiceContext getMapServiceContext() {
         final MapService mapService = getService();
         return mapService.getMapServiceContext();
     }
@@ -206,7 +228,7 @@ public class PartitionWideEntryOperation extends AbstractMapOperation
     }
 
     public boolean shouldBackup() {
-        return entryProcessor.getBackupProcessor() != null;
+        return !(entryProcessor instanceof ReadOnly) && entryProcessor.getBackupProcessor() != null;
     }
 
     public int getSyncBackupCount() {
@@ -224,7 +246,7 @@ public class PartitionWideEntryOperation extends AbstractMapOperation
     }
 
     private long getLatencyFrom(long begin) {
-        return Clock.currentTimeMillis() - begin;
+        return System.nanoTime() - begin;
     }
 
 }
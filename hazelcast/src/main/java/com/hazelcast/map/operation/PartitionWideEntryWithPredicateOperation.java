@@ -18,11 +18,19 @@ package com.hazelcast.map.operation;
 
 import com.hazelcast.map.EntryBackupProcessor;
 import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.MapEntrySet;
+import com.hazelcast.map.MapServiceContext;
+import com.hazelcast.map.RecordStore;
+import com.hazelcast.map.record.Record;
+import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.spi.Operation;
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * date: 9/16/13
@@ -30,6 +38,10 @@ import java.io.IOException;
  */
 public class PartitionWideEntryWithPredicateOperation extends PartitionWideEntryOperation {
     Predicate predicate;
+    // not serialized, only shared by operations created on the same member.
+    private transient IndexedEntryKeys indexedEntryKeys;
+    // keys processed when the candidates came from an index, backups only need to process these.
+    private transient Set<Data> processedKeys;
 
     public PartitionWideEntryWithPredicateOperation() {
     }
@@ -39,6 +51,37 @@ public class PartitionWideEntryWithPredicateOperation extends PartitionWideEntry
         this.predicate = predicate;
     }
 
+    PartitionWideEntryWithPredicateOperation(String name, EntryProcessor entryProcessor, Predicate predicate,
+                                             IndexedEntryKeys indexedEntryKeys) {
+        this(name, entryProcessor, predicate);
+        this.indexedEntryKeys = indexedEntryKeys;
+    }
+
+    @Override
+    public void run() {
+        final MapServiceContext mapServiceContext = getMapServiceContext();
+        if (indexedEntryKeys == null) {
+            // sent on its own, e.g. as a retry of a single partition.
+            indexedEntryKeys = new IndexedEntryKeys(name, predicate);
+        }
+        final Set<Data> candidates = indexedEntryKeys.getKeys(mapServiceContext, getPartitionId());
+        if (candidates == null) {
+            super.run();
+            return;
+        }
+        response = new MapEntrySet();
+        processedKeys = new HashSet<Data>();
+        final RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), name);
+        final LocalMapStatsImpl mapStats
+                = mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name);
+        for (Data key : candidates) {
+            final Record record = recordStore.getRecord(key);
+            if (record != null && processRecord(recordStore, record, mapStats)) {
+                processedKeys.add(key);
+            }
+        }
+    }
+
     @Override
     protected Predicate getPredicate() {
         return predicate;
@@ -61,10 +104,20 @@ public class PartitionWideEntryWithPredicateOperation extends PartitionWideEntry
         return "PartitionWideEntryWithPredicateOperation{}";
     }
 
+    @Override
+    public boolean shouldBackup() {
+        return super.shouldBackup() && (processedKeys == null || !processedKeys.isEmpty());
+    }
+
     @Override
     public Operation getBackupOperation() {
         EntryBackupProcessor backupProcessor = entryProcessor.getBackupProcessor();
-        return backupProcessor != null
-                ? new PartitionWideEntryWithPredicateBackupOperation(name, backupProcessor, predicate) : null;
+        if (backupProcessor == null) {
+            return null;
+        }
+        if (processedKeys != null) {
+            return new MultipleEntryBackupOperation(name, processedKeys, backupProcessor);
+        }
+        return new PartitionWideEntryWithPredicateBackupOperation(name, backupProcessor, predicate);
     }
 }
@@ -32,6 +32,7 @@ public class PartitionWideEntryWithPredicateOperationFactory implements Operatio
     private String name;
     private EntryProcessor entryProcessor;
     private Predicate predicate;
+    private transient IndexedEntryKeys indexedEntryKeys;
 
     public PartitionWideEntryWithPredicateOperationFactory() {
     }
@@ -40,11 +41,12 @@ public class PartitionWideEntryWithPredicateOperationFactory implements Operatio
         this.name = name;
         this.entryProcessor = entryProcessor;
         this.predicate = predicate;
+        this.indexedEntryKeys = new IndexedEntryKeys(name, predicate);
     }
 
     @Override
     public Operation createOperation() {
-        return new PartitionWideEntryWithPredicateOperation(name, entryProcessor, predicate);
+        return new PartitionWideEntryWithPredicateOperation(name, entryProcessor, predicate, indexedEntryKeys);
     }
 
     @Override
@@ -60,6 +62,6 @@ public class PartitionWideEntryWithPredicateOperationFactory implements Operatio
         name = in.readUTF();
         entryProcessor = in.readObject();
         predicate = in.readObject();
-
+        indexedEntryKeys = new IndexedEntryKeys(name, predicate);
     }
 }
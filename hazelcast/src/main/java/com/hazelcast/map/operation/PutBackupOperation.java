@@ -16,12 +16,14 @@
 
 package com.hazelcast.map.operation;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.map.MapDataSerializerHook;
 import com.hazelcast.map.record.Record;
 import com.hazelcast.map.record.RecordInfo;
 import com.hazelcast.map.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.CompressedData;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.BackupOperation;
@@ -34,6 +36,8 @@ public final class PutBackupOperation extends KeyBasedMapOperation implements Ba
     // todo It complicates here there should be another Operation for that logic. e.g. TxnSetBackup
     private boolean unlockKey;
     private RecordInfo recordInfo;
+    // sent instead of the data value when the primary keeps the value compressed
+    private CompressedData compressedValue;
 
     public PutBackupOperation(String name, Data dataKey, Data dataValue, RecordInfo recordInfo) {
         super(name, dataKey, dataValue);
@@ -46,11 +50,22 @@ public final class PutBackupOperation extends KeyBasedMapOperation implements Ba
         this.recordInfo = recordInfo;
     }
 
+    /**
+     * Backs up the value of the given primary record, in its compressed form if the record keeps it compressed.
+     */
+    public PutBackupOperation(String name, Data dataKey, Data dataValue, Record record, boolean unlockKey) {
+        this(name, dataKey, dataValue, record == null ? null : Records.buildRecordInfo(record), unlockKey);
+        this.compressedValue = record == null ? null : Records.getCompressedValue(record);
+        if (compressedValue != null) {
+            this.dataValue = null;
+        }
+    }
+
     public PutBackupOperation() {
     }
 
     public void run() {
-        final Record record = recordStore.putBackup(dataKey, dataValue, ttl);
+        final Record record = recordStore.putBackup(dataKey, getBackupValue(), ttl);
         if (recordInfo != null) {
             Records.applyRecordInfo(record, recordInfo);
         }
@@ -59,6 +74,21 @@ public final class PutBackupOperation extends KeyBasedMapOperation implements Ba
         }
     }
 
+    /**
+     * Compressed values are stored as they are if the map is kept in binary format on this member too.
+     * Write-behind queues need the plain value, so they get it decompressed.
+     */
+    private Object getBackupValue() {
+        if (compressedValue == null) {
+            return dataValue;
+        }
+        if (mapContainer.getRecordFactory().getStorageFormat() == InMemoryFormat.BINARY
+                && !mapContainer.isWriteBehindMapStoreEnabled()) {
+            return compressedValue;
+        }
+        return compressedValue.toData();
+    }
+
     @Override
     public Object getResponse() {
         return Boolean.TRUE;
@@ -73,6 +103,12 @@ public final class PutBackupOperation extends KeyBasedMapOperation implements Ba
         } else {
             out.writeBoolean(false);
         }
+        if (compressedValue != null) {
+            out.writeBoolean(true);
+            compressedValue.writeData(out);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     protected void readInternal(ObjectDataInput in) throws IOException {
@@ -83,6 +119,11 @@ public final class PutBackupOperation extends KeyBasedMapOperation implements Ba
             recordInfo = new RecordInfo();
             recordInfo.readData(in);
         }
+        boolean hasCompressedValue = in.readBoolean();
+        if (hasCompressedValue) {
+            compressedValue = new CompressedData();
+            compressedValue.readData(in);
+        }
     }
 
     @Override
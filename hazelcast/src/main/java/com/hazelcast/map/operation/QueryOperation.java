@@ -21,10 +21,14 @@ import com.hazelcast.map.MapContextQuerySupport;
 import com.hazelcast.map.MapService;
 import com.hazelcast.map.MapServiceContext;
 import com.hazelcast.map.QueryResult;
+import com.hazelcast.monitor.impl.LocalMapStatsImpl;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.QueryException;
+import com.hazelcast.query.QueryTimeoutException;
 import com.hazelcast.query.impl.IndexService;
 import com.hazelcast.query.impl.QueryResultEntryImpl;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -35,6 +39,8 @@ import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.util.SortingUtil;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,13 +53,34 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class QueryOperation extends AbstractMapOperation {
 
+    /**
+     * Number of records a partition scan processes between two yields of the query thread.
+     */
+    private static final int SCAN_YIELD_INTERVAL = 1000;
+
+    /**
+     * How long a query waits for a partition scan before it checks again whether its caller is still there.
+     */
+    private static final long CALLER_CHECK_INTERVAL_NANOS = SECONDS.toNanos(1);
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     Predicate predicate;
     QueryResult result;
     PagingPredicate pagingPredicate;
 
+    private final AtomicLong scanCpuTime = new AtomicLong();
+    private long queryStartTime;
+
     public QueryOperation(String mapName, Predicate predicate) {
         super(mapName);
         this.predicate = predicate;
@@ -66,6 +93,9 @@ public class QueryOperation extends AbstractMapOperation {
     }
 
     public void run() throws Exception {
+        queryStartTime = System.nanoTime();
+        final boolean statisticsEnabled = mapContainer.getMapConfig().isStatisticsEnabled();
+        final long cpuTimeStart = statisticsEnabled ? currentThreadCpuTime() : 0;
         List<Integer> initialPartitions = mapService.getMapServiceContext().getOwnedPartitions();
         IndexService indexService = mapService.getMapServiceContext().getMapContainer(name).getIndexService();
         Set<QueryableEntry> entries = null;
@@ -90,26 +120,18 @@ public class QueryOperation extends AbstractMapOperation {
         if (initialPartitions.equals(finalPartitions)) {
             result.setPartitionIds(finalPartitions);
         }
-        if (mapContainer.getMapConfig().isStatisticsEnabled()) {
+        if (statisticsEnabled) {
             final MapServiceContext mapServiceContext = ((MapService) getService())
                     .getMapServiceContext();
-            mapServiceContext
-                    .getLocalMapStatsProvider().getLocalMapStatsImpl(name).incrementOtherOperations();
+            final LocalMapStatsImpl mapStats = mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name);
+            mapStats.incrementOtherOperations();
+            mapStats.recordQueryLatency(System.nanoTime() - queryStartTime);
+            mapStats.recordQueryCpuTime(currentThreadCpuTime() - cpuTimeStart + scanCpuTime.get());
         }
     }
 
     protected void runParallel(final List<Integer> initialPartitions) throws InterruptedException, ExecutionException {
-        final NodeEngine nodeEngine = getNodeEngine();
-        final ExecutorService executor
-                = nodeEngine.getExecutionService().getExecutor(ExecutionService.QUERY_EXECUTOR);
-        final List<Future<Collection<QueryableEntry>>> lsFutures
-                = new ArrayList<Future<Collection<QueryableEntry>>>(initialPartitions.size());
-        for (Integer partitionId : initialPartitions) {
-            Future<Collection<QueryableEntry>> f = executor.submit(new PartitionCallable(partitionId));
-            lsFutures.add(f);
-        }
-        for (Future<Collection<QueryableEntry>> future : lsFutures) {
-            final Collection<QueryableEntry> collection = future.get();
+        for (Collection<QueryableEntry> collection : scanPartitions(initialPartitions)) {
             if (collection != null) {
                 for (QueryableEntry entry : collection) {
                     result.add(new QueryResultEntryImpl(entry.getKeyData(), entry.getKeyData(), entry.getValueData()));
@@ -120,20 +142,9 @@ public class QueryOperation extends AbstractMapOperation {
     }
 
     protected void runParallelForPaging(List<Integer> initialPartitions) throws InterruptedException, ExecutionException {
-        final NodeEngine nodeEngine = getNodeEngine();
-        final ExecutorService executor
-                = nodeEngine.getExecutionService().getExecutor(ExecutionService.QUERY_EXECUTOR);
-        final List<Future<Collection<QueryableEntry>>> lsFutures
-                = new ArrayList<Future<Collection<QueryableEntry>>>(initialPartitions.size());
-
         final Comparator<Map.Entry> wrapperComparator = SortingUtil.newComparator(pagingPredicate);
-        for (final Integer partitionId : initialPartitions) {
-            Future<Collection<QueryableEntry>> f = executor.submit(new PartitionCallable(partitionId));
-            lsFutures.add(f);
-        }
         List<QueryableEntry> toMerge = new LinkedList<QueryableEntry>();
-        for (Future<Collection<QueryableEntry>> future : lsFutures) {
-            final Collection<QueryableEntry> collection = future.get();
+        for (Collection<QueryableEntry> collection : scanPartitions(initialPartitions)) {
             toMerge.addAll(collection);
         }
         Collections.sort(toMerge, wrapperComparator);
@@ -146,6 +157,75 @@ public class QueryOperation extends AbstractMapOperation {
         result.setPartitionIds(initialPartitions);
     }
 
+    /**
+     * Scans the partitions in parallel on the query executor. The remaining scans are cancelled, so they do not
+     * keep the query threads busy, when the query timeout expires, when the caller left the cluster and can not
+     * take the result anymore, or when this thread is interrupted.
+     */
+    private List<Collection<QueryableEntry>> scanPartitions(List<Integer> partitionIds)
+            throws InterruptedException, ExecutionException {
+        final NodeEngine nodeEngine = getNodeEngine();
+        final ExecutorService executor
+                = nodeEngine.getExecutionService().getExecutor(ExecutionService.QUERY_EXECUTOR);
+        final List<Future<Collection<QueryableEntry>>> futures
+                = new ArrayList<Future<Collection<QueryableEntry>>>(partitionIds.size());
+        for (Integer partitionId : partitionIds) {
+            futures.add(executor.submit(new PartitionCallable(partitionId)));
+        }
+        final long queryTimeoutMillis = nodeEngine.getGroupProperties().QUERY_TIMEOUT_MILLIS.getLong();
+        final List<Collection<QueryableEntry>> results = new ArrayList<Collection<QueryableEntry>>(futures.size());
+        boolean completed = false;
+        try {
+            for (Future<Collection<QueryableEntry>> future : futures) {
+                results.add(awaitScan(future, queryTimeoutMillis));
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                for (Future<Collection<QueryableEntry>> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return results;
+    }
+
+    private Collection<QueryableEntry> awaitScan(Future<Collection<QueryableEntry>> future, long queryTimeoutMillis)
+            throws InterruptedException, ExecutionException {
+        while (true) {
+            long waitNanos = CALLER_CHECK_INTERVAL_NANOS;
+            if (queryTimeoutMillis > 0) {
+                final long remaining = MILLISECONDS.toNanos(queryTimeoutMillis) - (System.nanoTime() - queryStartTime);
+                if (remaining <= 0) {
+                    throw new QueryTimeoutException("Query on map '" + name + "' did not complete within "
+                            + queryTimeoutMillis + " ms");
+                }
+                waitNanos = Math.min(waitNanos, remaining);
+            }
+            try {
+                return future.get(waitNanos, NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (!isCallerMember()) {
+                    throw new QueryException("Query on map '" + name + "' was cancelled, its caller "
+                            + getCallerAddress() + " left the cluster");
+                }
+            }
+        }
+    }
+
+    private boolean isCallerMember() {
+        final Address caller = getCallerAddress();
+        return caller == null || getNodeEngine().getClusterService().getMember(caller) != null;
+    }
+
+    private static long currentThreadCpuTime() {
+        if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return 0;
+        }
+        final long cpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        return cpuTime < 0 ? 0 : cpuTime;
+    }
+
     public ExceptionAction onException(Throwable throwable) {
         if (throwable instanceof MemberLeftException) {
             return ExceptionAction.THROW_EXCEPTION;
@@ -186,7 +266,12 @@ public class QueryOperation extends AbstractMapOperation {
         public Collection<QueryableEntry> call() throws Exception {
             MapContextQuerySupport mapContextQuerySupport = mapService.getMapServiceContext()
                     .getMapContextQuerySupport();
-            return mapContextQuerySupport.queryOnPartition(name, predicate, partition);
+            final long cpuTimeStart = currentThreadCpuTime();
+            try {
+                return mapContextQuerySupport.scanPartition(name, predicate, partition, SCAN_YIELD_INTERVAL);
+            } finally {
+                scanCpuTime.addAndGet(currentThreadCpuTime() - cpuTimeStart);
+            }
         }
     }
 
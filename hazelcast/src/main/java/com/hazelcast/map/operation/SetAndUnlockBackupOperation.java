@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.operation;
+
+import com.hazelcast.map.record.Record;
+import com.hazelcast.map.record.RecordInfo;
+import com.hazelcast.map.record.Records;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.BackupOperation;
+
+import java.io.IOException;
+
+public final class SetAndUnlockBackupOperation extends KeyBasedMapOperation implements BackupOperation {
+
+    private RecordInfo recordInfo;
+    private String originalCallerUuid;
+
+    public SetAndUnlockBackupOperation(String name, Data dataKey, Data dataValue, RecordInfo recordInfo,
+                                       String originalCallerUuid) {
+        super(name, dataKey, dataValue);
+        this.recordInfo = recordInfo;
+        this.originalCallerUuid = originalCallerUuid;
+    }
+
+    public SetAndUnlockBackupOperation() {
+    }
+
+    public void run() {
+        final Record record = recordStore.putBackup(dataKey, dataValue, ttl);
+        if (recordInfo != null) {
+            Records.applyRecordInfo(record, recordInfo);
+        }
+        recordStore.unlock(dataKey, originalCallerUuid, threadId);
+    }
+
+    @Override
+    public Object getResponse() {
+        return Boolean.TRUE;
+    }
+
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeUTF(originalCallerUuid);
+        if (recordInfo != null) {
+            out.writeBoolean(true);
+            recordInfo.writeData(out);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        originalCallerUuid = in.readUTF();
+        boolean hasRecordInfo = in.readBoolean();
+        if (hasRecordInfo) {
+            recordInfo = new RecordInfo();
+            recordInfo.readData(in);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SetAndUnlockBackupOperation{" + name + "}";
+    }
+}
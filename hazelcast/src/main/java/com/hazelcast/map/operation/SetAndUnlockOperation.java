@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.operation;
+
+import com.hazelcast.core.EntryEventType;
+import com.hazelcast.map.record.Record;
+import com.hazelcast.map.record.RecordInfo;
+import com.hazelcast.map.record.Records;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.Notifier;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.WaitNotifyKey;
+
+/**
+ * Sets the value of a key locked by the caller and releases the lock in a single call.
+ */
+public class SetAndUnlockOperation extends BasePutOperation implements Notifier {
+
+    private transient boolean newRecord;
+
+    public SetAndUnlockOperation(String name, Data dataKey, Data value) {
+        super(name, dataKey, value);
+    }
+
+    public SetAndUnlockOperation() {
+    }
+
+    @Override
+    public boolean shouldWait() {
+        // the caller has to own the lock, there is nothing to wait for
+        return false;
+    }
+
+    public void run() {
+        final String caller = getCallerUuid();
+        final long threadId = getThreadId();
+        if (!recordStore.isLocked(dataKey) || !recordStore.canAcquireLock(dataKey, caller, threadId)) {
+            throw new IllegalMonitorStateException("Current thread is not owner of the lock! -> "
+                    + recordStore.getLockOwnerInfo(dataKey));
+        }
+        newRecord = recordStore.set(dataKey, dataValue, ttl);
+        recordStore.unlock(dataKey, caller, threadId);
+    }
+
+    public void afterRun() {
+        eventType = newRecord ? EntryEventType.ADDED : EntryEventType.UPDATED;
+        super.afterRun();
+    }
+
+    @Override
+    public Object getResponse() {
+        return newRecord;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        RecordInfo replicationInfo = null;
+        Record record = recordStore.getRecord(dataKey);
+        if (record != null) {
+            replicationInfo = Records.buildRecordInfo(record);
+        }
+        SetAndUnlockBackupOperation backupOperation
+                = new SetAndUnlockBackupOperation(name, dataKey, dataValue, replicationInfo, getCallerUuid());
+        backupOperation.setThreadId(getThreadId());
+        return backupOperation;
+    }
+
+    @Override
+    public boolean shouldNotify() {
+        return true;
+    }
+
+    @Override
+    public WaitNotifyKey getNotifiedKey() {
+        return getWaitKey();
+    }
+
+    @Override
+    public String toString() {
+        return "SetAndUnlockOperation{" + name + "}";
+    }
+}
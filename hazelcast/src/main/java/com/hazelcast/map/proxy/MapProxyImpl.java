@@ -276,6 +276,28 @@ public class MapProxyImpl<K, V> extends MapProxySupport implements IMap<K, V>, I
         lockSupport.unlock(nodeEngine, k);
     }
 
+    @Override
+    public V lockAndGet(final K key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEY_IS_NOT_ALLOWED);
+        }
+        Data k = toData(key, partitionStrategy);
+        return (V) toObject(lockAndGetInternal(k));
+    }
+
+    @Override
+    public void setAndUnlock(final K key, final V value) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEY_IS_NOT_ALLOWED);
+        }
+        if (value == null) {
+            throw new NullPointerException(NULL_VALUE_IS_NOT_ALLOWED);
+        }
+        Data k = toData(key, partitionStrategy);
+        Data v = toData(value);
+        setAndUnlockInternal(k, v);
+    }
+
     @Override
     public boolean tryRemove(final K key, final long timeout, final TimeUnit timeunit) {
         if (key == null) {
@@ -59,6 +59,7 @@ import com.hazelcast.map.operation.GetOperation;
 import com.hazelcast.map.operation.IsEmptyOperationFactory;
 import com.hazelcast.map.operation.KeyBasedMapOperation;
 import com.hazelcast.map.operation.LoadAllOperation;
+import com.hazelcast.map.operation.LockAndGetOperation;
 import com.hazelcast.map.operation.MapFlushOperation;
 import com.hazelcast.map.operation.MapGetAllOperationFactory;
 import com.hazelcast.map.operation.MultipleEntryOperationFactory;
@@ -73,6 +74,7 @@ import com.hazelcast.map.operation.RemoveInterceptorOperation;
 import com.hazelcast.map.operation.RemoveOperation;
 import com.hazelcast.map.operation.ReplaceIfSameOperation;
 import com.hazelcast.map.operation.ReplaceOperation;
+import com.hazelcast.map.operation.SetAndUnlockOperation;
 import com.hazelcast.map.operation.SetOperation;
 import com.hazelcast.map.operation.SizeOperationFactory;
 import com.hazelcast.map.operation.TryPutOperation;
@@ -298,7 +300,7 @@ abstract class MapProxySupport extends AbstractDistributedObject<MapService> imp
             int partitionId = partitionService.getPartitionId(key);
             InternalPartition partition = partitionService.getPartition(partitionId);
             if (nodeEngine.getThisAddress().equals(partition.getReplicaAddress(i))) {
-                Object val = mapServiceContext.getPartitionContainer(partitionId).getRecordStore(name).get(key);
+                Object val = mapServiceContext.getPartitionContainer(partitionId).getRecordStore(name).readBackupData(key);
                 if (val != null) {
                     mapServiceContext.interceptAfterGet(name, val);
                     // this serialization step is needed not to expose the object, see issue 1292
@@ -394,18 +396,18 @@ abstract class MapProxySupport extends AbstractDistributedObject<MapService> imp
             Object o;
             OperationService operationService = nodeEngine.getOperationService();
             if (getMapConfig().isStatisticsEnabled()) {
-                long time = System.currentTimeMillis();
+                long time = System.nanoTime();
                 f = operationService
                         .createInvocationBuilder(SERVICE_NAME, operation, partitionId)
                         .setResultDeserialized(false)
                         .invoke();
                 o = f.get();
                 if (operation instanceof BasePutOperation) {
-                    localMapStats.incrementPuts(System.currentTimeMillis() - time);
+                    localMapStats.incrementPuts(System.nanoTime() - time);
                 } else if (operation instanceof BaseRemoveOperation) {
-                    localMapStats.incrementRemoves(System.currentTimeMillis() - time);
+                    localMapStats.incrementRemoves(System.nanoTime() - time);
                 } else if (operation instanceof GetOperation) {
-                    localMapStats.incrementGets(System.currentTimeMillis() - time);
+                    localMapStats.incrementGets(System.nanoTime() - time);
                 }
 
             } else {
@@ -455,6 +457,17 @@ abstract class MapProxySupport extends AbstractDistributedObject<MapService> imp
         invalidateNearCache(key);
     }
 
+    protected Data lockAndGetInternal(final Data key) {
+        LockAndGetOperation operation = new LockAndGetOperation(name, key);
+        return (Data) invokeOperation(key, operation);
+    }
+
+    protected void setAndUnlockInternal(final Data key, final Data value) {
+        SetAndUnlockOperation operation = new SetAndUnlockOperation(name, key, value);
+        invokeOperation(key, operation);
+        invalidateNearCache(key);
+    }
+
     protected boolean evictInternal(final Data key) {
         EvictOperation operation = new EvictOperation(name, key, false);
         final boolean evictSuccess = (Boolean) invokeOperation(key, operation);
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.record;
+
+import com.hazelcast.nio.serialization.CompressedData;
+import com.hazelcast.nio.serialization.Data;
+
+class CompressedDataRecordWithStats extends AbstractRecordWithStats<Data> implements CompressedValueRecord {
+
+    private ValueCompressor compressor;
+    // Data or CompressedData
+    private Object value;
+
+    CompressedDataRecordWithStats() {
+    }
+
+    CompressedDataRecordWithStats(ValueCompressor compressor, Data key, Object storedValue) {
+        super(key);
+        this.compressor = compressor;
+        this.value = storedValue;
+    }
+
+    @Override
+    public long getCost() {
+        long size = super.getCost();
+        final int objectReferenceInBytes = 4;
+        // compressor ref
+        size += objectReferenceInBytes;
+        // value size
+        size += objectReferenceInBytes;
+        if (value instanceof CompressedData) {
+            size += ((CompressedData) value).getHeapCost();
+        } else if (value != null) {
+            size += ((Data) value).getHeapCost();
+        }
+        return size;
+    }
+
+    public Data getValue() {
+        return compressor.decompress(value);
+    }
+
+    public void setValue(Data value) {
+        this.value = compressor.compress(value);
+    }
+
+    public Object getStoredValue() {
+        return value;
+    }
+
+    public void invalidate() {
+        value = null;
+    }
+}
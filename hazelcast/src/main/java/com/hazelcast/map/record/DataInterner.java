@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.record;
+
+import com.hazelcast.nio.serialization.Data;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Lets records share a single instance of equal keys or values, so data that is stored many times takes
+ * its heap space once. The data is only weakly referenced and drops out as soon as no record holds it anymore.
+ * <p/>
+ * Data is spread over lock striped tables by its hash, equal data always meets in the same table.
+ *
+ * @see com.hazelcast.config.MapConfig#setKeyDeduplicationEnabled(boolean)
+ * @see com.hazelcast.config.MapConfig#setValueDeduplicationEnabled(boolean)
+ */
+public final class DataInterner {
+
+    private final Map<Data, WeakReference<Data>>[] stripes;
+
+    /**
+     * @param stripeCount number of lock striped tables; one is enough if the callers hardly ever contend
+     */
+    @SuppressWarnings("unchecked")
+    public DataInterner(int stripeCount) {
+        stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new WeakHashMap<Data, WeakReference<Data>>();
+        }
+    }
+
+    /**
+     * @return an already interned instance equal to the given data, or the given data if there is none
+     */
+    public Data intern(Data data) {
+        if (data == null || data.bufferSize() == 0) {
+            return data;
+        }
+        final Map<Data, WeakReference<Data>> stripe = stripes[(data.hashCode() & Integer.MAX_VALUE) % stripes.length];
+        synchronized (stripe) {
+            final WeakReference<Data> ref = stripe.get(data);
+            final Data interned = ref != null ? ref.get() : null;
+            if (interned == null) {
+                stripe.put(data, new WeakReference<Data>(data));
+                return data;
+            }
+            // equal bytes may still belong to different class definitions or partition keys
+            if (interned.getPartitionHash() != data.getPartitionHash()
+                    || interned.getClassDefinition() != data.getClassDefinition()) {
+                return data;
+            }
+            return interned;
+        }
+    }
+}
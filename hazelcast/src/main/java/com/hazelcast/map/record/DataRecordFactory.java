@@ -19,22 +19,33 @@ package com.hazelcast.map.record;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.nio.serialization.CompressedData;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.SerializationService;
 
 public class DataRecordFactory implements RecordFactory<Data> {
 
+    private static final int VALUE_INTERNER_STRIPES = 64;
+
     private final SerializationService serializationService;
     private final PartitioningStrategy partitionStrategy;
     private final boolean optimizeQuery;
     private final boolean statisticsEnabled;
+    private final ValueCompressor valueCompressor;
+    private final DataInterner valueInterner;
 
+    /**
+     * @param valueCompressor compresses the stored values, null to store them uncompressed
+     */
     public DataRecordFactory(MapConfig config, SerializationService serializationService,
-                             PartitioningStrategy partitionStrategy) {
+                             PartitioningStrategy partitionStrategy, ValueCompressor valueCompressor) {
         this.serializationService = serializationService;
         this.partitionStrategy = partitionStrategy;
+        this.valueCompressor = valueCompressor;
         this.statisticsEnabled = config.isStatisticsEnabled();
         this.optimizeQuery = config.isOptimizeQueries();
+        // compressed values are copies anyway, there is nothing to share
+        this.valueInterner = config.isValueDeduplicationEnabled() && valueCompressor == null ? new DataInterner(VALUE_INTERNER_STRIPES) : null;
     }
 
     @Override
@@ -44,7 +55,10 @@ public class DataRecordFactory implements RecordFactory<Data> {
 
     @Override
     public Record<Data> newRecord(Data key, Object value) {
-        final Data data = serializationService.toData(value, partitionStrategy);
+        if (valueCompressor != null) {
+            return newCompressedRecord(key, value);
+        }
+        final Data data = toData(value);
         if (optimizeQuery) {
             return statisticsEnabled ? new CachedDataRecordWithStats(key, data)
                     : new CachedDataRecord(key, data);
@@ -52,14 +66,50 @@ public class DataRecordFactory implements RecordFactory<Data> {
         return statisticsEnabled ? new DataRecordWithStats(key, data) : new DataRecord(key, data);
     }
 
+    /**
+     * Compressed values are not cached for queries; caching the deserialized value would undo the
+     * memory saved by the compression.
+     */
+    private Record<Data> newCompressedRecord(Data key, Object value) {
+        final Object storedValue;
+        if (value instanceof CompressedData) {
+            valueCompressor.onCompressed((CompressedData) value);
+            storedValue = value;
+        } else {
+            storedValue = valueCompressor.compress(serializationService.toData(value, partitionStrategy));
+        }
+        return statisticsEnabled ? new CompressedDataRecordWithStats(valueCompressor, key, storedValue)
+                : new CompressedDataRecord(valueCompressor, key, storedValue);
+    }
+
+    private Data toData(Object value) {
+        final Data data;
+        if (value instanceof CompressedData) {
+            data = ((CompressedData) value).toData();
+        } else {
+            data = serializationService.toData(value, partitionStrategy);
+        }
+        return valueInterner != null ? valueInterner.intern(data) : data;
+    }
+
     @Override
     public void setValue(Record<Data> record, Object value) {
-        final Data v;
+        if (value instanceof CompressedData && record instanceof CompressedDataRecord) {
+            valueCompressor.onCompressed((CompressedData) value);
+            ((CompressedDataRecord) record).setStoredValue(value);
+            return;
+        }
+        Data v;
         if (value instanceof Data) {
             v = (Data) value;
+        } else if (value instanceof CompressedData) {
+            v = ((CompressedData) value).toData();
         } else {
             v = serializationService.toData(value, partitionStrategy);
         }
+        if (valueInterner != null) {
+            v = valueInterner.intern(v);
+        }
         record.setValue(v);
     }
 
@@ -18,6 +18,7 @@ package com.hazelcast.map.record;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.CompressedData;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
 import java.io.IOException;
@@ -26,6 +27,7 @@ public class RecordReplicationInfo extends RecordInfo implements DataSerializabl
 
     private Data key;
     private Data value;
+    private CompressedData compressedValue;
 
     public RecordReplicationInfo(Data key, Data value, RecordInfo recordInfo) {
         super(recordInfo);
@@ -33,6 +35,16 @@ public class RecordReplicationInfo extends RecordInfo implements DataSerializabl
         this.value = value;
     }
 
+    /**
+     * Replicates a compressed value as is, it is neither decompressed on this member nor compressed again
+     * on the receiving one.
+     */
+    public RecordReplicationInfo(Data key, CompressedData compressedValue, RecordInfo recordInfo) {
+        super(recordInfo);
+        this.key = key;
+        this.compressedValue = compressedValue;
+    }
+
 
     public RecordReplicationInfo() {
     }
@@ -42,14 +54,29 @@ public class RecordReplicationInfo extends RecordInfo implements DataSerializabl
     }
 
     public Data getValue() {
+        if (value == null && compressedValue != null) {
+            value = compressedValue.toData();
+        }
         return value;
     }
 
+    /**
+     * @return the value if it was replicated compressed, otherwise null
+     */
+    public CompressedData getCompressedValue() {
+        return compressedValue;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         super.writeData(out);
         key.writeData(out);
-        value.writeData(out);
+        out.writeBoolean(compressedValue != null);
+        if (compressedValue != null) {
+            compressedValue.writeData(out);
+        } else {
+            value.writeData(out);
+        }
     }
 
     @Override
@@ -57,15 +84,20 @@ public class RecordReplicationInfo extends RecordInfo implements DataSerializabl
         super.readData(in);
         key = new Data();
         key.readData(in);
-        value = new Data();
-        value.readData(in);
+        if (in.readBoolean()) {
+            compressedValue = new CompressedData();
+            compressedValue.readData(in);
+        } else {
+            value = new Data();
+            value.readData(in);
+        }
     }
 
     @Override
     public String toString() {
         return "RecordReplicationInfo{"
                 + "key=" + key
-                + ", value=" + value
+                + ", value=" + (compressedValue != null ? compressedValue : value)
                 + "} " + super.toString();
     }
 }
@@ -1,5 +1,7 @@
 package com.hazelcast.map.record;
 
+import com.hazelcast.nio.serialization.CompressedData;
+
 /**
  * Contains various factory & helper methods for a {@link com.hazelcast.map.record.Record} object.
  */
@@ -28,5 +30,19 @@ public final class Records {
         return info;
     }
 
-
+    /**
+     * Returns the value of the record if it is stored compressed, so it can be replicated without
+     * decompressing it.
+     *
+     * @return the compressed value or null if the value of the record is not compressed
+     */
+    public static CompressedData getCompressedValue(Record record) {
+        if (record instanceof CompressedValueRecord) {
+            final Object value = ((CompressedValueRecord) record).getStoredValue();
+            if (value instanceof CompressedData) {
+                return (CompressedData) value;
+            }
+        }
+        return null;
+    }
 }
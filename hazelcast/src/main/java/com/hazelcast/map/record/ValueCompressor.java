@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.record;
+
+import com.hazelcast.nio.serialization.CompressedData;
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compresses the values of a map that are larger than a threshold and keeps the member wide
+ * compression figures of the map. The figures are cumulative totals since the map was created on
+ * this member; they are not reduced when a compressed value is replaced, removed, evicted or
+ * migrated away, so they describe the work done rather than what is currently stored.
+ *
+ * @see com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)
+ */
+public final class ValueCompressor {
+
+    private final int threshold;
+
+    private final AtomicLong totalCompressionCount = new AtomicLong();
+    private final AtomicLong totalUncompressedBytes = new AtomicLong();
+    private final AtomicLong totalCompressedBytes = new AtomicLong();
+    private final AtomicLong compressionNanos = new AtomicLong();
+    private final AtomicLong decompressionNanos = new AtomicLong();
+
+    public ValueCompressor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return a {@link CompressedData} if the value is large enough and compresses, otherwise the value itself
+     */
+    Object compress(Data value) {
+        if (value == null || value.bufferSize() < threshold) {
+            return value;
+        }
+        final long start = System.nanoTime();
+        final CompressedData compressed = CompressedData.compress(value);
+        compressionNanos.addAndGet(System.nanoTime() - start);
+        if (compressed == null) {
+            return value;
+        }
+        onCompressed(compressed);
+        return compressed;
+    }
+
+    /**
+     * Called for values that arrive already compressed, e.g. with a migration.
+     */
+    void onCompressed(CompressedData compressed) {
+        totalCompressionCount.incrementAndGet();
+        totalUncompressedBytes.addAndGet(compressed.getUncompressedSize());
+        totalCompressedBytes.addAndGet(compressed.getCompressedSize());
+    }
+
+    Data decompress(Object value) {
+        if (!(value instanceof CompressedData)) {
+            return (Data) value;
+        }
+        final long start = System.nanoTime();
+        final Data data = ((CompressedData) value).toData();
+        decompressionNanos.addAndGet(System.nanoTime() - start);
+        return data;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return number of values stored compressed so far, including the ones no longer stored
+     */
+    public long getTotalCompressionCount() {
+        return totalCompressionCount.get();
+    }
+
+    /**
+     * @return total size of the values stored compressed so far, before compression
+     */
+    public long getTotalUncompressedBytes() {
+        return totalUncompressedBytes.get();
+    }
+
+    /**
+     * @return total size of the values stored compressed so far, after compression
+     */
+    public long getTotalCompressedBytes() {
+        return totalCompressedBytes.get();
+    }
+
+    /**
+     * @return time spent compressing values in nanoseconds, including the attempts that did not pay off
+     */
+    public long getCompressionNanos() {
+        return compressionNanos.get();
+    }
+
+    /**
+     * @return time spent decompressing values in nanoseconds
+     */
+    public long getDecompressionNanos() {
+        return decompressionNanos.get();
+    }
+}
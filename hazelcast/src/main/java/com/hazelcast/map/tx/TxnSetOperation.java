@@ -20,8 +20,6 @@ import com.hazelcast.core.EntryEventType;
 import com.hazelcast.map.operation.BasePutOperation;
 import com.hazelcast.map.operation.PutBackupOperation;
 import com.hazelcast.map.record.Record;
-import com.hazelcast.map.record.RecordInfo;
-import com.hazelcast.map.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
@@ -94,11 +92,7 @@ public class TxnSetOperation extends BasePutOperation implements MapTxnOperation
 
     public Operation getBackupOperation() {
         final Record record = recordStore.getRecord(dataKey);
-        RecordInfo replicationInfo = null;
-        if (record != null) {
-            replicationInfo = Records.buildRecordInfo(record);
-        }
-        return new PutBackupOperation(name, dataKey, dataValue, replicationInfo, true);
+        return new PutBackupOperation(name, dataKey, dataValue, record, true);
     }
 
     public void onWaitExpire() {
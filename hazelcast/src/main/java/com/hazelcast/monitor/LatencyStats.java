@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.monitor;
+
+import com.hazelcast.management.JsonSerializable;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+/**
+ * Latency distribution of a type of operation on this member. Latencies are in microseconds
+ * and cover the window configured by {@link com.hazelcast.instance.GroupProperties#PROP_LATENCY_STATS_WINDOW_SECONDS}.
+ */
+public interface LatencyStats extends DataSerializable, JsonSerializable {
+
+    /**
+     * Returns the number of operations in the window.
+     *
+     * @return number of operations
+     */
+    long getCount();
+
+    /**
+     * Returns the median latency.
+     *
+     * @return median latency in microseconds
+     */
+    long getMedian();
+
+    /**
+     * Returns the latency 90 percent of the operations completed within.
+     *
+     * @return 90th percentile latency in microseconds
+     */
+    long getPercentile90();
+
+    /**
+     * Returns the latency 99 percent of the operations completed within.
+     *
+     * @return 99th percentile latency in microseconds
+     */
+    long getPercentile99();
+
+    /**
+     * Returns the latency 99.9 percent of the operations completed within.
+     *
+     * @return 99.9th percentile latency in microseconds
+     */
+    long getPercentile999();
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @return maximum latency in microseconds
+     */
+    long getMax();
+}
@@ -16,6 +16,8 @@
 
 package com.hazelcast.monitor;
 
+import java.util.Map;
+
 /**
  * Local map statistics. As everything is partitioned in Hazelcast,
  * each member owns 1/N (N being the number of members in the cluster)
@@ -169,6 +171,101 @@ public interface LocalMapStats extends LocalInstanceStats {
      */
     long getMaxRemoveLatency();
 
+    /**
+     * Returns the latency distribution of get operations.
+     *
+     * @return latency distribution of get operations
+     */
+    LatencyStats getGetLatencyStats();
+
+    /**
+     * Returns the latency distribution of put operations.
+     *
+     * @return latency distribution of put operations
+     */
+    LatencyStats getPutLatencyStats();
+
+    /**
+     * Returns the latency distribution of remove operations.
+     *
+     * @return latency distribution of remove operations
+     */
+    LatencyStats getRemoveLatencyStats();
+
+    /**
+     * Returns the latency distribution of queries run on this member.
+     *
+     * @return latency distribution of queries
+     */
+    LatencyStats getQueryLatencyStats();
+
+    /**
+     * Returns the latency distribution of entry processors run on this member.
+     *
+     * @return latency distribution of entry processors
+     */
+    LatencyStats getEntryProcessorLatencyStats();
+
+    /**
+     * Returns the most frequently accessed keys owned by this member with the estimated number
+     * of their recent accesses, the most accessed first.
+     * Empty unless hot key tracking is enabled.
+     *
+     * @return hot keys mapped to their estimated recent access count
+     * @see com.hazelcast.instance.GroupProperties#PROP_MAP_HOT_KEY_TRACKING_ENABLED
+     */
+    Map<String, Long> getHotKeys();
+
+    /**
+     * Returns the most frequently accessed partitions owned by this member with the estimated number
+     * of their recent key accesses, the most accessed first.
+     * Empty unless hot key tracking is enabled.
+     *
+     * @return hot partition ids mapped to their estimated recent access count
+     */
+    Map<Integer, Long> getHotPartitions();
+
+    /**
+     * Returns the total number of values this member has stored compressed, including backups and
+     * migrated values. This is a cumulative count: values that were replaced, removed, evicted or
+     * migrated away since are still counted. Zero unless value compression is enabled for the map.
+     *
+     * @return total number of compressed values
+     * @see com.hazelcast.config.MapConfig#setValueCompressionEnabled(boolean)
+     */
+    long getTotalValueCompressionCount();
+
+    /**
+     * Returns the uncompressed size of all values compressed so far divided by their compressed size,
+     * e.g. 5 if the values took a fifth of their original size.
+     *
+     * @return cumulative compression ratio of the compressed values, 0 if no value was compressed
+     */
+    double getValueCompressionRatio();
+
+    /**
+     * Returns the total time spent on this member compressing values, in milliseconds.
+     *
+     * @return total value compression time
+     */
+    long getTotalValueCompressionTime();
+
+    /**
+     * Returns the total time spent on this member decompressing values, in milliseconds.
+     *
+     * @return total value decompression time
+     */
+    long getTotalValueDecompressionTime();
+
+    /**
+     * Returns the total CPU time the predicate queries of this map used on this member, in milliseconds.
+     * Covers scanning the partitions and querying the indexes; only counted if statistics are enabled
+     * and the JVM supports measuring the CPU time of threads.
+     *
+     * @return total query CPU time
+     */
+    long getTotalQueryCpuTime();
+
     /**
      * Returns the number of Events Received
      *
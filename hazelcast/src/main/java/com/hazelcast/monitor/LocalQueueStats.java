@@ -106,4 +106,20 @@ public interface LocalQueueStats extends LocalInstanceStats {
      * @return number of event operations
      */
     long getEventOperationCount();
+
+    /**
+     * Returns the latency distribution of offer operations called on this member,
+     * including the time waited for free capacity.
+     *
+     * @return latency distribution of offer operations
+     */
+    LatencyStats getOfferLatencyStats();
+
+    /**
+     * Returns the latency distribution of poll operations called on this member,
+     * including the time waited for an item.
+     *
+     * @return latency distribution of poll operations
+     */
+    LatencyStats getPollLatencyStats();
 }
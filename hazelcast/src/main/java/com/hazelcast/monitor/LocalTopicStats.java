@@ -39,5 +39,11 @@ public interface LocalTopicStats extends LocalInstanceStats {
      */
     long getReceiveOperationCount();
 
+    /**
+     * Returns the latency distribution of messages published on this member
+     *
+     * @return latency distribution of publishes
+     */
+    LatencyStats getPublishLatencyStats();
 
 }
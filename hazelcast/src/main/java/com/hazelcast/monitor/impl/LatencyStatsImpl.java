@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.monitor.impl;
+
+import com.eclipsesource.json.JsonObject;
+import com.hazelcast.monitor.LatencyStats;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.util.LatencyHistogram;
+
+import java.io.IOException;
+
+import static com.hazelcast.util.JsonUtil.getLong;
+
+/**
+ * Default implementation of {@link LatencyStats}.
+ * <p/>
+ * On the member it records latencies into a {@link LatencyHistogram} and calculates the
+ * percentiles when asked. A deserialized instance holds the percentiles calculated by the member.
+ */
+public class LatencyStatsImpl implements LatencyStats {
+
+    private static final double MEDIAN = 50d;
+    private static final double PERCENTILE_90 = 90d;
+    private static final double PERCENTILE_99 = 99d;
+    private static final double PERCENTILE_999 = 99.9d;
+
+    // null once the percentiles are read from serialized form
+    private LatencyHistogram histogram;
+
+    private long count;
+    private long median;
+    private long percentile90;
+    private long percentile99;
+    private long percentile999;
+    private long max;
+
+    public LatencyStatsImpl() {
+        this(0);
+    }
+
+    /**
+     * @param windowMillis length of the window in milliseconds, or 0 to keep all latencies
+     */
+    public LatencyStatsImpl(long windowMillis) {
+        histogram = new LatencyHistogram(windowMillis);
+    }
+
+    public void recordNanos(long latencyNanos) {
+        histogram.recordNanos(latencyNanos);
+    }
+
+    private LatencyStatsImpl current() {
+        if (histogram == null) {
+            return this;
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        LatencyStatsImpl stats = new LatencyStatsImpl();
+        stats.histogram = null;
+        stats.count = snapshot.getCount();
+        stats.median = snapshot.getValueAtPercentile(MEDIAN);
+        stats.percentile90 = snapshot.getValueAtPercentile(PERCENTILE_90);
+        stats.percentile99 = snapshot.getValueAtPercentile(PERCENTILE_99);
+        stats.percentile999 = snapshot.getValueAtPercentile(PERCENTILE_999);
+        stats.max = snapshot.getMax();
+        return stats;
+    }
+
+    @Override
+    public long getCount() {
+        return current().count;
+    }
+
+    @Override
+    public long getMedian() {
+        return current().median;
+    }
+
+    @Override
+    public long getPercentile90() {
+        return current().percentile90;
+    }
+
+    @Override
+    public long getPercentile99() {
+        return current().percentile99;
+    }
+
+    @Override
+    public long getPercentile999() {
+        return current().percentile999;
+    }
+
+    @Override
+    public long getMax() {
+        return current().max;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        LatencyStatsImpl stats = current();
+        out.writeLong(stats.count);
+        out.writeLong(stats.median);
+        out.writeLong(stats.percentile90);
+        out.writeLong(stats.percentile99);
+        out.writeLong(stats.percentile999);
+        out.writeLong(stats.max);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        histogram = null;
+        count = in.readLong();
+        median = in.readLong();
+        percentile90 = in.readLong();
+        percentile99 = in.readLong();
+        percentile999 = in.readLong();
+        max = in.readLong();
+    }
+
+    @Override
+    public JsonObject toJson() {
+        LatencyStatsImpl stats = current();
+        JsonObject root = new JsonObject();
+        root.add("count", stats.count);
+        root.add("median", stats.median);
+        root.add("percentile90", stats.percentile90);
+        root.add("percentile99", stats.percentile99);
+        root.add("percentile999", stats.percentile999);
+        root.add("max", stats.max);
+        return root;
+    }
+
+    @Override
+    public void fromJson(JsonObject json) {
+        histogram = null;
+        count = getLong(json, "count", -1L);
+        median = getLong(json, "median", -1L);
+        percentile90 = getLong(json, "percentile90", -1L);
+        percentile99 = getLong(json, "percentile99", -1L);
+        percentile999 = getLong(json, "percentile999", -1L);
+        max = getLong(json, "max", -1L);
+    }
+
+    @Override
+    public String toString() {
+        LatencyStatsImpl stats = current();
+        return "LatencyStatsImpl{"
+                + "count=" + stats.count
+                + ", median=" + stats.median
+                + ", percentile90=" + stats.percentile90
+                + ", percentile99=" + stats.percentile99
+                + ", percentile999=" + stats.percentile999
+                + ", max=" + stats.max
+                + '}';
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.monitor.impl;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import com.hazelcast.map.MapDataSerializerHook;
+import com.hazelcast.monitor.LatencyStats;
 import com.hazelcast.monitor.LocalMapStats;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -26,10 +27,15 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.util.Clock;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import static com.hazelcast.util.JsonUtil.getInt;
 import static com.hazelcast.util.JsonUtil.getLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Default implementation of {@link LocalMapStats}
@@ -65,8 +71,10 @@ public class LocalMapStatsImpl
             .newUpdater(LocalMapStatsImpl.class, "maxPutLatency");
     private static final AtomicLongFieldUpdater<LocalMapStatsImpl> MAX_REMOVE_LATENCY_UPDATER = AtomicLongFieldUpdater
             .newUpdater(LocalMapStatsImpl.class, "maxRemoveLatency");
+    private static final AtomicLongFieldUpdater<LocalMapStatsImpl> TOTAL_QUERY_CPU_TIME_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(LocalMapStatsImpl.class, "totalQueryCpuTime");
 
-    // These fields are only accessed through the updaters
+    // These fields are only accessed through the updaters; latencies are in nanoseconds
     private volatile long lastAccessTime;
     private volatile long lastUpdateTime;
     private volatile long hits;
@@ -81,6 +89,7 @@ public class LocalMapStatsImpl
     private volatile long maxGetLatency;
     private volatile long maxPutLatency;
     private volatile long maxRemoveLatency;
+    private volatile long totalQueryCpuTime;
 
 
     private long creationTime;
@@ -98,8 +107,36 @@ public class LocalMapStatsImpl
 
     private NearCacheStatsImpl nearCacheStats;
 
+    private Map<String, Long> hotKeys = Collections.emptyMap();
+    private Map<Integer, Long> hotPartitions = Collections.emptyMap();
+
+    private long totalValueCompressionCount;
+    private long totalUncompressedValueBytes;
+    private long totalCompressedValueBytes;
+    private long valueCompressionNanos;
+    private long valueDecompressionNanos;
+
+    private final LatencyStatsImpl getLatencyStats;
+    private final LatencyStatsImpl putLatencyStats;
+    private final LatencyStatsImpl removeLatencyStats;
+    private final LatencyStatsImpl queryLatencyStats;
+    private final LatencyStatsImpl entryProcessorLatencyStats;
+
     public LocalMapStatsImpl() {
+        this(0);
+    }
+
+    /**
+     * @param latencyWindowMillis length of the window latency percentiles are reported over,
+     *                            or 0 to report them since creation
+     */
+    public LocalMapStatsImpl(long latencyWindowMillis) {
         creationTime = Clock.currentTimeMillis();
+        getLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
+        putLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
+        removeLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
+        queryLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
+        entryProcessorLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
     }
 
 
@@ -121,6 +158,8 @@ public class LocalMapStatsImpl
         dirtyEntryCount = 0;
         backupCount = 0;
         hits = 0;
+        hotKeys = Collections.emptyMap();
+        hotPartitions = Collections.emptyMap();
     }
 
     @Override
@@ -142,13 +181,34 @@ public class LocalMapStatsImpl
         out.writeLong(creationTime);
         out.writeLong(lockedEntryCount);
         out.writeLong(dirtyEntryCount);
-        out.writeLong(totalGetLatencies);
-        out.writeLong(totalPutLatencies);
-        out.writeLong(totalRemoveLatencies);
-        out.writeLong(maxGetLatency);
-        out.writeLong(maxPutLatency);
-        out.writeLong(maxRemoveLatency);
+        out.writeLong(getTotalGetLatency());
+        out.writeLong(getTotalPutLatency());
+        out.writeLong(getTotalRemoveLatency());
+        out.writeLong(getMaxGetLatency());
+        out.writeLong(getMaxPutLatency());
+        out.writeLong(getMaxRemoveLatency());
         out.writeLong(heapCost);
+        getLatencyStats.writeData(out);
+        putLatencyStats.writeData(out);
+        removeLatencyStats.writeData(out);
+        queryLatencyStats.writeData(out);
+        entryProcessorLatencyStats.writeData(out);
+        out.writeInt(hotKeys.size());
+        for (Map.Entry<String, Long> entry : hotKeys.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        out.writeInt(hotPartitions.size());
+        for (Map.Entry<Integer, Long> entry : hotPartitions.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        out.writeLong(totalValueCompressionCount);
+        out.writeLong(totalUncompressedValueBytes);
+        out.writeLong(totalCompressedValueBytes);
+        out.writeLong(valueCompressionNanos);
+        out.writeLong(valueDecompressionNanos);
+        out.writeLong(totalQueryCpuTime);
         boolean hasNearCache = nearCacheStats != null;
         out.writeBoolean(hasNearCache);
         if (hasNearCache) {
@@ -175,13 +235,34 @@ public class LocalMapStatsImpl
         creationTime = in.readLong();
         lockedEntryCount = in.readLong();
         dirtyEntryCount = in.readLong();
-        TOTAL_GET_LATENCIES_UPDATER.set(this, in.readLong());
-        TOTAL_PUT_LATENCIES_UPDATER.set(this, in.readLong());
-        TOTAL_REMOVE_LATENCIES_UPDATER.set(this, in.readLong());
-        MAX_GET_LATENCY_UPDATER.set(this, in.readLong());
-        MAX_PUT_LATENCY_UPDATER.set(this, in.readLong());
-        MAX_REMOVE_LATENCY_UPDATER.set(this, in.readLong());
+        TOTAL_GET_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
+        TOTAL_PUT_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
+        TOTAL_REMOVE_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
+        MAX_GET_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
+        MAX_PUT_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
+        MAX_REMOVE_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(in.readLong()));
         heapCost = in.readLong();
+        getLatencyStats.readData(in);
+        putLatencyStats.readData(in);
+        removeLatencyStats.readData(in);
+        queryLatencyStats.readData(in);
+        entryProcessorLatencyStats.readData(in);
+        int hotKeyCount = in.readInt();
+        hotKeys = new LinkedHashMap<String, Long>(hotKeyCount);
+        for (int i = 0; i < hotKeyCount; i++) {
+            hotKeys.put(in.readUTF(), in.readLong());
+        }
+        int hotPartitionCount = in.readInt();
+        hotPartitions = new LinkedHashMap<Integer, Long>(hotPartitionCount);
+        for (int i = 0; i < hotPartitionCount; i++) {
+            hotPartitions.put(in.readInt(), in.readLong());
+        }
+        totalValueCompressionCount = in.readLong();
+        totalUncompressedValueBytes = in.readLong();
+        totalCompressedValueBytes = in.readLong();
+        valueCompressionNanos = in.readLong();
+        valueDecompressionNanos = in.readLong();
+        TOTAL_QUERY_CPU_TIME_UPDATER.set(this, in.readLong());
         boolean hasNearCache = in.readBoolean();
         if (hasNearCache) {
             nearCacheStats = new NearCacheStatsImpl();
@@ -310,10 +391,11 @@ public class LocalMapStatsImpl
         return putCount;
     }
 
-    public void incrementPuts(long latency) {
+    public void incrementPuts(long latencyNanos) {
         PUT_COUNT_UPDATER.incrementAndGet(this);
-        TOTAL_PUT_LATENCIES_UPDATER.addAndGet(this, latency);
-        MAX_PUT_LATENCY_UPDATER.set(this, Math.max(maxPutLatency, latency));
+        TOTAL_PUT_LATENCIES_UPDATER.addAndGet(this, latencyNanos);
+        MAX_PUT_LATENCY_UPDATER.set(this, Math.max(maxPutLatency, latencyNanos));
+        putLatencyStats.recordNanos(latencyNanos);
     }
 
     @Override
@@ -321,10 +403,11 @@ public class LocalMapStatsImpl
         return getCount;
     }
 
-    public void incrementGets(long latency) {
+    public void incrementGets(long latencyNanos) {
         GET_COUNT_UPDATER.incrementAndGet(this);
-        TOTAL_GET_LATENCIES_UPDATER.addAndGet(this, latency);
-        MAX_GET_LATENCY_UPDATER.set(this, Math.max(maxGetLatency, latency));
+        TOTAL_GET_LATENCIES_UPDATER.addAndGet(this, latencyNanos);
+        MAX_GET_LATENCY_UPDATER.set(this, Math.max(maxGetLatency, latencyNanos));
+        getLatencyStats.recordNanos(latencyNanos);
     }
 
     @Override
@@ -332,40 +415,83 @@ public class LocalMapStatsImpl
         return removeCount;
     }
 
-    public void incrementRemoves(long latency) {
+    public void incrementRemoves(long latencyNanos) {
         REMOVE_COUNT_UPDATER.incrementAndGet(this);
-        TOTAL_REMOVE_LATENCIES_UPDATER.addAndGet(this, latency);
-        MAX_REMOVE_LATENCY_UPDATER.set(this, Math.max(maxRemoveLatency, latency));
+        TOTAL_REMOVE_LATENCIES_UPDATER.addAndGet(this, latencyNanos);
+        MAX_REMOVE_LATENCY_UPDATER.set(this, Math.max(maxRemoveLatency, latencyNanos));
+        removeLatencyStats.recordNanos(latencyNanos);
     }
 
     @Override
     public long getTotalPutLatency() {
-        return totalPutLatencies;
+        return NANOSECONDS.toMillis(totalPutLatencies);
     }
 
     @Override
     public long getTotalGetLatency() {
-        return totalGetLatencies;
+        return NANOSECONDS.toMillis(totalGetLatencies);
     }
 
     @Override
     public long getTotalRemoveLatency() {
-        return totalRemoveLatencies;
+        return NANOSECONDS.toMillis(totalRemoveLatencies);
     }
 
     @Override
     public long getMaxPutLatency() {
-        return maxPutLatency;
+        return NANOSECONDS.toMillis(maxPutLatency);
     }
 
     @Override
     public long getMaxGetLatency() {
-        return maxGetLatency;
+        return NANOSECONDS.toMillis(maxGetLatency);
     }
 
     @Override
     public long getMaxRemoveLatency() {
-        return maxRemoveLatency;
+        return NANOSECONDS.toMillis(maxRemoveLatency);
+    }
+
+    @Override
+    public LatencyStats getGetLatencyStats() {
+        return getLatencyStats;
+    }
+
+    @Override
+    public LatencyStats getPutLatencyStats() {
+        return putLatencyStats;
+    }
+
+    @Override
+    public LatencyStats getRemoveLatencyStats() {
+        return removeLatencyStats;
+    }
+
+    @Override
+    public LatencyStats getQueryLatencyStats() {
+        return queryLatencyStats;
+    }
+
+    public void recordQueryLatency(long latencyNanos) {
+        queryLatencyStats.recordNanos(latencyNanos);
+    }
+
+    @Override
+    public long getTotalQueryCpuTime() {
+        return NANOSECONDS.toMillis(totalQueryCpuTime);
+    }
+
+    public void recordQueryCpuTime(long cpuNanos) {
+        TOTAL_QUERY_CPU_TIME_UPDATER.addAndGet(this, cpuNanos);
+    }
+
+    @Override
+    public LatencyStats getEntryProcessorLatencyStats() {
+        return entryProcessorLatencyStats;
+    }
+
+    public void recordEntryProcessorLatency(long latencyNanos) {
+        entryProcessorLatencyStats.recordNanos(latencyNanos);
     }
 
     @Override
@@ -400,6 +526,53 @@ public class LocalMapStatsImpl
         return nearCacheStats;
     }
 
+    @Override
+    public Map<String, Long> getHotKeys() {
+        return hotKeys;
+    }
+
+    public void setHotKeys(Map<String, Long> hotKeys) {
+        this.hotKeys = hotKeys;
+    }
+
+    @Override
+    public Map<Integer, Long> getHotPartitions() {
+        return hotPartitions;
+    }
+
+    public void setHotPartitions(Map<Integer, Long> hotPartitions) {
+        this.hotPartitions = hotPartitions;
+    }
+
+    @Override
+    public long getTotalValueCompressionCount() {
+        return totalValueCompressionCount;
+    }
+
+    @Override
+    public double getValueCompressionRatio() {
+        return totalCompressedValueBytes == 0 ? 0 : (double) totalUncompressedValueBytes / totalCompressedValueBytes;
+    }
+
+    @Override
+    public long getTotalValueCompressionTime() {
+        return NANOSECONDS.toMillis(valueCompressionNanos);
+    }
+
+    @Override
+    public long getTotalValueDecompressionTime() {
+        return NANOSECONDS.toMillis(valueDecompressionNanos);
+    }
+
+    public void setValueCompressionStats(long count, long uncompressedBytes, long compressedBytes,
+                                         long compressionNanos, long decompressionNanos) {
+        this.totalValueCompressionCount = count;
+        this.totalUncompressedValueBytes = uncompressedBytes;
+        this.totalCompressedValueBytes = compressedBytes;
+        this.valueCompressionNanos = compressionNanos;
+        this.valueDecompressionNanos = decompressionNanos;
+    }
+
     public void setNearCacheStats(NearCacheStatsImpl nearCacheStats) {
         this.nearCacheStats = nearCacheStats;
     }
@@ -432,13 +605,34 @@ public class LocalMapStatsImpl
         root.add("creationTime", creationTime);
         root.add("lockedEntryCount", lockedEntryCount);
         root.add("dirtyEntryCount", dirtyEntryCount);
-        root.add("totalGetLatencies", totalGetLatencies);
-        root.add("totalPutLatencies", totalPutLatencies);
-        root.add("totalRemoveLatencies", totalRemoveLatencies);
-        root.add("maxGetLatency", maxGetLatency);
-        root.add("maxPutLatency", maxPutLatency);
-        root.add("maxRemoveLatency", maxRemoveLatency);
+        root.add("totalGetLatencies", getTotalGetLatency());
+        root.add("totalPutLatencies", getTotalPutLatency());
+        root.add("totalRemoveLatencies", getTotalRemoveLatency());
+        root.add("maxGetLatency", getMaxGetLatency());
+        root.add("maxPutLatency", getMaxPutLatency());
+        root.add("maxRemoveLatency", getMaxRemoveLatency());
         root.add("heapCost", heapCost);
+        root.add("getLatencyStats", getLatencyStats.toJson());
+        root.add("putLatencyStats", putLatencyStats.toJson());
+        root.add("removeLatencyStats", removeLatencyStats.toJson());
+        root.add("queryLatencyStats", queryLatencyStats.toJson());
+        root.add("entryProcessorLatencyStats", entryProcessorLatencyStats.toJson());
+        JsonObject jsonHotKeys = new JsonObject();
+        for (Map.Entry<String, Long> entry : hotKeys.entrySet()) {
+            jsonHotKeys.add(entry.getKey(), entry.getValue());
+        }
+        root.add("hotKeys", jsonHotKeys);
+        JsonObject jsonHotPartitions = new JsonObject();
+        for (Map.Entry<Integer, Long> entry : hotPartitions.entrySet()) {
+            jsonHotPartitions.add(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        root.add("hotPartitions", jsonHotPartitions);
+        root.add("totalValueCompressionCount", totalValueCompressionCount);
+        root.add("totalUncompressedValueBytes", totalUncompressedValueBytes);
+        root.add("totalCompressedValueBytes", totalCompressedValueBytes);
+        root.add("valueCompressionNanos", valueCompressionNanos);
+        root.add("valueDecompressionNanos", valueDecompressionNanos);
+        root.add("totalQueryCpuTime", totalQueryCpuTime);
         if (nearCacheStats != null) {
             root.add("nearCacheStats", nearCacheStats.toJson());
         }
@@ -463,13 +657,38 @@ public class LocalMapStatsImpl
         creationTime = getLong(json, "creationTime", -1L);
         lockedEntryCount = getLong(json, "lockedEntryCount", -1L);
         dirtyEntryCount = getLong(json, "dirtyEntryCount", -1L);
-        TOTAL_GET_LATENCIES_UPDATER.set(this, getLong(json, "totalGetLatencies", -1L));
-        TOTAL_PUT_LATENCIES_UPDATER.set(this, getLong(json, "totalPutLatencies", -1L));
-        TOTAL_REMOVE_LATENCIES_UPDATER.set(this, getLong(json, "totalRemoveLatencies", -1L));
-        MAX_GET_LATENCY_UPDATER.set(this, getLong(json, "maxGetLatency", -1L));
-        MAX_PUT_LATENCY_UPDATER.set(this, getLong(json, "maxPutLatency", -1L));
-        MAX_REMOVE_LATENCY_UPDATER.set(this, getLong(json, "maxRemoveLatency", -1L));
+        TOTAL_GET_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "totalGetLatencies", -1L)));
+        TOTAL_PUT_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "totalPutLatencies", -1L)));
+        TOTAL_REMOVE_LATENCIES_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "totalRemoveLatencies", -1L)));
+        MAX_GET_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "maxGetLatency", -1L)));
+        MAX_PUT_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "maxPutLatency", -1L)));
+        MAX_REMOVE_LATENCY_UPDATER.set(this, MILLISECONDS.toNanos(getLong(json, "maxRemoveLatency", -1L)));
         heapCost = getLong(json, "heapCost", -1L);
+        totalValueCompressionCount = getLong(json, "totalValueCompressionCount", 0L);
+        totalUncompressedValueBytes = getLong(json, "totalUncompressedValueBytes", 0L);
+        totalCompressedValueBytes = getLong(json, "totalCompressedValueBytes", 0L);
+        valueCompressionNanos = getLong(json, "valueCompressionNanos", 0L);
+        valueDecompressionNanos = getLong(json, "valueDecompressionNanos", 0L);
+        TOTAL_QUERY_CPU_TIME_UPDATER.set(this, getLong(json, "totalQueryCpuTime", 0L));
+        readLatencyStats(json, "getLatencyStats", getLatencyStats);
+        readLatencyStats(json, "putLatencyStats", putLatencyStats);
+        readLatencyStats(json, "removeLatencyStats", removeLatencyStats);
+        readLatencyStats(json, "queryLatencyStats", queryLatencyStats);
+        readLatencyStats(json, "entryProcessorLatencyStats", entryProcessorLatencyStats);
+        hotKeys = new LinkedHashMap<String, Long>();
+        final JsonValue jsonHotKeys = json.get("hotKeys");
+        if (jsonHotKeys != null) {
+            for (JsonObject.Member member : jsonHotKeys.asObject()) {
+                hotKeys.put(member.getName(), member.getValue().asLong());
+            }
+        }
+        hotPartitions = new LinkedHashMap<Integer, Long>();
+        final JsonValue jsonHotPartitions = json.get("hotPartitions");
+        if (jsonHotPartitions != null) {
+            for (JsonObject.Member member : jsonHotPartitions.asObject()) {
+                hotPartitions.put(Integer.valueOf(member.getName()), member.getValue().asLong());
+            }
+        }
         final JsonValue jsonNearCacheStats = json.get("nearCacheStats");
         if (jsonNearCacheStats != null) {
             nearCacheStats = new NearCacheStatsImpl();
@@ -477,6 +696,13 @@ public class LocalMapStatsImpl
         }
     }
 
+    private static void readLatencyStats(JsonObject json, String name, LatencyStatsImpl latencyStats) {
+        JsonValue value = json.get(name);
+        if (value != null) {
+            latencyStats.fromJson(value.asObject());
+        }
+    }
+
     @Override
     public String toString() {
         return "LocalMapStatsImpl{"
@@ -488,9 +714,12 @@ public class LocalMapStatsImpl
                 + ", getCount=" + getCount
                 + ", putCount=" + putCount
                 + ", removeCount=" + removeCount
-                + ", totalGetLatencies=" + totalGetLatencies
-                + ", totalPutLatencies=" + totalPutLatencies
-                + ", totalRemoveLatencies=" + totalRemoveLatencies
+                + ", totalGetLatencies=" + getTotalGetLatency()
+                + ", totalPutLatencies=" + getTotalPutLatency()
+                + ", totalRemoveLatencies=" + getTotalRemoveLatency()
+                + ", getLatencyStats=" + getLatencyStats
+                + ", putLatencyStats=" + putLatencyStats
+                + ", removeLatencyStats=" + removeLatencyStats
                 + ", ownedEntryCount=" + ownedEntryCount
                 + ", backupEntryCount=" + backupEntryCount
                 + ", backupCount=" + backupCount
@@ -500,6 +729,11 @@ public class LocalMapStatsImpl
                 + ", lockedEntryCount=" + lockedEntryCount
                 + ", dirtyEntryCount=" + dirtyEntryCount
                 + ", heapCost=" + heapCost
+                + ", hotKeys=" + hotKeys
+                + ", hotPartitions=" + hotPartitions
+                + ", totalValueCompressionCount=" + totalValueCompressionCount
+                + ", valueCompressionRatio=" + getValueCompressionRatio()
+                + ", totalQueryCpuTime=" + getTotalQueryCpuTime()
                 + '}';
     }
 }
@@ -19,4 +19,11 @@ package com.hazelcast.monitor.impl;
 import com.hazelcast.monitor.LocalMultiMapStats;
 
 public class LocalMultiMapStatsImpl extends LocalMapStatsImpl implements LocalMultiMapStats {
+
+    public LocalMultiMapStatsImpl() {
+    }
+
+    public LocalMultiMapStatsImpl(long latencyWindowMillis) {
+        super(latencyWindowMillis);
+    }
 }
@@ -17,6 +17,8 @@
 package com.hazelcast.monitor.impl;
 
 import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.hazelcast.monitor.LatencyStats;
 import com.hazelcast.monitor.LocalQueueStats;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -57,8 +59,21 @@ public class LocalQueueStatsImpl
     private volatile long numberOfOtherOperations;
     private volatile long numberOfEvents;
 
+    private final LatencyStatsImpl offerLatencyStats;
+    private final LatencyStatsImpl pollLatencyStats;
+
     public LocalQueueStatsImpl() {
+        this(0);
+    }
+
+    /**
+     * @param latencyWindowMillis length of the window latency percentiles are reported over,
+     *                            or 0 to report them since creation
+     */
+    public LocalQueueStatsImpl(long latencyWindowMillis) {
         creationTime = Clock.currentTimeMillis();
+        offerLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
+        pollLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
     }
 
     @Override
@@ -76,6 +91,8 @@ public class LocalQueueStatsImpl
         root.add("numberOfEmptyPolls", numberOfEmptyPolls);
         root.add("numberOfOtherOperations", numberOfOtherOperations);
         root.add("numberOfEvents", numberOfEvents);
+        root.add("offerLatencyStats", offerLatencyStats.toJson());
+        root.add("pollLatencyStats", pollLatencyStats.toJson());
         return root;
     }
 
@@ -93,6 +110,14 @@ public class LocalQueueStatsImpl
         NUMBER_OF_EMPTY_POLLS_UPDATER.set(this, getLong(json, "numberOfEmptyPolls", -1L));
         NUMBER_OF_OTHER_OPERATIONS_UPDATER.set(this, getLong(json, "numberOfOtherOperations", -1L));
         NUMBER_OF_EVENTS_UPDATER.set(this, getLong(json, "numberOfEvents", -1L));
+        JsonValue offerLatency = json.get("offerLatencyStats");
+        if (offerLatency != null) {
+            offerLatencyStats.fromJson(offerLatency.asObject());
+        }
+        JsonValue pollLatency = json.get("pollLatencyStats");
+        if (pollLatency != null) {
+            pollLatencyStats.fromJson(pollLatency.asObject());
+        }
     }
 
 
@@ -111,6 +136,8 @@ public class LocalQueueStatsImpl
         out.writeLong(numberOfEmptyPolls);
         out.writeLong(numberOfOtherOperations);
         out.writeLong(numberOfEvents);
+        offerLatencyStats.writeData(out);
+        pollLatencyStats.writeData(out);
     }
 
     @Override
@@ -128,6 +155,8 @@ public class LocalQueueStatsImpl
         NUMBER_OF_EMPTY_POLLS_UPDATER.set(this, in.readLong());
         NUMBER_OF_OTHER_OPERATIONS_UPDATER.set(this, in.readLong());
         NUMBER_OF_EVENTS_UPDATER.set(this, in.readLong());
+        offerLatencyStats.readData(in);
+        pollLatencyStats.readData(in);
     }
 
     @Override
@@ -237,4 +266,22 @@ public class LocalQueueStatsImpl
     public long getEventOperationCount() {
         return numberOfEvents;
     }
+
+    @Override
+    public LatencyStats getOfferLatencyStats() {
+        return offerLatencyStats;
+    }
+
+    public void recordOfferLatency(long latencyNanos) {
+        offerLatencyStats.recordNanos(latencyNanos);
+    }
+
+    @Override
+    public LatencyStats getPollLatencyStats() {
+        return pollLatencyStats;
+    }
+
+    public void recordPollLatency(long latencyNanos) {
+        pollLatencyStats.recordNanos(latencyNanos);
+    }
 }
@@ -24,6 +24,7 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.replicatedmap.operation.ReplicatedMapDataSerializerHook;
 import com.hazelcast.util.Clock;
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import static com.hazelcast.util.JsonUtil.getLong;
@@ -383,6 +384,66 @@ public class LocalReplicatedMapStatsImpl
         throw new UnsupportedOperationException("Replicated map has no Near Cache!");
     }
 
+    @Override
+    public LatencyStatsImpl getGetLatencyStats() {
+        throw new UnsupportedOperationException("Replicated map has no latency histograms!");
+    }
+
+    @Override
+    public LatencyStatsImpl getPutLatencyStats() {
+        throw new UnsupportedOperationException("Replicated map has no latency histograms!");
+    }
+
+    @Override
+    public LatencyStatsImpl getRemoveLatencyStats() {
+        throw new UnsupportedOperationException("Replicated map has no latency histograms!");
+    }
+
+    @Override
+    public LatencyStatsImpl getQueryLatencyStats() {
+        throw new UnsupportedOperationException("Replicated map has no latency histograms!");
+    }
+
+    @Override
+    public LatencyStatsImpl getEntryProcessorLatencyStats() {
+        throw new UnsupportedOperationException("Replicated map has no latency histograms!");
+    }
+
+    @Override
+    public Map<String, Long> getHotKeys() {
+        throw new UnsupportedOperationException("Replicated map has no hot key tracking!");
+    }
+
+    @Override
+    public Map<Integer, Long> getHotPartitions() {
+        throw new UnsupportedOperationException("Replicated map has no hot key tracking!");
+    }
+
+    @Override
+    public long getTotalValueCompressionCount() {
+        throw new UnsupportedOperationException("Replicated map has no value compression!");
+    }
+
+    @Override
+    public double getValueCompressionRatio() {
+        throw new UnsupportedOperationException("Replicated map has no value compression!");
+    }
+
+    @Override
+    public long getTotalValueCompressionTime() {
+        throw new UnsupportedOperationException("Replicated map has no value compression!");
+    }
+
+    @Override
+    public long getTotalValueDecompressionTime() {
+        throw new UnsupportedOperationException("Replicated map has no value compression!");
+    }
+
+    @Override
+    public long getTotalQueryCpuTime() {
+        throw new UnsupportedOperationException("Replicated map has no predicate queries!");
+    }
+
     public String toString() {
         return "LocalReplicatedMapStatsImpl{" + "lastAccessTime=" + lastAccessTime + ", lastUpdateTime=" + lastUpdateTime
                 + ", hits=" + hits + ", numberOfOtherOperations=" + numberOfOtherOperations + ", numberOfEvents=" + numberOfEvents
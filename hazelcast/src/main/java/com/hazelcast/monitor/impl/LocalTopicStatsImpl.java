@@ -17,6 +17,8 @@
 package com.hazelcast.monitor.impl;
 
 import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.hazelcast.monitor.LatencyStats;
 import com.hazelcast.monitor.LocalTopicStats;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -39,8 +41,19 @@ public class LocalTopicStatsImpl
     private volatile long totalPublishes;
     private volatile long totalReceivedMessages;
 
+    private final LatencyStatsImpl publishLatencyStats;
+
     public LocalTopicStatsImpl() {
+        this(0);
+    }
+
+    /**
+     * @param latencyWindowMillis length of the window latency percentiles are reported over,
+     *                            or 0 to report them since creation
+     */
+    public LocalTopicStatsImpl(long latencyWindowMillis) {
         creationTime = Clock.currentTimeMillis();
+        publishLatencyStats = new LatencyStatsImpl(latencyWindowMillis);
     }
 
     @Override
@@ -49,6 +62,7 @@ public class LocalTopicStatsImpl
         out.writeLong(creationTime);
         out.writeLong(totalPublishes);
         out.writeLong(totalReceivedMessages);
+        publishLatencyStats.writeData(out);
     }
 
     @Override
@@ -57,6 +71,7 @@ public class LocalTopicStatsImpl
         creationTime = in.readLong();
         TOTAL_PUBLISHES_UPDATER.set(this, in.readLong());
         TOTAL_RECEIVED_MESSAGES_UPDATER.set(this, in.readLong());
+        publishLatencyStats.readData(in);
     }
 
     @Override
@@ -70,6 +85,7 @@ public class LocalTopicStatsImpl
         root.add("creationTime", creationTime);
         root.add("totalPublishes", totalPublishes);
         root.add("totalReceivedMessages", totalReceivedMessages);
+        root.add("publishLatencyStats", publishLatencyStats.toJson());
         return root;
     }
 
@@ -78,6 +94,10 @@ public class LocalTopicStatsImpl
         creationTime = getLong(json, "creationTime", -1L);
         TOTAL_PUBLISHES_UPDATER.set(this, getLong(json, "totalPublishes", -1L));
         TOTAL_RECEIVED_MESSAGES_UPDATER.set(this, getLong(json, "totalReceivedMessages", -1L));
+        JsonValue publishLatency = json.get("publishLatencyStats");
+        if (publishLatency != null) {
+            publishLatencyStats.fromJson(publishLatency.asObject());
+        }
     }
 
     @Override
@@ -89,6 +109,15 @@ public class LocalTopicStatsImpl
         TOTAL_PUBLISHES_UPDATER.incrementAndGet(this);
     }
 
+    @Override
+    public LatencyStats getPublishLatencyStats() {
+        return publishLatencyStats;
+    }
+
+    public void recordPublishLatency(long latencyNanos) {
+        publishLatencyStats.recordNanos(latencyNanos);
+    }
+
     @Override
     public long getReceiveOperationCount() {
         return totalReceivedMessages;
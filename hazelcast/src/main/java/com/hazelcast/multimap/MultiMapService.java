@@ -59,6 +59,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public class MultiMapService implements ManagedService, RemoteService, MigrationAwareService,
         EventPublishingService<EventData, EntryListener>, TransactionalService {
@@ -75,12 +76,13 @@ public class MultiMapService implements ManagedService, RemoteService, Migration
             new ConstructorFunction<String, LocalMultiMapStatsImpl>() {
 
                 public LocalMultiMapStatsImpl createNew(String key) {
-                    return new LocalMultiMapStatsImpl();
+                    return new LocalMultiMapStatsImpl(latencyWindowMillis);
                 }
             };
     private final ILogger logger;
     private final MultiMapEventsDispatcher dispatcher;
     private final MultiMapEventsPublisher publisher;
+    private final long latencyWindowMillis;
 
     public MultiMapService(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -89,6 +91,7 @@ public class MultiMapService implements ManagedService, RemoteService, Migration
         this.logger = nodeEngine.getLogger(MultiMapService.class);
         dispatcher = new MultiMapEventsDispatcher(this, nodeEngine.getClusterService());
         publisher = new MultiMapEventsPublisher(nodeEngine);
+        latencyWindowMillis = TimeUnit.SECONDS.toMillis(nodeEngine.getGroupProperties().LATENCY_STATS_WINDOW_SECONDS.getLong());
     }
 
     public void init(final NodeEngine nodeEngine, Properties properties) {
@@ -21,11 +21,12 @@ import com.hazelcast.multimap.MultiMapWrapper;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.KeyBasedOperation;
 import com.hazelcast.spi.PartitionAwareOperation;
 import java.io.IOException;
 import java.util.Collection;
 
-public abstract class MultiMapKeyBasedOperation extends MultiMapOperation implements PartitionAwareOperation {
+public abstract class MultiMapKeyBasedOperation extends MultiMapOperation implements PartitionAwareOperation, KeyBasedOperation {
 
     protected Data dataKey;
 
@@ -37,6 +38,11 @@ public abstract class MultiMapKeyBasedOperation extends MultiMapOperation implem
         this.dataKey = dataKey;
     }
 
+    @Override
+    public final int getKeyHash() {
+        return dataKey != null ? dataKey.hashCode() : 0;
+    }
+
     public final MultiMapWrapper getOrCreateCollectionWrapper() {
         return getOrCreateContainer().getOrCreateMultiMapWrapper(dataKey);
     }
@@ -26,6 +26,7 @@ import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.EventRegistration;
 import com.hazelcast.spi.EventService;
+import com.hazelcast.spi.NamedOperation;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionAwareOperation;
 
@@ -33,7 +34,7 @@ import java.io.IOException;
 import java.util.Collection;
 
 public abstract class MultiMapOperation extends Operation
-        implements PartitionAwareOperation, IdentifiedDataSerializable {
+        implements PartitionAwareOperation, NamedOperation, IdentifiedDataSerializable {
 
     protected String name;
     protected transient Object response;
@@ -46,6 +47,11 @@ public abstract class MultiMapOperation extends Operation
         this.name = name;
     }
 
+    @Override
+    public final String getName() {
+        return name;
+    }
+
     public final Object getResponse() {
         return response;
     }
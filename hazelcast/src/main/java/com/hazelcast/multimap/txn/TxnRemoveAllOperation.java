@@ -28,7 +28,6 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.BackupAwareOperation;
 import com.hazelcast.spi.Operation;
-import com.hazelcast.util.Clock;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -53,7 +52,7 @@ public class TxnRemoveAllOperation extends MultiMapKeyBasedOperation implements
     }
 
     public void run() throws Exception {
-        begin = Clock.currentTimeMillis();
+        begin = System.nanoTime();
         MultiMapContainer container = getOrCreateContainer();
         MultiMapWrapper wrapper = container.getOrCreateMultiMapWrapper(dataKey);
         response = true;
@@ -83,7 +82,7 @@ public class TxnRemoveAllOperation extends MultiMapKeyBasedOperation implements
     }
 
     public void afterRun() throws Exception {
-        long elapsed = Math.max(0, Clock.currentTimeMillis() - begin);
+        long elapsed = Math.max(0, System.nanoTime() - begin);
         final MultiMapService service = getService();
         service.getLocalMultiMapStatsImpl(name).incrementRemoves(elapsed);
         if (removed != null) {
@@ -59,6 +59,8 @@ public interface IOService {
 
     boolean isMemcacheEnabled();
 
+    int getMemcacheMaxBodyLength();
+
     boolean isRestEnabled();
 
     void removeEndpoint(Address endpoint);
@@ -18,6 +18,7 @@ package com.hazelcast.nio;
 
 import com.hazelcast.logging.Logger;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -77,6 +78,20 @@ public final class IOUtil {
         }
     }
 
+    /**
+     * Writes the object as {@link #writeNullableData(ObjectDataOutput, Data)} would write its Data, without
+     * converting it to Data first when the serialization service can write it in place.
+     */
+    public static void writeNullableData(ObjectDataOutput out, Object obj, SerializationService ss) throws IOException {
+        if (obj != null) {
+            out.writeBoolean(true);
+            ss.writeData(out, obj);
+        } else {
+            // null
+            out.writeBoolean(false);
+        }
+    }
+
     public static Data readNullableData(ObjectDataInput in) throws IOException {
         final boolean isNotNull = in.readBoolean();
         if (isNotNull) {
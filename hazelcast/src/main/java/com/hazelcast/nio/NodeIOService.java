@@ -125,6 +125,11 @@ public class NodeIOService implements IOService {
         return node.groupProperties.MEMCACHE_ENABLED.getBoolean();
     }
 
+    @Override
+    public int getMemcacheMaxBodyLength() {
+        return node.groupProperties.MEMCACHE_MAX_BODY_LENGTH.getInteger();
+    }
+
     @Override
     public boolean isRestEnabled() {
         return node.groupProperties.REST_ENABLED.getBoolean();
@@ -19,6 +19,8 @@ package com.hazelcast.nio.ascii;
 import com.hazelcast.ascii.CommandParser;
 import com.hazelcast.ascii.TextCommand;
 import com.hazelcast.ascii.TextCommandService;
+import com.hazelcast.ascii.memcache.BinaryCommand;
+import com.hazelcast.ascii.memcache.BinaryMultiGetCommand;
 import com.hazelcast.ascii.memcache.GetCommandParser;
 import com.hazelcast.ascii.memcache.SetCommandParser;
 import com.hazelcast.ascii.memcache.DeleteCommandParser;
@@ -38,7 +40,9 @@ import com.hazelcast.nio.tcp.TcpIpConnection;
 import com.hazelcast.util.StringUtil;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.hazelcast.ascii.TextCommandConstants.TextCommandType.ADD;
@@ -90,7 +94,11 @@ public class SocketTextReader implements SocketReader {
     private final TcpIpConnection connection;
     private final boolean restEnabled;
     private final boolean memcacheEnabled;
+    private final int memcacheMaxBodyLength;
     private boolean connectionTypeSet;
+    private boolean binary;
+    private boolean protocolDetected;
+    private List<BinaryCommand> pendingGets;
     private long requestIdGen;
     private final ILogger logger;
 
@@ -100,6 +108,7 @@ public class SocketTextReader implements SocketReader {
         this.socketTextWriter = (SocketTextWriter) connection.getWriteHandler().getSocketWriter();
         this.connection = connection;
         this.memcacheEnabled = ioService.isMemcacheEnabled();
+        this.memcacheMaxBodyLength = ioService.getMemcacheMaxBodyLength();
         this.restEnabled = ioService.isRestEnabled();
         this.logger = ioService.getLogger(this.getClass().getName());
     }
@@ -109,11 +118,61 @@ public class SocketTextReader implements SocketReader {
     }
 
     public void read(ByteBuffer inBuffer) {
+        if (!protocolDetected && inBuffer.hasRemaining()) {
+            binary = inBuffer.get(inBuffer.position()) == BinaryCommand.MAGIC_REQUEST;
+            protocolDetected = true;
+        }
+        if (binary) {
+            while (inBuffer.hasRemaining()) {
+                doReadBinary(inBuffer);
+            }
+            publishPendingGets();
+            return;
+        }
         while (inBuffer.hasRemaining()) {
             doRead(inBuffer);
         }
     }
 
+    /**
+     * Reads requests of the memcache binary protocol. Gets that arrive together, as sent by clients
+     * pipelining a multi-get, are collected and published as one batch once the buffer is consumed
+     * or another command arrives.
+     */
+    private void doReadBinary(ByteBuffer bb) {
+        if (command == null) {
+            command = new BinaryCommand(memcacheMaxBodyLength);
+        }
+        if (command.readFrom(bb)) {
+            BinaryCommand binaryCommand = (BinaryCommand) command;
+            command = null;
+            if (binaryCommand.isGet()) {
+                if (pendingGets == null) {
+                    pendingGets = new ArrayList<BinaryCommand>();
+                }
+                pendingGets.add(binaryCommand);
+            } else {
+                publishPendingGets();
+                publishRequest(binaryCommand);
+            }
+        }
+    }
+
+    private void publishPendingGets() {
+        if (pendingGets == null || pendingGets.isEmpty()) {
+            return;
+        }
+        if (pendingGets.size() == 1) {
+            publishRequest(pendingGets.get(0));
+        } else {
+            for (BinaryCommand get : pendingGets) {
+                get.init(this, requestIdGen++);
+            }
+            publishRequest(new BinaryMultiGetCommand(pendingGets));
+        }
+        pendingGets = null;
+    }
+
     private void doRead(ByteBuffer bb) {
         while (!commandLineRead && bb.hasRemaining()) {
             byte b = bb.get();
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.serialization;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A {@link Data} whose buffer is deflate compressed. Type, class definition and partition hash of the
+ * original Data are kept uncompressed, so {@link #toData()} gives back an equal Data.
+ * <p/>
+ * Deflaters and inflaters are cached per thread; creating them allocates native memory.
+ */
+public final class CompressedData implements DataSerializable {
+
+    private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.BEST_SPEED);
+        }
+    };
+
+    private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+    };
+
+    // the original data with the compressed buffer
+    private Data data;
+    private int size;
+
+    public CompressedData() {
+    }
+
+    private CompressedData(Data data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    /**
+     * Compresses the buffer of the data.
+     *
+     * @param data the data to compress
+     * @return the compressed data or null if the buffer does not get smaller
+     */
+    public static CompressedData compress(Data data) {
+        final byte[] buffer = data.buffer;
+        if (buffer == null || buffer.length == 0) {
+            return null;
+        }
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(buffer);
+        deflater.finish();
+        final byte[] compressed = new byte[buffer.length];
+        final int length = deflater.deflate(compressed);
+        if (!deflater.finished() || length >= buffer.length) {
+            return null;
+        }
+        final Data compressedData = new Data(data.type, Arrays.copyOf(compressed, length));
+        compressedData.classDefinition = data.classDefinition;
+        compressedData.partitionHash = data.getPartitionHash();
+        return new CompressedData(compressedData, buffer.length);
+    }
+
+    /**
+     * @return a new Data equal to the one this instance was compressed from
+     */
+    public Data toData() {
+        final Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(data.buffer);
+        final byte[] buffer = new byte[size];
+        try {
+            final int length = inflater.inflate(buffer);
+            if (length != size || !inflater.finished()) {
+                throw new HazelcastSerializationException("Corrupt compressed data, expected " + size
+                        + " bytes but inflated " + length);
+            }
+        } catch (DataFormatException e) {
+            throw new HazelcastSerializationException(e);
+        }
+        final Data result = new Data(data.type, buffer);
+        result.classDefinition = data.classDefinition;
+        result.partitionHash = data.partitionHash;
+        return result;
+    }
+
+    public int getCompressedSize() {
+        return data.bufferSize();
+    }
+
+    public int getUncompressedSize() {
+        return size;
+    }
+
+    public int getHeapCost() {
+        // data ref and size
+        return 4 + 4 + data.getHeapCost();
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        data.writeData(out);
+        out.writeInt(size);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        data = new Data();
+        data.readData(in);
+        size = in.readInt();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedData{type=" + data.type + ", size=" + size + ", compressedSize=" + data.bufferSize() + '}';
+    }
+}
@@ -183,10 +183,17 @@ public final class Data implements IdentifiedDataSerializable {
         if (buffer == null) {
             return 0;
         }
+        return calculateHash(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Calculates the hash of a region of a buffer the same way {@link #hashCode()} does for a whole buffer.
+     */
+    static int calculateHash(final byte[] buffer, int offset, int length) {
         // FNV (Fowler/Noll/Vo) Hash "1a"
         final int prime = 0x01000193;
         int hash = 0x811c9dc5;
-        for (int i = buffer.length - 1; i >= 0; i--) {
+        for (int i = offset + length - 1; i >= offset; i--) {
             hash = (hash ^ buffer[i]) * prime;
         }
         return hash;
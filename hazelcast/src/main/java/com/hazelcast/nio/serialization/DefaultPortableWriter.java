@@ -21,8 +21,6 @@ import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataOutput;
 
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 
 public class DefaultPortableWriter implements PortableWriter {
 
@@ -31,7 +29,7 @@ public class DefaultPortableWriter implements PortableWriter {
     private final BufferObjectDataOutput out;
     private final int begin;
     private final int offset;
-    private final Set<String> writtenFields;
+    private final boolean[] writtenFields;
     private boolean raw;
 
     public DefaultPortableWriter(PortableSerializer serializer, BufferObjectDataOutput out, ClassDefinition cd)
@@ -39,7 +37,7 @@ public class DefaultPortableWriter implements PortableWriter {
         this.serializer = serializer;
         this.out = out;
         this.cd = cd;
-        this.writtenFields = new HashSet<String>(cd.getFieldCount());
+        this.writtenFields = new boolean[cd.getFieldCount()];
         this.begin = out.position();
 
         // room for final offset
@@ -173,13 +171,12 @@ public class DefaultPortableWriter implements PortableWriter {
             throw new HazelcastSerializationException("Invalid field name: '" + fieldName
                     + "' for ClassDefinition {id: " + cd.getClassId() + ", version: " + cd.getVersion() + "}");
         }
-        if (writtenFields.add(fieldName)) {
-            int pos = out.position();
-            int index = fd.getIndex();
-            out.writeInt(offset + index * 4, pos);
-        } else {
+        int index = fd.getIndex();
+        if (writtenFields[index]) {
             throw new HazelcastSerializationException("Field '" + fieldName + "' has already been written!");
         }
+        writtenFields[index] = true;
+        out.writeInt(offset + index * 4, out.position());
     }
 
     public ObjectDataOutput getRawDataOutput() throws IOException {
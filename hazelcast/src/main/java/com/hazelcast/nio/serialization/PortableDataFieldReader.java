@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.serialization;
+
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.IOUtil;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+/**
+ * Reads a single field of a serialized {@link Portable} from its {@link Data}.
+ * <p/>
+ * Primitive fields of the top level Portable are decoded straight from the Data buffer using the field
+ * offset table written by {@link DefaultPortableWriter}; no input or reader is created for them.
+ * Other fields are read through a {@link DefaultPortableReader}.
+ */
+final class PortableDataFieldReader {
+
+    // [final position][field offsets...]
+    private static final int OFFSET_TABLE_POSITION = 4;
+
+    private final SerializationServiceImpl serializationService;
+    private final boolean bigEndian;
+
+    PortableDataFieldReader(SerializationServiceImpl serializationService, ByteOrder byteOrder) {
+        this.serializationService = serializationService;
+        this.bigEndian = byteOrder == ByteOrder.BIG_ENDIAN;
+    }
+
+    Object read(Data data, String fieldName) throws IOException {
+        ClassDefinition cd = data.getClassDefinition();
+        if (cd == null) {
+            throw new HazelcastSerializationException("Data does not contain a Portable: " + data);
+        }
+        FieldDefinition fd = cd.getField(fieldName);
+        if (fd == null) {
+            fd = serializationService.getPortableContext().getFieldDefinition(cd, fieldName);
+            if (fd == null) {
+                throw new HazelcastSerializationException("Unknown Portable field: " + fieldName);
+            }
+            return readWithReader(data, fieldName, fd.getType());
+        }
+        FieldType type = fd.getType();
+        byte[] buffer = data.buffer;
+        int pos = readInt(buffer, OFFSET_TABLE_POSITION + fd.getIndex() * 4);
+        switch (type) {
+            case INT:
+                return readInt(buffer, pos);
+            case LONG:
+                return readLong(buffer, pos);
+            case SHORT:
+                return (short) readShort(buffer, pos);
+            case CHAR:
+                return (char) readShort(buffer, pos);
+            case BYTE:
+                return buffer[pos];
+            case BOOLEAN:
+                return buffer[pos] != 0;
+            case FLOAT:
+                return Float.intBitsToFloat(readInt(buffer, pos));
+            case DOUBLE:
+                return Double.longBitsToDouble(readLong(buffer, pos));
+            case UTF:
+                return readUTF(data, pos);
+            default:
+                return readWithReader(data, fieldName, type);
+        }
+    }
+
+    private String readUTF(Data data, int pos) throws IOException {
+        BufferObjectDataInput in = serializationService.createObjectDataInput(data);
+        try {
+            in.position(pos);
+            return in.readUTF();
+        } finally {
+            IOUtil.closeResource(in);
+        }
+    }
+
+    private Object readWithReader(Data data, String fieldName, FieldType type) throws IOException {
+        PortableReader reader = serializationService.createPortableReader(data);
+        switch (type) {
+            case INT:
+                return reader.readInt(fieldName);
+            case LONG:
+                return reader.readLong(fieldName);
+            case SHORT:
+                return reader.readShort(fieldName);
+            case CHAR:
+                return reader.readChar(fieldName);
+            case BYTE:
+                return reader.readByte(fieldName);
+            case BOOLEAN:
+                return reader.readBoolean(fieldName);
+            case FLOAT:
+                return reader.readFloat(fieldName);
+            case DOUBLE:
+                return reader.readDouble(fieldName);
+            case UTF:
+                return reader.readUTF(fieldName);
+            case PORTABLE:
+                return reader.readPortable(fieldName);
+            case PORTABLE_ARRAY:
+                return reader.readPortableArray(fieldName);
+            case BYTE_ARRAY:
+                return reader.readByteArray(fieldName);
+            case CHAR_ARRAY:
+                return reader.readCharArray(fieldName);
+            case SHORT_ARRAY:
+                return reader.readShortArray(fieldName);
+            case INT_ARRAY:
+                return reader.readIntArray(fieldName);
+            case LONG_ARRAY:
+                return reader.readLongArray(fieldName);
+            case FLOAT_ARRAY:
+                return reader.readFloatArray(fieldName);
+            case DOUBLE_ARRAY:
+                return reader.readDoubleArray(fieldName);
+            default:
+                throw new HazelcastSerializationException("Unknown field type: " + type);
+        }
+    }
+
+    private int readShort(byte[] buffer, int pos) {
+        int b0 = buffer[pos] & 0xFF;
+        int b1 = buffer[pos + 1] & 0xFF;
+        return bigEndian ? (b0 << 8) | b1 : (b1 << 8) | b0;
+    }
+
+    private int readInt(byte[] buffer, int pos) {
+        int b0 = buffer[pos] & 0xFF;
+        int b1 = buffer[pos + 1] & 0xFF;
+        int b2 = buffer[pos + 2] & 0xFF;
+        int b3 = buffer[pos + 3] & 0xFF;
+        return bigEndian
+                ? (b0 << 24) | (b1 << 16) | (b2 << 8) | b3
+                : (b3 << 24) | (b2 << 16) | (b1 << 8) | b0;
+    }
+
+    private long readLong(byte[] buffer, int pos) {
+        long first = readInt(buffer, pos) & 0xFFFFFFFFL;
+        long second = readInt(buffer, pos + 4) & 0xFFFFFFFFL;
+        return bigEndian ? (first << 32) | second : (second << 32) | first;
+    }
+}
@@ -37,6 +37,12 @@ public interface SerializationService {
 
     void writeObject(ObjectDataOutput out, Object obj);
 
+    /**
+     * Writes the object in the format of {@code toData(obj).writeData(out)} without creating the Data
+     * when possible; see {@link SerializationServiceImpl#writeData(ObjectDataOutput, Object)}.
+     */
+    void writeData(ObjectDataOutput out, Object obj);
+
     Object readObject(ObjectDataInput in);
 
     BufferObjectDataInput createObjectDataInput(byte[] data);
@@ -61,6 +67,12 @@ public interface SerializationService {
 
     PortableReader createPortableReader(Data data);
 
+    /**
+     * Reads a single field of the Portable in the Data without deserializing the whole Portable;
+     * see {@link SerializationServiceImpl#readPortableField(Data, String)}.
+     */
+    Object readPortableField(Data data, String fieldName);
+
     ClassLoader getClassLoader();
 
     ManagedContext getManagedContext();
@@ -22,7 +22,6 @@ import com.hazelcast.core.PartitioningStrategy;
 import com.hazelcast.instance.OutOfMemoryErrorDispatcher;
 import com.hazelcast.nio.BufferObjectDataInput;
 import com.hazelcast.nio.BufferObjectDataOutput;
-import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.ConstantSerializers.BooleanSerializer;
@@ -64,10 +63,8 @@ import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -75,6 +72,12 @@ public final class SerializationServiceImpl implements SerializationService {
 
     private static final int CONSTANT_SERIALIZERS_SIZE = SerializationConstants.CONSTANT_SERIALIZERS_LENGTH;
 
+    /**
+     * Outputs cached per thread. More than one is needed because serialization can nest, e.g. a
+     * Portable class definition is serialized while the Portable itself is being written.
+     */
+    private static final int MAX_CACHED_OUTPUTS_PER_THREAD = 3;
+
     private static final PartitioningStrategy EMPTY_PARTITIONING_STRATEGY = new PartitioningStrategy() {
         public Object getPartitionKey(Object key) {
             return null;
@@ -90,7 +93,7 @@ public final class SerializationServiceImpl implements SerializationService {
     private final AtomicReference<SerializerAdapter> global = new AtomicReference<SerializerAdapter>();
 
     private final InputOutputFactory inputOutputFactory;
-    private final Queue<BufferObjectDataOutput> outputPool = new ConcurrentLinkedQueue<BufferObjectDataOutput>();
+    private final ThreadLocal<OutputCache> outputCache = new ThreadLocal<OutputCache>();
     private final PortableSerializer portableSerializer;
     private final SerializerAdapter dataSerializerAdapter;
     private final SerializerAdapter portableSerializerAdapter;
@@ -99,6 +102,8 @@ public final class SerializationServiceImpl implements SerializationService {
     private final PortableContextImpl serializationContext;
     private final PartitioningStrategy globalPartitioningStrategy;
     private final int outputBufferSize;
+    private final ByteOrder byteOrder;
+    private final PortableDataFieldReader portableFieldReader;
 
     private volatile boolean active = true;
 
@@ -115,6 +120,8 @@ public final class SerializationServiceImpl implements SerializationService {
         this.managedContext = managedContext;
         this.globalPartitioningStrategy = partitionStrategy;
         this.outputBufferSize = initialOutputBufferSize;
+        this.byteOrder = inputOutputFactory.createOutput(1, this).getByteOrder();
+        this.portableFieldReader = new PortableDataFieldReader(this, byteOrder);
 
         PortableHookLoader loader = new PortableHookLoader(portableFactories, classLoader);
         serializationContext = new PortableContextImpl(this, loader.getFactories().keySet(), version);
@@ -231,6 +238,16 @@ public final class SerializationServiceImpl implements SerializationService {
     }
 
     private void applyPartitionStrategy(Object obj, PartitioningStrategy strategy, Data data) {
+        final int partitionHash = partitionKeyHash(obj, strategy);
+        if (partitionHash != 0) {
+            data.partitionHash = partitionHash;
+        }
+    }
+
+    /**
+     * @return the partition hash of the partition key of the object, or 0 if the object is its own partition key
+     */
+    private int partitionKeyHash(Object obj, PartitioningStrategy strategy) {
         if (strategy == null) {
             strategy = globalPartitioningStrategy;
         }
@@ -238,9 +255,50 @@ public final class SerializationServiceImpl implements SerializationService {
             Object pk = strategy.getPartitionKey(obj);
             if (pk != null && pk != obj) {
                 final Data partitionKey = toData(pk, EMPTY_PARTITIONING_STRATEGY);
-                data.partitionHash = (partitionKey == null) ? -1 : partitionKey.getPartitionHash();
+                return (partitionKey == null) ? -1 : partitionKey.getPartitionHash();
             }
         }
+        return 0;
+    }
+
+    /**
+     * Writes the object to the output in the format of {@code toData(obj).writeData(out)}, so it can be
+     * read back with {@link Data#readData(ObjectDataInput)}.
+     * <p/>
+     * When the output is a byte array buffer with the byte order of this service, the object is serialized
+     * straight into it and neither the intermediate output buffer, the exact size byte array nor the Data
+     * are created.
+     */
+    public void writeData(ObjectDataOutput out, Object obj) {
+        if (obj == null) {
+            throw new HazelcastSerializationException("Cannot write null as Data!");
+        }
+        try {
+            // a Portable needs its class definition in front of its bytes, which is only known after writing it
+            final boolean inPlace = !(obj instanceof Data) && !(obj instanceof Portable)
+                    && out instanceof ByteArrayObjectDataOutput && out.getByteOrder() == byteOrder;
+            final SerializerAdapter serializer = inPlace ? serializerFor(obj.getClass()) : null;
+            if (!(serializer instanceof StreamSerializerAdapter)) {
+                toData(obj).writeData(out);
+                return;
+            }
+            final BufferObjectDataOutput bufferOut = (BufferObjectDataOutput) out;
+            bufferOut.writeInt(serializer.getTypeId());
+            bufferOut.writeInt(Data.NO_CLASS_ID);
+            final int sizePosition = bufferOut.position();
+            bufferOut.writeInt(0);
+            final int start = bufferOut.position();
+            serializer.write(bufferOut, obj);
+            final int size = bufferOut.position() - start;
+            bufferOut.writeInt(sizePosition, size);
+            int partitionHash = partitionKeyHash(obj, globalPartitioningStrategy);
+            if (partitionHash == 0 && size > 0) {
+                partitionHash = Data.calculateHash(bufferOut.getBuffer(), start, size);
+            }
+            bufferOut.writeInt(partitionHash);
+        } catch (Throwable e) {
+            handleException(e);
+        }
     }
 
     private ClassDefinition lookupClassDefinition(Portable portable) {
@@ -355,17 +413,27 @@ public final class SerializationServiceImpl implements SerializationService {
     }
 
     BufferObjectDataOutput pop() {
-        BufferObjectDataOutput out = outputPool.poll();
-        if (out == null) {
-            out = inputOutputFactory.createOutput(outputBufferSize, this);
+        final OutputCache cache = outputCache.get();
+        if (cache != null && cache.size > 0) {
+            final BufferObjectDataOutput out = cache.outputs[--cache.size];
+            cache.outputs[cache.size] = null;
+            return out;
         }
-        return out;
+        return inputOutputFactory.createOutput(outputBufferSize, this);
     }
 
     void push(BufferObjectDataOutput out) {
-        if (out != null) {
-            out.clear();
-            outputPool.offer(out);
+        if (out == null) {
+            return;
+        }
+        out.clear();
+        OutputCache cache = outputCache.get();
+        if (cache == null) {
+            cache = new OutputCache();
+            outputCache.set(cache);
+        }
+        if (cache.size < MAX_CACHED_OUTPUTS_PER_THREAD) {
+            cache.outputs[cache.size++] = out;
         }
     }
 
@@ -552,6 +620,23 @@ public final class SerializationServiceImpl implements SerializationService {
         return new DefaultPortableReader(portableSerializer, createObjectDataInput(data), data.getClassDefinition());
     }
 
+    /**
+     * Reads a single field of the Portable in the Data without deserializing the Portable.
+     * Primitive fields of the top level Portable are decoded directly from the Data buffer.
+     *
+     * @param data      the serialized Portable
+     * @param fieldName the field name, nested fields are separated with dots
+     * @return the field value, primitives are boxed
+     */
+    public Object readPortableField(Data data, String fieldName) {
+        try {
+            return portableFieldReader.read(data, fieldName);
+        } catch (Throwable e) {
+            handleException(e);
+        }
+        return null;
+    }
+
     public void destroy() {
         active = false;
         for (SerializerAdapter serializer : typeMap.values()) {
@@ -561,10 +646,8 @@ public final class SerializationServiceImpl implements SerializationService {
         idMap.clear();
         global.set(null);
         constantTypesMap.clear();
-        for (BufferObjectDataOutput output : outputPool) {
-            IOUtil.closeResource(output);
-        }
-        outputPool.clear();
+        // outputs cached by other threads can not be reached, they are released with their threads
+        outputCache.remove();
     }
 
     public ClassLoader getClassLoader() {
@@ -574,4 +657,12 @@ public final class SerializationServiceImpl implements SerializationService {
     public ManagedContext getManagedContext() {
         return managedContext;
     }
+
+    /**
+     * Per thread stack of cleared outputs; only accessed by its owning thread.
+     */
+    private static final class OutputCache {
+        private final BufferObjectDataOutput[] outputs = new BufferObjectDataOutput[MAX_CACHED_OUTPUTS_PER_THREAD];
+        private int size;
+    }
 }
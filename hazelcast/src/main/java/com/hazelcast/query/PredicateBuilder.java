@@ -21,6 +21,7 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.SelectivityAwarePredicate;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -30,7 +31,7 @@ import java.util.Set;
 /**
  * This class provides functionality to build predicate.
  */
-public class PredicateBuilder implements IndexAwarePredicate, DataSerializable {
+public class PredicateBuilder implements IndexAwarePredicate, SelectivityAwarePredicate, DataSerializable {
 
     List<Predicate> lsPredicates = new ArrayList<Predicate>();
 
@@ -97,6 +98,15 @@ public class PredicateBuilder implements IndexAwarePredicate, DataSerializable {
         return false;
     }
 
+    @Override
+    public double estimateSelectivity(QueryContext queryContext) {
+        Predicate p = lsPredicates.get(0);
+        if (p instanceof SelectivityAwarePredicate) {
+            return ((SelectivityAwarePredicate) p).estimateSelectivity(queryContext);
+        }
+        return UNKNOWN_SELECTIVITY;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(attribute);
@@ -28,8 +28,11 @@ import com.hazelcast.query.impl.IndexImpl;
 import com.hazelcast.query.impl.OrResultSet;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.SelectivityAwarePredicate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,6 +46,9 @@ import java.util.regex.Pattern;
  */
 public final class Predicates {
 
+    private static final double NOT_INDEXED = -2d;
+    private static final double INDEXED_BUT_UNKNOWN = SelectivityAwarePredicate.UNKNOWN_SELECTIVITY;
+
     //we don't want instances. private constructor.
     private Predicates() {
     }
@@ -60,6 +66,21 @@ public final class Predicates {
         return value;
     }
 
+    /**
+     * @return the estimated selectivity of the predicate if it can use an index, {@link #INDEXED_BUT_UNKNOWN}
+     * if it can use an index but its selectivity can not be estimated, otherwise {@link #NOT_INDEXED}
+     */
+    private static double selectivityOf(Predicate predicate, QueryContext queryContext) {
+        if (!(predicate instanceof IndexAwarePredicate) || !((IndexAwarePredicate) predicate).isIndexed(queryContext)) {
+            return NOT_INDEXED;
+        }
+        if (predicate instanceof SelectivityAwarePredicate) {
+            double selectivity = ((SelectivityAwarePredicate) predicate).estimateSelectivity(queryContext);
+            return selectivity >= 0 ? selectivity : INDEXED_BUT_UNKNOWN;
+        }
+        return INDEXED_BUT_UNKNOWN;
+    }
+
     public static Predicate and(Predicate... predicates) {
         return new AndPredicate(predicates);
     }
@@ -161,6 +182,11 @@ public final class Predicates {
             return index.getSubRecordsBetween(from, to);
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            return BETWEEN_SELECTIVITY;
+        }
+
         @Override
         public void writeData(ObjectDataOutput out) throws IOException {
             super.writeData(out);
@@ -261,6 +287,15 @@ public final class Predicates {
             }
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            Index index = getIndex(queryContext);
+            if (index == null) {
+                return UNKNOWN_SELECTIVITY;
+            }
+            return Math.min(1d, values.length * index.getEqualitySelectivity());
+        }
+
         @Override
         public void writeData(ObjectDataOutput out) throws IOException {
             super.writeData(out);
@@ -452,7 +487,13 @@ public final class Predicates {
     /**
      * And Predicate
      */
-    public static class AndPredicate implements IndexAwarePredicate, DataSerializable {
+    public static class AndPredicate implements IndexAwarePredicate, SelectivityAwarePredicate, DataSerializable {
+
+        /**
+         * If even the most selective indexed conjunct is estimated to match more than this fraction
+         * of the entries, scanning the entries is cheaper than collecting and iterating the index result.
+         */
+        private static final double MAX_INDEX_SELECTIVITY = 0.5d;
 
         protected Predicate[] predicates;
 
@@ -463,54 +504,90 @@ public final class Predicates {
             this.predicates = predicates;
         }
 
+        /**
+         * Uses the index of the most selective conjunct only, and applies the other conjuncts
+         * to its result ordered by their selectivity. Indexed conjuncts whose selectivity can not be
+         * estimated are filtered by their index as well, and the smallest result is iterated.
+         */
         @Override
         public Set<QueryableEntry> filter(QueryContext queryContext) {
-            Set<QueryableEntry> smallestIndexedResult = null;
-            List<Set<QueryableEntry>> otherIndexedResults = new LinkedList<Set<QueryableEntry>>();
+            List<EstimatedPredicate> estimatedPredicates = new ArrayList<EstimatedPredicate>(predicates.length);
+            List<IndexAwarePredicate> unestimatedPredicates = null;
             List<Predicate> lsNoIndexPredicates = null;
             for (Predicate predicate : predicates) {
-                boolean indexed = false;
-                if (predicate instanceof IndexAwarePredicate) {
-                    IndexAwarePredicate iap = (IndexAwarePredicate) predicate;
-                    if (iap.isIndexed(queryContext)) {
-                        indexed = true;
-                        Set<QueryableEntry> s = iap.filter(queryContext);
-                        if (smallestIndexedResult == null) {
-                            smallestIndexedResult = s;
-                        } else if (s.size() < smallestIndexedResult.size()) {
-                            otherIndexedResults.add(smallestIndexedResult);
-                            smallestIndexedResult = s;
-                        } else {
-                            otherIndexedResults.add(s);
-                        }
+                double selectivity = selectivityOf(predicate, queryContext);
+                if (selectivity >= 0) {
+                    estimatedPredicates.add(new EstimatedPredicate(predicate, selectivity));
+                } else if (selectivity == INDEXED_BUT_UNKNOWN) {
+                    if (unestimatedPredicates == null) {
+                        unestimatedPredicates = new LinkedList<IndexAwarePredicate>();
                     }
-                }
-                if (!indexed) {
+                    unestimatedPredicates.add((IndexAwarePredicate) predicate);
+                } else {
                     if (lsNoIndexPredicates == null) {
                         lsNoIndexPredicates = new LinkedList<Predicate>();
                     }
                     lsNoIndexPredicates.add(predicate);
                 }
             }
+            Collections.sort(estimatedPredicates);
+
+            Set<QueryableEntry> smallestIndexedResult = null;
+            List<Set<QueryableEntry>> otherIndexedResults = new LinkedList<Set<QueryableEntry>>();
+            List<Predicate> appliedPredicates = new LinkedList<Predicate>();
+            for (EstimatedPredicate estimatedPredicate : estimatedPredicates) {
+                if (smallestIndexedResult == null && estimatedPredicate.selectivity <= MAX_INDEX_SELECTIVITY) {
+                    smallestIndexedResult = ((IndexAwarePredicate) estimatedPredicate.predicate).filter(queryContext);
+                } else {
+                    appliedPredicates.add(estimatedPredicate.predicate);
+                }
+            }
+            if (unestimatedPredicates != null) {
+                for (IndexAwarePredicate iap : unestimatedPredicates) {
+                    Set<QueryableEntry> s = iap.filter(queryContext);
+                    if (smallestIndexedResult == null) {
+                        smallestIndexedResult = s;
+                    } else if (s.size() < smallestIndexedResult.size()) {
+                        otherIndexedResults.add(smallestIndexedResult);
+                        smallestIndexedResult = s;
+                    } else {
+                        otherIndexedResults.add(s);
+                    }
+                }
+            }
             if (smallestIndexedResult == null) {
                 return null;
             }
-            return new AndResultSet(smallestIndexedResult, otherIndexedResults, lsNoIndexPredicates);
+            if (lsNoIndexPredicates != null) {
+                appliedPredicates.addAll(lsNoIndexPredicates);
+            }
+            return new AndResultSet(smallestIndexedResult, otherIndexedResults, appliedPredicates);
         }
 
         @Override
         public boolean isIndexed(QueryContext queryContext) {
             for (Predicate predicate : predicates) {
-                if (predicate instanceof IndexAwarePredicate) {
-                    IndexAwarePredicate iap = (IndexAwarePredicate) predicate;
-                    if (iap.isIndexed(queryContext)) {
-                        return true;
-                    }
+                double selectivity = selectivityOf(predicate, queryContext);
+                if (selectivity == INDEXED_BUT_UNKNOWN
+                        || (selectivity >= 0 && selectivity <= MAX_INDEX_SELECTIVITY)) {
+                    return true;
                 }
             }
             return false;
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            double minSelectivity = UNKNOWN_SELECTIVITY;
+            for (Predicate predicate : predicates) {
+                double selectivity = selectivityOf(predicate, queryContext);
+                if (selectivity >= 0 && (minSelectivity < 0 || selectivity < minSelectivity)) {
+                    minSelectivity = selectivity;
+                }
+            }
+            return minSelectivity;
+        }
+
         @Override
         public boolean apply(Map.Entry mapEntry) {
             for (Predicate predicate : predicates) {
@@ -557,7 +634,7 @@ public final class Predicates {
     /**
      * Or Predicate
      */
-    public static class OrPredicate implements IndexAwarePredicate, DataSerializable {
+    public static class OrPredicate implements IndexAwarePredicate, SelectivityAwarePredicate, DataSerializable {
 
         private Predicate[] predicates;
 
@@ -602,6 +679,19 @@ public final class Predicates {
             return true;
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            double totalSelectivity = 0;
+            for (Predicate predicate : predicates) {
+                double selectivity = selectivityOf(predicate, queryContext);
+                if (selectivity < 0) {
+                    return UNKNOWN_SELECTIVITY;
+                }
+                totalSelectivity += selectivity;
+            }
+            return Math.min(1d, totalSelectivity);
+        }
+
         @Override
         public boolean apply(Map.Entry mapEntry) {
             for (Predicate predicate : predicates) {
@@ -691,6 +781,11 @@ public final class Predicates {
             return index.getSubRecords(comparisonType, value);
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            return RANGE_SELECTIVITY;
+        }
+
         @Override
         public void readData(ObjectDataInput in) throws IOException {
             super.readData(in);
@@ -744,6 +839,15 @@ public final class Predicates {
             }
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            Index index = getIndex(queryContext);
+            if (index == null) {
+                return UNKNOWN_SELECTIVITY;
+            }
+            return 1d - index.getEqualitySelectivity();
+        }
+
         @Override
         public String toString() {
             return attribute + " != " + value;
@@ -774,6 +878,15 @@ public final class Predicates {
             return index.getRecords(value);
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            Index index = getIndex(queryContext);
+            if (index == null) {
+                return UNKNOWN_SELECTIVITY;
+            }
+            return index.getEqualitySelectivity();
+        }
+
         @Override
         public boolean apply(Map.Entry mapEntry) {
             Comparable entryValue = readAttribute(mapEntry);
@@ -802,11 +915,40 @@ public final class Predicates {
         }
     }
 
+    /**
+     * An indexed conjunct of an {@link AndPredicate} with its estimated selectivity.
+     */
+    private static final class EstimatedPredicate implements Comparable<EstimatedPredicate> {
+        private final Predicate predicate;
+        private final double selectivity;
+
+        private EstimatedPredicate(Predicate predicate, double selectivity) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+        }
+
+        @Override
+        public int compareTo(EstimatedPredicate other) {
+            return Double.compare(selectivity, other.selectivity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
     /**
      * Provides some functionality for some predicates
      * such as Between, In.
      */
-    public abstract static class AbstractPredicate implements IndexAwarePredicate, DataSerializable {
+    public abstract static class AbstractPredicate
+            implements IndexAwarePredicate, SelectivityAwarePredicate, DataSerializable {
 
         protected String attribute;
         private transient volatile AttributeType attributeType;
@@ -855,6 +997,11 @@ public final class Predicates {
             return queryContext.getIndex(attribute);
         }
 
+        @Override
+        public double estimateSelectivity(QueryContext queryContext) {
+            return UNKNOWN_SELECTIVITY;
+        }
+
         protected Comparable readAttribute(Map.Entry entry) {
             QueryableEntry queryableEntry = (QueryableEntry) entry;
             Comparable val = queryableEntry.getAttribute(attribute);
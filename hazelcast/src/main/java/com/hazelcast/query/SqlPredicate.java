@@ -21,6 +21,7 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.impl.IndexImpl;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.SelectivityAwarePredicate;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -28,6 +29,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.hazelcast.query.Predicates.AbstractPredicate;
 import static com.hazelcast.query.Predicates.and;
@@ -51,6 +54,10 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
 
     private static final long serialVersionUID = 1;
 
+    private static final int MAX_PARSED_SQL_CACHE_SIZE = 1000;
+    private static final ConcurrentMap<String, ParsedSql> PARSED_SQL_CACHE = new ConcurrentHashMap<String, ParsedSql>();
+    private static final Parser PARSER = new Parser();
+
     private transient Predicate predicate;
     private String sql;
 
@@ -80,6 +87,14 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
         return ((IndexAwarePredicate) predicate).filter(queryContext);
     }
 
+    @Override
+    public double estimateSelectivity(QueryContext queryContext) {
+        if (predicate instanceof SelectivityAwarePredicate) {
+            return ((SelectivityAwarePredicate) predicate).estimateSelectivity(queryContext);
+        }
+        return UNKNOWN_SELECTIVITY;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(sql);
@@ -110,7 +125,16 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
         return (phrase.length() > 2) ? phrase.replace("''", "'") : phrase;
     }
 
-    private Predicate createPredicate(String sql) {
+    /**
+     * Returns the tokens of the given sql in prefix order, parsing it only if it is not cached yet.
+     * Only the tokens are cached and not the predicate built from them; predicates cache the
+     * attribute types of the map they are first applied to, so they can not be shared between maps.
+     */
+    private ParsedSql parse(String sql) {
+        ParsedSql parsedSql = PARSED_SQL_CACHE.get(sql);
+        if (parsedSql != null) {
+            return parsedSql;
+        }
         String paramSql = sql;
         Map<String, String> mapPhrases = new HashMap<String, String>(1);
         int apoIndex = getApostropheIndex(paramSql, 0);
@@ -137,9 +161,21 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
             newSql.append(paramSql);
             paramSql = newSql.toString();
         }
-        Parser parser = new Parser();
-        List<String> sqlTokens = parser.toPrefix(paramSql);
-        List<Object> tokens = new ArrayList<Object>(sqlTokens);
+        List<String> sqlTokens = PARSER.toPrefix(paramSql);
+        parsedSql = new ParsedSql(paramSql, sqlTokens, mapPhrases);
+        if (PARSED_SQL_CACHE.size() >= MAX_PARSED_SQL_CACHE_SIZE) {
+            // plain eviction is enough; applications use a limited number of distinct queries
+            PARSED_SQL_CACHE.clear();
+        }
+        PARSED_SQL_CACHE.put(sql, parsedSql);
+        return parsedSql;
+    }
+
+    private Predicate createPredicate(String sql) {
+        ParsedSql parsedSql = parse(sql);
+        Map<String, String> mapPhrases = parsedSql.phrases;
+        List<Object> tokens = new ArrayList<Object>(parsedSql.tokens);
+        String paramSql = parsedSql.paramSql;
         if (tokens.size() == 0) {
             throw new RuntimeException("Invalid SQL: [" + paramSql + "]");
         }
@@ -151,7 +187,7 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
             boolean foundOperand = false;
             for (int i = 0; i < tokens.size(); i++) {
                 Object tokenObj = tokens.get(i);
-                if (tokenObj instanceof String && parser.isOperand((String) tokenObj)) {
+                if (tokenObj instanceof String && PARSER.isOperand((String) tokenObj)) {
                     String token = (String) tokenObj;
                     if ("=".equals(token) || "==".equals(token)) {
                         int position = (i - 2);
@@ -321,4 +357,20 @@ public class SqlPredicate extends AbstractPredicate implements IndexAwarePredica
     public int hashCode() {
         return sql.hashCode();
     }
+
+    /**
+     * Result of parsing an sql string: its tokens in prefix order and the quoted phrases
+     * which are replaced by placeholders in the tokens.
+     */
+    private static final class ParsedSql {
+        private final String paramSql;
+        private final List<String> tokens;
+        private final Map<String, String> phrases;
+
+        private ParsedSql(String paramSql, List<String> tokens, Map<String, String> phrases) {
+            this.paramSql = paramSql;
+            this.tokens = tokens;
+            this.phrases = phrases;
+        }
+    }
 }
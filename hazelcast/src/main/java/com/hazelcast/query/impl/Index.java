@@ -42,4 +42,22 @@ public interface Index {
     String getAttributeName();
 
     boolean isOrdered();
+
+    /**
+     * @return the number of entries in this index
+     */
+    int getEntryCount();
+
+    /**
+     * @return the number of distinct attribute values in this index
+     */
+    int getDistinctValueCount();
+
+    /**
+     * Estimates which fraction of the entries in this index have the same attribute value,
+     * assuming the values are distributed evenly.
+     *
+     * @return the estimated fraction, between 0 and 1
+     */
+    double getEqualitySelectivity();
 }
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation for {@link com.hazelcast.query.impl.Index}
@@ -38,6 +39,7 @@ public class IndexImpl implements Index {
     private final IndexStore indexStore;
     private final String attribute;
     private final boolean ordered;
+    private final AtomicInteger entryCount = new AtomicInteger();
 
     private volatile AttributeType attributeType;
 
@@ -52,6 +54,7 @@ public class IndexImpl implements Index {
         Comparable oldValue = recordValues.remove(indexKey);
         if (oldValue != null) {
             indexStore.removeIndex(oldValue, indexKey);
+            entryCount.decrementAndGet();
         }
     }
 
@@ -59,6 +62,7 @@ public class IndexImpl implements Index {
     public void clear() {
         recordValues.clear();
         indexStore.clear();
+        entryCount.set(0);
     }
 
     ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable indexValue) {
@@ -79,6 +83,7 @@ public class IndexImpl implements Index {
         if (oldValue == null) {
             // new
             indexStore.newIndex(newValue, e);
+            entryCount.incrementAndGet();
         } else {
             // update
             indexStore.removeIndex(oldValue, key);
@@ -144,6 +149,22 @@ public class IndexImpl implements Index {
         return ordered;
     }
 
+    @Override
+    public int getEntryCount() {
+        return entryCount.get();
+    }
+
+    @Override
+    public int getDistinctValueCount() {
+        return indexStore.getValueCount();
+    }
+
+    @Override
+    public double getEqualitySelectivity() {
+        int valueCount = indexStore.getValueCount();
+        return valueCount > 0 ? 1d / valueCount : 0d;
+    }
+
     /**
      * Provides comparable null object.
      */
@@ -40,4 +40,9 @@ public interface IndexStore {
     void newIndex(Comparable newValue, QueryableEntry entry);
 
     ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable indexValue);
+
+    /**
+     * @return the number of distinct index values in this store
+     */
+    int getValueCount();
 }
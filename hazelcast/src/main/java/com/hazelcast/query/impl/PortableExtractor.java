@@ -21,7 +21,6 @@ import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.FieldDefinition;
 import com.hazelcast.nio.serialization.FieldType;
 import com.hazelcast.nio.serialization.PortableContext;
-import com.hazelcast.nio.serialization.PortableReader;
 import com.hazelcast.nio.serialization.SerializationService;
 import com.hazelcast.query.QueryException;
 
@@ -29,33 +28,23 @@ import java.io.IOException;
 
 /**
  * Utility class to extract a single field from a {@link com.hazelcast.nio.serialization.Portable} binary.
+ * Values are read with {@link SerializationService#readPortableField(Data, String)}, which decodes
+ * primitive fields directly from the binary.
  */
 final class PortableExtractor {
 
-    private static final PortableFieldExtractor[] FIELD_EXTRACTORS =
-            new PortableFieldExtractor[FieldType.values().length];
+    private static final AttributeType[] ATTRIBUTE_TYPES = new AttributeType[FieldType.values().length];
 
     static {
-        FIELD_EXTRACTORS[FieldType.PORTABLE.getId()] = new PortableUnsupportedFieldExtractor();
-
-        FIELD_EXTRACTORS[FieldType.BYTE.getId()] = new PortableByteFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.BOOLEAN.getId()] = new PortableBooleanFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.CHAR.getId()] = new PortableCharFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.SHORT.getId()] = new PortableShortFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.INT.getId()] = new PortableIntegerFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.LONG.getId()] = new PortableLongFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.FLOAT.getId()] = new PortableFloatFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.DOUBLE.getId()] = new PortableDoubleFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.UTF.getId()] = new PortableUtfFieldExtractor();
-
-        FIELD_EXTRACTORS[FieldType.PORTABLE_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.BYTE_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.CHAR_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.SHORT_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.INT_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.LONG_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.FLOAT_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
-        FIELD_EXTRACTORS[FieldType.DOUBLE_ARRAY.getId()] = new PortableUnsupportedFieldExtractor();
+        ATTRIBUTE_TYPES[FieldType.BYTE.getId()] = AttributeType.BYTE;
+        ATTRIBUTE_TYPES[FieldType.BOOLEAN.getId()] = AttributeType.BOOLEAN;
+        ATTRIBUTE_TYPES[FieldType.CHAR.getId()] = AttributeType.CHAR;
+        ATTRIBUTE_TYPES[FieldType.SHORT.getId()] = AttributeType.SHORT;
+        ATTRIBUTE_TYPES[FieldType.INT.getId()] = AttributeType.INTEGER;
+        ATTRIBUTE_TYPES[FieldType.LONG.getId()] = AttributeType.LONG;
+        ATTRIBUTE_TYPES[FieldType.FLOAT.getId()] = AttributeType.FLOAT;
+        ATTRIBUTE_TYPES[FieldType.DOUBLE.getId()] = AttributeType.DOUBLE;
+        ATTRIBUTE_TYPES[FieldType.UTF.getId()] = AttributeType.STRING;
     }
 
     private PortableExtractor() {
@@ -64,26 +53,23 @@ final class PortableExtractor {
     static Comparable extractValue(SerializationService serializationService, Data data, String fieldName)
             throws IOException {
 
-        PortableContext portableContext = serializationService.getPortableContext();
-        PortableFieldExtractor fieldExtractor = getFieldExtractor(data, fieldName, portableContext);
-        PortableReader reader = serializationService.createPortableReader(data);
-        return fieldExtractor.extract(reader, fieldName);
+        // validates that the field exists and can be queried
+        getAttributeType(serializationService.getPortableContext(), data, fieldName);
+        return (Comparable) serializationService.readPortableField(data, fieldName);
     }
 
-    private static PortableFieldExtractor getFieldExtractor(Data data, String fieldName,
-            PortableContext portableContext) {
-
+    static AttributeType getAttributeType(PortableContext portableContext, Data data, String fieldName) {
         FieldDefinition fieldDefinition = getFieldDefinition(data, fieldName, portableContext);
         int fieldType = fieldDefinition.getType().getId();
-        if (fieldType < 0 || fieldType >= FIELD_EXTRACTORS.length) {
+        if (fieldType < 0 || fieldType >= ATTRIBUTE_TYPES.length) {
             throw new ArrayIndexOutOfBoundsException("Invalid fieldType: " + fieldType);
         }
 
-        PortableFieldExtractor fieldExtractor = FIELD_EXTRACTORS[fieldType];
-        if (fieldExtractor == null) {
-            throw new QueryException("Field extractor is not defined: " + fieldType);
+        AttributeType attributeType = ATTRIBUTE_TYPES[fieldType];
+        if (attributeType == null) {
+            throw new UnsupportedOperationException("Unsupported Portable field in query: " + fieldName);
         }
-        return fieldExtractor;
+        return attributeType;
     }
 
     private static FieldDefinition getFieldDefinition(Data data, String fieldName, PortableContext portableContext) {
@@ -94,134 +80,4 @@ final class PortableExtractor {
         }
         return fieldDefinition;
     }
-
-    static AttributeType getAttributeType(PortableContext portableContext, Data data, String fieldName) {
-        PortableFieldExtractor fieldExtractor = getFieldExtractor(data, fieldName, portableContext);
-        return fieldExtractor.getAttributeType();
-    }
-
-    private static class PortableIntegerFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readInt(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.INTEGER;
-        }
-    }
-
-    private static class PortableByteFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readByte(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.BYTE;
-        }
-    }
-
-    private static class PortableLongFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readLong(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.LONG;
-        }
-    }
-
-    private static class PortableDoubleFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readDouble(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.DOUBLE;
-        }
-    }
-
-    private static class PortableFloatFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readFloat(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.FLOAT;
-        }
-    }
-
-    private static class PortableShortFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readShort(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.SHORT;
-        }
-    }
-
-    private static class PortableUtfFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readUTF(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.STRING;
-        }
-    }
-
-    private static class PortableCharFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readChar(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.CHAR;
-        }
-    }
-
-    private static class PortableBooleanFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            return reader.readBoolean(fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            return AttributeType.BOOLEAN;
-        }
-    }
-
-    private static class PortableUnsupportedFieldExtractor implements PortableFieldExtractor {
-        @Override
-        public Comparable extract(PortableReader reader, String fieldName) throws IOException {
-            throw new UnsupportedOperationException("Unsupported Portable field in query: " + fieldName);
-        }
-
-        @Override
-        public AttributeType getAttributeType() {
-            throw new UnsupportedOperationException();
-        }
-    }
-
-    private interface PortableFieldExtractor {
-        Comparable extract(PortableReader reader, String fieldName) throws IOException;
-        AttributeType getAttributeType();
-    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl;
+
+/**
+ * Implemented by index aware predicates which can estimate, from the statistics of the indexes,
+ * how selective their indexed filter is without running it. Used to plan the evaluation
+ * of {@link com.hazelcast.query.Predicates.AndPredicate}.
+ */
+public interface SelectivityAwarePredicate {
+
+    /**
+     * Returned when the selectivity can not be estimated.
+     */
+    double UNKNOWN_SELECTIVITY = -1d;
+
+    /**
+     * Estimated fraction of entries matched by a range comparison, since an index does not
+     * keep a histogram of its values.
+     */
+    double RANGE_SELECTIVITY = 1d / 3;
+
+    /**
+     * Estimated fraction of entries matched by a between comparison.
+     */
+    double BETWEEN_SELECTIVITY = 1d / 4;
+
+    /**
+     * Estimates which fraction of the indexed entries the predicate matches.
+     *
+     * @param queryContext the query context to look up the indexes
+     * @return the estimated fraction between 0 and 1, or {@link #UNKNOWN_SELECTIVITY}
+     */
+    double estimateSelectivity(QueryContext queryContext);
+}
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Store indexes rankly.
@@ -32,6 +33,7 @@ public class SortedIndexStore implements IndexStore {
     private final ConcurrentMap<Comparable, ConcurrentMap<Data, QueryableEntry>> mapRecords
             = new ConcurrentHashMap<Comparable, ConcurrentMap<Data, QueryableEntry>>(1000);
     private final NavigableSet<Comparable> sortedSet = new ConcurrentSkipListSet<Comparable>();
+    private final AtomicInteger valueCount = new AtomicInteger();
 
 
     @Override
@@ -92,7 +94,9 @@ public class SortedIndexStore implements IndexStore {
         ConcurrentMap<Data, QueryableEntry> records = mapRecords.get(newValue);
         if (records == null) {
             records = new ConcurrentHashMap<Data, QueryableEntry>(1, LOAD_FACTOR, 1);
-            mapRecords.put(newValue, records);
+            if (mapRecords.put(newValue, records) == null) {
+                valueCount.incrementAndGet();
+            }
             if (!(newValue instanceof IndexImpl.NullObject)) {
                 sortedSet.add(newValue);
             }
@@ -105,10 +109,16 @@ public class SortedIndexStore implements IndexStore {
         return mapRecords.get(indexValue);
     }
 
+    @Override
+    public int getValueCount() {
+        return valueCount.get();
+    }
+
     @Override
     public void clear() {
         mapRecords.clear();
         sortedSet.clear();
+        valueCount.set(0);
     }
 
     @Override
@@ -117,7 +127,9 @@ public class SortedIndexStore implements IndexStore {
         if (records != null) {
             records.remove(indexKey);
             if (records.size() == 0) {
-                mapRecords.remove(oldValue);
+                if (mapRecords.remove(oldValue) != null) {
+                    valueCount.decrementAndGet();
+                }
                 sortedSet.remove(oldValue);
             }
         }
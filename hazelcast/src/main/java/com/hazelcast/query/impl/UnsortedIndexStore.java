@@ -21,6 +21,7 @@ import com.hazelcast.nio.serialization.Data;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Store indexes out of turn.
@@ -28,6 +29,7 @@ import java.util.concurrent.ConcurrentMap;
 public class UnsortedIndexStore implements IndexStore {
     private final ConcurrentMap<Comparable, ConcurrentMap<Data, QueryableEntry>> mapRecords
             = new ConcurrentHashMap<Comparable, ConcurrentMap<Data, QueryableEntry>>(1000);
+    private final AtomicInteger valueCount = new AtomicInteger();
 
     @Override
     public void getSubRecordsBetween(MultiResultSet results, Comparable from, Comparable to) {
@@ -100,6 +102,8 @@ public class UnsortedIndexStore implements IndexStore {
             ConcurrentMap<Data, QueryableEntry> existing = mapRecords.putIfAbsent(newValue, records);
             if (existing != null) {
                 records = existing;
+            } else {
+                valueCount.incrementAndGet();
             }
         }
         records.put(indexKey, record);
@@ -115,8 +119,8 @@ public class UnsortedIndexStore implements IndexStore {
         ConcurrentMap<Data, QueryableEntry> records = mapRecords.get(oldValue);
         if (records != null) {
             records.remove(indexKey);
-            if (records.size() == 0) {
-                mapRecords.remove(oldValue);
+            if (records.size() == 0 && mapRecords.remove(oldValue) != null) {
+                valueCount.decrementAndGet();
             }
         }
     }
@@ -136,9 +140,15 @@ public class UnsortedIndexStore implements IndexStore {
         }
     }
 
+    @Override
+    public int getValueCount() {
+        return valueCount.get();
+    }
+
     @Override
     public void clear() {
         mapRecords.clear();
+        valueCount.set(0);
     }
 
     @Override
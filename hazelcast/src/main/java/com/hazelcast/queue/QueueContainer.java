@@ -30,6 +30,7 @@ import com.hazelcast.transaction.TransactionException;
 import com.hazelcast.util.Clock;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,7 +39,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,8 +50,8 @@ import java.util.concurrent.TimeUnit;
  */
 public class QueueContainer implements IdentifiedDataSerializable {
 
-    private LinkedList<QueueItem> itemQueue;
-    private HashMap<Long, QueueItem> backupMap;
+    private ArrayDeque<QueueItem> itemQueue;
+    private QueueItemMap backupMap;
     private final Map<Long, TxQueueItem> txMap = new HashMap<Long, TxQueueItem>();
     private final HashMap<Long, Data> dataMap = new HashMap<Long, Data>();
 
@@ -208,7 +208,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
             getItemQueue().offer(item);
             cancelEvictionIfExists();
         } else {
-            getBackupMap().put(itemId, item);
+            getBackupMap().put(item);
         }
         if (store.isEnabled() && !backup) {
             try {
@@ -280,22 +280,25 @@ public class QueueContainer implements IdentifiedDataSerializable {
 
     public void offerBackup(Data data, long itemId) {
         QueueItem item = new QueueItem(this, itemId, null);
-        if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
+        final QueueItemMap backupMap = getBackupMap();
+        if (!store.isEnabled() || store.getMemoryLimit() > backupMap.size()) {
             item.setData(data);
         }
-        getBackupMap().put(itemId, item);
+        backupMap.put(item);
     }
 
     public Map<Long, Data> addAll(Collection<Data> dataList) {
         Map<Long, Data> map = new HashMap<Long, Data>(dataList.size());
-        List<QueueItem> list = new ArrayList<QueueItem>(dataList.size());
+        QueueItem[] items = new QueueItem[dataList.size()];
+        int itemCount = 0;
+        int queueSize = getItemQueue().size();
         for (Data data : dataList) {
             QueueItem item = new QueueItem(this, nextId(), null);
-            if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
+            if (!store.isEnabled() || store.getMemoryLimit() > queueSize) {
                 item.setData(data);
             }
             map.put(item.getItemId(), data);
-            list.add(item);
+            items[itemCount++] = item;
         }
         if (store.isEnabled() && !map.isEmpty()) {
             try {
@@ -304,20 +307,24 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        if (!list.isEmpty()) {
-            getItemQueue().addAll(list);
+        if (itemCount > 0) {
+            final Deque<QueueItem> itemQueue = getItemQueue();
+            for (int i = 0; i < itemCount; i++) {
+                itemQueue.offer(items[i]);
+            }
             cancelEvictionIfExists();
         }
         return map;
     }
 
     public void addAllBackup(Map<Long, Data> dataMap) {
+        final QueueItemMap backupMap = getBackupMap();
         for (Map.Entry<Long, Data> entry : dataMap.entrySet()) {
             QueueItem item = new QueueItem(this, entry.getKey(), null);
-            if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
+            if (!store.isEnabled() || store.getMemoryLimit() > backupMap.size()) {
                 item.setData(entry.getValue());
             }
-            getBackupMap().put(item.getItemId(), item);
+            backupMap.put(item);
         }
     }
 
@@ -591,9 +598,9 @@ public class QueueContainer implements IdentifiedDataSerializable {
 
     public Deque<QueueItem> getItemQueue() {
         if (itemQueue == null) {
-            itemQueue = new LinkedList<QueueItem>();
+            itemQueue = new ArrayDeque<QueueItem>();
             if (backupMap != null && !backupMap.isEmpty()) {
-                List<QueueItem> values = new ArrayList<QueueItem>(backupMap.values());
+                List<QueueItem> values = backupMap.values();
                 Collections.sort(values);
                 itemQueue.addAll(values);
                 final QueueItem lastItem = itemQueue.peekLast();
@@ -607,12 +614,12 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return itemQueue;
     }
 
-    Map<Long, QueueItem> getBackupMap() {
+    QueueItemMap getBackupMap() {
         if (backupMap == null) {
-            backupMap = new HashMap<Long, QueueItem>();
+            backupMap = new QueueItemMap();
             if (itemQueue != null) {
                 for (QueueItem item : itemQueue) {
-                    backupMap.put(item.getItemId(), item);
+                    backupMap.put(item);
                 }
                 itemQueue.clear();
                 itemQueue = null;
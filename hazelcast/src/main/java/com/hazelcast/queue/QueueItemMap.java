@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open addressing hash table of {@link QueueItem}s keyed by their primitive item id.
+ * Used for the backup items of a {@link QueueContainer}; unlike a HashMap it does not
+ * allocate an entry and a boxed key per item. Not thread safe, it is only accessed
+ * from the partition thread.
+ */
+class QueueItemMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private QueueItem[] items;
+    private int size;
+    private int resizeThreshold;
+
+    QueueItemMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    QueueItem get(long itemId) {
+        final QueueItem[] items = this.items;
+        final int mask = items.length - 1;
+        int index = hash(itemId) & mask;
+        QueueItem item;
+        while ((item = items[index]) != null) {
+            if (item.getItemId() == itemId) {
+                return item;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Puts the item using its item id as key.
+     *
+     * @return the previous item with the same id or null
+     */
+    QueueItem put(QueueItem newItem) {
+        final long itemId = newItem.getItemId();
+        final int mask = items.length - 1;
+        int index = hash(itemId) & mask;
+        QueueItem item;
+        while ((item = items[index]) != null) {
+            if (item.getItemId() == itemId) {
+                items[index] = newItem;
+                return item;
+            }
+            index = (index + 1) & mask;
+        }
+        items[index] = newItem;
+        if (++size > resizeThreshold) {
+            rehash(items.length << 1);
+        }
+        return null;
+    }
+
+    QueueItem remove(long itemId) {
+        final QueueItem[] items = this.items;
+        final int mask = items.length - 1;
+        int index = hash(itemId) & mask;
+        QueueItem item;
+        while ((item = items[index]) != null) {
+            if (item.getItemId() == itemId) {
+                items[index] = null;
+                size--;
+                compactChain(index);
+                return item;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    void clear() {
+        if (size > 0) {
+            allocate(DEFAULT_CAPACITY);
+        }
+    }
+
+    /**
+     * @return a new list of all items, in no particular order
+     */
+    List<QueueItem> values() {
+        List<QueueItem> values = new ArrayList<QueueItem>(size);
+        for (QueueItem item : items) {
+            if (item != null) {
+                values.add(item);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Backward shift deletion; moves the following items of the probe chain into the freed slot
+     * so lookups never need tombstones.
+     */
+    private void compactChain(int deleteIndex) {
+        final QueueItem[] items = this.items;
+        final int mask = items.length - 1;
+        int freeIndex = deleteIndex;
+        int index = (deleteIndex + 1) & mask;
+        QueueItem item;
+        while ((item = items[index]) != null) {
+            int homeIndex = hash(item.getItemId()) & mask;
+            if ((index < homeIndex && (homeIndex <= freeIndex || freeIndex <= index))
+                    || (homeIndex <= freeIndex && freeIndex <= index)) {
+                items[freeIndex] = item;
+                items[index] = null;
+                freeIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        final QueueItem[] oldItems = items;
+        allocate(newCapacity);
+        final int mask = newCapacity - 1;
+        for (QueueItem item : oldItems) {
+            if (item != null) {
+                int index = hash(item.getItemId()) & mask;
+                while (items[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                items[index] = item;
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        items = new QueueItem[capacity];
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long itemId) {
+        long h = itemId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
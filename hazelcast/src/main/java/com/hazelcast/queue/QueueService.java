@@ -59,6 +59,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
@@ -81,11 +82,12 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
             = new ConstructorFunction<String, LocalQueueStatsImpl>() {
         @Override
         public LocalQueueStatsImpl createNew(String key) {
-            return new LocalQueueStatsImpl();
+            return new LocalQueueStatsImpl(latencyWindowMillis);
         }
     };
 
     private final ILogger logger;
+    private final long latencyWindowMillis;
 
     public QueueService(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -95,6 +97,7 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
         this.queueEvictionScheduler = EntryTaskSchedulerFactory.newScheduler(
                 defaultScheduledExecutor, entryProcessor, ScheduleType.POSTPONE);
         this.logger = nodeEngine.getLogger(QueueService.class);
+        this.latencyWindowMillis = TimeUnit.SECONDS.toMillis(nodeEngine.getGroupProperties().LATENCY_STATS_WINDOW_SECONDS.getLong());
     }
 
     public void scheduleEviction(String name, long delay) {
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.queue;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IQueue;
+import com.hazelcast.core.ItemEvent;
+import com.hazelcast.core.ItemListener;
+import com.hazelcast.core.PartitionService;
+import com.hazelcast.util.ValidationUtil;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A queue that spreads its items over a number of {@link IQueue} stripes, each of them living in its own
+ * partition, so offers and polls are not serialized on a single partition thread. Works the same on members
+ * and on clients since it only uses the public {@link HazelcastInstance} API.
+ * <p/>
+ * Ordering is FIFO per stripe only. Items offered without an affinity key are distributed round-robin;
+ * items offered with the same affinity key always go to the same stripe and keep their relative order.
+ * Consumers poll the stripes starting at a rotating index, blocking operations wait for item events of all
+ * stripes. The queue configuration of the name applies to every stripe, so a configured max-size limits the
+ * size of each stripe.
+ *
+ * @param <E> item type
+ */
+public class StripedQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int MAX_PARTITION_PROBES = 100;
+
+    private final String name;
+    private final IQueue<E>[] stripes;
+    private final AtomicInteger offerIndex = new AtomicInteger();
+    private final AtomicInteger pollIndex = new AtomicInteger();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition itemAdded = lock.newCondition();
+    private final Condition itemRemoved = lock.newCondition();
+    private volatile long addedVersion;
+    private volatile long removedVersion;
+    private volatile String[] listenerRegistrations;
+
+    public StripedQueue(HazelcastInstance instance, String name, int stripeCount) {
+        ValidationUtil.isNotNull(instance, "instance");
+        ValidationUtil.isNotNull(name, "name");
+        if (name.indexOf('@') != -1) {
+            // the stripe names use '@' to separate the partition key
+            throw new IllegalArgumentException("name must not contain '@': " + name);
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        this.name = name;
+        this.stripes = new IQueue[stripeCount];
+        PartitionService partitionService = instance.getPartitionService();
+        Set<Integer> usedPartitions = new HashSet<Integer>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = instance.getQueue(stripeName(partitionService, usedPartitions, i));
+        }
+    }
+
+    /**
+     * Picks a partition key for the stripe, preferring partitions that are not used by the other stripes yet.
+     * The result only depends on the name and partition count, so every member and client computes the same names.
+     */
+    private String stripeName(PartitionService partitionService, Set<Integer> usedPartitions, int index) {
+        String partitionKey = name + "." + index;
+        for (int probe = 1; probe <= MAX_PARTITION_PROBES; probe++) {
+            int partitionId = partitionService.getPartition(partitionKey).getPartitionId();
+            if (usedPartitions.add(partitionId)) {
+                break;
+            }
+            partitionKey = name + "." + index + "." + probe;
+        }
+        return name + "@" + partitionKey;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public IQueue<E> getStripe(int index) {
+        return stripes[index];
+    }
+
+    /**
+     * Offers the item to the stripe selected by the affinity key. Items with equal affinity keys are polled in
+     * the order they were offered.
+     */
+    public boolean offer(E e, Object affinityKey) {
+        return stripeFor(affinityKey).offer(e);
+    }
+
+    public boolean offer(E e, Object affinityKey, long timeout, TimeUnit unit) throws InterruptedException {
+        return stripeFor(affinityKey).offer(e, timeout, unit);
+    }
+
+    public void put(E e, Object affinityKey) throws InterruptedException {
+        stripeFor(affinityKey).put(e);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        int start = nextOfferIndex();
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[(start + i) % stripes.length].offer(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        ensureListeners();
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        for (;;) {
+            long version = removedVersion;
+            if (offer(e)) {
+                return true;
+            }
+            if (remaining <= 0) {
+                return false;
+            }
+            awaitVersionChange(itemRemoved, version, false, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        ensureListeners();
+        for (;;) {
+            long version = removedVersion;
+            if (offer(e)) {
+                return;
+            }
+            awaitVersionChange(itemRemoved, version, false, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public E poll() {
+        int start = nextPollIndex();
+        for (int i = 0; i < stripes.length; i++) {
+            E item = stripes[(start + i) % stripes.length].poll();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        ensureListeners();
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        for (;;) {
+            long version = addedVersion;
+            E item = poll();
+            if (item != null || remaining <= 0) {
+                return item;
+            }
+            awaitVersionChange(itemAdded, version, true, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        ensureListeners();
+        for (;;) {
+            long version = addedVersion;
+            E item = poll();
+            if (item != null) {
+                return item;
+            }
+            awaitVersionChange(itemAdded, version, true, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public E peek() {
+        int start = (pollIndex.get() & Integer.MAX_VALUE) % stripes.length;
+        for (int i = 0; i < stripes.length; i++) {
+            E item = stripes[(start + i) % stripes.length].peek();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        int start = nextPollIndex();
+        int drained = 0;
+        for (int i = 0; i < stripes.length && drained < maxElements; i++) {
+            drained += stripes[(start + i) % stripes.length].drainTo(c, maxElements - drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        for (IQueue<E> stripe : stripes) {
+            if (stripe.remove(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (IQueue<E> stripe : stripes) {
+            if (stripe.contains(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        for (IQueue<E> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (IQueue<E> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        long capacity = 0;
+        for (IQueue<E> stripe : stripes) {
+            capacity += stripe.remainingCapacity();
+        }
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of all stripes, stripe by stripe.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> items = new ArrayList<E>();
+        for (IQueue<E> stripe : stripes) {
+            items.addAll(stripe);
+        }
+        return items.iterator();
+    }
+
+    /**
+     * Removes the item listeners used by the blocking operations and destroys all stripes.
+     */
+    public void destroy() {
+        removeListeners();
+        for (IQueue<E> stripe : stripes) {
+            stripe.destroy();
+        }
+    }
+
+    private IQueue<E> stripeFor(Object affinityKey) {
+        ValidationUtil.isNotNull(affinityKey, "affinityKey");
+        int hash = affinityKey.hashCode() & Integer.MAX_VALUE;
+        return stripes[hash % stripes.length];
+    }
+
+    private int nextOfferIndex() {
+        return (offerIndex.getAndIncrement() & Integer.MAX_VALUE) % stripes.length;
+    }
+
+    private int nextPollIndex() {
+        return (pollIndex.getAndIncrement() & Integer.MAX_VALUE) % stripes.length;
+    }
+
+    /**
+     * Waits until an item event changes the version observed before the last attempt, so an event arriving
+     * between the attempt and the wait is not missed. The listeners must have been registered before the attempt.
+     */
+    private void awaitVersionChange(Condition condition, long version, boolean added, long timeoutNanos)
+            throws InterruptedException {
+        long remaining = timeoutNanos;
+        lock.lock();
+        try {
+            while ((added ? addedVersion : removedVersion) == version) {
+                if (remaining <= 0) {
+                    return;
+                }
+                remaining = condition.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureListeners() {
+        if (listenerRegistrations != null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (listenerRegistrations == null) {
+                String[] registrations = new String[stripes.length];
+                ItemListener<E> listener = new StripeListener();
+                for (int i = 0; i < stripes.length; i++) {
+                    registrations[i] = stripes[i].addItemListener(listener, false);
+                }
+                listenerRegistrations = registrations;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeListeners() {
+        lock.lock();
+        try {
+            String[] registrations = listenerRegistrations;
+            if (registrations != null) {
+                for (int i = 0; i < stripes.length; i++) {
+                    stripes[i].removeItemListener(registrations[i]);
+                }
+                listenerRegistrations = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up blocked callers when any of the stripes changes.
+     */
+    private class StripeListener implements ItemListener<E> {
+
+        @Override
+        public void itemAdded(ItemEvent<E> item) {
+            lock.lock();
+            try {
+                addedVersion++;
+                itemAdded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void itemRemoved(ItemEvent<E> item) {
+            lock.lock();
+            try {
+                removedVersion++;
+                itemRemoved.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.hazelcast.nio.serialization.PortableReader;
 import com.hazelcast.nio.serialization.PortableWriter;
 import com.hazelcast.queue.OfferOperation;
 import com.hazelcast.queue.QueuePortableHook;
+import com.hazelcast.queue.QueueService;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.QueuePermission;
 import com.hazelcast.spi.Operation;
@@ -38,6 +39,8 @@ public class OfferRequest extends QueueRequest {
 
     private Data data;
 
+    private transient long startTime;
+
     public OfferRequest() {
     }
 
@@ -56,6 +59,20 @@ public class OfferRequest extends QueueRequest {
         return new OfferOperation(name, timeoutMillis, data);
     }
 
+    @Override
+    protected void beforeProcess() {
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    protected void afterResponse() {
+        final long latency = System.nanoTime() - startTime;
+        if (getClientEngine().getConfig().findQueueConfig(name).isStatisticsEnabled()) {
+            final QueueService queueService = getService();
+            queueService.getLocalQueueStatsImpl(name).recordOfferLatency(latency);
+        }
+    }
+
     @Override
     public int getClassId() {
         return QueuePortableHook.OFFER;
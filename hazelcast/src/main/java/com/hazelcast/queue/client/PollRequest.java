@@ -18,6 +18,7 @@ package com.hazelcast.queue.client;
 
 import com.hazelcast.queue.PollOperation;
 import com.hazelcast.queue.QueuePortableHook;
+import com.hazelcast.queue.QueueService;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.QueuePermission;
 import com.hazelcast.spi.Operation;
@@ -30,6 +31,8 @@ import java.util.concurrent.TimeUnit;
  */
 public class PollRequest extends QueueRequest {
 
+    private transient long startTime;
+
     public PollRequest() {
     }
 
@@ -46,6 +49,20 @@ public class PollRequest extends QueueRequest {
         return new PollOperation(name, timeoutMillis);
     }
 
+    @Override
+    protected void beforeProcess() {
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    protected void afterResponse() {
+        final long latency = System.nanoTime() - startTime;
+        if (getClientEngine().getConfig().findQueueConfig(name).isStatisticsEnabled()) {
+            final QueueService queueService = getService();
+            queueService.getLocalQueueStatsImpl(name).recordPollLatency(latency);
+        }
+    }
+
     @Override
     public int getClassId() {
         return QueuePortableHook.POLL;
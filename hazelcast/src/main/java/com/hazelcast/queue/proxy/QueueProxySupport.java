@@ -89,7 +89,13 @@ abstract class QueueProxySupport extends AbstractDistributedObject<QueueService>
         throwExceptionIfNull(data);
         OfferOperation operation = new OfferOperation(name, timeout, data);
         try {
-            return (Boolean) invokeAndGet(operation);
+            if (!config.isStatisticsEnabled()) {
+                return (Boolean) invokeAndGet(operation);
+            }
+            final long start = System.nanoTime();
+            final Boolean result = invokeAndGet(operation);
+            getService().getLocalQueueStatsImpl(name).recordOfferLatency(System.nanoTime() - start);
+            return result;
         } catch (Throwable throwable) {
             throw ExceptionUtil.rethrowAllowInterrupted(throwable);
         }
@@ -118,7 +124,13 @@ abstract class QueueProxySupport extends AbstractDistributedObject<QueueService>
     Object pollInternal(long timeout) throws InterruptedException {
         PollOperation operation = new PollOperation(name, timeout);
         try {
-            return invokeAndGet(operation);
+            if (!config.isStatisticsEnabled()) {
+                return invokeAndGet(operation);
+            }
+            final long start = System.nanoTime();
+            final Object result = invokeAndGet(operation);
+            getService().getLocalQueueStatsImpl(name).recordPollLatency(System.nanoTime() - start);
+            return result;
         } catch (Throwable throwable) {
             throw ExceptionUtil.rethrowAllowInterrupted(throwable);
         }
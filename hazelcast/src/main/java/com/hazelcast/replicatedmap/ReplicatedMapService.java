@@ -101,12 +101,17 @@ public class ReplicatedMapService
 
     @Override
     public void init(NodeEngine nodeEngine, Properties properties) {
+        int antiEntropyInterval = nodeEngine.getGroupProperties().REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS.getInteger();
+        if (antiEntropyInterval > 0) {
+            executionService.scheduleWithFixedDelay(new AntiEntropyTask(), antiEntropyInterval, antiEntropyInterval,
+                    TimeUnit.SECONDS);
+        }
     }
 
     @Override
     public void reset() {
         for (ReplicatedRecordStore replicatedRecordStore : replicatedStorages.values()) {
-            replicatedRecordStore.clear(false, true);
+            replicatedRecordStore.reset();
         }
     }
 
@@ -253,6 +258,28 @@ public class ReplicatedMapService
         }
     }
 
+    /**
+     * The AntiEntropyTask periodically sends the digests of all loaded
+     * {@link com.hazelcast.replicatedmap.record.ReplicatedRecordStore}s to a random member, so entries
+     * missed by replication are repaired
+     */
+    private final class AntiEntropyTask
+            implements Runnable {
+
+        public void run() {
+            for (ReplicatedRecordStore replicatedRecordStore : replicatedStorages.values()) {
+                if (replicatedRecordStore instanceof AbstractReplicatedRecordStore
+                        && ((AbstractReplicatedRecordStore) replicatedRecordStore).isLoaded()) {
+                    try {
+                        replicatedRecordStore.getReplicationPublisher().sendDigests();
+                    } catch (Exception e) {
+                        logger.finest("Anti-entropy sync of " + replicatedRecordStore.getName() + " failed", e);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * The Cleaner is used to removed expired entries from the registered
      * {@link com.hazelcast.replicatedmap.record.ReplicatedRecordStore}
@@ -47,8 +47,9 @@ public class ReplicatedMapDataSerializerHook
     public static final int OP_POST_JOIN = 6;
     public static final int OP_CLEAR = 7;
     public static final int MAP_STATS = 8;
+    public static final int OP_DIGEST = 9;
 
-    private static final int LEN = MAP_STATS + 1;
+    private static final int LEN = OP_DIGEST + 1;
 
     @Override
     public int getFactoryId() {
@@ -108,6 +109,12 @@ public class ReplicatedMapDataSerializerHook
                 return new LocalReplicatedMapStatsImpl();
             }
         };
+        constructors[OP_DIGEST] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            @Override
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new ReplicatedMapDigestOperation();
+            }
+        };
 
         return new ArrayDataSerializableFactory(constructors);
     }
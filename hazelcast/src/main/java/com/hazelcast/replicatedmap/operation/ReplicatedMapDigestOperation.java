@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.operation;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.replicatedmap.ReplicatedMapService;
+import com.hazelcast.replicatedmap.record.AbstractReplicatedRecordStore;
+import com.hazelcast.replicatedmap.record.ReplicationPublisher;
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+
+import java.io.IOException;
+
+/**
+ * Anti-entropy operation carrying the per bucket digests of a replicated map. The receiving member compares them
+ * to its own digests and sends back only the entries of the buckets that differ, using
+ * {@link com.hazelcast.replicatedmap.operation.ReplicatedMapInitChunkOperation}s.
+ */
+public class ReplicatedMapDigestOperation
+        extends AbstractReplicatedMapOperation
+        implements IdentifiedDataSerializable {
+
+    private String name;
+    private long[] digests;
+
+    ReplicatedMapDigestOperation() {
+    }
+
+    // Findbugs warning suppressed since the array is serialized anyways and is never about to be changed
+    @SuppressWarnings("EI_EXPOSE_REP2")
+    public ReplicatedMapDigestOperation(String name, long[] digests) {
+        this.name = name;
+        this.digests = digests;
+    }
+
+    @Override
+    public void run()
+            throws Exception {
+        ReplicatedMapService replicatedMapService = getService();
+        AbstractReplicatedRecordStore recordStorage = (AbstractReplicatedRecordStore) replicatedMapService
+                .getReplicatedRecordStore(name, false);
+
+        if (recordStorage != null && recordStorage.isLoaded()) {
+            ReplicationPublisher replicationPublisher = recordStorage.getReplicationPublisher();
+            replicationPublisher.queueDigestSync(getCallerAddress(), digests);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ReplicatedMapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ReplicatedMapDataSerializerHook.OP_DIGEST;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out)
+            throws IOException {
+        out.writeUTF(name);
+        out.writeLongArray(digests);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in)
+            throws IOException {
+        name = in.readUTF();
+        digests = in.readLongArray();
+    }
+}
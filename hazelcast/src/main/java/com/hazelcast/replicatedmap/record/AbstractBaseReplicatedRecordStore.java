@@ -23,6 +23,7 @@ import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryListener;
 import com.hazelcast.core.HazelcastInstanceAware;
 import com.hazelcast.core.Member;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.monitor.LocalReplicatedMapStats;
 import com.hazelcast.monitor.impl.LocalReplicatedMapStatsImpl;
@@ -44,8 +45,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Internal base class to encapsulate the internals from the interface methods of ReplicatedRecordStore
@@ -59,6 +64,10 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
     protected final LocalReplicatedMapStatsImpl mapStats = new LocalReplicatedMapStatsImpl();
     protected final InternalReplicatedMapStorage<K, V> storage;
 
+    // Removed entries are remembered for the anti-entropy sync, so a member that missed the remove does not get
+    // the entry back from the others. Tombstones are records without a value.
+    protected final ConcurrentMap<K, ReplicatedRecord<K, V>> tombstones = new ConcurrentHashMap<K, ReplicatedRecord<K, V>>();
+
     protected final ReplicatedMapService replicatedMapService;
     protected final ReplicationPublisher replicationPublisher;
     protected final ReplicatedMapConfig replicatedMapConfig;
@@ -72,6 +81,7 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
 
     private final Object[] mutexes;
     private final String name;
+    private final long tombstoneExpiryMillis;
 
     protected AbstractBaseReplicatedRecordStore(String name, NodeEngine nodeEngine, CleanerRegistrator cleanerRegistrator,
                                                 ReplicatedMapService replicatedMapService) {
@@ -96,6 +106,10 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
         }
 
         this.cleanerFuture = cleanerRegistrator.registerCleaner(this);
+
+        GroupProperties groupProperties = nodeEngine.getGroupProperties();
+        this.tombstoneExpiryMillis = groupProperties.REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS.getInteger() > 0
+                ? TimeUnit.SECONDS.toMillis(groupProperties.REPLICATED_MAP_TOMBSTONE_EXPIRY_SECONDS.getInteger()) : 0;
     }
 
     @Override
@@ -103,6 +117,17 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
         return name;
     }
 
+    /**
+     * Creates a record to be stored; read-optimized maps use records caching the deserialized value, so
+     * the other maps do not pay for the extra fields.
+     */
+    ReplicatedRecord<K, V> createRecord(K key, V value, VectorClockTimestamp timestamp, int hash, long ttlMillis) {
+        if (replicatedMapConfig.isReadOptimized()) {
+            return new ReadOptimizedReplicatedRecord<K, V>(key, value, timestamp, hash, ttlMillis);
+        }
+        return new ReplicatedRecord<K, V>(key, value, timestamp, hash, ttlMillis);
+    }
+
     @Override
     public void initialize() {
         initializeListeners();
@@ -125,6 +150,7 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
 
         replicationPublisher.destroy();
         storage.clear();
+        tombstones.clear();
         replicatedMapService.destroyDistributedObject(getName());
     }
 
@@ -177,6 +203,53 @@ abstract class AbstractBaseReplicatedRecordStore<K, V>
         return mutexes[key.hashCode() != Integer.MIN_VALUE ? Math.abs(key.hashCode()) % mutexes.length : 0];
     }
 
+    /**
+     * Remembers the removal of an entry. Has to be called while holding the mutex of the key.
+     */
+    void addTombstone(K key, VectorClockTimestamp timestamp, int hash) {
+        if (tombstoneExpiryMillis > 0) {
+            tombstones.put(key, new ReplicatedRecord<K, V>(key, null, timestamp, hash, 0));
+        }
+    }
+
+    ReplicatedRecord<K, V> getTombstone(K key) {
+        return tombstones.get(key);
+    }
+
+    ReplicatedRecord<K, V> removeTombstone(K key) {
+        return tombstones.remove(key);
+    }
+
+    /**
+     * Removes all entries, leaving a tombstone for each of them, so the clear is not undone by the anti-entropy sync.
+     */
+    void clearStorage() {
+        if (tombstoneExpiryMillis > 0) {
+            for (Map.Entry<K, ReplicatedRecord<K, V>> entry : storage.entrySet()) {
+                K key = entry.getKey();
+                synchronized (getMutex(key)) {
+                    ReplicatedRecord<K, V> record = entry.getValue();
+                    addTombstone(key, record.incrementVectorClock(localMember), localMemberHash);
+                }
+            }
+        }
+        storage.clear();
+    }
+
+    /**
+     * Drops the tombstones older than the sync window; a member missing a remove for longer than that is not repaired.
+     */
+    void purgeExpiredTombstones() {
+        long expiryTime = System.currentTimeMillis() - tombstoneExpiryMillis;
+        for (Map.Entry<K, ReplicatedRecord<K, V>> entry : tombstones.entrySet()) {
+            ReplicatedRecord<K, V> tombstone = entry.getValue();
+            if (tombstone.getUpdateTime() < expiryTime) {
+                // a tombstone replaced in the meantime is kept
+                tombstones.remove(entry.getKey(), tombstone);
+            }
+        }
+    }
+
     ScheduledEntry<K, V> cancelTtlEntry(K key) {
         return ttlEvictionScheduler.cancel(key);
     }
@@ -72,6 +72,7 @@ public abstract class AbstractReplicatedRecordStore<K, V>
                 storage.remove(marshalledKey, current);
 
                 vectorClockTimestamp = current.incrementVectorClock(localMember);
+                addTombstone(marshalledKey, vectorClockTimestamp, localMemberHash);
                 ReplicationMessage message = buildReplicationMessage(key, null, vectorClockTimestamp, -1);
                 replicationPublisher.publishReplicatedMessage(message);
             }
@@ -90,6 +91,9 @@ public abstract class AbstractReplicatedRecordStore<K, V>
         ValidationUtil.isNotNull(key, "key");
         long time = System.currentTimeMillis();
         storage.checkState();
+        if (replicatedMapConfig.isReadOptimized()) {
+            return getReadOptimized(key, time);
+        }
         ReplicatedRecord replicatedRecord = storage.get(marshallKey(key));
 
         // Force return null on ttl expiration (but before cleanup thread run)
@@ -105,6 +109,41 @@ public abstract class AbstractReplicatedRecordStore<K, V>
         return value;
     }
 
+    /**
+     * Read path for read-optimized maps. Records are looked up by the deserialized key and the deserialized value is
+     * cached on the record, so a read of an unchanged entry does neither serialize the key nor deserialize the value.
+     * Access statistics are only updated if statistics are enabled.
+     */
+    private Object getReadOptimized(Object key, long time) {
+        ReplicatedRecord replicatedRecord;
+        if (storage.isObjectKeyIndexed()) {
+            replicatedRecord = storage.getByObjectKey(key);
+            if (replicatedRecord == null) {
+                replicatedRecord = storage.get(marshallKey(key));
+                if (replicatedRecord != null) {
+                    storage.indexObjectKey(key, replicatedRecord);
+                }
+            }
+        } else {
+            replicatedRecord = storage.get(marshallKey(key));
+        }
+
+        Object value = null;
+        if (replicatedRecord != null) {
+            long ttlMillis = replicatedRecord.getTtlMillis();
+            if (ttlMillis <= 0 || System.currentTimeMillis() - replicatedRecord.getUpdateTime() < ttlMillis) {
+                value = replicatedRecord.getDeserializedValue(this);
+            }
+        }
+        if (replicatedMapConfig.isStatisticsEnabled()) {
+            if (replicatedRecord != null) {
+                replicatedRecord.access();
+            }
+            mapStats.incrementGets(System.currentTimeMillis() - time);
+        }
+        return value;
+    }
+
     @Override
     public Object put(Object key, Object value) {
         ValidationUtil.isNotNull(key, "key");
@@ -131,7 +170,11 @@ public abstract class AbstractReplicatedRecordStore<K, V>
             final ReplicatedRecord old = storage.get(marshalledKey);
             ReplicatedRecord<K, V> record = old;
             if (old == null) {
-                record = buildReplicatedRecord(marshalledKey, marshalledValue, new VectorClockTimestamp(), ttlMillis);
+                // Continue the clock of a removed entry, so the new value is newer than the remove on every member
+                ReplicatedRecord<K, V> tombstone = removeTombstone(marshalledKey);
+                VectorClockTimestamp timestamp = tombstone != null
+                        ? tombstone.getVectorClockTimestamp() : new VectorClockTimestamp();
+                record = buildReplicatedRecord(marshalledKey, marshalledValue, timestamp, ttlMillis);
                 storage.put(marshalledKey, record);
             } else {
                 oldValue = (V) old.getValue();
@@ -244,13 +287,20 @@ public abstract class AbstractReplicatedRecordStore<K, V>
         if (emptyReplicationQueue) {
             replicationPublisher.emptyReplicationQueue();
         }
-        storage.clear();
+        clearStorage();
         if (distribute) {
             replicationPublisher.distributeClear(emptyReplicationQueue);
         }
         mapStats.incrementOtherOperations();
     }
 
+    @Override
+    public void reset() {
+        replicationPublisher.emptyReplicationQueue();
+        storage.clear();
+        tombstones.clear();
+    }
+
     @Override
     public String addEntryListener(EntryListener listener, Object key) {
         ValidationUtil.isNotNull(listener, "listener");
@@ -279,6 +329,6 @@ public abstract class AbstractReplicatedRecordStore<K, V>
     }
 
     private ReplicatedRecord buildReplicatedRecord(Object key, Object value, VectorClockTimestamp timestamp, long ttlMillis) {
-        return new ReplicatedRecord(key, value, timestamp, localMemberHash, ttlMillis);
+        return createRecord((K) key, (V) value, timestamp, localMemberHash, ttlMillis);
     }
 }
@@ -16,6 +16,7 @@
 
 package com.hazelcast.replicatedmap.record;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.ReplicatedMapConfig;
 
 import java.util.Collection;
@@ -39,6 +40,9 @@ class InternalReplicatedMapStorage<K, V> {
 
     private final ConcurrentMap<K, ReplicatedRecord<K, V>> storage = new ConcurrentHashMap<K, ReplicatedRecord<K, V>>();
 
+    // Secondary index from deserialized keys to records, only used in read-optimized BINARY mode
+    private final ConcurrentMap<Object, ReplicatedRecord<K, V>> objectKeyIndex;
+
     private final AtomicBoolean loaded = new AtomicBoolean(false);
     private final Lock waitForLoadedLock = new ReentrantLock();
     private final Condition waitForLoadedCondition = waitForLoadedLock.newCondition();
@@ -49,6 +53,36 @@ class InternalReplicatedMapStorage<K, V> {
     InternalReplicatedMapStorage(ReplicatedMapConfig replicatedMapConfig) {
         this.name = replicatedMapConfig.getName();
         this.replicatedMapConfig = replicatedMapConfig;
+        boolean indexObjectKeys = replicatedMapConfig.isReadOptimized()
+                && replicatedMapConfig.getInMemoryFormat() == InMemoryFormat.BINARY;
+        this.objectKeyIndex = indexObjectKeys ? new ConcurrentHashMap<Object, ReplicatedRecord<K, V>>() : null;
+    }
+
+    public boolean isObjectKeyIndexed() {
+        return objectKeyIndex != null;
+    }
+
+    /**
+     * Looks up a record by its deserialized key. Returns null if the key was not indexed yet or the indexed
+     * record has been removed in the meantime, in which case the caller falls back to a lookup by the
+     * marshalled key and calls {@link #indexObjectKey(Object, ReplicatedRecord)}.
+     */
+    public ReplicatedRecord<K, V> getByObjectKey(Object key) {
+        ReplicatedRecord<K, V> record = objectKeyIndex.get(key);
+        if (record != null && record.isRemoved()) {
+            objectKeyIndex.remove(key, record);
+            return null;
+        }
+        return record;
+    }
+
+    public void indexObjectKey(Object key, ReplicatedRecord<K, V> record) {
+        record.setIndexedKey(key);
+        objectKeyIndex.put(key, record);
+        // A concurrent removal might have happened before the record was indexed
+        if (record.isRemoved()) {
+            objectKeyIndex.remove(key, record);
+        }
     }
 
     public ReplicatedRecord<K, V> get(Object key) {
@@ -60,7 +94,11 @@ class InternalReplicatedMapStorage<K, V> {
     }
 
     public boolean remove(K key, ReplicatedRecord<K, V> replicatedRecord) {
-        return storage.remove(key, replicatedRecord);
+        boolean removed = storage.remove(key, replicatedRecord);
+        if (removed && objectKeyIndex != null) {
+            markRemoved(replicatedRecord);
+        }
+        return removed;
     }
 
     public boolean containsKey(Object key) {
@@ -80,7 +118,24 @@ class InternalReplicatedMapStorage<K, V> {
     }
 
     public void clear() {
-        storage.clear();
+        if (objectKeyIndex == null) {
+            storage.clear();
+            return;
+        }
+        for (Map.Entry<K, ReplicatedRecord<K, V>> entry : storage.entrySet()) {
+            ReplicatedRecord<K, V> record = entry.getValue();
+            if (storage.remove(entry.getKey(), record)) {
+                markRemoved(record);
+            }
+        }
+    }
+
+    private void markRemoved(ReplicatedRecord<K, V> record) {
+        record.markRemoved();
+        Object indexedKey = record.getIndexedKey();
+        if (indexedKey != null) {
+            objectKeyIndex.remove(indexedKey, record);
+        }
     }
 
     public boolean isEmpty() {
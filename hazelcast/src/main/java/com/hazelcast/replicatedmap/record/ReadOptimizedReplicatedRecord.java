@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.replicatedmap.record;
+
+/**
+ * Record of a read-optimized replicated map. Caches the deserialized value until the value is updated, and
+ * carries the removed marker and the deserialized key used by the object key index of BINARY maps.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @see com.hazelcast.config.ReplicatedMapConfig#setReadOptimized(boolean)
+ */
+class ReadOptimizedReplicatedRecord<K, V>
+        extends ReplicatedRecord<K, V> {
+
+    private volatile DeserializedValue deserializedValue;
+    private volatile boolean removed;
+    private volatile Object indexedKey;
+
+    ReadOptimizedReplicatedRecord(K key, V value, VectorClockTimestamp vectorClockTimestamp, int hash, long ttlMillis) {
+        super(key, value, vectorClockTimestamp, hash, ttlMillis);
+    }
+
+    /**
+     * Returns the deserialized form of the current value. The deserialized value is cached until the value is
+     * updated, so repeated reads of an unchanged record do not deserialize (and allocate) again.
+     */
+    @Override
+    public Object getDeserializedValue(ReplicatedRecordStore recordStore) {
+        V value = getValueInternal();
+        DeserializedValue deserializedValue = this.deserializedValue;
+        if (deserializedValue != null && deserializedValue.source == value) {
+            return deserializedValue.value;
+        }
+        Object unmarshalledValue = recordStore.unmarshallValue(value);
+        this.deserializedValue = new DeserializedValue(value, unmarshalledValue);
+        return unmarshalledValue;
+    }
+
+    @Override
+    boolean isRemoved() {
+        return removed;
+    }
+
+    @Override
+    void markRemoved() {
+        removed = true;
+    }
+
+    @Override
+    Object getIndexedKey() {
+        return indexedKey;
+    }
+
+    @Override
+    void setIndexedKey(Object indexedKey) {
+        this.indexedKey = indexedKey;
+    }
+
+    /**
+     * Pairs a deserialized value with the stored value it was created from
+     */
+    private static final class DeserializedValue {
+        private final Object source;
+        private final Object value;
+
+        private DeserializedValue(Object source, Object value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
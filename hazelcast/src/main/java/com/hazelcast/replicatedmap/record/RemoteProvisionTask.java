@@ -24,10 +24,13 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
- * This class implements the pre-provisioning task on member startup
+ * This class implements the pre-provisioning task on member startup. It is also used by the anti-entropy sync
+ * to send only the records of the digest buckets that differ from the caller.
  *
  * @param <K> key type
  * @param <V> value type
@@ -39,24 +42,30 @@ final class RemoteProvisionTask<K, V>
     private final OperationService operationService;
     private final Address callerAddress;
     private final int chunkSize;
+    private final boolean[] bucketFilter;
 
     private ReplicatedRecord[] recordCache;
     private int recordCachePos;
 
     RemoteProvisionTask(AbstractBaseReplicatedRecordStore<K, V> replicatedRecordStore, NodeEngine nodeEngine,
                                 Address callerAddress, int chunkSize) {
+        this(replicatedRecordStore, nodeEngine, callerAddress, chunkSize, null);
+    }
+
+    RemoteProvisionTask(AbstractBaseReplicatedRecordStore<K, V> replicatedRecordStore, NodeEngine nodeEngine,
+                        Address callerAddress, int chunkSize, boolean[] bucketFilter) {
 
         this.replicatedRecordStore = replicatedRecordStore;
         this.operationService = nodeEngine.getOperationService();
         this.callerAddress = callerAddress;
         this.chunkSize = chunkSize;
+        this.bucketFilter = bucketFilter;
     }
 
     @Override
     public void run() {
         recordCache = new ReplicatedRecord[chunkSize];
-        List<ReplicatedRecord<K, V>> replicatedRecords = new ArrayList<ReplicatedRecord<K, V>>(
-                replicatedRecordStore.storage.values());
+        List<ReplicatedRecord<K, V>> replicatedRecords = selectReplicatedRecords();
 
         for (int i = 0; i < replicatedRecords.size(); i++) {
             ReplicatedRecord<K, V> replicatedRecord = replicatedRecords.get(i);
@@ -64,6 +73,27 @@ final class RemoteProvisionTask<K, V>
         }
     }
 
+    /**
+     * Selects the records to send, including the tombstones of removed entries, which are sent as records
+     * without a value and applied as removes.
+     */
+    private List<ReplicatedRecord<K, V>> selectReplicatedRecords() {
+        List<ReplicatedRecord<K, V>> replicatedRecords = new ArrayList<ReplicatedRecord<K, V>>();
+        selectReplicatedRecords(replicatedRecordStore.storage.entrySet(), replicatedRecords);
+        selectReplicatedRecords(replicatedRecordStore.tombstones.entrySet(), replicatedRecords);
+        return replicatedRecords;
+    }
+
+    private void selectReplicatedRecords(Collection<Map.Entry<K, ReplicatedRecord<K, V>>> entries,
+                                         List<ReplicatedRecord<K, V>> replicatedRecords) {
+        ReplicationPublisher<K, V> replicationPublisher = replicatedRecordStore.getReplicationPublisher();
+        for (Map.Entry<K, ReplicatedRecord<K, V>> entry : entries) {
+            if (bucketFilter == null || bucketFilter[replicationPublisher.digestBucket(entry.getKey())]) {
+                replicatedRecords.add(entry.getValue());
+            }
+        }
+    }
+
     private void processReplicatedRecord(ReplicatedRecord<K, V> replicatedRecord, boolean finalRecord) {
         Object marshalledKey = replicatedRecordStore.marshallKey(replicatedRecord.getKey());
         synchronized (replicatedRecordStore.getMutex(marshalledKey)) {
@@ -38,7 +38,7 @@ public class ReplicatedRecord<K, V>
     private static final AtomicLongFieldUpdater<ReplicatedRecord> HITS_UPDATER = AtomicLongFieldUpdater
             .newUpdater(ReplicatedRecord.class, "hits");
     private static final AtomicLongFieldUpdater<ReplicatedRecord> LAST_ACCESS_TIME_UPDATER = AtomicLongFieldUpdater
-            .newUpdater(ReplicatedRecord.class, "hits");
+            .newUpdater(ReplicatedRecord.class, "lastAccessTime");
     private static final AtomicReferenceFieldUpdater<ReplicatedRecord, VectorClockTimestamp> VECTOR_CLOCK_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(ReplicatedRecord.class, VectorClockTimestamp.class, "vectorClockTimestamp");
 
@@ -47,7 +47,7 @@ public class ReplicatedRecord<K, V>
     private volatile long lastAccessTime;
 
     private K key;
-    private V value;
+    private volatile V value;
     private volatile VectorClockTimestamp vectorClockTimestamp;
     private int latestUpdateHash;
     private long ttlMillis;
@@ -74,6 +74,45 @@ public class ReplicatedRecord<K, V>
         return value;
     }
 
+    /**
+     * Returns the stored key without updating the access statistics
+     */
+    public K getKeyInternal() {
+        return key;
+    }
+
+    /**
+     * Returns the stored value without updating the access statistics
+     */
+    public V getValueInternal() {
+        return value;
+    }
+
+    /**
+     * Returns the deserialized form of the current value
+     *
+     * @param recordStore the record store used to unmarshall the value
+     * @return the deserialized value
+     */
+    public Object getDeserializedValue(ReplicatedRecordStore recordStore) {
+        return recordStore.unmarshallValue(value);
+    }
+
+    // The removed marker and the indexed key are only kept by read-optimized records
+    boolean isRemoved() {
+        return false;
+    }
+
+    void markRemoved() {
+    }
+
+    Object getIndexedKey() {
+        return null;
+    }
+
+    void setIndexedKey(Object indexedKey) {
+    }
+
     public VectorClockTimestamp getVectorClockTimestamp() {
         return vectorClockTimestamp;
     }
@@ -81,8 +120,7 @@ public class ReplicatedRecord<K, V>
     public VectorClockTimestamp applyAndIncrementVectorClock(VectorClockTimestamp otherVectorClockTimestamp, Member member) {
         for (;;) {
             VectorClockTimestamp vectorClockTimestamp = this.vectorClockTimestamp;
-            VectorClockTimestamp vectorClockTimestampCopy = VectorClockTimestamp.copyVector(vectorClockTimestamp);
-            vectorClockTimestampCopy = vectorClockTimestampCopy.applyVector0(otherVectorClockTimestamp);
+            VectorClockTimestamp vectorClockTimestampCopy = vectorClockTimestamp.applyVector0(otherVectorClockTimestamp);
             vectorClockTimestampCopy = vectorClockTimestampCopy.incrementClock0(member);
             if (VECTOR_CLOCK_UPDATER.compareAndSet(this, vectorClockTimestamp, vectorClockTimestampCopy)) {
                 return vectorClockTimestampCopy;
@@ -93,8 +131,7 @@ public class ReplicatedRecord<K, V>
     public VectorClockTimestamp applyVectorClock(VectorClockTimestamp otherVectorClockTimestamp) {
         for (;;) {
             VectorClockTimestamp vectorClockTimestamp = this.vectorClockTimestamp;
-            VectorClockTimestamp vectorClockTimestampCopy = VectorClockTimestamp.copyVector(vectorClockTimestamp);
-            vectorClockTimestampCopy = vectorClockTimestampCopy.applyVector0(otherVectorClockTimestamp);
+            VectorClockTimestamp vectorClockTimestampCopy = vectorClockTimestamp.applyVector0(otherVectorClockTimestamp);
             if (VECTOR_CLOCK_UPDATER.compareAndSet(this, vectorClockTimestamp, vectorClockTimestampCopy)) {
                 return vectorClockTimestampCopy;
             }
@@ -104,8 +141,7 @@ public class ReplicatedRecord<K, V>
     public VectorClockTimestamp incrementVectorClock(Member member) {
         for (;;) {
             VectorClockTimestamp vectorClockTimestamp = this.vectorClockTimestamp;
-            VectorClockTimestamp vectorClockTimestampCopy = VectorClockTimestamp.copyVector(vectorClockTimestamp);
-            vectorClockTimestampCopy = vectorClockTimestampCopy.incrementClock0(member);
+            VectorClockTimestamp vectorClockTimestampCopy = vectorClockTimestamp.incrementClock0(member);
             if (VECTOR_CLOCK_UPDATER.compareAndSet(this, vectorClockTimestamp, vectorClockTimestampCopy)) {
                 return vectorClockTimestampCopy;
             }
@@ -185,7 +221,7 @@ public class ReplicatedRecord<K, V>
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof ReplicatedRecord)) {
             return false;
         }
 
@@ -228,7 +264,4 @@ public class ReplicatedRecord<K, V>
         sb.append('}');
         return sb.toString();
     }
-
 }
-
-
@@ -57,6 +57,12 @@ public interface ReplicatedRecordStore {
 
     void clear(boolean distribute, boolean emptyReplicationQueue);
 
+    /**
+     * Drops all local entries and tombstones without replicating anything, e.g. when this member merges into
+     * another cluster and has to take over its data.
+     */
+    void reset();
+
     boolean isEmpty();
 
     Object unmarshallKey(Object key);
@@ -22,12 +22,14 @@ import com.hazelcast.core.Member;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.monitor.impl.LocalReplicatedMapStatsImpl;
 import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.replicatedmap.PreReplicationHook;
 import com.hazelcast.replicatedmap.ReplicatedMapService;
 import com.hazelcast.replicatedmap.ReplicationChannel;
 import com.hazelcast.replicatedmap.messages.MultiReplicationMessage;
 import com.hazelcast.replicatedmap.messages.ReplicationMessage;
 import com.hazelcast.replicatedmap.operation.ReplicatedMapClearOperation;
+import com.hazelcast.replicatedmap.operation.ReplicatedMapDigestOperation;
 import com.hazelcast.replicatedmap.operation.ReplicatedMapPostJoinOperation;
 import com.hazelcast.spi.EventRegistration;
 import com.hazelcast.spi.EventService;
@@ -43,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -66,8 +69,12 @@ public class ReplicationPublisher<K, V>
 
     private static final int MAX_MESSAGE_CACHE_SIZE = 1000;
     private static final int MAX_CLEAR_EXECUTION_RETRY = 5;
+    private static final int DIGEST_BUCKET_COUNT = 256;
+    private static final long TOMBSTONE_DIGEST_SALT = 0x9E3779B97F4A7C15L;
 
-    private final List<ReplicationMessage> replicationMessageCache = new ArrayList<ReplicationMessage>();
+    // Pending messages are coalesced by key: a newer update of a key replaces the pending one, since its vector
+    // clock already contains the older update. The insertion order of the latest updates is retained.
+    private final Map<Object, ReplicationMessage> replicationMessageCache = new LinkedHashMap<Object, ReplicationMessage>();
     private final Lock replicationMessageCacheLock = new ReentrantLock();
     private final Random memberRandomizer = new Random();
 
@@ -126,8 +133,12 @@ public class ReplicationPublisher<K, V>
         } else {
             replicationMessageCacheLock.lock();
             try {
-                replicationMessageCache.add(message);
-                if (replicationMessageCache.size() == 1) {
+                boolean firstMessage = replicationMessageCache.isEmpty();
+                Object key = message.getKey();
+                // Remove first to move the key to the end of the insertion order
+                replicationMessageCache.remove(key);
+                replicationMessageCache.put(key, message);
+                if (firstMessage) {
                     ReplicationCachedSenderTask task = new ReplicationCachedSenderTask(this);
                     long replicationDelayMillis = replicatedMapConfig.getReplicationDelayMillis();
                     executorService.schedule(task, replicationDelayMillis, TimeUnit.MILLISECONDS);
@@ -176,7 +187,7 @@ public class ReplicationPublisher<K, V>
         try {
             final int size = replicationMessageCache.size();
             if (size > 0) {
-                replicationMessages = replicationMessageCache.toArray(new ReplicationMessage[size]);
+                replicationMessages = replicationMessageCache.values().toArray(new ReplicationMessage[size]);
                 replicationMessageCache.clear();
             }
         } finally {
@@ -213,6 +224,83 @@ public class ReplicationPublisher<K, V>
         executionService.execute(EXECUTOR_NAME, task);
     }
 
+    /**
+     * Sends the digests of the local entries to a random other member, as part of the anti-entropy sync.
+     * The other member answers with the entries of the digest buckets that differ, which are applied like
+     * regular replication updates, so only newer versions of an entry replace the local one. Removed entries are
+     * part of the digests through their tombstones, so a remove missed by the other member is repaired as well.
+     */
+    public void sendDigests() {
+        replicatedRecordStore.purgeExpiredTombstones();
+        List<MemberImpl> members = new ArrayList<MemberImpl>(clusterService.getMemberList());
+        members.remove(localMember);
+        if (members.isEmpty()) {
+            return;
+        }
+        MemberImpl member = members.get(memberRandomizer.nextInt(members.size()));
+        Operation operation = new ReplicatedMapDigestOperation(name, computeDigests());
+        operationService.send(operation, member.getAddress());
+    }
+
+    public void queueDigestSync(final Address callerAddress, final long[] remoteDigests) {
+        // Computing the digests serializes every key, so it is not done on the operation thread
+        executionService.execute(EXECUTOR_NAME, new Runnable() {
+            @Override
+            public void run() {
+                processDigestSync(callerAddress, remoteDigests);
+            }
+        });
+    }
+
+    void processDigestSync(Address callerAddress, long[] remoteDigests) {
+        long[] digests = computeDigests();
+        if (remoteDigests.length != digests.length) {
+            return;
+        }
+        boolean[] differingBuckets = new boolean[digests.length];
+        boolean differs = false;
+        for (int i = 0; i < digests.length; i++) {
+            if (digests[i] != remoteDigests[i]) {
+                differingBuckets[i] = true;
+                differs = true;
+            }
+        }
+        if (differs) {
+            int chunkSize = ReplicatedMapPostJoinOperation.DEFAULT_CHUNK_SIZE;
+            new RemoteProvisionTask(replicatedRecordStore, nodeEngine, callerAddress, chunkSize, differingBuckets).run();
+        }
+    }
+
+    long[] computeDigests() {
+        long[] digests = new long[DIGEST_BUCKET_COUNT];
+        for (Map.Entry<K, ReplicatedRecord<K, V>> entry : storage.entrySet()) {
+            int keyHash = digestKeyHash(entry.getKey());
+            VectorClockTimestamp timestamp = entry.getValue().getVectorClockTimestamp();
+            digests[digestBucket(keyHash)] += 31L * keyHash + timestamp.digest();
+        }
+        for (Map.Entry<K, ReplicatedRecord<K, V>> entry : replicatedRecordStore.tombstones.entrySet()) {
+            int keyHash = digestKeyHash(entry.getKey());
+            VectorClockTimestamp timestamp = entry.getValue().getVectorClockTimestamp();
+            // A tombstone must not digest like a live entry with the same clock
+            digests[digestBucket(keyHash)] += 31L * keyHash + timestamp.digest() + TOMBSTONE_DIGEST_SALT;
+        }
+        return digests;
+    }
+
+    int digestBucket(Object marshalledKey) {
+        return digestBucket(digestKeyHash(marshalledKey));
+    }
+
+    private int digestBucket(int keyHash) {
+        return (keyHash & Integer.MAX_VALUE) % DIGEST_BUCKET_COUNT;
+    }
+
+    private int digestKeyHash(Object marshalledKey) {
+        // The hash of the serialized key is used, since it is the same on all members
+        Data keyData = marshalledKey instanceof Data ? (Data) marshalledKey : nodeEngine.toData(marshalledKey);
+        return keyData.hashCode();
+    }
+
     public void retryWithDifferentReplicationNode(Member member) {
         List<MemberImpl> members = new ArrayList<MemberImpl>(nodeEngine.getClusterService().getMemberList());
         members.remove(member);
@@ -301,22 +389,27 @@ public class ReplicationPublisher<K, V>
         if (update.getKey() instanceof String) {
             String key = (String) update.getKey();
             if (AbstractReplicatedRecordStore.CLEAR_REPLICATION_MAGIC_KEY.equals(key)) {
-                storage.clear();
+                replicatedRecordStore.clearStorage();
                 return;
             }
         }
 
         K marshalledKey = (K) replicatedRecordStore.marshallKey(update.getKey());
+        // Share the member instances of the cluster instead of retaining the deserialized ones in the records
+        VectorClockTimestamp updateVectorClockTimestamp = update.getVectorClockTimestamp().internMembers(clusterService);
         synchronized (replicatedRecordStore.getMutex(marshalledKey)) {
             final ReplicatedRecord<K, V> localEntry = storage.get(marshalledKey);
             if (localEntry == null) {
+                if (!applyOverTombstone(marshalledKey, update, updateVectorClockTimestamp)) {
+                    return;
+                }
                 if (!update.isRemove()) {
                     V marshalledValue = (V) replicatedRecordStore.marshallValue(update.getValue());
-                    VectorClockTimestamp timestamp = update.getVectorClockTimestamp();
+                    VectorClockTimestamp timestamp = updateVectorClockTimestamp;
                     int updateHash = update.getUpdateHash();
                     long ttlMillis = update.getTtlMillis();
                     storage.put(marshalledKey,
-                            new ReplicatedRecord<K, V>(marshalledKey, marshalledValue, timestamp, updateHash, ttlMillis));
+                            replicatedRecordStore.createRecord(marshalledKey, marshalledValue, timestamp, updateHash, ttlMillis));
                     if (ttlMillis > 0) {
                         replicatedRecordStore.scheduleTtlEntry(ttlMillis, marshalledKey, null);
                     } else {
@@ -326,18 +419,18 @@ public class ReplicationPublisher<K, V>
                 }
             } else {
                 final VectorClockTimestamp currentVectorClockTimestamp = localEntry.getVectorClockTimestamp();
-                final VectorClockTimestamp updateVectorClockTimestamp = update.getVectorClockTimestamp();
-                if (VectorClockTimestamp.happenedBefore(updateVectorClockTimestamp, currentVectorClockTimestamp)) {
-                    // ignore the update. This is an old update
+                if (VectorClockTimestamp.happenedBefore(updateVectorClockTimestamp, currentVectorClockTimestamp)
+                        || VectorClockTimestamp.sameClocks(updateVectorClockTimestamp, currentVectorClockTimestamp)) {
+                    // ignore the update. This is an old update or the one already applied, e.g. sent by a sync
                     return;
 
                 } else if (VectorClockTimestamp.happenedBefore(currentVectorClockTimestamp, updateVectorClockTimestamp)) {
                     // A new update happened
-                    applyTheUpdate(update, localEntry);
+                    applyTheUpdate(update, updateVectorClockTimestamp, localEntry);
 
                 } else {
                     if (localEntry.getLatestUpdateHash() >= update.getUpdateHash()) {
-                        applyTheUpdate(update, localEntry);
+                        applyTheUpdate(update, updateVectorClockTimestamp, localEntry);
                     } else {
                         VectorClockTimestamp newTimestamp = localEntry
                                 .applyAndIncrementVectorClock(updateVectorClockTimestamp, localMember);
@@ -356,8 +449,48 @@ public class ReplicationPublisher<K, V>
         }
     }
 
-    private void applyTheUpdate(ReplicationMessage<K, V> update, ReplicatedRecord<K, V> localEntry) {
-        VectorClockTimestamp remoteVectorClockTimestamp = update.getVectorClockTimestamp();
+    /**
+     * Decides whether an update of an entry that is not stored locally is applied, given the tombstone the entry may
+     * have left. Has to be called while holding the mutex of the key.
+     *
+     * @return true if the update is newer than the remove, or wins the tie-break against a concurrent remove
+     */
+    private boolean applyOverTombstone(K marshalledKey, ReplicationMessage update, VectorClockTimestamp updateTimestamp) {
+        ReplicatedRecord<K, V> tombstone = replicatedRecordStore.getTombstone(marshalledKey);
+        if (tombstone == null) {
+            if (update.isRemove()) {
+                replicatedRecordStore.addTombstone(marshalledKey, updateTimestamp, update.getUpdateHash());
+            }
+            return true;
+        }
+        VectorClockTimestamp tombstoneTimestamp = tombstone.getVectorClockTimestamp();
+        if (VectorClockTimestamp.happenedBefore(tombstoneTimestamp, updateTimestamp)) {
+            if (update.isRemove()) {
+                replicatedRecordStore.addTombstone(marshalledKey, updateTimestamp, update.getUpdateHash());
+            } else {
+                replicatedRecordStore.removeTombstone(marshalledKey);
+            }
+            return true;
+        }
+        if (VectorClockTimestamp.happenedBefore(updateTimestamp, tombstoneTimestamp)
+                || VectorClockTimestamp.sameClocks(updateTimestamp, tombstoneTimestamp)) {
+            return false;
+        }
+        // Concurrent to the remove
+        if (update.isRemove()) {
+            tombstone.applyVectorClock(updateTimestamp);
+            return false;
+        }
+        // Same tie-break as for concurrent updates of a stored entry: the remote update wins on a lower hash
+        if (tombstone.getLatestUpdateHash() >= update.getUpdateHash()) {
+            replicatedRecordStore.removeTombstone(marshalledKey);
+            return true;
+        }
+        return false;
+    }
+
+    private void applyTheUpdate(ReplicationMessage<K, V> update, VectorClockTimestamp remoteVectorClockTimestamp,
+                                ReplicatedRecord<K, V> localEntry) {
         K marshalledKey = (K) replicatedRecordStore.marshallKey(update.getKey());
         V marshalledValue = (V) replicatedRecordStore.marshallValue(update.getValue());
         long ttlMillis = update.getTtlMillis();
@@ -369,7 +502,10 @@ public class ReplicationPublisher<K, V>
             storage.remove(marshalledKey, localEntry);
         }
 
-        localEntry.applyVectorClock(remoteVectorClockTimestamp);
+        VectorClockTimestamp timestamp = localEntry.applyVectorClock(remoteVectorClockTimestamp);
+        if (update.isRemove()) {
+            replicatedRecordStore.addTombstone(marshalledKey, timestamp, update.getUpdateHash());
+        }
         if (ttlMillis > 0) {
             replicatedRecordStore.scheduleTtlEntry(ttlMillis, marshalledKey, null);
         } else {
@@ -16,6 +16,7 @@
 
 package com.hazelcast.replicatedmap.record;
 
+import com.hazelcast.cluster.ClusterService;
 import com.hazelcast.core.Member;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.nio.ObjectDataInput;
@@ -24,62 +25,127 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.replicatedmap.operation.ReplicatedMapDataSerializerHook;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * A vector clock implementation based on hashcodes of the Hazelcast members UUID to solve conflicts on
  * replication updates
+ * <p/>
+ * The clock is immutable and stored as two parallel arrays, one holding the members and one holding their
+ * clocks. Since only the members that updated an entry are part of its clock, the arrays are very small and
+ * are cheaper to keep per record than a map. Members read from the wire can be replaced by the canonical
+ * cluster member instances using {@link #internMembers(com.hazelcast.cluster.ClusterService)}, so records
+ * do not retain their own member copies.
  */
 public final class VectorClockTimestamp
         implements IdentifiedDataSerializable {
 
-    private Map<Member, Integer> clocks;
+    private static final Member[] EMPTY_MEMBERS = new Member[0];
+    private static final int[] EMPTY_CLOCKS = new int[0];
+
+    private Member[] members;
+    private int[] clocks;
 
     public VectorClockTimestamp() {
-        this.clocks = Collections.emptyMap();
+        this.members = EMPTY_MEMBERS;
+        this.clocks = EMPTY_CLOCKS;
     }
 
-    private VectorClockTimestamp(Map<Member, Integer> clocks) {
-        this.clocks = Collections.unmodifiableMap(clocks);
+    private VectorClockTimestamp(Member[] members, int[] clocks) {
+        this.members = members;
+        this.clocks = clocks;
     }
 
     VectorClockTimestamp incrementClock0(Member localMember) {
-        Map<Member, Integer> copy = new HashMap<Member, Integer>(clocks);
-        Integer clock = copy.get(localMember);
-        if (clock == null) {
-            clock = 0;
+        int index = indexOf(localMember);
+        if (index == -1) {
+            int length = members.length;
+            Member[] membersCopy = Arrays.copyOf(members, length + 1);
+            int[] clocksCopy = Arrays.copyOf(clocks, length + 1);
+            membersCopy[length] = localMember;
+            clocksCopy[length] = 1;
+            return new VectorClockTimestamp(membersCopy, clocksCopy);
         }
 
-        copy.put(localMember, ++clock);
-        return new VectorClockTimestamp(copy);
+        int[] clocksCopy = clocks.clone();
+        clocksCopy[index]++;
+        return new VectorClockTimestamp(members, clocksCopy);
     }
 
     VectorClockTimestamp applyVector0(VectorClockTimestamp update) {
-        Map<Member, Integer> copy = new HashMap<Member, Integer>(clocks);
-        for (Member m : update.clocks.keySet()) {
-            final Integer currentClock = copy.get(m);
-            final Integer updateClock = update.clocks.get(m);
-            if (smaller(currentClock, updateClock)) {
-                copy.put(m, updateClock);
+        Member[] membersCopy = members;
+        int[] clocksCopy = clocks;
+        boolean changed = false;
+        for (int i = 0; i < update.members.length; i++) {
+            Member m = update.members[i];
+            int updateClock = update.clocks[i];
+            int index = indexOf(membersCopy, m);
+            if (index == -1) {
+                int length = membersCopy.length;
+                membersCopy = Arrays.copyOf(membersCopy, length + 1);
+                clocksCopy = Arrays.copyOf(clocksCopy, length + 1);
+                membersCopy[length] = m;
+                clocksCopy[length] = updateClock;
+                changed = true;
+            } else if (clocksCopy[index] < updateClock) {
+                if (clocksCopy == clocks) {
+                    clocksCopy = clocks.clone();
+                }
+                clocksCopy[index] = updateClock;
+                changed = true;
+            }
+        }
+        return changed ? new VectorClockTimestamp(membersCopy, clocksCopy) : this;
+    }
+
+    /**
+     * Replaces the members of this clock by the equal member instances of the cluster, if they are still part of the
+     * cluster. This prevents every deserialized clock from holding its own copies of the members.
+     *
+     * @param clusterService the cluster service to look up the members
+     * @return a clock sharing the cluster member instances, or this clock if no member had to be replaced
+     */
+    public VectorClockTimestamp internMembers(ClusterService clusterService) {
+        Member[] membersCopy = members;
+        for (int i = 0; i < members.length; i++) {
+            Member member = members[i];
+            if (member instanceof MemberImpl) {
+                Member clusterMember = clusterService.getMember(((MemberImpl) member).getAddress());
+                if (clusterMember != null && clusterMember != member && clusterMember.equals(member)) {
+                    if (membersCopy == members) {
+                        membersCopy = members.clone();
+                    }
+                    membersCopy[i] = clusterMember;
+                }
             }
         }
-        return new VectorClockTimestamp(copy);
+        return membersCopy == members ? this : new VectorClockTimestamp(membersCopy, clocks);
+    }
+
+    /**
+     * Returns a digest of this clock that is independent of the order of the members. Two clocks containing the
+     * same members and clocks have the same digest on every member of the cluster.
+     *
+     * @return the digest
+     */
+    public long digest() {
+        long digest = 0;
+        for (int i = 0; i < members.length; i++) {
+            digest += 31L * members[i].hashCode() + clocks[i];
+        }
+        return digest;
     }
 
     @Override
     public void writeData(ObjectDataOutput dataOutput)
             throws IOException {
 
-        Map<Member, Integer> clocks = this.clocks;
-        dataOutput.writeInt(clocks.size());
-        for (Entry<Member, Integer> entry : clocks.entrySet()) {
-            entry.getKey().writeData(dataOutput);
-            dataOutput.writeInt(entry.getValue());
+        Member[] members = this.members;
+        int[] clocks = this.clocks;
+        dataOutput.writeInt(members.length);
+        for (int i = 0; i < members.length; i++) {
+            members[i].writeData(dataOutput);
+            dataOutput.writeInt(clocks[i]);
         }
     }
 
@@ -88,14 +154,16 @@ public final class VectorClockTimestamp
             throws IOException {
 
         int size = dataInput.readInt();
-        Map<Member, Integer> data = new HashMap<Member, Integer>();
+        Member[] members = new Member[size];
+        int[] clocks = new int[size];
         for (int i = 0; i < size; i++) {
             Member m = new MemberImpl();
             m.readData(dataInput);
-            int clock = dataInput.readInt();
-            data.put(m, clock);
+            members[i] = m;
+            clocks[i] = dataInput.readInt();
         }
-        this.clocks = Collections.unmodifiableMap(data);
+        this.members = members;
+        this.clocks = clocks;
     }
 
     @Override
@@ -110,33 +178,56 @@ public final class VectorClockTimestamp
 
     @Override
     public String toString() {
-        return "Vector{" + "clocks=" + clocks + '}';
+        final StringBuilder sb = new StringBuilder("Vector{clocks={");
+        for (int i = 0; i < members.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(members[i]).append('=').append(clocks[i]);
+        }
+        sb.append("}}");
+        return sb.toString();
+    }
+
+    private int indexOf(Member member) {
+        return indexOf(members, member);
     }
 
-    private boolean smaller(Integer int1, Integer int2) {
-        int i1 = int1 == null ? 0 : int1;
-        int i2 = int2 == null ? 0 : int2;
-        return i1 < i2;
+    private int clockOf(Member member) {
+        int index = indexOf(member);
+        return index == -1 ? 0 : clocks[index];
     }
 
-    static VectorClockTimestamp copyVector(VectorClockTimestamp vectorClockTimestamp) {
-        Map<Member, Integer> clocks = new HashMap<Member, Integer>();
-        for (Entry<Member, Integer> entry : vectorClockTimestamp.clocks.entrySet()) {
-            MemberImpl member = new MemberImpl((MemberImpl) entry.getKey());
-            Integer value = entry.getValue();
-            clocks.put(member, value);
+    private static int indexOf(Member[] members, Member member) {
+        for (int i = 0; i < members.length; i++) {
+            if (members[i].equals(member)) {
+                return i;
+            }
         }
-        return new VectorClockTimestamp(clocks);
+        return -1;
     }
 
-    static boolean happenedBefore(VectorClockTimestamp x, VectorClockTimestamp y) {
-        Set<Member> members = new HashSet<Member>(x.clocks.keySet());
-        members.addAll(y.clocks.keySet());
+    /**
+     * @return true if both clocks count the same updates of every member, a missing member counting as 0
+     */
+    static boolean sameClocks(VectorClockTimestamp x, VectorClockTimestamp y) {
+        return coveredBy(x, y) && coveredBy(y, x);
+    }
 
+    private static boolean coveredBy(VectorClockTimestamp x, VectorClockTimestamp y) {
+        for (int i = 0; i < x.members.length; i++) {
+            if (x.clocks[i] != y.clockOf(x.members[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean happenedBefore(VectorClockTimestamp x, VectorClockTimestamp y) {
         boolean hasLesser = false;
-        for (Member m : members) {
-            int xi = x.clocks.get(m) != null ? x.clocks.get(m) : 0;
-            int yi = y.clocks.get(m) != null ? y.clocks.get(m) : 0;
+        for (int i = 0; i < x.members.length; i++) {
+            int xi = x.clocks[i];
+            int yi = y.clockOf(x.members[i]);
             if (xi > yi) {
                 return false;
             }
@@ -144,6 +235,14 @@ public final class VectorClockTimestamp
                 hasLesser = true;
             }
         }
+        if (!hasLesser) {
+            // Members only known to y have a clock of 0 in x
+            for (int i = 0; i < y.members.length; i++) {
+                if (y.clocks[i] > 0 && x.indexOf(y.members[i]) == -1) {
+                    return true;
+                }
+            }
+        }
         return hasLesser;
     }
 }
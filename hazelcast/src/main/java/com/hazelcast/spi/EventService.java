@@ -46,6 +46,22 @@ public interface EventService {
      */
     int getEventQueueSize();
 
+    /**
+     * Returns the number of events sent to remote subscribers.
+     *
+     * @return sent event count
+     */
+    long getSentEventCount();
+
+    /**
+     * Returns the number of network packets used to send events to remote subscribers. Differs from the sent event
+     * count when event batching is enabled.
+     *
+     * @see com.hazelcast.instance.GroupProperties#PROP_EVENT_BATCH_SIZE
+     * @return sent event packet count
+     */
+    long getSentEventPacketCount();
+
     /**
      * Registers a local only listener.
      *
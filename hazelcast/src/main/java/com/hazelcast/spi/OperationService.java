@@ -20,6 +20,7 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.spi.impl.Response;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,6 +51,27 @@ public interface OperationService {
 
     long getExecutedOperationCount();
 
+    /**
+     * @return the number of operations which ran longer than the slow operation threshold
+     */
+    long getSlowOperationCount();
+
+    /**
+     * @return descriptions of the most recent slow operations, with the stack trace of the
+     * operation thread when the operation was detected while running
+     */
+    List<String> getSlowOperations();
+
+    /**
+     * @return execution counters per operation class if the operation profiler is enabled, otherwise empty
+     */
+    List<String> getOperationClassProfile();
+
+    /**
+     * @return execution counters per partition if the operation profiler is enabled, otherwise empty
+     */
+    List<String> getPartitionOperationProfile();
+
     /**
      * Runs operation in calling thread.
      *
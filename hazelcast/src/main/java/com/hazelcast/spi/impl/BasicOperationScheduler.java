@@ -268,6 +268,14 @@ public final class BasicOperationScheduler {
         executor.execute(new LocalOperationProcessor(op));
     }
 
+    public void execute(PartitionSpecificRunnable task) {
+        int partitionId = task.getPartitionId();
+        if (partitionId < 0) {
+            throw new IllegalArgumentException("Partition id cannot be negative for task: " + task);
+        }
+        execute(task, partitionId, false);
+    }
+
     public void execute(Packet packet) {
         try {
             if (packet.isHeaderSet(Packet.HEADER_RESPONSE)) {
@@ -392,6 +400,13 @@ public final class BasicOperationScheduler {
         private final BlockingQueue workQueue;
         private final Queue priorityWorkQueue;
 
+        // the outermost operation run by this thread and the System.nanoTime it started at;
+        // read by the slow operation detector of the OperationProfiler
+        volatile Operation currentOperation;
+        volatile long currentOperationStartNanos;
+        // the last operation of this thread which is reported as slow
+        volatile OperationProfiler.SlowOperation slowOperation;
+
         public OperationThread(String name, boolean isPartitionSpecific,
                                int threadId, BlockingQueue workQueue, Queue priorityWorkQueue) {
             super(node.threadGroup, name);
@@ -127,6 +127,7 @@ final class BasicOperationService implements InternalOperationService {
     private final OperationBackupHandler operationBackupHandler;
     private final OperationPacketHandler operationPacketHandler;
     private final ResponsePacketHandler responsePacketHandler;
+    private final OperationProfiler profiler;
 
     BasicOperationService(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -146,6 +147,8 @@ final class BasicOperationService implements InternalOperationService {
         this.operationBackupHandler = new OperationBackupHandler();
         this.operationPacketHandler = new OperationPacketHandler();
         this.responsePacketHandler = new ResponsePacketHandler();
+        this.profiler = new OperationProfiler(node.getGroupProperties(), scheduler, logger);
+        profiler.start(executionService);
     }
 
     @Override
@@ -168,6 +171,26 @@ final class BasicOperationService implements InternalOperationService {
         return executedOperationsCount.get();
     }
 
+    @Override
+    public long getSlowOperationCount() {
+        return profiler.getSlowOperationCount();
+    }
+
+    @Override
+    public List<String> getSlowOperations() {
+        return profiler.getSlowOperations();
+    }
+
+    @Override
+    public List<String> getOperationClassProfile() {
+        return profiler.getOperationClassProfile();
+    }
+
+    @Override
+    public List<String> getPartitionOperationProfile() {
+        return profiler.getPartitionProfile();
+    }
+
     @Override
     public int getRemoteOperationsCount() {
         return invocations.size();
@@ -231,6 +254,11 @@ final class BasicOperationService implements InternalOperationService {
         scheduler.execute(op);
     }
 
+    @Override
+    public void execute(PartitionSpecificRunnable task) {
+        scheduler.execute(task);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <E> InternalCompletableFuture<E> invokeOnPartition(String serviceName, Operation op, int partitionId) {
@@ -263,6 +291,13 @@ final class BasicOperationService implements InternalOperationService {
 
     // =============================== processing operation  ===============================
 
+    @PrivateApi
+    public void onCompletionAsyncOperation(Operation op) {
+        if (op.getCallId() != 0) {
+            executingCalls.remove(new RemoteCallKey(op));
+        }
+    }
+
     @PrivateApi
     public boolean isCallTimedOut(Operation op) {
         if (op.returnsResponse() && op.getCallId() != 0) {
@@ -411,6 +446,7 @@ final class BasicOperationService implements InternalOperationService {
             invocation.notify(response);
         }
         invocations.clear();
+        profiler.shutdown();
         scheduler.shutdown();
     }
 
@@ -653,6 +689,7 @@ final class BasicOperationService implements InternalOperationService {
          */
         private void handle(Operation op) {
             executedOperationsCount.incrementAndGet();
+            long startNanos = profiler.beforeRun(op);
 
             RemoteCallKey callKey = null;
             try {
@@ -677,6 +714,7 @@ final class BasicOperationService implements InternalOperationService {
                 handleOperationError(op, e);
             } finally {
                 afterCallExecution(op, callKey);
+                profiler.afterRun(op, startNanos);
             }
         }
 
@@ -717,6 +755,8 @@ final class BasicOperationService implements InternalOperationService {
                 }
                 if (returnsResponse) {
                     response = new NormalResponse(op.getResponse(), op.getCallId(), syncBackupCount, op.isUrgent());
+                } else if (op instanceof DeferredResponseOperation) {
+                    ((DeferredResponseOperation) op).onBackupsSent(syncBackupCount);
                 }
             }
 
@@ -789,7 +829,9 @@ final class BasicOperationService implements InternalOperationService {
         }
 
         private void afterCallExecution(Operation op, RemoteCallKey callKey) {
-            if (callKey != null && op.getCallId() != 0 && op.returnsResponse()) {
+            // an operation that decided during run() to send its response later from another thread keeps its
+            // call record until it calls onCompletionAsyncOperation.
+            if (callKey != null && op.returnsResponse()) {
                 if (executingCalls.remove(callKey) == null) {
                     logger.severe("No Call record has been found: -> " + callKey + " == " + op.getClass().getName());
                 }
@@ -856,7 +898,7 @@ final class BasicOperationService implements InternalOperationService {
                 return 0;
             }
 
-            if (!op.returnsResponse()) {
+            if (!op.returnsResponse() && !(op instanceof DeferredResponseOperation)) {
                 syncBackupCount = 0;
             }
 
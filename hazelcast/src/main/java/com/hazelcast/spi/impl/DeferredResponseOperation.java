@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl;
+
+import com.hazelcast.spi.annotation.PrivateApi;
+
+/**
+ * Implemented by a {@link com.hazelcast.spi.BackupAwareOperation} that does not return its response from run() but
+ * sends it later from another thread. Its sync backups are still made; the operation is told how many were sent,
+ * so it can send its response as a {@link NormalResponse} carrying that count and the caller waits for them.
+ */
+@PrivateApi
+public interface DeferredResponseOperation {
+
+    /**
+     * Called after run() and the backups of the operation, also when no backup was sent.
+     *
+     * @param syncBackupCount the number of sync backups whose acknowledgements the caller has to wait for.
+     */
+    void onBackupsSent(int syncBackupCount);
+}
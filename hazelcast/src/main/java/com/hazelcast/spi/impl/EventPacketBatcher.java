@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl;
+
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.Packet;
+import com.hazelcast.spi.impl.EventServiceImpl.EventPacket;
+import com.hazelcast.spi.impl.EventServiceImpl.EventPacketBatch;
+import com.hazelcast.util.ConcurrencyUtil;
+import com.hazelcast.util.ConstructorFunction;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the remote event packets per subscriber and sends them as {@link EventPacketBatch}es.
+ * <p/>
+ * Packets are grouped by subscriber and by order key stripe (order key modulo event thread count). A batch is sent
+ * with the stripe as order key and the subscriber dispatches all its events on that single event thread, so events
+ * with the same order key are still processed in publish order. A batch is sent once it reaches the batch size
+ * or when {@link #flush()} is called by the periodic flush task, whichever comes first. Events sent outside of the
+ * batches have to use {@link #stripeOf(int)} as order key, so the subscriber dispatches them on the same thread.
+ */
+class EventPacketBatcher {
+
+    private final NodeEngineImpl nodeEngine;
+    private final int batchSize;
+    private final int stripeCount;
+    private final ConcurrentMap<Address, PendingBatch[]> pendingBatches = new ConcurrentHashMap<Address, PendingBatch[]>();
+    private final ConstructorFunction<Address, PendingBatch[]> pendingBatchesConstructor
+            = new ConstructorFunction<Address, PendingBatch[]>() {
+        @Override
+        public PendingBatch[] createNew(Address subscriber) {
+            PendingBatch[] batches = new PendingBatch[stripeCount];
+            for (int i = 0; i < batches.length; i++) {
+                batches[i] = new PendingBatch(subscriber, i);
+            }
+            return batches;
+        }
+    };
+
+    private final AtomicLong sentEventCount = new AtomicLong();
+    private final AtomicLong sentPacketCount = new AtomicLong();
+
+    EventPacketBatcher(NodeEngineImpl nodeEngine, int batchSize, int stripeCount) {
+        this.nodeEngine = nodeEngine;
+        this.batchSize = batchSize;
+        this.stripeCount = stripeCount;
+    }
+
+    void add(Address subscriber, EventPacket eventPacket, int orderKey) {
+        PendingBatch[] batches = ConcurrencyUtil.getOrPutIfAbsent(pendingBatches, subscriber, pendingBatchesConstructor);
+        batches[stripeOf(orderKey)].add(eventPacket);
+    }
+
+    /**
+     * Sends the pending packets of the stripe the order key belongs to and waits until all batches of the stripe
+     * have been handed to the connection. Used before an event is sent outside of the batches so it can not
+     * overtake the events published before it.
+     */
+    void flush(Address subscriber, int orderKey) {
+        PendingBatch[] batches = pendingBatches.get(subscriber);
+        if (batches != null) {
+            batches[stripeOf(orderKey)].flushAndWait();
+        }
+    }
+
+    /**
+     * Sends all pending packets.
+     */
+    void flush() {
+        for (PendingBatch[] batches : pendingBatches.values()) {
+            for (PendingBatch batch : batches) {
+                batch.flush();
+            }
+        }
+    }
+
+    void onMemberLeft(Address address) {
+        pendingBatches.remove(address);
+    }
+
+    void clear() {
+        pendingBatches.clear();
+    }
+
+    long getSentEventCount() {
+        return sentEventCount.get();
+    }
+
+    long getSentPacketCount() {
+        return sentPacketCount.get();
+    }
+
+    int stripeOf(int orderKey) {
+        return (orderKey & Integer.MAX_VALUE) % stripeCount;
+    }
+
+    /**
+     * The packets collected for one stripe of a subscriber. Completed batches are queued while holding the lock
+     * of the pending batch and are sent after releasing it, by a single sender at a time, so publishers are not
+     * blocked by the serialization and two batches of the same stripe can not be reordered by concurrent senders.
+     */
+    private final class PendingBatch {
+        private final Address subscriber;
+        private final int stripe;
+        private final Queue<EventPacketBatch> completedBatches = new ConcurrentLinkedQueue<EventPacketBatch>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private EventPacket[] packets;
+        private int size;
+
+        private PendingBatch(Address subscriber, int stripe) {
+            this.subscriber = subscriber;
+            this.stripe = stripe;
+            this.packets = new EventPacket[batchSize];
+        }
+
+        void add(EventPacket packet) {
+            synchronized (this) {
+                packets[size++] = packet;
+                if (size < packets.length) {
+                    return;
+                }
+                completeBatch();
+            }
+            sendCompletedBatches();
+        }
+
+        void flush() {
+            synchronized (this) {
+                if (size > 0) {
+                    completeBatch();
+                }
+            }
+            sendCompletedBatches();
+        }
+
+        void flushAndWait() {
+            flush();
+            // another thread might still be sending batches completed before
+            while (sending.get() || !completedBatches.isEmpty()) {
+                Thread.yield();
+                sendCompletedBatches();
+            }
+        }
+
+        private void completeBatch() {
+            completedBatches.offer(new EventPacketBatch(packets, size));
+            packets = new EventPacket[batchSize];
+            size = 0;
+        }
+
+        private void sendCompletedBatches() {
+            while (!completedBatches.isEmpty() && sending.compareAndSet(false, true)) {
+                try {
+                    EventPacketBatch batch;
+                    while ((batch = completedBatches.poll()) != null) {
+                        send(batch);
+                    }
+                } finally {
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void send(EventPacketBatch batch) {
+            Packet packet = new Packet(nodeEngine.toData(batch), stripe, nodeEngine.getPortableContext());
+            packet.setHeader(Packet.HEADER_EVENT);
+            nodeEngine.send(packet, subscriber);
+            sentEventCount.addAndGet(batch.size());
+            sentPacketCount.incrementAndGet();
+        }
+    }
+}
@@ -54,9 +54,11 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.util.EmptyStatement.ignore;
 
@@ -72,10 +74,13 @@ public class EventServiceImpl implements EventService {
     private final ILogger logger;
     private final NodeEngineImpl nodeEngine;
     private final ConcurrentMap<String, EventServiceSegment> segments;
+    private final AtomicLong unbatchedEventCount = new AtomicLong();
     private final StripedExecutor eventExecutor;
     private final int eventQueueTimeoutMs;
     private final int eventThreadCount;
     private final int eventQueueCapacity;
+    private final EventPacketBatcher eventPacketBatcher;
+    private final ScheduledFuture<?> batchFlushFuture;
 
     EventServiceImpl(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -92,6 +97,21 @@ public class EventServiceImpl implements EventService {
                 eventThreadCount,
                 eventQueueCapacity);
         this.segments = new ConcurrentHashMap<String, EventServiceSegment>();
+
+        int batchSize = groupProperties.EVENT_BATCH_SIZE.getInteger();
+        if (batchSize > 1) {
+            this.eventPacketBatcher = new EventPacketBatcher(nodeEngine, batchSize, eventThreadCount);
+            long batchDelayMillis = Math.max(1, groupProperties.EVENT_BATCH_DELAY_MILLIS.getLong());
+            this.batchFlushFuture = nodeEngine.getExecutionService().scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    eventPacketBatcher.flush();
+                }
+            }, batchDelayMillis, batchDelayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.eventPacketBatcher = null;
+            this.batchFlushFuture = null;
+        }
     }
 
     @Override
@@ -109,6 +129,16 @@ public class EventServiceImpl implements EventService {
         return eventExecutor.getWorkQueueSize();
     }
 
+    @Override
+    public long getSentEventCount() {
+        return unbatchedEventCount.get() + (eventPacketBatcher != null ? eventPacketBatcher.getSentEventCount() : 0);
+    }
+
+    @Override
+    public long getSentEventPacketCount() {
+        return unbatchedEventCount.get() + (eventPacketBatcher != null ? eventPacketBatcher.getSentPacketCount() : 0);
+    }
+
     @Override
     public EventRegistration registerLocalListener(String serviceName, String topic, Object listener) {
         return registerListenerInternal(serviceName, topic, new EmptyFilter(), listener, true);
@@ -340,7 +370,14 @@ public class EventServiceImpl implements EventService {
         boolean sync = segment.incrementPublish() % EVENT_SYNC_FREQUENCY == 0;
 
         if (sync) {
-            SendEventOperation op = new SendEventOperation(eventPacket, orderKey);
+            int sendOrderKey = orderKey;
+            if (eventPacketBatcher != null) {
+                eventPacketBatcher.flush(subscriber, orderKey);
+                // dispatched on the same subscriber thread as the batches of the order key
+                sendOrderKey = eventPacketBatcher.stripeOf(orderKey);
+            }
+            unbatchedEventCount.incrementAndGet();
+            SendEventOperation op = new SendEventOperation(eventPacket, sendOrderKey);
             Future f = nodeEngine.getOperationService()
                     .createInvocationBuilder(serviceName, op, subscriber)
                     .setTryCount(SEND_RETRY_COUNT).invoke();
@@ -349,7 +386,10 @@ public class EventServiceImpl implements EventService {
             } catch (Exception ignored) {
                 ignore(ignored);
             }
+        } else if (eventPacketBatcher != null) {
+            eventPacketBatcher.add(subscriber, eventPacket, orderKey);
         } else {
+            unbatchedEventCount.incrementAndGet();
             final Packet packet = new Packet(nodeEngine.toData(eventPacket), orderKey, nodeEngine.getPortableContext());
             packet.setHeader(Packet.HEADER_EVENT);
             nodeEngine.send(packet, subscriber);
@@ -415,6 +455,10 @@ public class EventServiceImpl implements EventService {
 
     void shutdown() {
         logger.finest("Stopping event executor...");
+        if (batchFlushFuture != null) {
+            batchFlushFuture.cancel(false);
+            eventPacketBatcher.clear();
+        }
         eventExecutor.shutdown();
         for (EventServiceSegment segment : segments.values()) {
             segment.clear();
@@ -424,6 +468,9 @@ public class EventServiceImpl implements EventService {
 
     void onMemberLeft(MemberImpl member) {
         final Address address = member.getAddress();
+        if (eventPacketBatcher != null) {
+            eventPacketBatcher.onMemberLeft(address);
+        }
         for (EventServiceSegment segment : segments.values()) {
             segment.onMemberLeft(address);
         }
@@ -624,8 +671,16 @@ public class EventServiceImpl implements EventService {
         @Override
         public void run() {
             Data data = packet.getData();
-            EventPacket eventPacket = (EventPacket) nodeEngine.toObject(data);
-            process(eventPacket);
+            Object object = nodeEngine.toObject(data);
+            if (object instanceof EventPacketBatch) {
+                // all events of a batch belong to the same order key stripe, so they are dispatched on this thread
+                EventPacketBatch batch = (EventPacketBatch) object;
+                for (int i = 0; i < batch.size; i++) {
+                    process(batch.packets[i]);
+                }
+            } else {
+                process((EventPacket) object);
+            }
         }
     }
 
@@ -841,6 +896,61 @@ public class EventServiceImpl implements EventService {
         }
     }
 
+    /**
+     * A number of {@link EventPacket}s sent to the same subscriber in a single network packet.
+     */
+    public static final class EventPacketBatch implements IdentifiedDataSerializable {
+
+        private EventPacket[] packets;
+        private int size;
+
+        public EventPacketBatch() {
+        }
+
+        EventPacketBatch(EventPacket[] packets, int size) {
+            this.packets = packets;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                packets[i].writeData(out);
+            }
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            size = in.readInt();
+            packets = new EventPacket[size];
+            for (int i = 0; i < size; i++) {
+                EventPacket packet = new EventPacket();
+                packet.readData(in);
+                packets[i] = packet;
+            }
+        }
+
+        @Override
+        public int getFactoryId() {
+            return SpiDataSerializerHook.F_ID;
+        }
+
+        @Override
+        public int getId() {
+            return SpiDataSerializerHook.EVENT_PACKET_BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "EventPacketBatch{size=" + size + '}';
+        }
+    }
+
     public static final class EmptyFilter implements EventFilter, DataSerializable {
         public boolean eval(Object arg) {
             return true;
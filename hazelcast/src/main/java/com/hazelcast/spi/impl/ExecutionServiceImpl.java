@@ -120,6 +120,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
         // default executors
         register(SYSTEM_EXECUTOR, coreSize, Integer.MAX_VALUE, ExecutorType.CACHED);
         register(SCHEDULED_EXECUTOR, coreSize * POOL_MULTIPLIER, coreSize * QUEUE_MULTIPIER, ExecutorType.CACHED);
+        register(QUERY_EXECUTOR, getQueryThreadCount(node, coreSize), coreSize * QUEUE_MULTIPIER, ExecutorType.CONCRETE);
         defaultScheduledExecutorServiceDelegate = getScheduledExecutor(SCHEDULED_EXECUTOR);
 
         // Register CompletableFuture task
@@ -127,6 +128,14 @@ public final class ExecutionServiceImpl implements ExecutionService {
         scheduleWithFixedDelay(completableFutureTask, INITIAL_DELAY, PERIOD, TimeUnit.MILLISECONDS);
     }
 
+    private static int getQueryThreadCount(Node node, int coreSize) {
+        int threadCount = node.getGroupProperties().QUERY_THREAD_COUNT.getInteger();
+        if (threadCount <= 0) {
+            threadCount = Math.max(1, coreSize / 2);
+        }
+        return threadCount;
+    }
+
     private void enableRemoveOnCancelIfAvailable() {
         try {
             final Method m = scheduledExecutorService.getClass().getMethod("setRemoveOnCancelPolicy", boolean.class);
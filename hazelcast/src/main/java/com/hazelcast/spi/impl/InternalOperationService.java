@@ -32,12 +32,27 @@ public interface InternalOperationService extends OperationService {
 
     void receive(Packet packet);
 
+    /**
+     * Executes the task on the partition operation thread of the partition the task belongs to.
+     *
+     * @param task the task to execute.
+     */
+    void execute(PartitionSpecificRunnable task);
+
     void onMemberLeft(MemberImpl member);
 
     boolean isCallTimedOut(Operation op);
 
     void notifyBackupCall(long callId);
 
+    /**
+     * Removes the call record of an operation that did not return its response from run() but sends it later
+     * from another thread. Until then the operation is reported as executing, so its caller does not time out.
+     *
+     * @param op the operation whose response has been sent.
+     */
+    void onCompletionAsyncOperation(Operation op);
+
     /**
      * Shuts down this InternalOperationService.
      */
@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl;
+
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.spi.KeyBasedOperation;
+import com.hazelcast.spi.NamedOperation;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.impl.BasicOperationScheduler.OperationThread;
+import com.hazelcast.util.Clock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Profiles the operations run by the {@link BasicOperationService}.
+ * <p/>
+ * A detector periodically checks the operation threads and reports the operations which run
+ * longer than the slow operation threshold, together with the stack trace of the thread, so it
+ * can be seen which operation blocks a partition thread and where. If the profiler is enabled,
+ * the number of executions and the total and max execution time are also counted per operation
+ * class and per partition, and are logged periodically.
+ *
+ * @see GroupProperties#PROP_SLOW_OPERATION_THRESHOLD_MILLIS
+ * @see GroupProperties#PROP_OPERATION_PROFILER_ENABLED
+ */
+final class OperationProfiler {
+
+    private static final int MAX_SLOW_OPERATIONS = 100;
+    private static final int MAX_LOGGED_ENTRIES = 10;
+    private static final long MAX_DETECTOR_DELAY_MILLIS = 1000;
+    private static final long MIN_DETECTOR_DELAY_MILLIS = 10;
+    private static final int DETECTOR_CHECKS_PER_THRESHOLD = 4;
+
+    private static final Comparator<Map.Entry<String, OperationStats>> TOTAL_TIME_DESCENDING
+            = new Comparator<Map.Entry<String, OperationStats>>() {
+        @Override
+        public int compare(Map.Entry<String, OperationStats> e1, Map.Entry<String, OperationStats> e2) {
+            long t1 = e1.getValue().totalNanos.get();
+            long t2 = e2.getValue().totalNanos.get();
+            return t1 > t2 ? -1 : (t1 == t2 ? 0 : 1);
+        }
+    };
+
+    private final ILogger logger;
+    private final BasicOperationScheduler scheduler;
+    private final boolean enabled;
+    private final long slowOperationThresholdNanos;
+    private final long logDelaySeconds;
+    private final ConcurrentMap<Class, OperationStats> classStats = new ConcurrentHashMap<Class, OperationStats>();
+    private final OperationStats[] partitionStats;
+    private final AtomicLong slowOperationCount = new AtomicLong();
+    private final LinkedList<SlowOperation> slowOperations = new LinkedList<SlowOperation>();
+    private final List<ScheduledFuture> tasks = new ArrayList<ScheduledFuture>();
+
+    OperationProfiler(GroupProperties groupProperties, BasicOperationScheduler scheduler, ILogger logger) {
+        this.logger = logger;
+        this.scheduler = scheduler;
+        this.enabled = groupProperties.OPERATION_PROFILER_ENABLED.getBoolean();
+        this.slowOperationThresholdNanos
+                = TimeUnit.MILLISECONDS.toNanos(groupProperties.SLOW_OPERATION_THRESHOLD_MILLIS.getLong());
+        this.logDelaySeconds = groupProperties.OPERATION_PROFILER_LOG_DELAY_SECONDS.getLong();
+        this.partitionStats = new OperationStats[enabled ? groupProperties.PARTITION_COUNT.getInteger() : 0];
+        for (int i = 0; i < partitionStats.length; i++) {
+            partitionStats[i] = new OperationStats();
+        }
+    }
+
+    void start(ExecutionService executionService) {
+        if (slowOperationThresholdNanos > 0) {
+            long thresholdMillis = TimeUnit.NANOSECONDS.toMillis(slowOperationThresholdNanos);
+            long delay = Math.max(MIN_DETECTOR_DELAY_MILLIS,
+                    Math.min(MAX_DETECTOR_DELAY_MILLIS, thresholdMillis / DETECTOR_CHECKS_PER_THRESHOLD));
+            tasks.add(executionService.scheduleWithFixedDelay(new SlowOperationDetector(), delay, delay,
+                    TimeUnit.MILLISECONDS));
+        }
+        if (enabled && logDelaySeconds > 0) {
+            tasks.add(executionService.scheduleWithFixedDelay(new ProfileLogger(), logDelaySeconds, logDelaySeconds,
+                    TimeUnit.SECONDS));
+        }
+    }
+
+    void shutdown() {
+        for (ScheduledFuture task : tasks) {
+            task.cancel(false);
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Called by the thread which is about to run the operation.
+     *
+     * @return the System.nanoTime the operation started at
+     */
+    long beforeRun(Operation op) {
+        long startNanos = System.nanoTime();
+        Thread thread = Thread.currentThread();
+        if (thread instanceof OperationThread) {
+            OperationThread operationThread = (OperationThread) thread;
+            // nested operations are accounted to the outermost one
+            if (operationThread.currentOperation == null) {
+                operationThread.currentOperationStartNanos = startNanos;
+                operationThread.currentOperation = op;
+            }
+        }
+        return startNanos;
+    }
+
+    /**
+     * Called by the thread which ran the operation, also when the operation failed.
+     */
+    void afterRun(Operation op, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        SlowOperation reported = null;
+        Thread thread = Thread.currentThread();
+        if (thread instanceof OperationThread) {
+            OperationThread operationThread = (OperationThread) thread;
+            if (operationThread.currentOperation == op) {
+                operationThread.currentOperation = null;
+                reported = operationThread.slowOperation;
+            }
+        }
+        boolean slow = slowOperationThresholdNanos > 0 && durationNanos >= slowOperationThresholdNanos;
+        if (slow) {
+            slowOperationCount.incrementAndGet();
+            if (reported != null && reported.operation == op) {
+                reported.completed(durationNanos);
+            } else {
+                // ran on a thread the detector does not check, or finished before the detector checked it
+                SlowOperation slowOperation = new SlowOperation(op, thread.getName(), durationNanos, null);
+                slowOperation.completed(durationNanos);
+                addSlowOperation(slowOperation);
+                logger.warning(slowOperation.toString());
+            }
+        }
+        if (!enabled) {
+            return;
+        }
+        getClassStats(op.getClass()).record(durationNanos, slow);
+        int partitionId = op.getPartitionId();
+        if (partitionId >= 0 && partitionId < partitionStats.length) {
+            partitionStats[partitionId].record(durationNanos, slow);
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    long getSlowOperationCount() {
+        return slowOperationCount.get();
+    }
+
+    /**
+     * @return descriptions of the most recent slow operations, the most recent first
+     */
+    List<String> getSlowOperations() {
+        List<String> result = new ArrayList<String>();
+        synchronized (slowOperations) {
+            for (SlowOperation slowOperation : slowOperations) {
+                result.add(0, slowOperation.toString());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the counters per operation class, the class with the highest total execution time first
+     */
+    List<String> getOperationClassProfile() {
+        return describe(classEntries(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the counters per partition, the partition with the highest total execution time first
+     */
+    List<String> getPartitionProfile() {
+        return describe(partitionEntries(), Integer.MAX_VALUE);
+    }
+
+    private List<Map.Entry<String, OperationStats>> classEntries() {
+        List<Map.Entry<String, OperationStats>> entries = new ArrayList<Map.Entry<String, OperationStats>>();
+        for (Map.Entry<Class, OperationStats> entry : classStats.entrySet()) {
+            entries.add(new ProfileEntry(entry.getKey().getName(), entry.getValue()));
+        }
+        return entries;
+    }
+
+    private List<Map.Entry<String, OperationStats>> partitionEntries() {
+        List<Map.Entry<String, OperationStats>> entries = new ArrayList<Map.Entry<String, OperationStats>>();
+        for (int partitionId = 0; partitionId < partitionStats.length; partitionId++) {
+            OperationStats stats = partitionStats[partitionId];
+            if (stats.count.get() > 0) {
+                entries.add(new ProfileEntry("partition " + partitionId, stats));
+            }
+        }
+        return entries;
+    }
+
+    private static List<String> describe(List<Map.Entry<String, OperationStats>> entries, int limit) {
+        Collections.sort(entries, TOTAL_TIME_DESCENDING);
+        List<String> result = new ArrayList<String>(Math.min(limit, entries.size()));
+        for (Map.Entry<String, OperationStats> entry : entries) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry.getKey() + " " + entry.getValue());
+        }
+        return result;
+    }
+
+    private OperationStats getClassStats(Class operationClass) {
+        OperationStats stats = classStats.get(operationClass);
+        if (stats == null) {
+            OperationStats newStats = new OperationStats();
+            stats = classStats.putIfAbsent(operationClass, newStats);
+            if (stats == null) {
+                stats = newStats;
+            }
+        }
+        return stats;
+    }
+
+    private void addSlowOperation(SlowOperation slowOperation) {
+        synchronized (slowOperations) {
+            if (slowOperations.size() == MAX_SLOW_OPERATIONS) {
+                slowOperations.removeFirst();
+            }
+            slowOperations.addLast(slowOperation);
+        }
+    }
+
+    private void check(OperationThread thread, long now) {
+        Operation op = thread.currentOperation;
+        if (op == null) {
+            return;
+        }
+        SlowOperation reported = thread.slowOperation;
+        if (reported != null && reported.operation == op) {
+            return;
+        }
+        long runningNanos = now - thread.currentOperationStartNanos;
+        if (runningNanos < slowOperationThresholdNanos) {
+            return;
+        }
+        StackTraceElement[] stackTrace = thread.getStackTrace();
+        if (thread.currentOperation != op) {
+            // finished in the meantime; the stack trace belongs to something else
+            return;
+        }
+        SlowOperation slowOperation = new SlowOperation(op, thread.getName(), runningNanos, stackTrace);
+        thread.slowOperation = slowOperation;
+        addSlowOperation(slowOperation);
+        logger.warning(slowOperation.toString());
+    }
+
+    /**
+     * Checks the operation threads for operations running longer than the threshold.
+     */
+    private final class SlowOperationDetector implements Runnable {
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            for (OperationThread thread : scheduler.partitionOperationThreads) {
+                check(thread, now);
+            }
+            for (OperationThread thread : scheduler.genericOperationThreads) {
+                check(thread, now);
+            }
+        }
+    }
+
+    /**
+     * Logs the operation classes and partitions with the highest total execution time.
+     */
+    private final class ProfileLogger implements Runnable {
+        @Override
+        public void run() {
+            List<Map.Entry<String, OperationStats>> classEntries = classEntries();
+            if (classEntries.isEmpty()) {
+                return;
+            }
+            StringBuilder sb = new StringBuilder("Operation profile, slow operations: ")
+                    .append(slowOperationCount.get());
+            sb.append("\nOperation classes with the highest total execution time:");
+            for (String line : describe(classEntries, MAX_LOGGED_ENTRIES)) {
+                sb.append("\n\t").append(line);
+            }
+            sb.append("\nPartitions with the highest total execution time:");
+            for (String line : describe(partitionEntries(), MAX_LOGGED_ENTRIES)) {
+                sb.append("\n\t").append(line);
+            }
+            logger.info(sb.toString());
+        }
+    }
+
+    /**
+     * Counters of the executions of a group of operations.
+     */
+    private static final class OperationStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong slowCount = new AtomicLong();
+
+        private void record(long durationNanos, boolean slow) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(durationNanos);
+            long max = maxNanos.get();
+            while (durationNanos > max && !maxNanos.compareAndSet(max, durationNanos)) {
+                max = maxNanos.get();
+            }
+            if (slow) {
+                slowCount.incrementAndGet();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count.get()
+                    + ", totalMillis=" + TimeUnit.NANOSECONDS.toMillis(totalNanos.get())
+                    + ", maxMicros=" + TimeUnit.NANOSECONDS.toMicros(maxNanos.get())
+                    + ", slowCount=" + slowCount.get();
+        }
+    }
+
+    private static final class ProfileEntry implements Map.Entry<String, OperationStats> {
+        private final String name;
+        private final OperationStats stats;
+
+        private ProfileEntry(String name, OperationStats stats) {
+            this.name = name;
+            this.stats = stats;
+        }
+
+        @Override
+        public String getKey() {
+            return name;
+        }
+
+        @Override
+        public OperationStats getValue() {
+            return stats;
+        }
+
+        @Override
+        public OperationStats setValue(OperationStats value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * An operation which ran longer than the slow operation threshold.
+     */
+    static final class SlowOperation {
+        // cleared when the operation completes, so the reported operations are not kept in memory
+        volatile Operation operation;
+        private final String operationClassName;
+        private final int partitionId;
+        private final String name;
+        private final Integer keyHash;
+        private final String threadName;
+        private final long detectedAt;
+        private final StackTraceElement[] stackTrace;
+        private volatile long durationNanos;
+        private volatile boolean completed;
+
+        private SlowOperation(Operation op, String threadName, long durationNanos, StackTraceElement[] stackTrace) {
+            this.operation = op;
+            this.operationClassName = op.getClass().getName();
+            this.partitionId = op.getPartitionId();
+            this.name = op instanceof NamedOperation ? ((NamedOperation) op).getName() : null;
+            this.keyHash = op instanceof KeyBasedOperation ? ((KeyBasedOperation) op).getKeyHash() : null;
+            this.threadName = threadName;
+            this.detectedAt = Clock.currentTimeMillis();
+            this.durationNanos = durationNanos;
+            this.stackTrace = stackTrace;
+        }
+
+        private void completed(long durationNanos) {
+            this.durationNanos = durationNanos;
+            this.completed = true;
+            this.operation = null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Slow operation ").append(operationClassName)
+                    .append(completed ? " took " : " is running for ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append(" ms")
+                    .append(", partitionId=").append(partitionId);
+            if (name != null) {
+                sb.append(", name=").append(name);
+            }
+            if (keyHash != null) {
+                sb.append(", keyHash=").append(keyHash);
+            }
+            sb.append(", thread=").append(threadName)
+                    .append(", detectedAt=").append(detectedAt);
+            if (stackTrace != null) {
+                for (StackTraceElement element : stackTrace) {
+                    sb.append("\n\tat ").append(element);
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl;
+
+/**
+ * A {@link Runnable} for a specific partition.
+ * <p/>
+ * It will be executed by the {@link BasicOperationScheduler} on the partition operation thread owning the
+ * partition, so it will not run concurrently with any operation for that partition. This makes it possible to
+ * execute a task in the same thread as the operations it creates, without an additional thread hop.
+ * <p/>
+ * A PartitionSpecificRunnable should never block, since it will block all other operations for the partitions
+ * mapped to the same operation thread.
+ */
+public interface PartitionSpecificRunnable extends Runnable {
+
+    /**
+     * Returns the partition id this task should be executed for.
+     *
+     * @return the partition id.
+     */
+    int getPartitionId();
+}
@@ -21,6 +21,7 @@ import com.hazelcast.nio.serialization.DataSerializerHook;
 import com.hazelcast.nio.serialization.FactoryIdHelper;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.impl.EventServiceImpl.EventPacket;
+import com.hazelcast.spi.impl.EventServiceImpl.EventPacketBatch;
 import com.hazelcast.spi.impl.PartitionIteratingOperation.PartitionResponse;
 
 public final class SpiDataSerializerHook implements DataSerializerHook {
@@ -35,6 +36,7 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
     static final int PARALLEL_OPERATION_FACTORY = 5;
     static final int EVENT_PACKET = 6;
     static final int COLLECTION = 7;
+    static final int EVENT_PACKET_BATCH = 8;
 
     @Override
     public DataSerializableFactory createFactory() {
@@ -58,6 +60,8 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
                         return new EventPacket();
                     case COLLECTION:
                         return new SerializableCollection();
+                    case EVENT_PACKET_BATCH:
+                        return new EventPacketBatch();
                     default:
                         return null;
                 }
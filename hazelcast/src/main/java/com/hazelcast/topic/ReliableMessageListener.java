@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.topic;
+
+import com.hazelcast.core.MessageListener;
+
+/**
+ * A {@link MessageListener} for a {@link ReliableTopic} that is told when messages were lost because they were
+ * overwritten in the ring buffer before the listener could read them.
+ *
+ * @param <E> message type
+ */
+public interface ReliableMessageListener<E> extends MessageListener<E> {
+
+    /**
+     * Invoked when the listener fell behind by more than the capacity of the topic, or when a message that was
+     * reserved by a publisher was never written.
+     *
+     * @param lostCount number of messages the listener did not receive
+     */
+    void onMessagesLost(long lostCount);
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceNotActiveException;
+import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleListener;
+import com.hazelcast.core.Member;
+import com.hazelcast.core.Message;
+import com.hazelcast.core.MessageListener;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.monitor.LocalTopicStats;
+import com.hazelcast.monitor.impl.LocalTopicStatsImpl;
+import com.hazelcast.spi.exception.DistributedObjectDestroyedException;
+import com.hazelcast.util.Clock;
+import com.hazelcast.util.ValidationUtil;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link com.hazelcast.core.ITopic} backed by a bounded ring buffer, so messages are stored instead of being
+ * pushed through the event system and listeners read them at their own pace.
+ * <p/>
+ * The ring buffer consists of a sequence ({@link IAtomicLong}) and an {@link IMap} of slots keyed by
+ * {@code sequence % capacity}, so the slots are spread over all partitions. The capacity is stored in the cluster
+ * by the first instance that creates the topic and every later instance, member or client, adopts that capacity,
+ * so all of them map a sequence to the same slot. A publisher reserves a range of sequences with a single call and
+ * writes all messages with one {@link ReliableTopicSlotWriter}, which leaves a slot alone when it already holds a
+ * newer sequence. All listeners of an instance are served by one poller thread that fetches the next slots in
+ * batches with {@code getAll}; when a slot was overwritten before it could be read, the loss is detected from the
+ * stored sequence and reported to {@link ReliableMessageListener}s. Listeners may start at an older sequence to
+ * catch up with retained messages. The poller stops when the topic is destroyed or the instance shuts down.
+ * <p/>
+ * All messages are totally ordered by their sequence. Since only the public {@link HazelcastInstance} API is used,
+ * the topic works the same for members and clients. The slot map can be configured with the usual map config
+ * under the name {@code "reliable-topic:" + name}, e.g. to set the backup count.
+ *
+ * @param <E> message type
+ */
+public class ReliableTopic<E> implements ITopic<E> {
+
+    /**
+     * Prefix of the names of the sequence and the slot map of a reliable topic
+     */
+    public static final String NAME_PREFIX = "reliable-topic:";
+
+    /**
+     * Suffix of the name of the atomic long that holds the cluster-wide capacity of a reliable topic
+     */
+    public static final String CAPACITY_SUFFIX = ":capacity";
+
+    private static final int READ_BATCH_SIZE = 100;
+    private static final long IDLE_BACKOFF_MIN_MILLIS = 1;
+    private static final long IDLE_BACKOFF_MAX_MILLIS = 100;
+    private static final long UNWRITTEN_SLOT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final HazelcastInstance instance;
+    private final String name;
+    private final int capacity;
+    private final IAtomicLong capacityHolder;
+    private final IAtomicLong sequence;
+    private final IMap<Integer, ReliableTopicMessage> slots;
+    private final LocalTopicStatsImpl localTopicStats = new LocalTopicStatsImpl();
+    private final ConcurrentMap<String, Reader> readers = new ConcurrentHashMap<String, Reader>();
+    private final ILogger logger = Logger.getLogger(ReliableTopic.class);
+    private final String lifecycleRegistration;
+    private Poller poller;
+
+    /**
+     * @param capacity the capacity to use if this is the first instance of the topic in the cluster; otherwise the
+     *                 capacity the topic was created with is used
+     */
+    public ReliableTopic(HazelcastInstance instance, String name, int capacity) {
+        ValidationUtil.isNotNull(instance, "instance");
+        ValidationUtil.isNotNull(name, "name");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.instance = instance;
+        this.name = name;
+        this.capacityHolder = instance.getAtomicLong(NAME_PREFIX + name + CAPACITY_SUFFIX);
+        this.capacity = resolveCapacity(capacity);
+        this.sequence = instance.getAtomicLong(NAME_PREFIX + name);
+        this.slots = instance.getMap(NAME_PREFIX + name);
+        this.lifecycleRegistration = instance.getLifecycleService().addLifecycleListener(new LifecycleListener() {
+            @Override
+            public void stateChanged(LifecycleEvent event) {
+                if (event.getState() == LifecycleEvent.LifecycleState.SHUTTING_DOWN) {
+                    stopPoller();
+                }
+            }
+        });
+    }
+
+    private int resolveCapacity(int requested) {
+        if (capacityHolder.compareAndSet(0, requested)) {
+            return requested;
+        }
+        int clusterCapacity = (int) capacityHolder.get();
+        if (clusterCapacity != requested) {
+            logger.warning("Reliable topic " + name + " was created with capacity " + clusterCapacity
+                    + ", ignoring the requested capacity " + requested);
+        }
+        return clusterCapacity;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getId() {
+        return name;
+    }
+
+    @Override
+    public String getPartitionKey() {
+        return sequence.getPartitionKey();
+    }
+
+    @Override
+    public String getServiceName() {
+        return TopicService.SERVICE_NAME;
+    }
+
+    /**
+     * @return the cluster-wide capacity of the ring buffer
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the sequence the next published message will get
+     */
+    public long getTailSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * @return the oldest sequence that may still be stored in the ring buffer
+     */
+    public long getHeadSequence() {
+        return Math.max(0, sequence.get() - capacity);
+    }
+
+    @Override
+    public void publish(E message) {
+        publishAll(Collections.singletonList(message));
+    }
+
+    /**
+     * Publishes the messages in order with one sequence reservation and one write of all slots. Messages of the
+     * batch that would be overwritten by later messages of the same batch are not written at all.
+     */
+    public void publishAll(Collection<? extends E> messages) {
+        ValidationUtil.isNotNull(messages, "messages");
+        int count = messages.size();
+        if (count == 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        long firstSequence = sequence.getAndAdd(count);
+        long firstRetained = firstSequence + count - capacity;
+        long publishTime = Clock.currentTimeMillis();
+        String publisherUuid = instance.getLocalEndpoint().getUuid();
+
+        Map<Integer, ReliableTopicMessage> slotMessages
+                = new HashMap<Integer, ReliableTopicMessage>(Math.min(count, capacity) * 2);
+        long seq = firstSequence;
+        for (E message : messages) {
+            ValidationUtil.isNotNull(message, "message");
+            if (seq >= firstRetained) {
+                slotMessages.put(slotOf(seq), new ReliableTopicMessage(seq, publishTime, publisherUuid, message));
+            }
+            seq++;
+        }
+        slots.executeOnKeys(slotMessages.keySet(), new ReliableTopicSlotWriter(slotMessages));
+        for (int i = 0; i < count; i++) {
+            localTopicStats.incrementPublishes();
+        }
+        localTopicStats.recordPublishLatency(System.nanoTime() - start);
+    }
+
+    /**
+     * Adds a listener that receives the messages published from now on.
+     */
+    @Override
+    public String addMessageListener(MessageListener<E> listener) {
+        return addMessageListener(listener, -1);
+    }
+
+    /**
+     * Adds a listener that starts reading at the given sequence; use {@link #getHeadSequence()} to receive all
+     * retained messages. A negative sequence starts at the tail, i.e. with the next published message.
+     */
+    public String addMessageListener(MessageListener<E> listener, long startSequence) {
+        ValidationUtil.isNotNull(listener, "listener");
+        String id = UUID.randomUUID().toString();
+        long start = startSequence < 0 ? sequence.get() : startSequence;
+        synchronized (readers) {
+            readers.put(id, new Reader(id, listener, start));
+            if (poller == null) {
+                poller = new Poller();
+                poller.start();
+            }
+        }
+        return id;
+    }
+
+    @Override
+    public boolean removeMessageListener(String registrationId) {
+        synchronized (readers) {
+            Reader reader = readers.remove(registrationId);
+            if (reader == null) {
+                return false;
+            }
+            reader.active = false;
+            if (readers.isEmpty() && poller != null) {
+                poller.shutdown();
+                poller = null;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public LocalTopicStats getLocalTopicStats() {
+        return localTopicStats;
+    }
+
+    /**
+     * Stops all listeners of this instance and destroys the ring buffer.
+     */
+    @Override
+    public void destroy() {
+        stopPoller();
+        instance.getLifecycleService().removeLifecycleListener(lifecycleRegistration);
+        slots.destroy();
+        sequence.destroy();
+        capacityHolder.destroy();
+    }
+
+    private void stopPoller() {
+        synchronized (readers) {
+            for (Reader reader : readers.values()) {
+                reader.active = false;
+            }
+            readers.clear();
+            if (poller != null) {
+                poller.shutdown();
+                poller = null;
+            }
+        }
+    }
+
+    private int slotOf(long seq) {
+        return (int) (seq % capacity);
+    }
+
+    private Member findMember(String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        for (Member member : instance.getCluster().getMembers()) {
+            if (uuid.equals(member.getUuid())) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the ring buffer for all listeners of this instance. Listeners that are at the same sequence share
+     * the slots fetched in a round.
+     */
+    private final class Poller extends Thread {
+
+        private volatile boolean active = true;
+        private long backoffMillis = IDLE_BACKOFF_MIN_MILLIS;
+
+        private Poller() {
+            super("hz.reliable-topic." + name);
+            setDaemon(true);
+        }
+
+        private void shutdown() {
+            active = false;
+            interrupt();
+        }
+
+        @Override
+        public void run() {
+            while (active) {
+                try {
+                    if (!pollAll()) {
+                        Thread.sleep(backoffMillis);
+                        backoffMillis = Math.min(backoffMillis * 2, IDLE_BACKOFF_MAX_MILLIS);
+                    } else {
+                        backoffMillis = IDLE_BACKOFF_MIN_MILLIS;
+                    }
+                } catch (InterruptedException e) {
+                    break;
+                } catch (HazelcastInstanceNotActiveException e) {
+                    break;
+                } catch (DistributedObjectDestroyedException e) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * @return true if at least one listener consumed a sequence
+         */
+        private boolean pollAll() {
+            long tail;
+            try {
+                tail = sequence.get();
+            } catch (RuntimeException e) {
+                rethrowIfTerminal(e);
+                logFailure("Poller of reliable topic " + name + " failed", e);
+                return false;
+            }
+            Map<Long, Map<Integer, ReliableTopicMessage>> fetched = new HashMap<Long, Map<Integer, ReliableTopicMessage>>();
+            boolean progressed = false;
+            for (Reader reader : readers.values()) {
+                if (!active) {
+                    break;
+                }
+                try {
+                    progressed |= reader.readBatch(tail, fetched);
+                } catch (RuntimeException e) {
+                    rethrowIfTerminal(e);
+                    logFailure("Reader " + reader.id + " of reliable topic " + name + " failed", e);
+                }
+            }
+            return progressed;
+        }
+
+        /**
+         * Failures caused by a shut down instance or a destroyed ring buffer end the poller instead of being retried.
+         */
+        private void rethrowIfTerminal(RuntimeException e) {
+            if (e instanceof HazelcastInstanceNotActiveException || e instanceof DistributedObjectDestroyedException) {
+                throw e;
+            }
+        }
+
+        private void logFailure(String message, RuntimeException e) {
+            if (active && instance.getLifecycleService().isRunning()) {
+                logger.warning(message, e);
+            }
+        }
+    }
+
+    /**
+     * The read position of one listener; only accessed by the poller thread.
+     */
+    private final class Reader {
+
+        private final String id;
+        private final MessageListener<E> listener;
+        private volatile boolean active = true;
+        private long nextSequence;
+        private long unwrittenSince = -1;
+        private String lastPublisherUuid;
+        private Member lastPublisher;
+
+        private Reader(String id, MessageListener<E> listener, long startSequence) {
+            this.id = id;
+            this.listener = listener;
+            this.nextSequence = startSequence;
+        }
+
+        /**
+         * @return true if at least one sequence was consumed
+         */
+        private boolean readBatch(long tail, Map<Long, Map<Integer, ReliableTopicMessage>> fetched) {
+            if (nextSequence >= tail) {
+                return false;
+            }
+            long head = tail - capacity;
+            if (nextSequence < head) {
+                reportLoss(head - nextSequence);
+                nextSequence = head;
+            }
+
+            int count = (int) Math.min(tail - nextSequence, READ_BATCH_SIZE);
+            Map<Integer, ReliableTopicMessage> batch = fetched.get(nextSequence);
+            if (batch == null) {
+                Set<Integer> keys = new HashSet<Integer>(count);
+                for (long seq = nextSequence; seq < nextSequence + count; seq++) {
+                    keys.add(slotOf(seq));
+                }
+                batch = slots.getAll(keys);
+                fetched.put(nextSequence, batch);
+            }
+
+            long startSequence = nextSequence;
+            for (long seq = startSequence; seq < startSequence + count && active; seq++) {
+                ReliableTopicMessage message = batch.get(slotOf(seq));
+                long storedSequence = message == null ? -1 : message.getSequence();
+                if (storedSequence < seq) {
+                    // reserved by a publisher but not written yet, give up on it after a while
+                    if (!skipUnwrittenSlot()) {
+                        break;
+                    }
+                    reportLoss(1);
+                } else if (storedSequence > seq) {
+                    reportLoss(1);
+                } else {
+                    deliver(message);
+                }
+                unwrittenSince = -1;
+                nextSequence = seq + 1;
+            }
+            return nextSequence > startSequence;
+        }
+
+        private boolean skipUnwrittenSlot() {
+            long now = Clock.currentTimeMillis();
+            if (unwrittenSince < 0) {
+                unwrittenSince = now;
+                return false;
+            }
+            return now - unwrittenSince >= UNWRITTEN_SLOT_TIMEOUT_MILLIS;
+        }
+
+        private void deliver(ReliableTopicMessage message) {
+            E payload = (E) message.getPayload();
+            String publisherUuid = message.getPublisherUuid();
+            if (publisherUuid == null || !publisherUuid.equals(lastPublisherUuid)) {
+                lastPublisher = findMember(publisherUuid);
+                lastPublisherUuid = publisherUuid;
+            }
+            Member publisher = lastPublisher;
+            localTopicStats.incrementReceives();
+            try {
+                listener.onMessage(new Message<E>(name, payload, message.getPublishTime(), publisher));
+            } catch (RuntimeException e) {
+                logger.warning("Listener " + id + " of reliable topic " + name + " failed", e);
+            }
+        }
+
+        private void reportLoss(long lostCount) {
+            if (listener instanceof ReliableMessageListener) {
+                ((ReliableMessageListener) listener).onMessagesLost(lostCount);
+            } else if (logger.isFinestEnabled()) {
+                logger.finest("Listener " + id + " of reliable topic " + name + " lost " + lostCount + " messages");
+            }
+        }
+    }
+}
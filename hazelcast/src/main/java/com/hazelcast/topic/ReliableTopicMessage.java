@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.topic;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * A message stored in a ring buffer slot of a {@link ReliableTopic}. The sequence tells readers whether the slot
+ * still holds the message they expect, was not written yet or was already overwritten.
+ */
+public class ReliableTopicMessage implements IdentifiedDataSerializable {
+
+    private long sequence;
+    private long publishTime;
+    private String publisherUuid;
+    private Object payload;
+
+    public ReliableTopicMessage() {
+    }
+
+    public ReliableTopicMessage(long sequence, long publishTime, String publisherUuid, Object payload) {
+        this.sequence = sequence;
+        this.publishTime = publishTime;
+        this.publisherUuid = publisherUuid;
+        this.payload = payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getPublishTime() {
+        return publishTime;
+    }
+
+    public String getPublisherUuid() {
+        return publisherUuid;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TopicDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return TopicDataSerializerHook.RELIABLE_TOPIC_MESSAGE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeLong(sequence);
+        out.writeLong(publishTime);
+        out.writeUTF(publisherUuid);
+        out.writeObject(payload);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        sequence = in.readLong();
+        publishTime = in.readLong();
+        publisherUuid = in.readUTF();
+        payload = in.readObject();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.topic;
+
+import com.hazelcast.map.EntryBackupProcessor;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the messages of a publish call into their ring buffer slots of a {@link ReliableTopic}, leaving a slot
+ * alone when it already holds a message with a newer sequence, so a publisher that stalled between reserving and
+ * writing cannot overwrite a message published after it wrapped around.
+ */
+public class ReliableTopicSlotWriter implements EntryProcessor<Integer, ReliableTopicMessage>,
+        EntryBackupProcessor<Integer, ReliableTopicMessage>, IdentifiedDataSerializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Map<Integer, ReliableTopicMessage> messages;
+
+    public ReliableTopicSlotWriter() {
+    }
+
+    /**
+     * @param messages the messages to write keyed by their slot
+     */
+    public ReliableTopicSlotWriter(Map<Integer, ReliableTopicMessage> messages) {
+        this.messages = messages;
+    }
+
+    @Override
+    public Object process(Map.Entry<Integer, ReliableTopicMessage> entry) {
+        write(entry);
+        return null;
+    }
+
+    @Override
+    public void processBackup(Map.Entry<Integer, ReliableTopicMessage> entry) {
+        write(entry);
+    }
+
+    @Override
+    public EntryBackupProcessor<Integer, ReliableTopicMessage> getBackupProcessor() {
+        return this;
+    }
+
+    private void write(Map.Entry<Integer, ReliableTopicMessage> entry) {
+        ReliableTopicMessage message = messages.get(entry.getKey());
+        if (message == null) {
+            return;
+        }
+        ReliableTopicMessage current = entry.getValue();
+        if (current == null || current.getSequence() < message.getSequence()) {
+            entry.setValue(message);
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TopicDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return TopicDataSerializerHook.RELIABLE_TOPIC_SLOT_WRITER;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(messages.size());
+        for (Map.Entry<Integer, ReliableTopicMessage> entry : messages.entrySet()) {
+            out.writeInt(entry.getKey());
+            entry.getValue().writeData(out);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        messages = new HashMap<Integer, ReliableTopicMessage>(size * 2);
+        for (int i = 0; i < size; i++) {
+            int slot = in.readInt();
+            ReliableTopicMessage message = new ReliableTopicMessage();
+            message.readData(in);
+            messages.put(slot, message);
+        }
+    }
+}
@@ -27,6 +27,8 @@ public final class TopicDataSerializerHook implements DataSerializerHook {
 
     public static final int PUBLISH = 0;
     public static final int TOPIC_EVENT = 1;
+    public static final int RELIABLE_TOPIC_MESSAGE = 2;
+    public static final int RELIABLE_TOPIC_SLOT_WRITER = 3;
 
     @Override
     public int getFactoryId() {
@@ -43,6 +45,10 @@ public final class TopicDataSerializerHook implements DataSerializerHook {
                         return new PublishOperation();
                     case TOPIC_EVENT:
                         return new TopicEvent();
+                    case RELIABLE_TOPIC_MESSAGE:
+                        return new ReliableTopicMessage();
+                    case RELIABLE_TOPIC_SLOT_WRITER:
+                        return new ReliableTopicSlotWriter();
                     default:
                         return null;
                 }
@@ -91,7 +91,9 @@ abstract class TopicProxySupport extends AbstractDistributedObject<TopicService>
     public void publishInternal(Data message) {
         TopicEvent topicEvent = new TopicEvent(name, message, localMember.getAddress());
         topicStats.incrementPublishes();
+        final long start = System.nanoTime();
         topicService.publishEvent(name, topicEvent);
+        topicStats.recordPublishLatency(System.nanoTime() - start);
     }
 
     public String addMessageListenerInternal(MessageListener listener) {
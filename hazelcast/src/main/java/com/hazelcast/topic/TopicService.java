@@ -35,6 +35,7 @@ import java.util.Collection;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -53,11 +54,12 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
     private final ConstructorFunction<String, LocalTopicStatsImpl> localTopicStatsConstructorFunction =
             new ConstructorFunction<String, LocalTopicStatsImpl>() {
                 public LocalTopicStatsImpl createNew(String mapName) {
-                    return new LocalTopicStatsImpl();
+                    return new LocalTopicStatsImpl(latencyWindowMillis);
                 }
             };
     private EventService eventService;
     private ILogger logger;
+    private long latencyWindowMillis;
 
     @Override
     public void init(NodeEngine nodeEngine, Properties properties) {
@@ -67,6 +69,7 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
         }
         eventService = nodeEngine.getEventService();
         this.logger = nodeEngine.getLogger(TopicService.class);
+        this.latencyWindowMillis = TimeUnit.SECONDS.toMillis(nodeEngine.getGroupProperties().LATENCY_STATS_WINDOW_SECONDS.getLong());
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.hazelcast.topic;
 
+import com.hazelcast.monitor.impl.LocalTopicStatsImpl;
 import com.hazelcast.spi.InternalCompletableFuture;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.OperationService;
@@ -24,18 +25,22 @@ public class TotalOrderedTopicProxy extends TopicProxy {
 
     private final int partitionId;
     private final OperationService operationService;
+    private final LocalTopicStatsImpl topicStats;
 
     public TotalOrderedTopicProxy(String name, NodeEngine nodeEngine, TopicService service) {
         super(name, nodeEngine, service);
         this.partitionId = nodeEngine.getPartitionService().getPartitionId(getNameAsPartitionAwareData());
         this.operationService = nodeEngine.getOperationService();
+        this.topicStats = service.getLocalTopicStats(name);
     }
 
     @Override
     public void publish(Object message) {
         NodeEngine nodeEngine = getNodeEngine();
         PublishOperation operation = new PublishOperation(getName(), nodeEngine.toData(message));
+        final long start = System.nanoTime();
         InternalCompletableFuture f = operationService.invokeOnPartition(TopicService.SERVICE_NAME, operation, partitionId);
         f.getSafely();
+        topicStats.recordPublishLatency(System.nanoTime() - start);
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estimates how often keys are accessed and keeps track of the most accessed ones.
+ * <p/>
+ * Access counts are estimated with a count-min sketch, so the memory used does not depend on the
+ * number of keys; an estimate is never lower than the real count and is rarely much higher. The keys
+ * with the highest estimates are kept as heavy hitters. All counts are halved once per period of a
+ * {@link DecayClock}, so the reported keys are the ones which are hot recently. Sketches sharing a clock
+ * decay at the same points in time, so their counts stay comparable; a sketch that was not updated
+ * for a while is decayed when it is read. Optionally only every n-th access is sampled.
+ * <p/>
+ * Not thread safe for updates; it is meant to be updated by the partition thread which owns the
+ * data. Reading the hot keys from another thread gives an approximate view.
+ */
+public final class HotKeySketch {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 256;
+    private static final int WIDTH_MASK = WIDTH - 1;
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+    private static final int HASH_SHIFT = 16;
+    private static final int MAX_DECAY_SHIFT = 31;
+
+    private final int[] counts = new int[DEPTH * WIDTH];
+    private final Object[] hotKeys;
+    private final int[] hotKeyHashes;
+    private final int[] hotKeyCounts;
+    private final int sampleRate;
+    private final DecayClock decayClock;
+    private int sampleCounter;
+    // the clock period the counts were last decayed for; read by other threads to decay stale counts
+    private volatile long decayPeriod;
+    // only written by the updating thread, lazySet is enough to publish the value to readers
+    private final AtomicLong accessCount = new AtomicLong();
+
+    /**
+     * @param hotKeyCount the number of hot keys to keep track of
+     * @param sampleRate  1 to count every access, n to count every n-th access
+     * @param decayClock  the clock deciding when counts are halved
+     */
+    public HotKeySketch(int hotKeyCount, int sampleRate, DecayClock decayClock) {
+        this.hotKeys = new Object[hotKeyCount];
+        this.hotKeyHashes = new int[hotKeyCount];
+        this.hotKeyCounts = new int[hotKeyCount];
+        this.sampleRate = Math.max(1, sampleRate);
+        this.decayClock = decayClock;
+        this.decayPeriod = decayClock.currentPeriod();
+    }
+
+    public void recordAccess(Object key, int keyHash) {
+        if (sampleRate > 1 && ++sampleCounter < sampleRate) {
+            return;
+        }
+        sampleCounter = 0;
+        long period = decayClock.currentPeriod();
+        if (period != decayPeriod) {
+            decay(pendingDecayShift(period));
+            decayPeriod = period;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * WIDTH + (hash(keyHash, row) & WIDTH_MASK);
+            estimate = Math.min(estimate, ++counts[index]);
+        }
+        updateHotKeys(key, keyHash, estimate);
+        accessCount.lazySet(accessCount.get() + 1);
+    }
+
+    /**
+     * @return the estimated number of recent accesses, including the ones which are not sampled
+     */
+    public long getAccessCount() {
+        return (accessCount.get() >>> readDecayShift()) * sampleRate;
+    }
+
+    /**
+     * @return the hot keys with their estimated number of recent accesses, in no particular order
+     */
+    public List<HotKey> getHotKeys() {
+        int shift = readDecayShift();
+        List<HotKey> result = new ArrayList<HotKey>(hotKeys.length);
+        for (int i = 0; i < hotKeys.length; i++) {
+            Object key = hotKeys[i];
+            int count = hotKeyCounts[i] >>> shift;
+            if (key != null && count > 0) {
+                result.add(new HotKey(key, (long) count * sampleRate));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the number of recent accesses of a key, including the ones which are not sampled.
+     */
+    public long estimate(int keyHash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts[row * WIDTH + (hash(keyHash, row) & WIDTH_MASK)]);
+        }
+        return (long) (estimate >>> readDecayShift()) * sampleRate;
+    }
+
+    /**
+     * @return the number of halvings the counts are behind the clock, applied by readers without updating the sketch
+     */
+    private int readDecayShift() {
+        return pendingDecayShift(decayClock.currentPeriod());
+    }
+
+    private int pendingDecayShift(long period) {
+        return (int) Math.min(Math.max(period - decayPeriod, 0), MAX_DECAY_SHIFT);
+    }
+
+    private void updateHotKeys(Object key, int keyHash, int estimate) {
+        int coldest = 0;
+        for (int i = 0; i < hotKeys.length; i++) {
+            if (hotKeyHashes[i] == keyHash && key.equals(hotKeys[i])) {
+                hotKeyCounts[i] = estimate;
+                return;
+            }
+            if (hotKeyCounts[i] < hotKeyCounts[coldest]) {
+                coldest = i;
+            }
+        }
+        if (hotKeys.length > 0 && (hotKeys[coldest] == null || hotKeyCounts[coldest] < estimate)) {
+            // the count is written last, so a reader sees a stale count rather than a count of another key
+            hotKeyCounts[coldest] = 0;
+            hotKeys[coldest] = key;
+            hotKeyHashes[coldest] = keyHash;
+            hotKeyCounts[coldest] = estimate;
+        }
+    }
+
+    private void decay(int shift) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] >>>= shift;
+        }
+        for (int i = 0; i < hotKeyCounts.length; i++) {
+            hotKeyCounts[i] >>>= shift;
+        }
+        accessCount.lazySet(accessCount.get() >>> shift);
+    }
+
+    private static int hash(int keyHash, int row) {
+        int h = keyHash * SEEDS[row];
+        return h ^ (h >>> HASH_SHIFT);
+    }
+
+    /**
+     * Divides time into periods; the counts of all sketches using the clock are halved at the start of
+     * every period.
+     */
+    public static class DecayClock {
+        private final long periodMillis;
+        private final long origin;
+
+        public DecayClock(long periodMillis) {
+            this.periodMillis = Math.max(1, periodMillis);
+            this.origin = currentTimeMillis();
+        }
+
+        public long currentPeriod() {
+            return (currentTimeMillis() - origin) / periodMillis;
+        }
+
+        protected long currentTimeMillis() {
+            return Clock.currentTimeMillis();
+        }
+    }
+
+    /**
+     * A frequently accessed key.
+     */
+    public static final class HotKey {
+        private final Object key;
+        private final long accessCount;
+
+        HotKey(Object key, long accessCount) {
+            this.key = key;
+            this.accessCount = accessCount;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        /**
+         * @return the estimated number of recent accesses
+         */
+        public long getAccessCount() {
+            return accessCount;
+        }
+    }
+}
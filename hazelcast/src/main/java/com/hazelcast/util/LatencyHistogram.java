@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent histogram of latencies in microseconds, used to report latency percentiles.
+ * <p/>
+ * Values are counted in log-linear buckets: every power of two is split into 16 buckets,
+ * so a reported percentile is at most 1/16 higher than the real value. Recording a value
+ * costs a single atomic increment and the histogram takes a fixed amount of memory.
+ * <p/>
+ * If a window is given, values are recorded into a new set of buckets once the window
+ * has passed, and only the values of the current and the previous window are reported.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    // the highest power of two that is tracked; about 19 hours in microseconds
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    private static final double HUNDRED = 100d;
+
+    private final long windowMillis;
+    private volatile Window current;
+    private volatile Window previous;
+
+    /**
+     * @param windowMillis length of the window in milliseconds, or 0 to keep all values
+     */
+    public LatencyHistogram(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void recordNanos(long latencyNanos) {
+        record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    public void record(long latencyMicros) {
+        long value = Math.min(Math.max(latencyMicros, 0), MAX_VALUE);
+        Window window = current;
+        if (window == null || isExpired(window, Clock.currentTimeMillis())) {
+            window = roll(window);
+        }
+        window.counts.incrementAndGet(bucketIndex(value));
+        AtomicLong max = window.max;
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the values of the current and the previous window.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long max = 0;
+        long now = Clock.currentTimeMillis();
+        // previous is read first, so a window rolled in the meantime is not counted twice
+        Window window = previous;
+        if (window != null && !isOutdated(window, now)) {
+            max = window.addTo(counts);
+        }
+        window = current;
+        if (window != null && !isOutdated(window, now)) {
+            max = Math.max(max, window.addTo(counts));
+        }
+        return new Snapshot(counts, max);
+    }
+
+    private boolean isExpired(Window window, long now) {
+        return windowMillis > 0 && now - window.startMillis >= windowMillis;
+    }
+
+    /**
+     * A window is reported until the window after it has expired as well.
+     */
+    private boolean isOutdated(Window window, long now) {
+        return windowMillis > 0 && now - window.startMillis >= 2 * windowMillis;
+    }
+
+    private synchronized Window roll(Window expected) {
+        Window window = current;
+        if (window != expected) {
+            // rolled by another thread in the meantime
+            return window;
+        }
+        long now = Clock.currentTimeMillis();
+        previous = window != null && !isOutdated(window, now) ? window : null;
+        window = new Window(now);
+        current = window;
+        return window;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * @return the highest value which is counted in the bucket
+     */
+    static long highestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int index = bucketIndex - SUB_BUCKET_COUNT;
+        int shift = index / SUB_BUCKET_COUNT;
+        int subBucket = index & SUB_BUCKET_MASK;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Buckets of a single window.
+     */
+    private static final class Window {
+        private final long startMillis;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong max = new AtomicLong();
+
+        private Window(long startMillis) {
+            this.startMillis = startMillis;
+        }
+
+        /**
+         * @return the max value of the window
+         */
+        private long addTo(long[] target) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                target[i] += counts.get(i);
+            }
+            return max.get();
+        }
+    }
+
+    /**
+     * Values of a histogram at a point in time.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] counts, long max) {
+            this.counts = counts;
+            this.max = max;
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.count = total;
+        }
+
+        /**
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the highest recorded value in microseconds
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return the value in microseconds below or at which the given percentage of the values are,
+         * or 0 when no values are recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, HUNDRED) / HUNDRED * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // the bucket may also hold values higher than the max, which are not recorded
+                    return Math.min(highestValue(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.hazelcast.config.XmlConfigBuilder;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -39,6 +40,7 @@ import org.junit.runner.RunWith;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -63,9 +65,15 @@ public class MemcacheTest extends HazelcastTestSupport {
     }
 
     public MemcachedClient getMemcacheClient(HazelcastInstance instance) throws IOException {
+        return getMemcacheClient(instance, ConnectionFactoryBuilder.Protocol.TEXT);
+    }
+
+    public MemcachedClient getMemcacheClient(HazelcastInstance instance, ConnectionFactoryBuilder.Protocol protocol)
+            throws IOException {
         final LinkedList<InetSocketAddress> addresses = new LinkedList<InetSocketAddress>();
         addresses.add(instance.getCluster().getLocalMember().getInetSocketAddress());
-        final ConnectionFactory factory = new ConnectionFactoryBuilder().setOpTimeout(60 * 60 * 60).setDaemon(true).setFailureMode(FailureMode.Retry).build();
+        final ConnectionFactory factory = new ConnectionFactoryBuilder().setOpTimeout(60 * 60 * 60).setDaemon(true)
+                .setFailureMode(FailureMode.Retry).setProtocol(protocol).build();
         return new MemcachedClient(factory, addresses);
     }
 
@@ -142,6 +150,66 @@ public class MemcacheTest extends HazelcastTestSupport {
         }
     }
 
+    @Test
+    public void testMemcacheBinary() throws IOException, ExecutionException, InterruptedException {
+        final HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
+        MemcachedClient client = getMemcacheClient(instance, ConnectionFactoryBuilder.Protocol.BINARY);
+        try {
+            for (int i = 0; i < 100; i++) {
+                final OperationFuture<Boolean> future = client.set(String.valueOf(i), 0, i);
+                assertEquals(Boolean.TRUE, future.get());
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, client.get(String.valueOf(i)));
+            }
+            for (int i = 0; i < 100; i++) {
+                final OperationFuture<Boolean> future = client.add(String.valueOf(i), 0, i * 100);
+                assertEquals(Boolean.FALSE, future.get());
+            }
+            for (int i = 100; i < 200; i++) {
+                final OperationFuture<Boolean> future = client.replace(String.valueOf(i), 0, i);
+                assertEquals(Boolean.FALSE, future.get());
+            }
+            for (int i = 50; i < 100; i++) {
+                final OperationFuture<Boolean> future = client.delete(String.valueOf(i));
+                assertEquals(Boolean.TRUE, future.get());
+            }
+            assertEquals(null, client.get(String.valueOf(50)));
+
+            final LinkedList<String> keys = new LinkedList<String>();
+            for (int i = 0; i < 200; i++) {
+                keys.add(String.valueOf(i));
+            }
+            final Map<String, Object> bulk = client.getBulk(keys);
+            assertEquals(50, bulk.size());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, bulk.get(String.valueOf(i)));
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void testMemcacheBinary_whenBodyTooLarge() throws IOException, ExecutionException, InterruptedException {
+        Config bodyLimitConfig = new XmlConfigBuilder().build();
+        bodyLimitConfig.setProperty(GroupProperties.PROP_MEMCACHE_MAX_BODY_LENGTH, "1024");
+        final HazelcastInstance instance = Hazelcast.newHazelcastInstance(bodyLimitConfig);
+        MemcachedClient client = getMemcacheClient(instance, ConnectionFactoryBuilder.Protocol.BINARY);
+        try {
+            final char[] chars = new char[4096];
+            Arrays.fill(chars, 'a');
+            assertEquals(Boolean.FALSE, client.set("large", 0, new String(chars)).get());
+            assertEquals(null, client.get("large"));
+
+            // the skipped body did not break the framing of the following requests
+            assertEquals(Boolean.TRUE, client.set("small", 0, "value").get());
+            assertEquals("value", client.get("small"));
+        } finally {
+            client.shutdown();
+        }
+    }
+
     @Test
     public void testMemcacheWithIMap() throws IOException, InterruptedException, ExecutionException {
         final HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
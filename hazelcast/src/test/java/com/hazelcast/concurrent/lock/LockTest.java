@@ -315,6 +315,31 @@ public class LockTest extends HazelcastTestSupport {
     }
 
 
+    @Test(timeout = 60000)
+    public void testLockLeaseTime_waitingThreadOnOtherMemberAcquiresLockAfterExpiry() throws InterruptedException {
+        final TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+        final HazelcastInstance instance1 = nodeFactory.newHazelcastInstance();
+        final HazelcastInstance instance2 = nodeFactory.newHazelcastInstance();
+        final String key = generateKeyOwnedBy(instance1);
+        final ILock lock1 = instance1.getLock(key);
+        final ILock lock2 = instance2.getLock(key);
+
+        lock1.lock(2, TimeUnit.SECONDS);
+
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread() {
+            public void run() {
+                lock2.lock();
+                acquired.countDown();
+            }
+        };
+        waiter.start();
+
+        assertTrue(acquired.await(30, TimeUnit.SECONDS));
+        assertTrue(lock1.isLocked());
+        assertFalse(lock1.isLockedByCurrentThread());
+    }
+
     // =======================================================================
 
     //ugly test, does too much.
@@ -34,6 +34,7 @@ import com.hazelcast.instance.HazelcastInstanceProxy;
 import com.hazelcast.monitor.LocalExecutorStats;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.TestHazelcastInstanceFactory;
@@ -237,6 +238,83 @@ public class ExecutorServiceTest extends HazelcastTestSupport {
         assertEquals(k, count.get());
     }
 
+    @Test
+    public void testSubmitToKeyOwners() throws Exception {
+        final int k = simpleTestNodeCount;
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(k);
+        final HazelcastInstance[] instances = factory.newInstances(new Config());
+        final IExecutorService service = instances[0].getExecutorService("testSubmitToKeyOwners");
+        final Map<Integer, Callable<Member>> tasks = new HashMap<Integer, Callable<Member>>();
+        for (int i = 0; i < COUNT; i++) {
+            tasks.put(i, new MemberCheck());
+        }
+        final Map<Integer, Future<Member>> futures = service.submitToKeyOwners(tasks);
+        assertEquals(COUNT, futures.size());
+        for (int i = 0; i < COUNT; i++) {
+            final Member owner = instances[0].getPartitionService().getPartition(i).getOwner();
+            assertEquals(owner, futures.get(i).get());
+        }
+    }
+
+    @Test
+    public void testSubmitToKeyOwners_failedTaskDoesNotFailBatch() throws Exception {
+        final IExecutorService service = createSingleNodeExecutorService("testSubmitToKeyOwners_failedTaskDoesNotFailBatch");
+        final Map<String, Callable<String>> tasks = new HashMap<String, Callable<String>>();
+        tasks.put("ok", new BasicTestTask());
+        tasks.put("failing", new FailingTestTask());
+        final Map<String, Future<String>> futures = service.submitToKeyOwners(tasks);
+        assertEquals(BasicTestTask.RESULT, futures.get("ok").get());
+        try {
+            futures.get("failing").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testSubmitToKeyOwners_durableBatchRespondsAfterSyncBackups() throws Exception {
+        final Config config = new Config();
+        config.addExecutorConfig(new ExecutorConfig("durable").setDurability(1));
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        final HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        final HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        final Map<String, Callable<String>> tasks = new HashMap<String, Callable<String>>();
+        for (int i = 0; i < 5; i++) {
+            tasks.put(generateKeyOwnedBy(instance1), new BasicTestTask());
+            tasks.put(generateKeyOwnedBy(instance2), new BasicTestTask());
+        }
+        final Map<String, Future<String>> futures = instance1.getExecutorService("durable").submitToKeyOwners(tasks);
+        for (Future<String> future : futures.values()) {
+            assertEquals(BasicTestTask.RESULT, future.get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testSubmitToKeyOwners_durableTasksRunByBackupWhenOwnerDies() throws Exception {
+        final Config config = new Config();
+        config.addExecutorConfig(new ExecutorConfig("durable").setDurability(1));
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        final HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        final HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        final Map<String, Callable<Boolean>> tasks = new HashMap<String, Callable<Boolean>>();
+        for (int i = 0; i < 10; i++) {
+            final String key = generateKeyOwnedBy(instance2);
+            tasks.put(key, new SlowSetAddTask("durable", key, 3000));
+        }
+        // the caller dies with the owner, so only the promoted backup can run the tasks
+        instance2.getExecutorService("durable").submitToKeyOwners(tasks);
+        sleepSeconds(1);
+        instance2.getLifecycleService().terminate();
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(10, instance1.getSet("durable").size());
+            }
+        });
+    }
+
     @Test
     public void testSubmitToMemberRunnable() throws InterruptedException {
         final int k = simpleTestNodeCount;
@@ -1441,5 +1519,35 @@ public class ExecutorServiceTest extends HazelcastTestSupport {
             localMember = hazelcastInstance.getCluster().getLocalMember();
         }
     }
-}
 
+    public static class FailingTestTask implements Callable<String>, Serializable {
+
+        public String call() throws Exception {
+            throw new IllegalStateException();
+        }
+    }
+
+    public static class SlowSetAddTask implements Callable<Boolean>, Serializable, HazelcastInstanceAware {
+
+        private final String setName;
+        private final String item;
+        private final long sleepTime;
+        private transient HazelcastInstance instance;
+
+        public SlowSetAddTask(String setName, String item, long sleepTime) {
+            this.setName = setName;
+            this.item = item;
+            this.sleepTime = sleepTime;
+        }
+
+        public Boolean call() throws InterruptedException {
+            Thread.sleep(sleepTime);
+            return instance.getSet(setName).add(item);
+        }
+
+        @Override
+        public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+            instance = hazelcastInstance;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.hazelcast.core.HazelcastInstanceAware;
 import com.hazelcast.core.IMap;
 import com.hazelcast.core.MapEvent;
 import com.hazelcast.core.MapLoader;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.instance.HazelcastInstanceFactory;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -38,6 +39,7 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.PredicateBuilder;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.query.SampleObjects;
+import com.hazelcast.query.SqlPredicate;
 import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -166,6 +168,28 @@ public class EntryProcessorTest extends HazelcastTestSupport {
         assertEquals("The predicate should be applied to only one entry if indexing works!", entries.size(),1);
     }
 
+    @Test
+    public void testIndexAware_backupsOnlyProcessMatchingEntries() {
+        Config cfg = new Config();
+        cfg.getMapConfig("test").setBackupCount(1).addMapIndexConfig(new MapIndexConfig("this", true));
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(cfg);
+        HazelcastInstance instance2 = factory.newHazelcastInstance(cfg);
+        IMap<Integer, Integer> map = instance1.getMap("test");
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        Map<Integer, Object> result = map.executeOnEntries(new IncrementorEntryProcessor(), new SqlPredicate("this < 10"));
+        assertEquals(10, result.size());
+
+        instance1.shutdown();
+        IMap<Integer, Integer> map2 = instance2.getMap("test");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i < 10 ? i + 1 : i, (int) map2.get(i));
+        }
+    }
+
     /**
      * Reproducer for https://github.com/hazelcast/hazelcast/issues/1854
      * Similar to above tests but with executeOnKeys instead.
@@ -1316,4 +1340,185 @@ public class EntryProcessorTest extends HazelcastTestSupport {
         }
     }
 
+    @Test
+    public void testReadOnlyEntryProcessor() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<String, Integer> map = instance.getMap(randomString());
+        map.put("key", 1);
+
+        assertEquals(1, map.executeOnKey("key", new ReadOnlyValueEntryProcessor()));
+        try {
+            map.executeOnKey("key", new ReadOnlyIncrementEntryProcessor());
+            fail("A read-only entry processor must not modify the entry");
+        } catch (UnsupportedOperationException expected) {
+        }
+        assertEquals(1, (int) map.get("key"));
+    }
+
+    @Test
+    public void testReadOnlyEntryProcessor_executeOnEntries() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<String, Integer> map = instance.getMap(randomString());
+        final AtomicInteger events = new AtomicInteger();
+        map.addEntryListener(new EntryAdapter<String, Integer>() {
+            @Override
+            public void onEntryEvent(EntryEvent<String, Integer> event) {
+                events.incrementAndGet();
+            }
+        }, true);
+        for (int i = 0; i < 10; i++) {
+            map.put("key" + i, i);
+        }
+        assertSizeEventually(10, map);
+        events.set(0);
+
+        Map<String, Object> results = map.executeOnEntries(new ReadOnlyValueEntryProcessor());
+
+        assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, results.get("key" + i));
+            assertEquals(i, (int) map.get("key" + i));
+        }
+        assertTrueAllTheTime(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(0, events.get());
+            }
+        }, 2);
+    }
+
+    @Test
+    public void testReadOnlyEntryProcessor_executeOnKeys() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<String, Integer> map = instance.getMap(randomString());
+        final AtomicInteger events = new AtomicInteger();
+        map.put("key", 1);
+        map.addEntryListener(new EntryAdapter<String, Integer>() {
+            @Override
+            public void onEntryEvent(EntryEvent<String, Integer> event) {
+                events.incrementAndGet();
+            }
+        }, true);
+        Set<String> keys = new HashSet<String>();
+        keys.add("key");
+        keys.add("missing");
+
+        Map<String, Object> results = map.executeOnKeys(keys, new ReadOnlyValueEntryProcessor());
+
+        assertEquals(1, results.size());
+        assertEquals(1, results.get("key"));
+        assertEquals(1, map.size());
+        assertTrueAllTheTime(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(0, events.get());
+            }
+        }, 2);
+    }
+
+    @Test
+    public void testOffloadableEntryProcessor_runningLongerThanCallTimeout() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_OPERATION_CALL_TIMEOUT_MILLIS, "2000");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = factory.newHazelcastInstance(config);
+        IMap<String, Integer> map = instance1.getMap(randomString());
+        String key = generateKeyOwnedBy(instance2);
+        map.put(key, 1);
+
+        assertEquals(1, map.executeOnKey(key, new OffloadableSlowReadOnlyValueEntryProcessor()));
+    }
+
+    @Test
+    public void testOffloadableEntryProcessor() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        String name = randomString();
+        IMap<String, Integer> map = instance1.getMap(name);
+        map.put("key", 1);
+
+        for (int i = 0; i < 10; i++) {
+            map.executeOnKey("key", new OffloadableIncrementEntryProcessor());
+        }
+        assertEquals(11, map.executeOnKey("key", new OffloadableReadOnlyValueEntryProcessor()));
+
+        instance1.shutdown();
+        assertEquals(11, (int) instance2.<String, Integer>getMap(name).get("key"));
+    }
+
+    @Test
+    public void testOffloadableEntryProcessor_concurrentUpdates() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance();
+        final IMap<String, Integer> map = instance.getMap(randomString());
+        map.put("key", 0);
+        final int threadCount = 4;
+        final int incrementCount = 100;
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            new Thread() {
+                public void run() {
+                    for (int i = 0; i < incrementCount; i++) {
+                        map.executeOnKey("key", new OffloadableIncrementEntryProcessor());
+                    }
+                    latch.countDown();
+                }
+            }.start();
+        }
+        assertOpenEventually(latch);
+        assertEquals(threadCount * incrementCount, (int) map.get("key"));
+    }
+
+    private static class ReadOnlyValueEntryProcessor extends AbstractEntryProcessor<String, Integer> implements ReadOnly {
+
+        @Override
+        public Object process(Map.Entry<String, Integer> entry) {
+            return entry.getValue();
+        }
+    }
+
+    private static class ReadOnlyIncrementEntryProcessor extends AbstractEntryProcessor<String, Integer>
+            implements ReadOnly {
+
+        @Override
+        public Object process(Map.Entry<String, Integer> entry) {
+            entry.setValue(entry.getValue() + 1);
+            return null;
+        }
+    }
+
+    private static class OffloadableReadOnlyValueEntryProcessor extends ReadOnlyValueEntryProcessor
+            implements Offloadable {
+
+        @Override
+        public String getExecutorName() {
+            return null;
+        }
+    }
+
+    private static class OffloadableSlowReadOnlyValueEntryProcessor extends OffloadableReadOnlyValueEntryProcessor {
+
+        @Override
+        public Object process(Map.Entry<String, Integer> entry) {
+            sleepSeconds(6);
+            return super.process(entry);
+        }
+    }
+
+    private static class OffloadableIncrementEntryProcessor extends AbstractEntryProcessor<String, Integer>
+            implements Offloadable {
+
+        @Override
+        public Object process(Map.Entry<String, Integer> entry) {
+            entry.setValue(entry.getValue() + 1);
+            return null;
+        }
+
+        @Override
+        public String getExecutorName() {
+            return null;
+        }
+    }
+
 }
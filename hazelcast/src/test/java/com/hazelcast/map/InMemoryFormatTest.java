@@ -21,9 +21,14 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
+import com.hazelcast.map.record.Record;
+import com.hazelcast.map.record.Records;
+import com.hazelcast.monitor.LocalMapStats;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.TestHazelcastInstanceFactory;
@@ -38,7 +43,9 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -128,6 +135,135 @@ public class InMemoryFormatTest extends HazelcastTestSupport {
         assertTrue(objectMap2.containsValue(v1));
     }
 
+    @Test
+    public void valueCompression() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("compressedMap").setValueCompressionEnabled(true)
+                .setValueCompressionThreshold(100));
+
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map = hz1.getMap("compressedMap");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("{\"field\":\"value-").append(i % 10).append("\"}");
+        }
+        String largeValue = sb.toString();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i % 2 == 0 ? largeValue : "small-" + i);
+        }
+
+        LocalMapStats stats = map.getLocalMapStats();
+        assertTrue(stats.getTotalValueCompressionCount() > 0);
+        assertTrue(stats.getValueCompressionRatio() > 1);
+
+        hz2.shutdown();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? largeValue : "small-" + i, map.get(i));
+        }
+        assertTrue(map.containsValue(largeValue));
+        // primaries and backups are both compressed
+        assertTrue(map.getLocalMapStats().getTotalValueCompressionCount() >= 50);
+
+        // the figures are cumulative, removing the values does not reduce them
+        long totalCompressionCount = map.getLocalMapStats().getTotalValueCompressionCount();
+        map.clear();
+        assertEquals(totalCompressionCount, map.getLocalMapStats().getTotalValueCompressionCount());
+    }
+
+    @Test
+    public void valueCompression_backupsStoreCompressedValue() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("compressedMap").setValueCompressionEnabled(true)
+                .setValueCompressionThreshold(100));
+
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        IMap<String, String> map = hz1.getMap("compressedMap");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("{\"field\":\"value-").append(i % 10).append("\"}");
+        }
+        String largeValue = sb.toString();
+        String key = generateKeyOwnedBy(hz1);
+        // the first put creates the backup record, the second one replaces its value
+        map.put(key, largeValue);
+        map.set(key, largeValue + "-updated");
+
+        Record backupRecord = getRecord(hz2, "compressedMap", key);
+        assertNotNull(Records.getCompressedValue(backupRecord));
+        // backups are compressed on the primary only
+        assertEquals(map.getLocalMapStats().getTotalValueCompressionCount(),
+                hz2.getMap("compressedMap").getLocalMapStats().getTotalValueCompressionCount());
+
+        hz1.shutdown();
+        assertEquals(largeValue + "-updated", hz2.getMap("compressedMap").get(key));
+    }
+
+    @Test
+    public void valueDeduplication() {
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("dedupMap").setValueDeduplicationEnabled(true));
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<Integer, Pair> map = hz.getMap("dedupMap");
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i, new Pair("shared", "value"));
+        }
+        map.put(0, new Pair("other", "value"));
+        map.remove(1);
+
+        assertEquals("other", map.get(0).significant);
+        assertEquals(null, map.get(1));
+        for (int i = 2; i < 100; i++) {
+            assertEquals("shared", map.get(i).significant);
+        }
+        Object sharedValue = getRecord(hz, "dedupMap", 2).getValue();
+        for (int i = 3; i < 100; i++) {
+            assertSame(sharedValue, getRecord(hz, "dedupMap", i).getValue());
+        }
+        assertNotSame(sharedValue, getRecord(hz, "dedupMap", 0).getValue());
+    }
+
+    @Test
+    public void keyDeduplication() {
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("dedupKeys*").setKeyDeduplicationEnabled(true));
+        HazelcastInstance hz = createHazelcastInstance(config);
+        IMap<String, String> first = hz.getMap("dedupKeys1");
+        IMap<String, String> second = hz.getMap("dedupKeys2");
+        IMap<String, String> plain = hz.getMap("plainKeys");
+
+        for (int i = 0; i < 100; i++) {
+            first.put("key" + i, "first");
+            second.put("key" + i, "second");
+            plain.put("key" + i, "plain");
+        }
+        second.put("key0", "updated");
+
+        assertEquals("first", first.get("key0"));
+        assertEquals("updated", second.get("key0"));
+        for (int i = 0; i < 100; i++) {
+            Record firstRecord = getRecord(hz, "dedupKeys1", "key" + i);
+            assertSame(firstRecord.getKey(), getRecord(hz, "dedupKeys2", "key" + i).getKey());
+            assertNotSame(firstRecord.getKey(), getRecord(hz, "plainKeys", "key" + i).getKey());
+        }
+    }
+
+    private static Record getRecord(HazelcastInstance hz, String mapName, Object key) {
+        NodeEngineImpl nodeEngine = getNode(hz).nodeEngine;
+        Data dataKey = nodeEngine.toData(key);
+        int partitionId = nodeEngine.getPartitionService().getPartitionId(dataKey);
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getRecordStore(partitionId, mapName).getRecord(dataKey);
+    }
+
     public static final class Pair implements Serializable {
         private final String significant;
         private final String insignificant;
@@ -327,4 +327,106 @@ public class MapLockTest extends HazelcastTestSupport {
         assertEquals("unlocked keys not removed", 1, map.size());
         assertEquals("a key present in a map, should be locked after map clear", true, map.isLocked(key));
     }
+
+    @Test
+    public void testLockAndGet_thenSetAndUnlock() throws Exception {
+        final HazelcastInstance instance = createHazelcastInstance();
+        final IMap<Object, Object> map = instance.getMap(randomString());
+        map.put("key", 1);
+
+        assertEquals(1, map.lockAndGet("key"));
+        assertTrue(map.isLocked("key"));
+
+        final CountDownLatch locked = new CountDownLatch(1);
+        final AtomicInteger valueSeen = new AtomicInteger();
+        new Thread() {
+            public void run() {
+                valueSeen.set((Integer) map.lockAndGet("key"));
+                locked.countDown();
+            }
+        }.start();
+        assertFalse(locked.await(1, TimeUnit.SECONDS));
+
+        map.setAndUnlock("key", 2);
+        assertOpenEventually(locked);
+        assertEquals(2, valueSeen.get());
+        assertEquals(2, map.get("key"));
+    }
+
+    @Test
+    public void testLockAndGet_whenKeyMissing() {
+        final HazelcastInstance instance = createHazelcastInstance();
+        final IMap<Object, Object> map = instance.getMap(randomString());
+
+        assertEquals(null, map.lockAndGet("key"));
+        assertTrue(map.isLocked("key"));
+        map.setAndUnlock("key", "value");
+        assertFalse(map.isLocked("key"));
+        assertEquals("value", map.get("key"));
+    }
+
+    @Test(expected = IllegalMonitorStateException.class)
+    public void testSetAndUnlock_whenNotLocked() {
+        final HazelcastInstance instance = createHazelcastInstance();
+        final IMap<Object, Object> map = instance.getMap(randomString());
+        try {
+            map.setAndUnlock("key", "value");
+        } finally {
+            assertEquals(0, map.size());
+        }
+    }
+
+    @Test
+    public void testLockAndGet_lockSurvivesOwnerTermination() {
+        final TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+        final HazelcastInstance node1 = nodeFactory.newHazelcastInstance();
+        final HazelcastInstance node2 = nodeFactory.newHazelcastInstance();
+        final String mapName = randomString();
+        final IMap<Object, Object> map = node1.getMap(mapName);
+
+        final Object key = generateKeyOwnedBy(node2);
+        map.put(key, "value");
+        assertEquals("value", map.lockAndGet(key));
+        node2.getLifecycleService().terminate();
+
+        assertTrue(map.isLocked(key));
+        map.setAndUnlock(key, "newValue");
+        assertFalse(map.isLocked(key));
+        assertEquals("newValue", map.get(key));
+    }
+
+    @Test(timeout = 100000)
+    public void testLockLeasesOfManyKeysExpire() {
+        final HazelcastInstance instance = createHazelcastInstance();
+        final IMap<Object, Object> map1 = instance.getMap(randomString());
+        final IMap<Object, Object> map2 = instance.getMap(randomString());
+        final int keyCount = 100;
+        for (int i = 0; i < keyCount; i++) {
+            map1.lock(i, 1, TimeUnit.SECONDS);
+            map2.lock(i, 1, TimeUnit.SECONDS);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            public void run() throws Exception {
+                for (int i = 0; i < keyCount; i++) {
+                    assertFalse(map1.isLocked(i));
+                    assertFalse(map2.isLocked(i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testLockWithoutLease_removesLeaseOfReentrantLock() {
+        final HazelcastInstance instance = createHazelcastInstance();
+        final IMap<Object, Object> map = instance.getMap(randomString());
+        map.lock("key", 1, TimeUnit.SECONDS);
+        map.lock("key");
+
+        sleepSeconds(3);
+        assertTrue(map.isLocked("key"));
+        map.unlock("key");
+        map.unlock("key");
+        assertFalse(map.isLocked("key"));
+    }
 }
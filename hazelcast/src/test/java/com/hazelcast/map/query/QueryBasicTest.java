@@ -6,13 +6,19 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MapIndexConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.map.MapContextQuerySupport;
+import com.hazelcast.map.MapService;
+import com.hazelcast.monitor.LocalMapStats;
 import com.hazelcast.query.EntryObject;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.PredicateBuilder;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.query.QueryException;
+import com.hazelcast.query.QueryTimeoutException;
 import com.hazelcast.query.SampleObjects;
 import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.query.TruePredicate;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.TestHazelcastInstanceFactory;
@@ -23,6 +29,7 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -34,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.hazelcast.nio.serialization.PortableTest.ChildPortableObject;
 import static com.hazelcast.nio.serialization.PortableTest.GrandParentPortableObject;
@@ -46,6 +54,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -69,6 +78,89 @@ public class QueryBasicTest extends HazelcastTestSupport {
         assertEquals(values.size(), 0);
     }
 
+    @Test(timeout = 1000 * 60)
+    public void testQueryWithSingleQueryThread() {
+        String name = randomMapName();
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_QUERY_THREAD_COUNT, "1");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<String, Value> map = instance.getMap(name);
+        for (int i = 0; i < 5000; i++) {
+            map.put("" + i, new Value("name" + i, new ValueType("type" + i), i));
+        }
+        Collection<Value> values = map.values(new SqlPredicate("index >= 4000"));
+        assertEquals(1000, values.size());
+
+        LocalMapStats stats = map.getLocalMapStats();
+        assertTrue(stats.getOtherOperationCount() > 0);
+        if (ManagementFactory.getThreadMXBean().isCurrentThreadCpuTimeSupported()) {
+            assertTrue(stats.getTotalQueryCpuTime() > 0);
+        }
+    }
+
+    @Test(timeout = 1000 * 60)
+    public void testQueryTimeout_cancelsPartitionScans() throws InterruptedException {
+        String name = randomMapName();
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_QUERY_THREAD_COUNT, "1");
+        config.setProperty(GroupProperties.PROP_QUERY_TIMEOUT_MILLIS, "1000");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<String, Value> map = instance.getMap(name);
+        for (int i = 0; i < 1000; i++) {
+            map.put("" + i, new Value("name" + i, new ValueType("type" + i), i));
+        }
+
+        SlowPredicate.APPLIED.set(0);
+        try {
+            map.values(new SlowPredicate());
+            fail("Query should have timed out");
+        } catch (QueryTimeoutException expected) {
+        }
+        Thread.sleep(500);
+        int applied = SlowPredicate.APPLIED.get();
+        Thread.sleep(500);
+        assertEquals("Cancelled scans kept running", applied, SlowPredicate.APPLIED.get());
+        assertTrue(applied < 1000);
+
+        Collection<Value> values = map.values(new SqlPredicate("index >= 900"));
+        assertEquals(100, values.size());
+    }
+
+    @Test(timeout = 1000 * 60)
+    public void testScanPartition_stopsWhenInterrupted() {
+        String name = randomMapName();
+        HazelcastInstance instance = createHazelcastInstance();
+        IMap<String, String> map = instance.getMap(name);
+        map.put("key", "value");
+        int partitionId = instance.getPartitionService().getPartition("key").getPartitionId();
+        MapService mapService = getNode(instance).nodeEngine.getService(MapService.SERVICE_NAME);
+        MapContextQuerySupport querySupport = mapService.getMapServiceContext().getMapContextQuerySupport();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertNull(querySupport.scanPartition(name, TruePredicate.INSTANCE, partitionId, 1));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(1, querySupport.scanPartition(name, TruePredicate.INSTANCE, partitionId, 1).size());
+    }
+
+    private static class SlowPredicate implements Predicate {
+
+        static final AtomicInteger APPLIED = new AtomicInteger();
+
+        @Override
+        public boolean apply(Map.Entry mapEntry) {
+            APPLIED.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+
     @Test(timeout = 1000 * 60)
     public void testInnerIndex() {
         HazelcastInstance instance = createHazelcastInstance();
@@ -26,6 +26,7 @@ import org.junit.runner.RunWith;
 import java.io.IOException;
 import java.nio.ByteOrder;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
@@ -272,6 +273,55 @@ public class PortableTest {
         assertEquals(child.timestamp, reader.readLong("child.child.timestamp"));
     }
 
+    @Test
+    public void testReadPortableField() {
+        testReadPortableField(ByteOrder.BIG_ENDIAN, false);
+    }
+
+    @Test
+    public void testReadPortableFieldLittleEndian() {
+        testReadPortableField(ByteOrder.LITTLE_ENDIAN, false);
+    }
+
+    @Test
+    public void testReadPortableFieldNativeOrderUsingUnsafe() {
+        testReadPortableField(ByteOrder.nativeOrder(), true);
+    }
+
+    private void testReadPortableField(ByteOrder order, boolean allowUnsafe) {
+        SerializationService serializationService = createSerializationService(1, order, allowUnsafe);
+
+        NamedPortable[] nn = {new NamedPortable("named-portable", 7)};
+        InnerPortable inner = new InnerPortable(new byte[]{0, 1, 2}, new char[]{'c', 'h', 'a', 'r'},
+                new short[]{3, 4, 5}, new int[]{9, 8, 7, 6}, new long[]{0, 1, 5, 7, 9, 11},
+                new float[]{0.6543f, -3.56f, 45.67f}, new double[]{456.456, 789.789, 321.321}, nn);
+        MainPortable main = new MainPortable((byte) 113, true, 'x', (short) -500, 56789, -50992225L, 900.5678f,
+                -897543.3678909d, "this is main portable object created for testing!", inner);
+        Data data = serializationService.toData(main);
+
+        assertEquals(main.b, serializationService.readPortableField(data, "b"));
+        assertEquals(main.bool, serializationService.readPortableField(data, "bool"));
+        assertEquals(main.c, serializationService.readPortableField(data, "c"));
+        assertEquals(main.s, serializationService.readPortableField(data, "s"));
+        assertEquals(main.i, serializationService.readPortableField(data, "i"));
+        assertEquals(main.l, serializationService.readPortableField(data, "l"));
+        assertEquals(main.f, serializationService.readPortableField(data, "f"));
+        assertEquals(main.d, serializationService.readPortableField(data, "d"));
+        assertEquals(main.str, serializationService.readPortableField(data, "str"));
+        assertEquals(inner, serializationService.readPortableField(data, "p"));
+        assertArrayEquals(inner.ii, (int[]) serializationService.readPortableField(data, "p.i"));
+
+        Data innerData = serializationService.toData(inner);
+        assertArrayEquals(inner.ll, (long[]) serializationService.readPortableField(innerData, "l"));
+    }
+
+    @Test(expected = HazelcastSerializationException.class)
+    public void testReadPortableField_unknownField() {
+        SerializationService serializationService = createSerializationService(1);
+        Data data = serializationService.toData(new NamedPortable("named-portable", 7));
+        serializationService.readPortableField(data, "unknown");
+    }
+
     @Test
     public void testClassDefinition_getNestedField() throws IOException {
         SerializationService serializationService = new SerializationServiceBuilder().build();
@@ -19,6 +19,9 @@ package com.hazelcast.nio.serialization;
 import com.hazelcast.config.GlobalSerializerConfig;
 import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.test.HazelcastSerialClassRunner;
@@ -193,6 +196,24 @@ public class SerializationTest {
         assertEquals(array, deserialized);
     }
 
+    @Test
+    public void testWriteDataIsReadableAsData() throws IOException {
+        SerializationService ss = new SerializationServiceBuilder().build();
+        Object[] objects = {"value", 42L, new SerializationConcurrencyTest.Person(35, 180, 100, "Orhan", null),
+                new byte[]{1, 2, 3}, ss.toData("data")};
+        BufferObjectDataOutput out = ss.createObjectDataOutput(16);
+        for (Object object : objects) {
+            ss.writeData(out, object);
+        }
+        BufferObjectDataInput in = ss.createObjectDataInput(out.toByteArray());
+        for (Object object : objects) {
+            Data expected = ss.toData(object);
+            Data data = IOUtil.readData(in);
+            assertEquals(expected, data);
+            assertEquals(expected.getPartitionHash(), data.getPartitionHash());
+        }
+    }
+
     /**
      * issue #1265
      */
@@ -33,6 +33,9 @@ import static com.hazelcast.instance.TestUtil.toData;
 import static com.hazelcast.query.SampleObjects.Employee;
 import static com.hazelcast.query.SampleObjects.Value;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category(QuickTest.class)
@@ -96,4 +99,66 @@ public class IndexServiceTest {
         indexService.saveEntryIndex(new QueryEntry(null, toData(9), 9, new Value("qwx")));
         assertEquals(8, new HashSet(indexService.query(new SqlPredicate("name > 'aac'"))).size());
     }
+
+    @Test
+    public void testIndexStatistics() throws Exception {
+        IndexService indexService = new IndexService();
+        Index index = indexService.addOrGetIndex("age", true);
+        for (int i = 0; i < 100; i++) {
+            Employee employee = new Employee(i + "Name", i % 10, (i % 2 == 0), 100);
+            indexService.saveEntryIndex(new QueryEntry(null, toData(i), i, employee));
+        }
+        assertEquals(100, index.getEntryCount());
+        assertEquals(10, index.getDistinctValueCount());
+        assertEquals(0.1d, index.getEqualitySelectivity(), 0.0001d);
+
+        // moving all entries of age 9 to age 8 drops a distinct value
+        for (int i = 9; i < 100; i += 10) {
+            Employee employee = new Employee(i + "Name", 8, false, 100);
+            indexService.saveEntryIndex(new QueryEntry(null, toData(i), i, employee));
+        }
+        assertEquals(100, index.getEntryCount());
+        assertEquals(9, index.getDistinctValueCount());
+
+        for (int i = 0; i < 50; i++) {
+            indexService.removeEntryIndex(toData(i));
+        }
+        assertEquals(50, index.getEntryCount());
+        assertEquals(9, index.getDistinctValueCount());
+
+        index.clear();
+        assertEquals(0, index.getEntryCount());
+        assertEquals(0, index.getDistinctValueCount());
+    }
+
+    @Test
+    public void testAndUsesMostSelectiveIndex() throws Exception {
+        IndexService indexService = new IndexService();
+        indexService.addOrGetIndex("name", false);
+        indexService.addOrGetIndex("age", true);
+        indexService.addOrGetIndex("active", false);
+        for (int i = 0; i < 2000; i++) {
+            Employee employee = new Employee(i + "Name", i % 80, (i % 2 == 0), 100 + (i % 100));
+            indexService.saveEntryIndex(new QueryEntry(null, toData(i), i, employee));
+        }
+        Set<QueryableEntry> results = indexService.query(new SqlPredicate("active=true and age > 10 and name = '140Name'"));
+        assertTrue(results instanceof AndResultSet);
+        assertEquals(1, new HashSet<QueryableEntry>(results).size());
+
+        results = indexService.query(new SqlPredicate("active=true and age > 10 and name = '141Name'"));
+        assertEquals(0, new HashSet<QueryableEntry>(results).size());
+    }
+
+    @Test
+    public void testAndFallsBackToScanWhenIndexesAreNotSelective() throws Exception {
+        IndexService indexService = new IndexService();
+        indexService.addOrGetIndex("age", true);
+        indexService.addOrGetIndex("salary", true);
+        for (int i = 0; i < 2000; i++) {
+            Employee employee = new Employee(i + "Name", i % 80, (i % 2 == 0), 100 + (i % 100));
+            indexService.saveEntryIndex(new QueryEntry(null, toData(i), i, employee));
+        }
+        assertNull(indexService.query(new SqlPredicate("age != 10 and salary != 150")));
+        assertNotNull(indexService.query(new SqlPredicate("age != 10 and salary = 150")));
+    }
 }
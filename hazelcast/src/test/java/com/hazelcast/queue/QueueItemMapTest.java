@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.queue;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class QueueItemMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        QueueItemMap map = new QueueItemMap();
+        QueueItem item = new QueueItem(null, 5, null);
+
+        assertNull(map.put(item));
+        assertSame(item, map.get(5));
+        assertEquals(1, map.size());
+
+        QueueItem replacement = new QueueItem(null, 5, null);
+        assertSame(item, map.put(replacement));
+        assertEquals(1, map.size());
+
+        assertSame(replacement, map.remove(5));
+        assertNull(map.get(5));
+        assertNull(map.remove(5));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        QueueItemMap map = new QueueItemMap();
+        Map<Long, QueueItem> expected = new HashMap<Long, QueueItem>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long itemId = random.nextInt(2000);
+            if (random.nextBoolean()) {
+                QueueItem item = new QueueItem(null, itemId, null);
+                assertSame(expected.put(itemId, item), map.put(item));
+            } else {
+                assertSame(expected.remove(itemId), map.remove(itemId));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long itemId = 0; itemId < 2000; itemId++) {
+            assertSame(expected.get(itemId), map.get(itemId));
+        }
+        List<QueueItem> values = map.values();
+        assertEquals(expected.size(), values.size());
+        for (QueueItem item : values) {
+            assertSame(expected.get(item.getItemId()), item);
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(map.values().isEmpty());
+    }
+}
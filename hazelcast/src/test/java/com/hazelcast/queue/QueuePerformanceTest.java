@@ -22,6 +22,8 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IQueue;
 import org.junit.Ignore;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -42,6 +44,7 @@ public class QueuePerformanceTest {
         QueuePerformanceTest test = new QueuePerformanceTest();
         test.oneQueue();
 //        test.manyQueue();
+//        test.bulkQueue();
     }
 
     public void manyQueue() throws Exception {
@@ -163,5 +166,48 @@ public class QueuePerformanceTest {
         }
     }
 
+    public void bulkQueue() throws Exception {
+        Config config = new Config();
+        final int threadCount = 4;
+        final int batchSize = 1000;
+        final String name = "bulkQueue";
+        final HazelcastInstance ins = Hazelcast.newHazelcastInstance(config);
+        final IQueue<String> q = ins.getQueue(name);
+        final List<String> batch = new ArrayList<String>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add("item" + i);
+        }
+
+        System.err.println("starting threads");
+        for (int i = 0; i < threadCount; i++) {
+            new Thread() {
+                public void run() {
+                    List<String> drained = new ArrayList<String>(batchSize);
+                    while (true) {
+                        if (rnd.nextBoolean()) {
+                            q.addAll(batch);
+                            totalOffer.addAndGet(batchSize);
+                        } else {
+                            drained.clear();
+                            totalPoll.addAndGet(q.drainTo(drained, batchSize));
+                        }
+                    }
+                }
+            }.start();
+        }
+        System.err.println("finished starting threads");
+
+        while (true) {
+            long sleepTime = 10;
+            Thread.sleep(sleepTime * 1000);
+            long totalOfferVal = totalOffer.getAndSet(0);
+            long totalPollVal = totalPoll.getAndSet(0);
 
+            System.err.println("_______________________________________________________________________________________");
+            System.err.println(" added: " + totalOfferVal + ",\t drained: " + totalPollVal);
+            System.err.println(" size: " + q.size() + " \t items/s: " + ((totalOfferVal + totalPollVal) / sleepTime));
+            System.err.println("---------------------------------------------------------------------------------------");
+            System.err.println("");
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.queue;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class StripedQueueTest extends HazelcastTestSupport {
+
+    @Test
+    public void testStripesUseDistinctPartitions() {
+        HazelcastInstance instance = createHazelcastInstance();
+        StripedQueue<String> queue = new StripedQueue<String>(instance, randomString(), 8);
+
+        Set<Integer> partitions = new HashSet<Integer>();
+        for (int i = 0; i < queue.getStripeCount(); i++) {
+            String partitionKey = queue.getStripe(i).getPartitionKey();
+            partitions.add(instance.getPartitionService().getPartition(partitionKey).getPartitionId());
+        }
+        assertEquals(8, partitions.size());
+    }
+
+    @Test
+    public void testOfferPollAcrossStripes() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        String name = randomString();
+        StripedQueue<Integer> producer = new StripedQueue<Integer>(instance1, name, 4);
+        StripedQueue<Integer> consumer = new StripedQueue<Integer>(instance2, name, 4);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(producer.offer(i));
+        }
+        assertEquals(100, consumer.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(25, consumer.getStripe(i).size());
+        }
+
+        Set<Integer> polled = new HashSet<Integer>();
+        Integer item;
+        while ((item = consumer.poll()) != null) {
+            polled.add(item);
+        }
+        assertEquals(100, polled.size());
+        assertTrue(consumer.isEmpty());
+    }
+
+    @Test
+    public void testPeekAfterPollIndexOverflow() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance();
+        StripedQueue<String> queue = new StripedQueue<String>(instance, randomString(), 3);
+        Field pollIndex = StripedQueue.class.getDeclaredField("pollIndex");
+        pollIndex.setAccessible(true);
+        ((AtomicInteger) pollIndex.get(queue)).set(Integer.MAX_VALUE);
+
+        queue.offer("item");
+        queue.poll();
+        queue.offer("next");
+
+        assertEquals("next", queue.peek());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNameWithPartitionKeySeparatorIsRejected() {
+        HazelcastInstance instance = createHazelcastInstance();
+        new StripedQueue<String>(instance, "queue@key", 2);
+    }
+
+    @Test
+    public void testAffinityKeepsOrder() {
+        HazelcastInstance instance = createHazelcastInstance();
+        StripedQueue<Integer> queue = new StripedQueue<Integer>(instance, randomString(), 4);
+
+        for (int i = 0; i < 50; i++) {
+            queue.offer(i, "key");
+        }
+        List<Integer> drained = new ArrayList<Integer>();
+        assertEquals(50, queue.drainTo(drained));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) drained.get(i));
+        }
+    }
+
+    @Test
+    public void testTakeIsNotifiedByOfferOnAnyStripe() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance();
+        final StripedQueue<String> queue = new StripedQueue<String>(instance, randomString(), 4);
+        final CountDownLatch taken = new CountDownLatch(1);
+        final AtomicReference<String> item = new AtomicReference<String>();
+
+        new Thread() {
+            public void run() {
+                try {
+                    item.set(queue.take());
+                    taken.countDown();
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }.start();
+
+        sleepSeconds(1);
+        queue.offer("item", 3);
+        assertOpenEventually(taken);
+        assertEquals("item", item.get());
+    }
+
+    @Test
+    public void testPollTimeout() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance();
+        StripedQueue<String> queue = new StripedQueue<String>(instance, randomString(), 4);
+
+        assertNull(queue.poll(100, TimeUnit.MILLISECONDS));
+    }
+}
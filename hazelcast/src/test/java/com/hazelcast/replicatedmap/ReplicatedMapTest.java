@@ -22,9 +22,13 @@ import com.hazelcast.config.ReplicatedMapConfig;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ReplicatedMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.replicatedmap.messages.MultiReplicationMessage;
+import com.hazelcast.replicatedmap.messages.ReplicationMessage;
 import com.hazelcast.replicatedmap.record.AbstractReplicatedRecordStore;
 import com.hazelcast.replicatedmap.record.ReplicatedRecord;
 import com.hazelcast.replicatedmap.record.ReplicationPublisher;
+import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.TestHazelcastInstanceFactory;
@@ -50,6 +54,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -394,6 +400,79 @@ public class ReplicatedMapTest
         assertMatchSuccessfulOperationQuota(0.75, operations, map1Updated, map2Updated);
     }
 
+    @Test
+    public void testReadOptimizedGetObject()
+            throws Exception {
+
+        Config config = buildConfig(InMemoryFormat.OBJECT, 0);
+        config.getReplicatedMapConfig("default").setReadOptimized(true);
+        testReadOptimizedGet(config);
+    }
+
+    @Test
+    public void testReadOptimizedGetBinary()
+            throws Exception {
+
+        Config config = buildConfig(InMemoryFormat.BINARY, 0);
+        config.getReplicatedMapConfig("default").setReadOptimized(true);
+        testReadOptimizedGet(config);
+    }
+
+    @Test
+    public void testRecordsOfDefaultMapDoNotCacheValues()
+            throws Exception {
+
+        HazelcastInstance instance = createHazelcastInstance(buildConfig(InMemoryFormat.OBJECT, 0));
+        ReplicatedMap<String, String> map = instance.getReplicatedMap("default");
+
+        map.put("foo", "bar");
+        assertEquals(ReplicatedRecord.class, getReplicatedRecord(map, "foo").getClass());
+    }
+
+    private void testReadOptimizedGet(Config config)
+            throws Exception {
+
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+
+        final ReplicatedMap<String, String> map1 = instance1.getReplicatedMap("default");
+        final ReplicatedMap<String, String> map2 = instance2.getReplicatedMap("default");
+
+        map1.put("foo", "bar");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals("bar", map2.get("foo"));
+            }
+        });
+        // Cached value is served for repeated reads
+        assertSame(map2.get("foo"), map2.get("foo"));
+        assertNotEquals(ReplicatedRecord.class, getReplicatedRecord(map2, "foo").getClass());
+
+        map1.put("foo", "bar2");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals("bar2", map2.get("foo"));
+            }
+        });
+
+        map1.remove("foo");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertNull(map2.get("foo"));
+            }
+        });
+
+        map2.put("foo", "bar3");
+        assertEquals("bar3", map2.get("foo"));
+        map2.clear();
+        assertNull(map2.get("foo"));
+    }
+
     @Test
     public void testUpdateTtlObjectDelay0()
             throws Exception {
@@ -1023,6 +1102,124 @@ public class ReplicatedMapTest
         map1.removeEntryListener(null);
     }
 
+    @Test
+    public void testPendingUpdatesOfKeyAreCoalesced()
+            throws Exception {
+
+        Config config = buildConfig(InMemoryFormat.OBJECT, 3000);
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+
+        final ReplicatedMap<String, Integer> map1 = instance1.getReplicatedMap("default");
+        final ReplicatedMap<String, Integer> map2 = instance2.getReplicatedMap("default");
+
+        final int updates = 100;
+        for (int i = 0; i < updates; i++) {
+            map1.put("foo", i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run()
+                    throws Exception {
+                assertEquals(Integer.valueOf(updates - 1), map2.get("foo"));
+            }
+        });
+        // All updates are sent within one replication delay window, so only the latest one is replicated
+        assertEquals(1, ((ReplicatedMapProxy) map2).getReplicatedMapStats().getReplicationEventCount());
+    }
+
+    @Test
+    public void testAntiEntropyRepairsMissedUpdates()
+            throws Exception {
+
+        Config config = buildConfig(InMemoryFormat.OBJECT, 0);
+        config.setProperty(GroupProperties.PROP_REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS, "1");
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+
+        final ReplicatedMap<String, String> map1 = instance1.getReplicatedMap("default");
+        final ReplicatedMap<String, String> map2 = instance2.getReplicatedMap("default");
+
+        // Drop all replication messages of the first member
+        getReplicationPublisher(map1).setPreReplicationHook(new PreReplicationHook() {
+            @Override
+            public void preReplicateMessage(ReplicationMessage message, ReplicationChannel channel) {
+            }
+
+            @Override
+            public void preReplicateMultiMessage(MultiReplicationMessage message, ReplicationChannel channel) {
+            }
+        });
+
+        for (int i = 0; i < 10; i++) {
+            map1.put("foo-" + i, "bar");
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run()
+                    throws Exception {
+                assertEquals(10, map2.size());
+                for (int i = 0; i < 10; i++) {
+                    assertEquals("bar", map2.get("foo-" + i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testAntiEntropyDoesNotRestoreMissedRemove()
+            throws Exception {
+
+        Config config = buildConfig(InMemoryFormat.OBJECT, 0);
+        config.setProperty(GroupProperties.PROP_REPLICATED_MAP_ANTI_ENTROPY_INTERVAL_SECONDS, "1");
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+
+        final ReplicatedMap<String, String> map1 = instance1.getReplicatedMap("default");
+        final ReplicatedMap<String, String> map2 = instance2.getReplicatedMap("default");
+
+        map1.put("foo", "bar");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run()
+                    throws Exception {
+                assertEquals("bar", map2.get("foo"));
+            }
+        });
+
+        // The second member misses the remove, as if it was partitioned off
+        getReplicationPublisher(map1).setPreReplicationHook(new PreReplicationHook() {
+            @Override
+            public void preReplicateMessage(ReplicationMessage message, ReplicationChannel channel) {
+            }
+
+            @Override
+            public void preReplicateMultiMessage(MultiReplicationMessage message, ReplicationChannel channel) {
+            }
+        });
+        map1.remove("foo");
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run()
+                    throws Exception {
+                assertNull(map2.get("foo"));
+            }
+        });
+        // Several more sync rounds in both directions must not bring the entry back
+        sleepSeconds(5);
+        assertNull(map1.get("foo"));
+        assertNull(map2.get("foo"));
+    }
+
     private Config buildConfig(InMemoryFormat inMemoryFormat, long replicationDelay) {
         Config config = new Config();
         ReplicatedMapConfig replicatedMapConfig = config.getReplicatedMapConfig("default");
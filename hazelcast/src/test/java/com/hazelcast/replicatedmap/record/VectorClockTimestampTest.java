@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.record;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.nio.Address;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.net.UnknownHostException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class VectorClockTimestampTest {
+
+    private Member member1;
+    private Member member2;
+
+    @Before
+    public void setUp() throws UnknownHostException {
+        member1 = new MemberImpl(new Address("127.0.0.1", 5701), false);
+        member2 = new MemberImpl(new Address("127.0.0.1", 5702), false);
+    }
+
+    @Test
+    public void testIncrementHappensAfter() {
+        VectorClockTimestamp initial = new VectorClockTimestamp();
+        VectorClockTimestamp incremented = initial.incrementClock0(member1);
+
+        assertTrue(VectorClockTimestamp.happenedBefore(initial, incremented));
+        assertFalse(VectorClockTimestamp.happenedBefore(incremented, initial));
+    }
+
+    @Test
+    public void testConcurrentClocks() {
+        VectorClockTimestamp x = new VectorClockTimestamp().incrementClock0(member1);
+        VectorClockTimestamp y = new VectorClockTimestamp().incrementClock0(member2);
+
+        assertFalse(VectorClockTimestamp.happenedBefore(x, y));
+        assertFalse(VectorClockTimestamp.happenedBefore(y, x));
+    }
+
+    @Test
+    public void testApplyVectorMergesClocks() {
+        VectorClockTimestamp x = new VectorClockTimestamp().incrementClock0(member1).incrementClock0(member1);
+        VectorClockTimestamp y = new VectorClockTimestamp().incrementClock0(member2);
+
+        VectorClockTimestamp merged = x.applyVector0(y);
+
+        assertTrue(VectorClockTimestamp.happenedBefore(x, merged));
+        assertTrue(VectorClockTimestamp.happenedBefore(y, merged));
+        assertSame(merged, merged.applyVector0(x));
+    }
+
+    @Test
+    public void testSameClocks() {
+        VectorClockTimestamp x = new VectorClockTimestamp().incrementClock0(member1).incrementClock0(member2);
+        VectorClockTimestamp y = new VectorClockTimestamp().incrementClock0(member2).incrementClock0(member1);
+
+        assertTrue(VectorClockTimestamp.sameClocks(x, y));
+        assertFalse(VectorClockTimestamp.sameClocks(x, x.incrementClock0(member1)));
+        assertFalse(VectorClockTimestamp.sameClocks(x, new VectorClockTimestamp().incrementClock0(member1)));
+    }
+
+    @Test
+    public void testDigestIsIndependentOfMemberOrder() {
+        VectorClockTimestamp x = new VectorClockTimestamp().incrementClock0(member1).incrementClock0(member2);
+        VectorClockTimestamp y = new VectorClockTimestamp().incrementClock0(member2).incrementClock0(member1);
+
+        assertEquals(x.digest(), y.digest());
+        assertTrue(x.digest() != x.incrementClock0(member1).digest());
+    }
+}
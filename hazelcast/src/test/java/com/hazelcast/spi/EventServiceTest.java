@@ -16,9 +16,12 @@
 
 package com.hazelcast.spi;
 
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ITopic;
 import com.hazelcast.core.Message;
 import com.hazelcast.core.MessageListener;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.instance.HazelcastInstanceImpl;
 import com.hazelcast.instance.HazelcastInstanceProxy;
 import com.hazelcast.instance.MemberImpl;
@@ -35,10 +38,16 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 @RunWith(HazelcastParallelClassRunner.class)
 @Category(QuickTest.class)
 public class EventServiceTest extends HazelcastTestSupport {
@@ -113,6 +122,38 @@ public class EventServiceTest extends HazelcastTestSupport {
         l3.await(30, TimeUnit.SECONDS);
     }
 
+    @Test(timeout = 90000)
+    public void testBatchedEventsKeepOrder() throws Exception {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_EVENT_BATCH_SIZE, "16");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance h1 = factory.newHazelcastInstance(config);
+        HazelcastInstance h2 = factory.newHazelcastInstance(config);
+
+        final int messageCount = 1000;
+        final List<Object> received = Collections.synchronizedList(new ArrayList<Object>());
+        final CountDownLatch latch = new CountDownLatch(messageCount);
+        h2.getTopic("foo").addMessageListener(new MessageListener() {
+            @Override
+            public void onMessage(Message message) {
+                received.add(message.getMessageObject());
+                latch.countDown();
+            }
+        });
+
+        ITopic<Integer> topic = h1.getTopic("foo");
+        for (int i = 0; i < messageCount; i++) {
+            topic.publish(i);
+        }
+
+        assertOpenEventually(latch);
+        for (int i = 0; i < messageCount; i++) {
+            assertEquals(i, received.get(i));
+        }
+        EventService eventService = getNode(h1).nodeEngine.getEventService();
+        assertTrue(eventService.getSentEventPacketCount() < eventService.getSentEventCount());
+    }
+
     private TopicEvent builTopicEvent(String value, MemberImpl member, SerializationService ss) {
         return new TopicEvent("foo", ss.toData(value), member.getAddress());
     }
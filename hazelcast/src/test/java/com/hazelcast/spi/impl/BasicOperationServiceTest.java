@@ -41,8 +41,10 @@ import org.junit.runner.RunWith;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
 
@@ -147,6 +149,31 @@ public class BasicOperationServiceTest extends HazelcastTestSupport {
         invocationBuilder.invoke().get();
     }
 
+    @Test
+    public void testPartitionSpecificRunnableIsExecutedOnPartitionThread() {
+        HazelcastInstance hz = createHazelcastInstance();
+        final BasicOperationService operationService = (BasicOperationService) getNode(hz).nodeEngine.getOperationService();
+        final int partitionId = 1;
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicBoolean allowed = new AtomicBoolean();
+
+        operationService.execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                allowed.set(operationService.scheduler.isAllowedToRunInCurrentThread(partitionId));
+                latch.countDown();
+            }
+        });
+
+        assertOpenEventually(latch);
+        assertTrue("task should run on the partition thread", allowed.get());
+    }
+
     public static class GithubIssue2559Operation
             extends Operation {
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.executor.DistributedExecutorService;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class OperationProfilerTest extends HazelcastTestSupport {
+
+    @Test
+    public void testSlowOperationIsReportedWithStackTrace() throws Exception {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_SLOW_OPERATION_THRESHOLD_MILLIS, "100");
+        HazelcastInstance hz = createHazelcastInstance(config);
+        final OperationService operationService = getNode(hz).nodeEngine.getOperationService();
+
+        operationService.invokeOnPartition(DistributedExecutorService.SERVICE_NAME, new SleepingOperation(1000), 1).get();
+
+        // the operation is accounted after its response is sent
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                String expected = "Slow operation " + SleepingOperation.class.getName() + " took ";
+                assertContains(operationService.getSlowOperations(), expected);
+            }
+        });
+        assertTrue(operationService.getSlowOperationCount() > 0);
+        String description = find(operationService.getSlowOperations(), "Slow operation " + SleepingOperation.class.getName());
+        assertTrue(description, description.contains("partitionId=1"));
+        assertTrue(description, description.contains("SleepingOperation.run"));
+        // the profiler itself is disabled by default
+        assertTrue(operationService.getOperationClassProfile().isEmpty());
+    }
+
+    @Test
+    public void testOperationsAreCountedPerClassAndPartition() throws Exception {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_OPERATION_PROFILER_ENABLED, "true");
+        HazelcastInstance hz = createHazelcastInstance(config);
+        final OperationService operationService = getNode(hz).nodeEngine.getOperationService();
+
+        for (int i = 0; i < 3; i++) {
+            operationService.invokeOnPartition(DistributedExecutorService.SERVICE_NAME, new SleepingOperation(1), 2).get();
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertContains(operationService.getOperationClassProfile(), SleepingOperation.class.getName() + " count=3");
+                assertContains(operationService.getPartitionOperationProfile(), "partition 2 count=3");
+            }
+        });
+        assertEquals(0, operationService.getSlowOperationCount());
+    }
+
+    private static void assertContains(List<String> lines, String expected) {
+        find(lines, expected);
+    }
+
+    private static String find(List<String> lines, String prefix) {
+        for (String line : lines) {
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        throw new AssertionError(prefix + " not found in " + lines);
+    }
+
+    private static class SleepingOperation extends AbstractOperation {
+
+        private final long sleepMillis;
+
+        SleepingOperation(long sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public void run() throws Exception {
+            Thread.sleep(sleepMillis);
+        }
+    }
+}
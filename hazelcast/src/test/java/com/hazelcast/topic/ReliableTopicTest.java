@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.Message;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ReliableTopicTest extends HazelcastTestSupport {
+
+    @Test
+    public void testMessagesAreReceivedInOrderOnAllMembers() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        String name = randomString();
+        ReliableTopic<Integer> topic1 = new ReliableTopic<Integer>(instance1, name, 1000);
+        ReliableTopic<Integer> topic2 = new ReliableTopic<Integer>(instance2, name, 1000);
+
+        final CollectingListener listener1 = new CollectingListener();
+        final CollectingListener listener2 = new CollectingListener();
+        topic1.addMessageListener(listener1);
+        topic2.addMessageListener(listener2);
+
+        List<Integer> batch = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(i);
+        }
+        topic1.publishAll(batch);
+        for (int i = 100; i < 200; i++) {
+            topic2.publish(i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(200, listener1.messages.size());
+                assertEquals(200, listener2.messages.size());
+            }
+        });
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, (int) listener1.messages.get(i));
+            assertEquals(i, (int) listener2.messages.get(i));
+        }
+        assertEquals(0, listener1.lost.get());
+    }
+
+    @Test
+    public void testCatchUpAndLossDetection() {
+        HazelcastInstance instance = createHazelcastInstance();
+        ReliableTopic<Integer> topic = new ReliableTopic<Integer>(instance, randomString(), 10);
+
+        for (int i = 0; i < 25; i++) {
+            topic.publish(i);
+        }
+
+        // the oldest 15 messages were overwritten
+        final CollectingListener listener = new CollectingListener();
+        topic.addMessageListener(listener, 0);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(10, listener.messages.size());
+                assertEquals(15, listener.lost.get());
+            }
+        });
+        assertEquals(15, (int) listener.messages.get(0));
+        assertEquals(24, (int) listener.messages.get(9));
+    }
+
+    @Test
+    public void testCapacityIsSharedByAllInstances() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        String name = randomString();
+        ReliableTopic<Integer> topic1 = new ReliableTopic<Integer>(instance1, name, 10);
+        ReliableTopic<Integer> topic2 = new ReliableTopic<Integer>(instance2, name, 1000);
+
+        assertEquals(10, topic1.getCapacity());
+        assertEquals(10, topic2.getCapacity());
+    }
+
+    @Test
+    public void testStaleWriteDoesNotOverwriteNewerMessage() {
+        HazelcastInstance instance = createHazelcastInstance();
+        String name = randomString();
+        ReliableTopic<Integer> topic = new ReliableTopic<Integer>(instance, name, 10);
+        IMap<Integer, ReliableTopicMessage> slots = instance.getMap(ReliableTopic.NAME_PREFIX + name);
+
+        for (int i = 0; i < 15; i++) {
+            topic.publish(i);
+        }
+        // a publisher that reserved sequence 3 but stalled until after sequence 13 was written to the same slot
+        Map<Integer, ReliableTopicMessage> staleWrite = new HashMap<Integer, ReliableTopicMessage>();
+        staleWrite.put(3, new ReliableTopicMessage(3, 0, null, -1));
+        slots.executeOnKey(3, new ReliableTopicSlotWriter(staleWrite));
+
+        assertEquals(13, slots.get(3).getSequence());
+        assertEquals(13, slots.get(3).getPayload());
+    }
+
+    @Test
+    public void testListenersShareOnePoller() {
+        HazelcastInstance instance = createHazelcastInstance();
+        final String name = randomString();
+        ReliableTopic<Integer> topic = new ReliableTopic<Integer>(instance, name, 100);
+        final CollectingListener listener1 = new CollectingListener();
+        final CollectingListener listener2 = new CollectingListener();
+        String id1 = topic.addMessageListener(listener1);
+        String id2 = topic.addMessageListener(listener2);
+
+        for (int i = 0; i < 50; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(50, listener1.messages.size());
+                assertEquals(50, listener2.messages.size());
+            }
+        });
+        assertEquals(1, countPollerThreads(name));
+
+        topic.removeMessageListener(id1);
+        topic.removeMessageListener(id2);
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(0, countPollerThreads(name));
+            }
+        });
+    }
+
+    @Test
+    public void testPollerStopsOnDestroy() {
+        HazelcastInstance instance = createHazelcastInstance();
+        final String name = randomString();
+        ReliableTopic<Integer> topic = new ReliableTopic<Integer>(instance, name, 100);
+        topic.addMessageListener(new CollectingListener());
+        assertEquals(1, countPollerThreads(name));
+
+        topic.destroy();
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(0, countPollerThreads(name));
+            }
+        });
+    }
+
+    @Test
+    public void testPollerStopsOnShutdown() {
+        HazelcastInstance instance = createHazelcastInstance();
+        final String name = randomString();
+        ReliableTopic<Integer> topic = new ReliableTopic<Integer>(instance, name, 100);
+        topic.addMessageListener(new CollectingListener());
+        assertEquals(1, countPollerThreads(name));
+
+        instance.shutdown();
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() {
+                assertEquals(0, countPollerThreads(name));
+            }
+        });
+    }
+
+    private static int countPollerThreads(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().startsWith("hz.reliable-topic." + name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class CollectingListener implements ReliableMessageListener<Integer> {
+
+        private final List<Integer> messages = Collections.synchronizedList(new ArrayList<Integer>());
+        private final AtomicLong lost = new AtomicLong();
+
+        @Override
+        public void onMessage(Message<Integer> message) {
+            messages.add(message.getMessageObject());
+        }
+
+        @Override
+        public void onMessagesLost(long lostCount) {
+            lost.addAndGet(lostCount);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2013, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class HotKeySketchTest extends HazelcastTestSupport {
+
+    private final ManualDecayClock clock = new ManualDecayClock();
+
+    @Test
+    public void testEmpty() {
+        HotKeySketch sketch = new HotKeySketch(4, 1, clock);
+        assertEquals(0, sketch.getAccessCount());
+        assertTrue(sketch.getHotKeys().isEmpty());
+    }
+
+    @Test
+    public void testHotKeyIsFound() {
+        HotKeySketch sketch = new HotKeySketch(4, 1, clock);
+        for (int i = 0; i < 10000; i++) {
+            sketch.recordAccess("hot", "hot".hashCode());
+            String cold = "cold" + i;
+            sketch.recordAccess(cold, cold.hashCode());
+        }
+        assertEquals(20000, sketch.getAccessCount());
+        HotKeySketch.HotKey hottest = null;
+        List<HotKeySketch.HotKey> hotKeys = sketch.getHotKeys();
+        for (HotKeySketch.HotKey hotKey : hotKeys) {
+            if (hottest == null || hotKey.getAccessCount() > hottest.getAccessCount()) {
+                hottest = hotKey;
+            }
+        }
+        assertEquals("hot", hottest.getKey());
+        assertTrue(hottest.getAccessCount() >= 10000);
+    }
+
+    @Test
+    public void testEstimateNeverUnderestimates() {
+        HotKeySketch sketch = new HotKeySketch(4, 1, clock);
+        for (int i = 0; i < 1000; i++) {
+            for (int k = 0; k <= i % 10; k++) {
+                sketch.recordAccess(i, i);
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue("key " + i, sketch.estimate(i) >= i % 10 + 1);
+        }
+    }
+
+    @Test
+    public void testSampleRate() {
+        HotKeySketch sketch = new HotKeySketch(4, 10, clock);
+        for (int i = 0; i < 1000; i++) {
+            sketch.recordAccess("hot", "hot".hashCode());
+        }
+        assertEquals(1000, sketch.getAccessCount());
+        assertEquals(1000, sketch.estimate("hot".hashCode()));
+    }
+
+    @Test
+    public void testCountsDecayWithClockWithoutAccesses() {
+        HotKeySketch sketch = new HotKeySketch(4, 1, clock);
+        for (int i = 0; i < 1000; i++) {
+            sketch.recordAccess("hot", "hot".hashCode());
+        }
+        assertEquals(1000, sketch.getAccessCount());
+
+        clock.advance(1);
+        assertEquals(500, sketch.getAccessCount());
+        assertEquals(500, sketch.estimate("hot".hashCode()));
+        assertEquals(500, sketch.getHotKeys().get(0).getAccessCount());
+
+        clock.advance(2);
+        assertEquals(125, sketch.getAccessCount());
+    }
+
+    @Test
+    public void testIdleSketchIsNotHotterThanBusySketchOfSameClock() {
+        HotKeySketch idle = new HotKeySketch(4, 1, clock);
+        HotKeySketch busy = new HotKeySketch(4, 1, clock);
+        for (int i = 0; i < 1000; i++) {
+            idle.recordAccess("idle", "idle".hashCode());
+        }
+        for (int period = 0; period < 5; period++) {
+            clock.advance(1);
+            for (int i = 0; i < 100; i++) {
+                busy.recordAccess("busy", "busy".hashCode());
+            }
+        }
+        assertTrue(idle.getAccessCount() < busy.getAccessCount());
+    }
+
+    private static class ManualDecayClock extends HotKeySketch.DecayClock {
+
+        private static final long PERIOD_MILLIS = 1000;
+
+        private long now;
+
+        ManualDecayClock() {
+            super(PERIOD_MILLIS);
+        }
+
+        void advance(int periods) {
+            now += periods * PERIOD_MILLIS;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+}